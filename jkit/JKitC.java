@@ -22,13 +22,19 @@
 package jkit;
 
 import java.io.*;
+import java.nio.charset.Charset;
 import java.util.*;
 
 import jkit.bytecode.*;
 import jkit.compiler.ClassLoader;
+import jkit.compiler.PlatformImage;
+import jkit.compiler.ResolutionCache;
 import jkit.compiler.SyntaxError;
 import jkit.java.*;
 import jkit.jil.tree.JilClass;
+import jkit.jil.tree.TypeTable;
+import jkit.util.BoundedCache;
+import jkit.util.SymbolTable;
 
 /**
  * The main class provides the entry point for the JKit compiler. It is
@@ -66,6 +72,8 @@ public class JKitC {
 		boolean bytecodeOutput = false;
 		boolean jilOutput = false;
 		boolean bytecodeOptimisation = true;
+		boolean implicitCompilation = true;
+		Charset encoding = null;
 
 		if (args.length == 0) {
 			// no command-line arguments provided
@@ -104,6 +112,8 @@ public class JKitC {
 					// split classpath along appropriate separator
 					Collections.addAll(bootClassPath, args[++i]
 					                                       .split(File.pathSeparator));
+				} else if (arg.equals("-platformindex")) {
+					PlatformImage.setSnapshot(new File(args[++i]));
 				} else if (arg.equals("-d")) {
 					outputDirectory = args[++i];
 				} else if (arg.equals("-bytecode")) {
@@ -112,6 +122,12 @@ public class JKitC {
 					jilOutput = true;
 				} else if (arg.equals("-noopt")) {
 					bytecodeOptimisation = false;
+				} else if (arg.equals("-implicit:none")) {
+					implicitCompilation = false;
+				} else if (arg.equals("-implicit:class")) {
+					implicitCompilation = true;
+				} else if (arg.equals("-encoding")) {
+					encoding = Charset.forName(args[++i]);
 				} else {
 					throw new RuntimeException("Unknown option: " + args[i]);
 				}
@@ -154,6 +170,10 @@ public class JKitC {
 			}
 
 			compiler.setBytecodeOptimisation(bytecodeOptimisation);
+			compiler.setImplicitCompilation(implicitCompilation);
+			if (encoding != null) {
+				compiler.setEncoding(encoding);
+			}
 
 			if (outputDirectory != null) {
 				compiler.setOutputDirectory(new File(outputDirectory));
@@ -170,6 +190,27 @@ public class JKitC {
 			compiler.compile(srcfiles);
 			compiler.flushCompilationQueue();
 
+			if(verbose) {
+				verbOutput.println("Symbol table: " + SymbolTable.size()
+						+ " symbols (" + SymbolTable.hits() + " of "
+						+ SymbolTable.lookups() + " lookups shared)");
+				verbOutput.println("Type table: " + TypeTable.size()
+						+ " types (" + TypeTable.hits() + " of "
+						+ TypeTable.lookups() + " lookups shared)");
+				DescriptorCache descriptors = compiler.getClassLoader()
+						.descriptorCache();
+				verbOutput.println("Descriptor caches: "
+						+ cacheStats(descriptors.descriptors()) + " fields, "
+						+ cacheStats(descriptors.methodDescriptors()) + " methods, "
+						+ cacheStats(descriptors.classSignatures()) + " classes");
+				verbOutput.println("Name resolution: " + ResolutionCache.hits()
+						+ " of " + ResolutionCache.lookups()
+						+ " lookups already resolved");
+				verbOutput.println("Parsing: peak heap "
+						+ (compiler.parsePeakHeap() / 1024) + "KB, first parse "
+						+ compiler.firstParseTime() + "ms after startup");
+			}
+
 		} catch (SyntaxError e) {
 			outputSourceError(e.fileName(), e.line(), e.column(), e.width(), e
 					.getMessage());
@@ -201,9 +242,14 @@ public class JKitC {
 				{"cp <path>", "Specific where to find user class files"},
 				{"bootclasspath <path>",
 				"Specific where to find system class files"},
+				{"platformindex <file>",
+				"Snapshot of the platform class index (JDK 9+)"},
 				{"jil","output jil intermediate representation"},
 				{"bytecode","output bytecode in textual format"},
-				{"noopt","don't perform bytecode optimisation"}};
+				{"noopt","don't perform bytecode optimisation"},
+				{"implicit:none",
+				"don't compile source files needed only to resolve types"},
+				{"encoding <name>", "Character encoding of source files"}};
 		System.out.println("Usage: jkit <options> <source-files>");
 		System.out.println("Options:");
 
@@ -225,6 +271,10 @@ public class JKitC {
 		}
 	}
 
+	private static String cacheStats(BoundedCache cache) {
+		return cache.hits() + "/" + cache.lookups();
+	}
+
 	public static void outputSourceError(String fileArg, int line, int col,
 			int width, String message) {
 		System.err.println(fileArg + ":" + line + ": " + message);
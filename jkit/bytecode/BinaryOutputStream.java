@@ -39,6 +39,10 @@ public class BinaryOutputStream extends OutputStream {
 		output.write(bytes);
 	}
 	
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		output.write(bytes, offset, length);
+	}
+	
 	public void write_u1(int w) throws IOException {
 		output.write(w & 0xFF);
 	}
@@ -61,36 +61,82 @@ public interface BytecodeAttribute extends SyntacticAttribute {
 			throws IOException;
 	
 	/**
-	 * Class for representing unknown attributes
+	 * Class for representing unknown attributes. Rather than copying the
+	 * attribute's contents out of the classfile, an unknown attribute is
+	 * simply a view (i.e. an offset and length) onto the byte array of the
+	 * classfile it was read from. The contents are only materialised if
+	 * someone actually asks for them.
 	 * 
 	 * @author djp	 
 	 */
 	public static class Unknown implements BytecodeAttribute {
-		private byte[] bytes;
-		private String name;
+		private final byte[] bytes;
+		private final int offset;
+		private final int length;
+		private final String name;
 		
 		public Unknown(String n, byte[] bs) { 
-			bytes = bs;
-			name = n;
+			this(n,bs,0,bs.length);
+		}
+		
+		/**
+		 * Construct an unknown attribute which is a view onto a region of a
+		 * (shared) byte array. The array is not copied and, hence, must not be
+		 * modified.
+		 * 
+		 * @param n
+		 *            the attribute's name
+		 * @param bs
+		 *            the byte array containing the attribute's contents
+		 * @param offset
+		 *            index of the first byte of the attribute's contents
+		 *            (i.e. after the name and length fields)
+		 * @param length
+		 *            the number of bytes in the attribute's contents
+		 */
+		public Unknown(String n, byte[] bs, int offset, int length) {
+			this.bytes = bs;
+			this.offset = offset;
+			this.length = length;
+			this.name = n;
 		}
 		
 		public String name() {
 			return name;
 		}
 		
+		public int length() {
+			return length;
+		}
+		
+		/**
+		 * Materialise the contents of this attribute. This creates a fresh
+		 * copy each time and, hence, should be used sparingly.
+		 * 
+		 * @return
+		 */
+		public byte[] bytes() {
+			byte[] r = new byte[length];
+			System.arraycopy(bytes, offset, r, 0, length);
+			return r;
+		}
+		
 		public void addPoolItems(Set<Constant.Info> constantPool, ClassLoader loader) {
 			// this seems a little broken, but what can we do?
+			Constant.addPoolItem(new Constant.Utf8(name), constantPool);
 		}
 		
 		public void write(BinaryOutputStream writer,
 				Map<Constant.Info, Integer> constantPool, ClassLoader loader) throws IOException {
-			writer.write(bytes);
+			writer.write_u2(constantPool.get(new Constant.Utf8(name)));
+			writer.write_u4(length);
+			writer.write(bytes, offset, length);
 		}
 		
 		public void print(PrintWriter output,
 				Map<Constant.Info, Integer> constantPool, ClassLoader loader) throws IOException {
 			output.println("  Unknown: " + name);
-			output.println("   Size: " + bytes.length);
+			output.println("   Size: " + length);
 		}
 	}
 
@@ -25,12 +25,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
 import java.util.*;
 
 import jkit.bytecode.attributes.*;
 import jkit.jil.tree.Modifier;
 import jkit.jil.tree.Type;
+import jkit.jil.tree.TypeTable;
 import jkit.jil.util.*;
 import jkit.util.*;
 
@@ -38,6 +38,8 @@ public final class ClassFileReader {
 	private final byte[] bytes;      // byte array of class
 	private final int[] items;       // start indices of constant pool items	
 	private final Object[] objects;  // cache for constant pool objects
+	private final boolean retainUnknown; // keep unknown attributes?
+	private final DescriptorCache cache; // parsed descriptors and signatures
 	
 	/**
 	 * Construct reader for classfile. This method looks in all the places
@@ -63,6 +65,42 @@ public final class ClassFileReader {
 	public ClassFileReader(InputStream in) throws IOException {
 		this(readStream(in));		
 	}
+	
+	/**
+	 * Construct reader for classfile from InputStream, indicating whether or
+	 * not unknown attributes should be retained. Unknown attributes (which
+	 * includes those we deliberately ignore, such as Code, LineNumberTable,
+	 * StackMapTable, etc) are not needed when a class is being loaded simply
+	 * to resolve types against. In such case, dropping them means we don't
+	 * hold on to the classfile's bytes.
+	 * 
+	 * @param in
+	 *            The input stream to read the classfile from.
+	 * @param retainUnknown
+	 *            Indicates whether or not unknown attributes should be
+	 *            retained.
+	 */
+	public ClassFileReader(InputStream in, boolean retainUnknown) throws IOException {
+		this(readStream(in),retainUnknown);		
+	}
+	
+	/**
+	 * Construct reader for classfile from InputStream, which shares a cache
+	 * of parsed descriptors and signatures with other readers (typically,
+	 * those of the same ClassLoader).
+	 * 
+	 * @param in
+	 *            The input stream to read the classfile from.
+	 * @param retainUnknown
+	 *            Indicates whether or not unknown attributes should be
+	 *            retained.
+	 * @param cache
+	 *            The cache of parsed descriptors and signatures to use.
+	 */
+	public ClassFileReader(InputStream in, boolean retainUnknown,
+			DescriptorCache cache) throws IOException {
+		this(readStream(in),retainUnknown,cache);
+	}
 			
 	/**
 	 * Construct reader from byte array representing classfile.
@@ -71,7 +109,35 @@ public final class ClassFileReader {
 	 * @throws ClassFormatError if the classfile is invalid.
 	 */
 	public ClassFileReader(byte[] b) {						
+		this(b,true);
+	}
+	
+	/**
+	 * Construct reader from byte array representing classfile, indicating
+	 * whether or not unknown attributes should be retained.
+	 * 
+	 * @param b the byte array!
+	 * @param retainUnknown whether or not to retain unknown attributes.
+	 * @throws ClassFormatError if the classfile is invalid.
+	 */
+	public ClassFileReader(byte[] b, boolean retainUnknown) {
+		this(b,retainUnknown,new DescriptorCache());
+	}
+	
+	/**
+	 * Construct reader from byte array representing classfile, which shares
+	 * a cache of parsed descriptors and signatures with other readers.
+	 * 
+	 * @param b the byte array!
+	 * @param retainUnknown whether or not to retain unknown attributes.
+	 * @param cache the cache of parsed descriptors and signatures to use.
+	 * @throws ClassFormatError if the classfile is invalid.
+	 */
+	public ClassFileReader(byte[] b, boolean retainUnknown,
+			DescriptorCache cache) {
 		bytes = b;			
+		this.retainUnknown = retainUnknown;
+		this.cache = cache;
 		int nitems = read_u2(8);
 		items = new int[nitems];				
 		objects = new Object[nitems];
@@ -120,6 +186,21 @@ public final class ClassFileReader {
 				int length = read_u2(index+1);				
 				index += length + 2 + 1;
 				break;
+			case CONSTANT_MethodHandle:
+				index += 4;
+				break;
+			case CONSTANT_MethodType:
+			case CONSTANT_Module:
+			case CONSTANT_Package:
+				index += 3;
+				break;
+			case CONSTANT_Dynamic:
+			case CONSTANT_InvokeDynamic:
+				index += 5;
+				break;
+			default:
+				throw new ClassFormatError("unknown constant pool tag (" + type
+						+ ")");
 			}			
 		}		
 			
@@ -315,7 +396,8 @@ public final class ClassFileReader {
 		int index = offset + 8;
 		for(int j=0;j!=acount;++j) {
 			int len = read_i4(index+2);
-			attributes.add(parseAttribute(index, FIELD_CONTEXT, null));
+			BytecodeAttribute a = parseAttribute(index, FIELD_CONTEXT, null);
+			if(a != null) { attributes.add(a); }
 			index += len + 6;
 		}
 		
@@ -381,7 +463,8 @@ public final class ClassFileReader {
 		int index = offset + 8;
 		for(int j=0;j!=acount;++j) {
 			int len = read_i4(index+2);
-			attributes.add(parseAttribute(index, METHOD_CONTEXT, null));
+			BytecodeAttribute a = parseAttribute(index, METHOD_CONTEXT, null);
+			if(a != null) { attributes.add(a); }
 			index += len + 6;
 		}
 				
@@ -421,12 +504,24 @@ public final class ClassFileReader {
 		int index = attributes + 2;
 		for(int j=0;j!=acount;++j) {
 			int len = read_i4(index+2);
-			r.add(parseAttribute(index, context, type));
+			BytecodeAttribute a = parseAttribute(index, context, type);
+			if(a != null) { r.add(a); }
 			index += len + 6;
 		}
 		return r;
 	}
 	
+	/**
+	 * Parse the attribute at the given offset. Attributes which we don't
+	 * understand (or deliberately ignore) are returned as views onto the
+	 * classfile's bytes, or dropped entirely (i.e. null is returned) if this
+	 * reader is not retaining unknown attributes.
+	 * 
+	 * @param offset
+	 * @param context
+	 * @param type
+	 * @return
+	 */
 	protected BytecodeAttribute parseAttribute(int offset, int context, Type.Clazz type) {
 		String name = getString(read_u2(offset));
 		
@@ -455,12 +550,11 @@ public final class ClassFileReader {
 		}
 		
 		// unknown attribute
-		int len = read_i4(offset+2);
-		byte[] bs = new byte[len];
-		for(int i=0;i!=len;++i) {
-			bs[i] = bytes[offset+i];
+		if(!retainUnknown) {
+			return null;
 		}
-		return new BytecodeAttribute.Unknown(name,bs);
+		int len = read_i4(offset+2);		
+		return new BytecodeAttribute.Unknown(name,bytes,offset+6,len);
 	}
 	
 	protected Exceptions parseExceptions(int offset, String name) {
@@ -491,13 +585,16 @@ public final class ClassFileReader {
 		// There is a bug here, when we have an inner class, whose outer 
 		// class has generic parameters.
 		List<Type.Reference> genericParams = r.first();
-		List<Pair<String,List<Type.Reference>>> classes = type.components();
+		List<Pair<String,List<Type.Reference>>> classes = new ArrayList(type.components());
 		Pair<String,List<Type.Reference>> nc = new Pair<String, List<Type.Reference>>(
 				classes.get(classes.size() - 1).first(), genericParams);
 		 
 		classes.set(classes.size()-1,nc);
-		type = new Type.Clazz(type.pkg(),classes);
-		return new ClassSignature(type,r.second(),r.third());
+		type = TypeTable.intern(new Type.Clazz(type.pkg(),classes));
+		// NOTE: the interfaces are copied here, since the parsed signature is
+		// shared via the cache, whilst the ClassSignature may be updated.
+		return new ClassSignature(type, r.second(), new ArrayList<Type.Clazz>(r
+				.third()));
 	}
 	
 	protected ConstantValue parseConstantValue(int offset, String name) {
@@ -547,7 +644,12 @@ public final class ClassFileReader {
 	 * @return
 	 */
 	protected Type parseDescriptor(String descriptor) {
-		return parseInternalDescriptor(descriptor,0).first();
+		Type t = cache.descriptors.get(descriptor);
+		if(t == null) {
+			t = TypeTable.intern(parseInternalDescriptor(descriptor,0).first());
+			cache.descriptors.put(descriptor,t);
+		}
+		return t;
 	}
 	
 	/**
@@ -556,7 +658,12 @@ public final class ClassFileReader {
 	 * @return
 	 */	
 	protected Type.Clazz parseClassDescriptor(String descriptor) {
-		return parseInternalClassDescriptor(descriptor,0).first();
+		Type t = cache.descriptors.get(descriptor);
+		if(t == null) {
+			t = TypeTable.intern(parseInternalClassDescriptor(descriptor,0).first());
+			cache.descriptors.put(descriptor,t);
+		}
+		return (Type.Clazz) t;
 	}
 	
 	/**
@@ -567,6 +674,17 @@ public final class ClassFileReader {
 	 */
 	protected Triple<List<Type.Reference>, Type.Clazz, List<Type.Clazz>> parseClassSigDesc(
 			String descriptor) {
+		Triple<List<Type.Reference>, Type.Clazz, List<Type.Clazz>> r = cache.classSignatures
+				.get(descriptor);
+		if(r == null) {
+			r = parseInternalClassSigDesc(descriptor);
+			cache.classSignatures.put(descriptor, r);
+		}
+		return r;
+	}
+	
+	private Triple<List<Type.Reference>, Type.Clazz, List<Type.Clazz>> parseInternalClassSigDesc(
+			String descriptor) {
 		int pos = 0;
 		ArrayList<Type.Reference> targs = new ArrayList<Type.Reference>();
 		if (descriptor.charAt(pos) == '<') {
@@ -574,23 +692,24 @@ public final class ClassFileReader {
 			while (descriptor.charAt(pos) != '>') {
 				Pair<Type.Variable, Integer> rt = parseFormalType(descriptor,
 						pos);
-				targs.add(rt.first());
+				targs.add(TypeTable.intern(rt.first()));
 				pos = rt.second();
 			}
 			pos = pos + 1; // skip '>'
 		}
 		Pair<Type.Clazz, Integer> state = parseInternalClassDescriptor(
 				descriptor, pos);
-		Type.Clazz superT = state.first();
+		Type.Clazz superT = TypeTable.intern(state.first());
 		pos = state.second();
 		ArrayList<Type.Clazz> interfaces = new ArrayList<Type.Clazz>();
 		while (pos < descriptor.length()) {
 			state = parseInternalClassDescriptor(descriptor, pos);
-			interfaces.add(state.first());
+			interfaces.add(TypeTable.intern(state.first()));
 			pos = state.second();
 		}
-		return new Triple<List<Type.Reference>, Type.Clazz, List<Type.Clazz>>(targs,
-				superT, interfaces);
+		return new Triple<List<Type.Reference>, Type.Clazz, List<Type.Clazz>>(
+				Collections.unmodifiableList(targs), superT, Collections
+						.unmodifiableList(interfaces));
 	}
 	
 	protected Pair<Type, Integer> parseInternalDescriptor(
@@ -614,7 +733,7 @@ public final class ClassFileReader {
 			// this is a type variable
 			int start = ++pos;
 			while(descriptor.charAt(pos) != ';') { ++pos; }			
-			Type type = new Type.Variable(descriptor.substring(start,pos), Types.JAVA_LANG_OBJECT);
+			Type type = new Type.Variable(SymbolTable.intern(descriptor.substring(start,pos)), Types.JAVA_LANG_OBJECT);
 			return new Pair<Type,Integer>(type,pos+1);
 		} else if(c == '+') {			
 			Pair<Type,Integer> r = parseInternalDescriptor(descriptor,pos+1);
@@ -662,7 +781,7 @@ public final class ClassFileReader {
 			if(descriptor.charAt(pos) == '/') { last = pos; }
 			++pos; 
 		}
-		String pkg = descriptor.substring(start,last).replace('/','.');
+		String pkg = SymbolTable.intern(descriptor.substring(start,last).replace('/','.'));
 		
 		ArrayList<Pair<String, List<Type.Reference>>> classes = new ArrayList<Pair<String, List<Type.Reference>>>();
 		// back track to make my life easier
@@ -678,7 +797,7 @@ public final class ClassFileReader {
 					&& descriptor.charAt(pos) != '<') {
 				pos++;
 			}
-			String name = descriptor.substring(last, pos);
+			String name = SymbolTable.intern(descriptor.substring(last, pos));
 			ArrayList<Type.Reference> targs;
 			if (pos < descriptor.length() && descriptor.charAt(pos) == '<') {				
 				ArrayList<Type.Reference> ts = new ArrayList<Type.Reference>();				
@@ -704,7 +823,7 @@ public final class ClassFileReader {
 	Pair<Type.Variable, Integer> parseFormalType(String descriptor, int pos) {		
 		int start = pos;	
 		while(descriptor.charAt(pos) != ':') { pos++; }		
-		String id = descriptor.substring(start,pos);
+		String id = SymbolTable.intern(descriptor.substring(start,pos));
 		pos = pos + 1; // skip ':'		
 		ArrayList<Type.Reference> lowerBounds = new ArrayList<Type.Reference>();
 
@@ -724,7 +843,16 @@ public final class ClassFileReader {
 		return new Pair<Type.Variable, Integer>(new Type.Variable(id,lb),pos);				
 	}
 	
-	protected Type.Function parseMethodDescriptor(String descriptor) {		
+	protected Type.Function parseMethodDescriptor(String descriptor) {
+		Type.Function f = cache.methodDescriptors.get(descriptor);
+		if(f == null) {
+			f = parseInternalMethodDescriptor(descriptor);
+			cache.methodDescriptors.put(descriptor,f);
+		}
+		return f;
+	}
+	
+	private Type.Function parseInternalMethodDescriptor(String descriptor) {		
 		ArrayList<Type.Variable> targs = new ArrayList<Type.Variable>();
 		int pos = 0;		
 		
@@ -762,7 +890,7 @@ public final class ClassFileReader {
 			rf = Types.substitute(rf, binding);
 		}
 		
-		return rf;
+		return TypeTable.intern(rf);
 	}
 	
 	/* ===========================================================
@@ -1439,36 +1567,33 @@ public final class ClassFileReader {
 	};
 	
 	protected int annotationLength(int offset) {
-		int length=0;
-		int type = read_u2(offset);						
 		int npairs = read_u2(offset+2);
-		length += 4;
+		int length = 4;
 		for (int j = 0; j < npairs; j++) {
-			switch (type) {
-				case BOOLEAN:
-				case BYTE:
-				case SHORT:
-				case CHAR:
-				case INT:
-				case FLOAT:
-				case LONG:
-				case DOUBLE:
-					length = 3;
-					break;
-				case STRING:					
-					length = 5;
-					break;				
-				case ENUM:
-					length = 7;
-					break;					
-				case CLASS:					
-					length = 5;
-					break;															
-				default:				
-			}
+			// skip element_name_index, then the element_value
+			length += 2 + elementValueLength(offset + length + 2);
 		}
 		return length;
-	}	
+	}
+	
+	protected int elementValueLength(int offset) {
+		switch ((char) read_u1(offset)) {
+			case ENUM:
+				return 5;
+			case ANNOTATION:
+				return 1 + annotationLength(offset + 1);
+			case ARRAY:
+				int nvalues = read_u2(offset + 1);
+				int length = 3;
+				for (int j = 0; j < nvalues; j++) {
+					length += elementValueLength(offset + length);
+				}
+				return length;
+			default:
+				// const_value_index or class_info_index
+				return 3;
+		}
+	}
 	
 	 Modifier.Annotation parseAnnotation(int offset) {
 		int type = read_u2(offset);		
@@ -1491,24 +1616,16 @@ public final class ClassFileReader {
 			case LONG:
 			case DOUBLE:
 				snd = getConstant(read_u2(offset + 3));
-				offset += 3;
 				break;
 			case STRING:
+			case CLASS:
 				snd = getString(read_u2(offset + 3));
-				offset += 5;
 				break;
-			case ENUM:
-				offset += 7;
-				break;				
-			case CLASS:
-				snd = getString(offset + 3);
-				offset += 5;
-				break;															
 			default:				
 			}
+			offset += 2 + elementValueLength(offset + 2);
 			pairs[j] = new Pair(fst,snd);							
 		}
-		
 		String desc = getString(type);
 		// ignore pairs for now!
 		return new Modifier.Annotation((Type.Clazz) parseDescriptor(desc));
@@ -1687,7 +1804,9 @@ public final class ClassFileReader {
 	}
 	
 	/** 
-	 * Read string from this classfile's constant pool.
+	 * Read string from this classfile's constant pool. The string is interned
+	 * in the global symbol table, so that names and descriptors shared between
+	 * classfiles are represented by the same object.
 	 * 
 	 * @param index index into constant pool
 	 */
@@ -1698,11 +1817,7 @@ public final class ClassFileReader {
 		if(r == null) {
 			int p = items[index];
 			int length = read_u2(p);
-			try {
-				r = new String(bytes,p+2,length,"UTF-8");
-			} catch(UnsupportedEncodingException e) {
-				throw new RuntimeException("UTF-8 Charset not supported?");
-			}
+			r = SymbolTable.intern(bytes,p+2,length);
 			objects[index] = r;
 		}
 		return r;
@@ -1858,11 +1973,7 @@ public final class ClassFileReader {
 		// which is a CONSTANT_Utf8_info construct		
 		int p = items[index];
 		int length = read_u2(p);
-		try {
-			return new String(bytes,p+2,length,"UTF-8");
-		} catch(UnsupportedEncodingException e) {
-			throw new RuntimeException("UTF-8 Charset not supported?");
-		}				
+		return SymbolTable.intern(bytes,p+2,length);
 	}
 	
 	protected static byte[] readClass(String s) throws IOException {
@@ -1937,6 +2048,12 @@ public final class ClassFileReader {
 	protected static final int CONSTANT_Double = 6;
 	protected static final int CONSTANT_NameAndType = 12;
 	protected static final int CONSTANT_Utf8 = 1;
+	protected static final int CONSTANT_MethodHandle = 15;
+	protected static final int CONSTANT_MethodType = 16;
+	protected static final int CONSTANT_Dynamic = 17;
+	protected static final int CONSTANT_InvokeDynamic = 18;
+	protected static final int CONSTANT_Module = 19;
+	protected static final int CONSTANT_Package = 20;
 	    
     // from the VM SPEC
 	public static final byte VM_BOOLEAN = 4;
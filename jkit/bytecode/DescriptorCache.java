@@ -0,0 +1,74 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can
+// redistribute it and/or modify it under the terms of the
+// GNU General Public License as published by the Free Software
+// Foundation; either version 2 of the License, or (at your
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR
+// A PARTICULAR PURPOSE.  See the GNU General Public License
+// for more details.
+//
+// You should have received a copy of the GNU General Public
+// License along with the Java Compiler Kit; if not,
+// write to the Free Software Foundation, Inc., 59 Temple Place,
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009.
+
+package jkit.bytecode;
+
+import java.util.List;
+
+import jkit.jil.tree.Type;
+import jkit.util.BoundedCache;
+import jkit.util.Triple;
+
+/**
+ * A descriptor cache holds the types obtained from parsing the descriptors and
+ * signatures of classfiles. The same descriptors and signatures turn up over
+ * and over again in the classfiles being read (e.g. "Ljava/lang/String;" or
+ * "()V"), and so a cache is normally shared between all the readers created
+ * by one ClassLoader. The cached types are canonical (see TypeTable), and
+ * hence immutable.
+ *
+ * @author djp
+ *
+ */
+public final class DescriptorCache {
+	final BoundedCache<String,Type> descriptors = new BoundedCache<String,Type>(8192);
+	final BoundedCache<String,Type.Function> methodDescriptors = new BoundedCache<String,Type.Function>(8192);
+	final BoundedCache<String,Triple<List<Type.Reference>, Type.Clazz, List<Type.Clazz>>> classSignatures = new BoundedCache<String,Triple<List<Type.Reference>, Type.Clazz, List<Type.Clazz>>>(1024);
+
+	/**
+	 * Return the cache of parsed field and class descriptors. This is
+	 * provided primarily for reporting hit rates.
+	 *
+	 * @return
+	 */
+	public BoundedCache<String,Type> descriptors() {
+		return descriptors;
+	}
+
+	/**
+	 * Return the cache of parsed method descriptors (including generic
+	 * method signatures).
+	 *
+	 * @return
+	 */
+	public BoundedCache<String,Type.Function> methodDescriptors() {
+		return methodDescriptors;
+	}
+
+	/**
+	 * Return the cache of parsed class signatures.
+	 *
+	 * @return
+	 */
+	public BoundedCache<String, Triple<List<Type.Reference>, Type.Clazz, List<Type.Clazz>>> classSignatures() {
+		return classSignatures;
+	}
+}
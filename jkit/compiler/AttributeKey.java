@@ -0,0 +1,151 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can
+// redistribute it and/or modify it under the terms of the
+// GNU General Public License as published by the Free Software
+// Foundation; either version 2 of the License, or (at your
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR
+// A PARTICULAR PURPOSE.  See the GNU General Public License
+// for more details.
+//
+// You should have received a copy of the GNU General Public
+// License along with the Java Compiler Kit; if not,
+// write to the Free Software Foundation, Inc., 59 Temple Place,
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009.
+
+package jkit.compiler;
+
+import java.lang.reflect.Modifier;
+
+import jkit.jil.tree.SourceLocation;
+import jkit.jil.tree.Type;
+
+/**
+ * <p>
+ * An attribute key identifies a kind of attribute which is looked up
+ * frequently (e.g. the source location, or the type of an expression). Each
+ * syntactic element records where the first attribute of each registered kind
+ * is held, and so such lookups do not require searching through its
+ * attributes. Lookups of any other kind of attribute are unaffected.
+ * </p>
+ *
+ * <p>
+ * The kinds used throughout the compiler are registered here. Other kinds can
+ * be registered as well, although only the first few registered are given a
+ * key which can be looked up directly.
+ * </p>
+ *
+ * @author djp
+ *
+ */
+public final class AttributeKey<T extends SyntacticAttribute> {
+	/**
+	 * The number of keys which can be looked up directly.
+	 */
+	static final int LIMIT = 16;
+
+	private static volatile AttributeKey<?>[] keys = new AttributeKey<?>[0];
+
+	public static final AttributeKey<SourceLocation> LOCATION = register(SourceLocation.class);
+	public static final AttributeKey<Type> TYPE = register(Type.class);
+	public static final AttributeKey<Type.Reference> REFERENCE = register(Type.Reference.class);
+	public static final AttributeKey<Type.Clazz> CLAZZ = register(Type.Clazz.class);
+	public static final AttributeKey<Type.Function> FUNCTION = register(Type.Function.class);
+
+	private final Class<T> kind;
+	private final int index; // -1 if not looked up directly
+	private final boolean exact;
+
+	private AttributeKey(Class<T> kind, int index) {
+		this.kind = kind;
+		this.index = index;
+		this.exact = Modifier.isFinal(kind.getModifiers());
+	}
+
+	/**
+	 * Get the kind of attribute identified by this key.
+	 *
+	 * @return
+	 */
+	public Class<T> kind() {
+		return kind;
+	}
+
+	/**
+	 * Get the position of this key amongst those which can be looked up
+	 * directly.
+	 *
+	 * @return the position, or -1 if this key cannot be looked up directly.
+	 */
+	public int index() {
+		return index;
+	}
+
+	/**
+	 * Check whether this kind of attribute is a final class, in which case an
+	 * attribute is an instance of it only if its class is exactly this kind.
+	 *
+	 * @return
+	 */
+	public boolean exact() {
+		return exact;
+	}
+
+	public String toString() {
+		return kind.getName();
+	}
+
+	/**
+	 * Register a kind of attribute. If the kind has already been registered,
+	 * then its existing key is returned.
+	 *
+	 * @param kind
+	 * @return
+	 */
+	public static synchronized <T extends SyntacticAttribute> AttributeKey<T> register(
+			Class<T> kind) {
+		for (AttributeKey<?> k : keys) {
+			if (k.kind == kind) {
+				return (AttributeKey<T>) k;
+			}
+		}
+		AttributeKey<T> k = new AttributeKey<T>(kind, keys.length < LIMIT
+				? keys.length : -1);
+		AttributeKey<?>[] nkeys = new AttributeKey<?>[keys.length + 1];
+		System.arraycopy(keys, 0, nkeys, 0, keys.length);
+		nkeys[keys.length] = k;
+		keys = nkeys;
+		return k;
+	}
+
+	/**
+	 * Find the key registered for a kind of attribute.
+	 *
+	 * @param kind
+	 * @return the key, or null if the kind has not been registered.
+	 */
+	public static <T extends SyntacticAttribute> AttributeKey<T> lookup(
+			Class<T> kind) {
+		for (AttributeKey<?> k : keys) {
+			if (k.kind == kind) {
+				return (AttributeKey<T>) k;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the keys registered so far, in order of registration.
+	 *
+	 * @return
+	 */
+	static AttributeKey<?>[] keys() {
+		return keys;
+	}
+}
@@ -28,14 +28,17 @@ import java.io.*;
 
 import jkit.bytecode.ClassFile;
 import jkit.bytecode.ClassFileReader;
+import jkit.bytecode.DescriptorCache;
 import jkit.error.ErrorHandler;
 import jkit.error.FieldNotFoundException;
 import jkit.error.MethodNotFoundException;
 import jkit.error.PackageNotFoundException;
 import jkit.jil.tree.Type;
+import jkit.jil.tree.TypeTable;
 import jkit.jil.tree.JilClass;
 import jkit.jil.util.Types;
 import jkit.util.Pair;
+import jkit.util.SymbolTable;
 import jkit.compiler.SyntaxError;
 
 /**
@@ -132,6 +135,24 @@ public final class ClassLoader {
 	 */
 	private final Compiler compiler;
 
+	/**
+	 * The platform image gives access to the platform's classes on JDK 9 and
+	 * later. This is null unless the classpath includes the image (i.e. the
+	 * entry "jrt:/").
+	 */
+	private final PlatformImage platform;
+
+	/**
+	 * The descriptors and signatures parsed by the readers of this loader are
+	 * cached here, rather than being shared with other loaders.
+	 */
+	private final DescriptorCache descriptors = new DescriptorCache();
+
+	/**
+	 * This location is used to identify packages found in the platform image.
+	 */
+	private static final File PLATFORM_LOCATION = new File(PlatformImage.LOCATION);
+
 	/**
 	 * Construct a ClassLoader with a given classpath. The classpath is a list
 	 * of directory and/or jar file locations (specified according to the local
@@ -148,6 +169,8 @@ public final class ClassLoader {
 		this.sourcepath = new ArrayList<String>(classpath);
 		this.classpath = new ArrayList<String>(classpath);
 		this.compiler = compiler;
+		this.platform = classpath.contains(PlatformImage.LOCATION) ? PlatformImage
+				.get() : null;
 
 		buildInitialPackageMap();
 	}
@@ -171,6 +194,8 @@ public final class ClassLoader {
 		this.sourcepath = new ArrayList<String>(sourcepath);
 		this.classpath = new ArrayList<String>(classpath);
 		this.compiler = compiler;
+		this.platform = classpath.contains(PlatformImage.LOCATION) ? PlatformImage
+				.get() : null;
 
 		buildInitialPackageMap();
 	}
@@ -277,8 +302,8 @@ public final class ClassLoader {
 				outerClassName = c;
 			}
 			firstTime=false;
-			classes.add(new Pair<String, List<Type.Reference>>(c,
-					new ArrayList<Type.Reference>()));
+			classes.add(new Pair<String, List<Type.Reference>>(SymbolTable
+					.intern(c), new ArrayList<Type.Reference>()));
 		}
 
 		while(pkg != null) {
@@ -286,7 +311,7 @@ public final class ClassLoader {
 			if (pkgInfo != null) {
 				if(pkgInfo.classes.contains(fullClassName)) {
 					// Found the class!!
-					return new Type.Clazz(pkg,classes);
+					return TypeTable.intern(new Type.Clazz(pkg,classes));
 				} else if (pkgInfo.classes.contains(outerClassName)
 						&& !pkgInfo.compiledClasses.contains(outerClassName)) {
 					// If we get here, then we may have a source file for the
@@ -369,14 +394,27 @@ public final class ClassLoader {
 
 		for(File location : pkgInfo.locations) {
 			try {
-				if (location.getName().endsWith(".jar")) {
+				if (location.equals(PLATFORM_LOCATION)) {
+					// location is the platform's runtime image
+					byte[] bytes = platform.readClass(pathParent(name), pathChild(name));
+					if (bytes == null) {
+						continue;
+					}
+					ClassFileReader r = new ClassFileReader(bytes,false,descriptors);
+					compiler.logTimedMessage("Loaded " + PlatformImage.LOCATION
+							+ jarname, System.currentTimeMillis() - time);
+					Clazz clazz = r.readClass();
+					// Update our knowledge base of classes.
+					classtable.put(refName(clazz.type()), clazz);
+					return clazz;
+				} else if (location.getName().endsWith(".jar")) {
 					// location is a jar file
 					JarFile jf = new JarFile(location);
 					JarEntry je = jf.getJarEntry(jarname);
 					if (je == null) {
 						continue;
 					}
-					ClassFileReader r = new ClassFileReader(jf.getInputStream(je));
+					ClassFileReader r = new ClassFileReader(jf.getInputStream(je),false,descriptors);
 					compiler.logTimedMessage("Loaded " + location + ":"
 							+ jarname, System.currentTimeMillis() - time);
 					Clazz clazz = r.readClass();
@@ -405,7 +443,7 @@ public final class ClassLoader {
 					} else if(classFile.exists()) {
 						// Here, there is no sourcefile, but there is a classfile.
 						// So, no need to compile --- just load the class file!
-						ClassFileReader r = new ClassFileReader(new FileInputStream(classFile));
+						ClassFileReader r = new ClassFileReader(new FileInputStream(classFile),false,descriptors);
 
 						Clazz clazz = r.readClass();
 
@@ -466,6 +504,16 @@ public final class ClassLoader {
 		pkgInfo.compiledClasses.add(pc);
 	}
 
+	/**
+	 * Get the cache of descriptors and signatures parsed when loading classes.
+	 * This is provided primarily for reporting hit rates.
+	 *
+	 * @return
+	 */
+	public DescriptorCache descriptorCache() {
+		return descriptors;
+	}
+
 	/**
 	 * Given a path string of the form "xxx.yyy.zzz" this returns the parent
 	 * component (i.e. "xxx.yyy"). If you supply "xxx", then the path parent is
@@ -651,6 +699,10 @@ public final class ClassLoader {
 		// package has not been previously resolved.
 		String filePkg = pkg.replace('.', File.separatorChar);
 
+		// The platform image is indexed lazily, so add its classes for this
+		// package now (if there are any).
+		boolean inPlatform = platform != null && resolvePlatformPackage(pkg);
+
 		// First, consider source path
 		for (String dir : sourcepath) {
 			pkgInfo = lookForPackage(dir,pkg,filePkg);
@@ -673,10 +725,46 @@ public final class ClassLoader {
 			}
 		}
 
+		if(inPlatform) {
+			pkgInfo = packages.get(pkg);
+			pkgInfo.fullyResolved = true;
+			return pkgInfo;
+		}
+
 		failedPackages.add(pkg);
 		return null;
 	}
 
+	/**
+	 * This adds the classes in a given package of the platform image to the
+	 * list of known classes. Note that a package which simply encloses others
+	 * in the image (e.g. "java") still exists, even though it contains no
+	 * classes.
+	 *
+	 * @param pkg
+	 * @return true if the package exists in the platform image.
+	 */
+	private boolean resolvePlatformPackage(String pkg) {
+		try {
+			List<String> classes = platform.classes(pkg);
+			if(classes != null) {
+				String prefix = pkg.equals("") ? "" : pkg + ".";
+				for(String c : classes) {
+					addPackageItem(prefix + c, PLATFORM_LOCATION, true);
+				}
+			}
+			if (classes == null && !platform.isEnclosingPackage(pkg)) {
+				return false;
+			} else if (packages.get(pkg) == null) {
+				packages.put(pkg, new PackageInfo());
+			}
+			return true;
+		} catch(IOException e) {
+			// could possibly report stuff back to user here.
+			return false;
+		}
+	}
+
 	protected void buildInitialPackageMap() {
 		// This attempts to build an initial package map in order to prevent
         // lots of retraversing the class path.
@@ -856,7 +944,8 @@ public final class ClassLoader {
 
 	/**
      * This method builds a default bootclasspath, based upon the
-     * sun.boot.class.path property.
+     * sun.boot.class.path property. On JDK 9 and later, this property no
+     * longer exists and, instead, the platform's runtime image is used.
      *
      * @return
      */
@@ -865,8 +954,12 @@ public final class ClassLoader {
 		// default option.
 		ArrayList<String> bootClassPath = new ArrayList<String>();
 		String bcp = System.getProperty("sun.boot.class.path");
-		// split classpath along appropriate separator
-		Collections.addAll(bootClassPath, bcp.split(File.pathSeparator));
+		if(bcp == null) {
+			bootClassPath.add(PlatformImage.LOCATION);
+		} else {
+			// split classpath along appropriate separator
+			Collections.addAll(bootClassPath, bcp.split(File.pathSeparator));
+		}
 		return bootClassPath;
 	}
 }
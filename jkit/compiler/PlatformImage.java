@@ -0,0 +1,376 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can
+// redistribute it and/or modify it under the terms of the
+// GNU General Public License as published by the Free Software
+// Foundation; either version 2 of the License, or (at your
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR
+// A PARTICULAR PURPOSE.  See the GNU General Public License
+// for more details.
+//
+// You should have received a copy of the GNU General Public
+// License along with the Java Compiler Kit; if not,
+// write to the Free Software Foundation, Inc., 59 Temple Place,
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009.
+
+package jkit.compiler;
+
+import java.io.*;
+import java.net.URI;
+import java.nio.file.*;
+import java.util.*;
+
+import jkit.util.SymbolTable;
+
+/**
+ * <p>
+ * The platform image provides access to the class files of the running Java
+ * platform, for JDK 9 and later. Such platforms no longer have an rt.jar (or
+ * the sun.boot.class.path property); instead, their classes are held in a
+ * runtime image which is accessed via the "jrt:/" filesystem. This is laid out
+ * as follows:
+ * </p>
+ *
+ * <pre>
+ * /packages/java.lang/java.base      (link to module containing package)
+ * /modules/java.base/java/lang/String.class
+ * </pre>
+ *
+ * <p>
+ * The runtime image contains tens of thousands of classes, most of which are
+ * never needed. Therefore, the index of packages is built lazily. Initially,
+ * only the names of the packages are read. Then, the classes contained in a
+ * package are listed only when that package is first resolved.
+ * </p>
+ *
+ * <p>
+ * Optionally, the complete index can be snapshotted to a compact file. When a
+ * snapshot is available (and was made from the same version of the platform),
+ * it is used in place of listing the runtime image at all.
+ * </p>
+ *
+ * @author djp
+ *
+ */
+public final class PlatformImage {
+
+	/**
+	 * The classpath entry used to identify the platform's runtime image.
+	 */
+	public static final String LOCATION = "jrt:/";
+
+	private static final int SNAPSHOT_MAGIC = 0x4A4B5049; // "JKPI"
+
+	private static File snapshot = null;
+	private static PlatformImage instance = null;
+	private static boolean opened = false;
+
+	/**
+	 * The jrt filesystem, which is only opened when it's actually needed.
+	 */
+	private FileSystem fs;
+
+	/**
+	 * Maps each package to the modules which contain it (normally one).
+	 */
+	private final HashMap<String,String[]> modules = new HashMap<String,String[]>();
+
+	/**
+	 * The set of all packages which enclose a package in the image. For
+	 * example, "java" and "java.util" enclose "java.util.concurrent".
+	 */
+	private final HashSet<String> prefixes = new HashSet<String>();
+
+	/**
+	 * Maps each package which has been listed to the classes it contains.
+	 * Class names are represented as strings of the form "xxx$yyy".
+	 */
+	private final HashMap<String,List<String>> classes = new HashMap<String,List<String>>();
+
+	private PlatformImage() {}
+
+	/**
+	 * Set the file used to snapshot the index of the runtime image. If the
+	 * file does not exist (or is out of date), then it is created when the
+	 * image is first opened.
+	 *
+	 * @param file
+	 */
+	public static synchronized void setSnapshot(File file) {
+		snapshot = file;
+	}
+
+	/**
+	 * Get the platform image for the running platform, or null if the
+	 * platform has no runtime image (e.g. JDK 8 and earlier).
+	 *
+	 * @return
+	 */
+	public static synchronized PlatformImage get() {
+		if(!opened) {
+			opened = true;
+			PlatformImage image = new PlatformImage();
+			// The snapshot is only a cache, and so failing to read or write it
+			// does not prevent the runtime image from being used.
+			boolean indexed = false;
+			if(snapshot != null) {
+				try {
+					indexed = image.readSnapshot(snapshot);
+				} catch(IOException e) {
+					warning("unable to read snapshot " + snapshot, e);
+					image = new PlatformImage(); // discard partial index
+				}
+			}
+			if(!indexed) {
+				try {
+					image.readPackages();
+				} catch(Exception e) {
+					warning("unable to read runtime image " + LOCATION, e);
+					return null;
+				}
+				if(snapshot != null) {
+					try {
+						image.writeSnapshot(snapshot);
+					} catch(IOException e) {
+						warning("unable to write snapshot " + snapshot, e);
+						if(snapshot.isFile()) {
+							snapshot.delete(); // don't leave it half-written
+						}
+					}
+				}
+			}
+			instance = image;
+		}
+		return instance;
+	}
+
+	private static void warning(String msg, Exception e) {
+		System.err.println("Warning: " + msg + " (" + e.getMessage() + ")");
+	}
+
+	/**
+	 * Check whether a given package is contained in the image.
+	 *
+	 * @param pkg
+	 *            package name in the form "xxx.yyy"
+	 * @return
+	 */
+	public synchronized boolean isPackage(String pkg) {
+		return modules.containsKey(pkg);
+	}
+
+	/**
+	 * Check whether a given package encloses some package in the image. For
+	 * example, "java" encloses "java.lang".
+	 *
+	 * @param pkg
+	 * @return
+	 */
+	public synchronized boolean isEnclosingPackage(String pkg) {
+		return prefixes.contains(pkg);
+	}
+
+	/**
+	 * Get the list of classes in a given package, or null if it is not
+	 * contained in the image.
+	 *
+	 * @param pkg
+	 *            package name in the form "xxx.yyy"
+	 * @return class names in the form "xxx$yyy"
+	 */
+	public synchronized List<String> classes(String pkg) throws IOException {
+		String[] mods = modules.get(pkg);
+		if(mods == null) {
+			return null;
+		}
+		List<String> r = classes.get(pkg);
+		if(r == null) {
+			r = listClasses(pkg,mods);
+			classes.put(pkg,r);
+		}
+		return r;
+	}
+
+	/**
+	 * Read the bytes of a given class from the image.
+	 *
+	 * @param pkg
+	 *            package name in the form "xxx.yyy"
+	 * @param name
+	 *            class name in the form "xxx$yyy"
+	 * @return the class bytes, or null if no such class exists.
+	 */
+	public synchronized byte[] readClass(String pkg, String name)
+			throws IOException {
+		String[] mods = modules.get(pkg);
+		if(mods == null) {
+			return null;
+		}
+		String file = pkg.replace('.','/') + "/" + name + ".class";
+		for(String m : mods) {
+			Path p = fs().getPath("/modules",m,file);
+			if(Files.exists(p)) {
+				return Files.readAllBytes(p);
+			}
+		}
+		return null;
+	}
+
+	private FileSystem fs() throws IOException {
+		if(fs == null) {
+			fs = FileSystems.getFileSystem(URI.create(LOCATION));
+		}
+		return fs;
+	}
+
+	/**
+	 * Read the names of all packages in the image, along with their modules.
+	 * This does not list the classes contained in each package.
+	 */
+	private void readPackages() throws IOException {
+		DirectoryStream<Path> pkgs = Files.newDirectoryStream(fs().getPath(
+				"/packages"));
+		try {
+			for (Path p : pkgs) {
+				ArrayList<String> mods = new ArrayList<String>();
+				DirectoryStream<Path> ms = Files.newDirectoryStream(p);
+				try {
+					for(Path m : ms) {
+						mods.add(m.getFileName().toString());
+					}
+				} finally {
+					ms.close();
+				}
+				addPackage(p.getFileName().toString(), mods
+						.toArray(new String[mods.size()]));
+			}
+		} finally {
+			pkgs.close();
+		}
+	}
+
+	private List<String> listClasses(String pkg, String[] mods)
+			throws IOException {
+		ArrayList<String> r = new ArrayList<String>();
+		String dir = pkg.replace('.','/');
+		for(String m : mods) {
+			Path p = fs().getPath("/modules",m,dir);
+			if(!Files.isDirectory(p)) {
+				continue;
+			}
+			DirectoryStream<Path> files = Files.newDirectoryStream(p);
+			try {
+				for(Path f : files) {
+					String name = f.getFileName().toString();
+					if (name.endsWith(".class")
+							&& !name.equals("module-info.class")) {
+						r.add(SymbolTable.intern(name.substring(0, name
+								.length() - 6)));
+					}
+				}
+			} finally {
+				files.close();
+			}
+		}
+		return r;
+	}
+
+	private void addPackage(String pkg, String[] mods) {
+		modules.put(pkg,mods);
+		int idx = pkg.lastIndexOf('.');
+		while(idx > 0) {
+			pkg = pkg.substring(0,idx);
+			prefixes.add(pkg);
+			idx = pkg.lastIndexOf('.');
+		}
+	}
+
+	/**
+	 * Read the complete index of the image from a snapshot file. If the
+	 * snapshot doesn't exist, or was made from a different platform version,
+	 * then it is ignored.
+	 *
+	 * @param file
+	 * @return true if the snapshot was read.
+	 */
+	private boolean readSnapshot(File file) throws IOException {
+		if(!file.exists()) {
+			return false;
+		}
+		DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new FileInputStream(file)));
+		try {
+			if (in.readInt() != SNAPSHOT_MAGIC
+					|| !in.readUTF().equals(platformVersion())) {
+				return false;
+			}
+			int npkgs = in.readInt();
+			for(int i=0;i!=npkgs;++i) {
+				String pkg = in.readUTF();
+				String[] mods = new String[in.readUnsignedShort()];
+				for(int j=0;j!=mods.length;++j) {
+					mods[j] = in.readUTF();
+				}
+				int nclasses = in.readInt();
+				ArrayList<String> cs = new ArrayList<String>(nclasses);
+				for(int j=0;j!=nclasses;++j) {
+					cs.add(SymbolTable.intern(in.readUTF()));
+				}
+				addPackage(pkg,mods);
+				classes.put(pkg,cs);
+			}
+			return true;
+		} catch(EOFException e) {
+			// truncated snapshot, so clear out anything partially read.
+			modules.clear();
+			prefixes.clear();
+			classes.clear();
+			return false;
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Write the complete index of the image to a snapshot file. This requires
+	 * listing every package in the image, and is only done once.
+	 *
+	 * @param file
+	 */
+	private void writeSnapshot(File file) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(file)));
+		try {
+			out.writeInt(SNAPSHOT_MAGIC);
+			out.writeUTF(platformVersion());
+			out.writeInt(modules.size());
+			for(Map.Entry<String,String[]> e : modules.entrySet()) {
+				String pkg = e.getKey();
+				String[] mods = e.getValue();
+				out.writeUTF(pkg);
+				out.writeShort(mods.length);
+				for(String m : mods) {
+					out.writeUTF(m);
+				}
+				List<String> cs = classes(pkg);
+				out.writeInt(cs.size());
+				for(String c : cs) {
+					out.writeUTF(c);
+				}
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	private static String platformVersion() {
+		return System.getProperty("java.home") + ":"
+				+ System.getProperty("java.runtime.version");
+	}
+}
@@ -0,0 +1,129 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can
+// redistribute it and/or modify it under the terms of the
+// GNU General Public License as published by the Free Software
+// Foundation; either version 2 of the License, or (at your
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR
+// A PARTICULAR PURPOSE.  See the GNU General Public License
+// for more details.
+//
+// You should have received a copy of the GNU General Public
+// License along with the Java Compiler Kit; if not,
+// write to the Free Software Foundation, Inc., 59 Temple Place,
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009.
+
+package jkit.compiler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import jkit.jil.tree.Type;
+
+/**
+ * <p>
+ * A resolution cache records the classes to which names have been resolved
+ * within one compilation unit, so that each stage resolving names in the unit
+ * need not search through the imports again for a name already resolved.
+ * </p>
+ *
+ * <p>
+ * The class to which a name resolves depends upon the enclosing scope, which
+ * is given by the list of imports searched (see ClassLoader.resolve()). Hence,
+ * the cache holds a separate scope for each distinct list of imports, and
+ * names are resolved within a scope. Names which cannot be resolved are not
+ * recorded, since a stage may go on to interpret them differently (e.g. as a
+ * package).
+ * </p>
+ *
+ * @author djp
+ *
+ */
+public final class ResolutionCache {
+	private static long lookups = 0;
+	private static long hits = 0;
+
+	private final HashMap<List<String>,Scope> scopes = new HashMap<List<String>,Scope>();
+
+	/**
+	 * Get the scope for a given list of imports. The list is copied, and so
+	 * may be changed afterwards, although the scope then no longer corresponds
+	 * to it.
+	 *
+	 * @param imports
+	 * @return
+	 */
+	public Scope scope(List<String> imports) {
+		Scope s = scopes.get(imports);
+		if(s == null) {
+			s = new Scope(new ArrayList<String>(imports));
+			scopes.put(s.imports, s);
+		}
+		return s;
+	}
+
+	/**
+	 * Return the number of lookups, over all caches, which found a name
+	 * already resolved.
+	 *
+	 * @return
+	 */
+	public static long hits() {
+		return hits;
+	}
+
+	/**
+	 * Return the total number of lookups made, over all caches.
+	 *
+	 * @return
+	 */
+	public static long lookups() {
+		return lookups;
+	}
+
+	/**
+	 * A scope maps each name resolved against a given list of imports to the
+	 * class it resolves to.
+	 */
+	public static final class Scope {
+		private final List<String> imports;
+		private final HashMap<String,Type.Clazz> names = new HashMap<String,Type.Clazz>();
+
+		private Scope(List<String> imports) {
+			this.imports = imports;
+		}
+
+		/**
+		 * Resolve a class name in this scope. This is the same as
+		 * loader.resolve(className,imports), except that it is performed only
+		 * once for each name.
+		 *
+		 * @param className
+		 *            A class name without package specifier. Inner classes are
+		 *            indicated by a "$" separator.
+		 * @param loader
+		 * @return
+		 * @throws ClassNotFoundException
+		 *             if it couldn't resolve the class
+		 */
+		public Type.Clazz resolve(String className, ClassLoader loader)
+				throws ClassNotFoundException {
+			lookups++;
+			Type.Clazz r = names.get(className);
+			if(r != null) {
+				hits++;
+				return r;
+			}
+			r = loader.resolve(className, imports);
+			names.put(className, r);
+			return r;
+		}
+	}
+}
@@ -49,6 +49,16 @@ public interface SyntacticElement {
      */
 	public <T extends SyntacticAttribute> T attribute(Class<T> c);
 	
+	/**
+     * Get the first attribute of the kind identified by the given key. This
+     * is equivalent to looking up the attribute by its class, but does not
+     * require searching through the attributes.
+     * 
+     * @param key
+     * @return
+     */
+	public <T extends SyntacticAttribute> T attribute(AttributeKey<T> key);
+	
 	/**
      * Get all attributes of the given class type. 
      * 
@@ -22,36 +22,90 @@
 package jkit.compiler;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 
+/**
+ * <p>
+ * A syntactic element which holds its attributes compactly. Most elements
+ * have only one or two attributes (e.g. a source location and a type), and so
+ * these are held inline in the element itself. Any further attributes are
+ * held in an array, which is allocated only when needed. Thus, an element
+ * with few attributes requires no allocation beyond the element itself.
+ * </p>
+ * 
+ * <p>
+ * The attributes of an element are often given to the construction of another
+ * (e.g. when one element is rewritten into another). Rather than copying
+ * them, the array of further attributes (if any) is then shared between the
+ * two elements, and copied only when one of them is changed.
+ * </p>
+ * 
+ * <p>
+ * Certain kinds of attribute are looked up very frequently (e.g. the source
+ * location). For each kind registered with an AttributeKey, an element
+ * records the position of its first attribute of that kind, so that looking
+ * it up requires no search. These positions are determined when first needed,
+ * and forgotten whenever the attributes are changed.
+ * </p>
+ * 
+ * @author djp
+ * 
+ */
 public class SyntacticElementImpl  implements SyntacticElement {
-	protected ArrayList<SyntacticAttribute> attributes;
+	private SyntacticAttribute first;
+	private SyntacticAttribute second;
+	private SyntacticAttribute[] rest; // attributes from the third onwards
+	private int size;
+	private boolean shared; // is rest shared with another element?
+	private long slots;     // position of each key, in 4 bits (see below)
 	
-	public SyntacticElementImpl() {
-		attributes = new ArrayList<SyntacticAttribute>();
+	private static final int UNKNOWN = 0;  // not yet determined
+	private static final int ELSEWHERE = 14; // beyond the positions recorded
+	private static final int ABSENT = 15;  // no attribute of this kind
+	
+	public SyntacticElementImpl() {		
 	}
 	
 	public SyntacticElementImpl(SyntacticAttribute x) {
-		attributes = new ArrayList<SyntacticAttribute>();
-		attributes.add(x);
+		first = x;
+		size = 1;
 	}
 	
 	public SyntacticElementImpl(List<SyntacticAttribute> attributes) {
-		// the following is really necessary to get rid of annoying aliasing
-		// problems.
-		this.attributes = new ArrayList<SyntacticAttribute>(attributes);			
+		// the attributes of another element are shared, rather than copied,
+		// to get rid of annoying aliasing problems.
+		if(attributes instanceof Attributes) {
+			SyntacticElementImpl e = ((Attributes) attributes).element();
+			first = e.first;
+			second = e.second;
+			rest = e.rest;
+			size = e.size;
+			slots = e.slots;
+			if(rest != null) {
+				shared = true;
+				e.shared = true;
+			}
+		} else {
+			for(SyntacticAttribute a : attributes) {
+				insert(size, a);
+			}
+		}
 	}
 	
 	public SyntacticElementImpl(SyntacticAttribute[] attributes) {
-		this.attributes = new ArrayList<SyntacticAttribute>(Arrays.asList(attributes));			
+		for(SyntacticAttribute a : attributes) {
+			insert(size, a);
+		}
 	}
 	
-	public List<SyntacticAttribute> attributes() { return attributes; }
+	public List<SyntacticAttribute> attributes() {
+		return new Attributes();
+	}
 	
 	public <T extends SyntacticAttribute> List<T> attributes(Class<T> c) {
 		ArrayList<T> r = new ArrayList<T>();
-		for (SyntacticAttribute a : attributes) {
+		for (int i = 0; i != size; ++i) {
+			SyntacticAttribute a = get(i);
 			if (c.isInstance(a)) {
 				r.add((T) a);
 			}
@@ -60,14 +114,168 @@ public class SyntacticElementImpl  implements SyntacticElement {
 	}
 	
 	public <T extends SyntacticAttribute> T attribute(Class<T> c) {
-		for (SyntacticAttribute a : attributes) {
+		AttributeKey<T> key = AttributeKey.lookup(c);
+		if (key != null) {
+			return attribute(key);
+		}
+		return find(c);
+	}
+	
+	public <T extends SyntacticAttribute> T attribute(AttributeKey<T> key) {
+		int index = key.index();
+		if (index < 0) {
+			return find(key.kind());
+		}
+		int shift = index * 4;
+		int p = (int) (slots >>> shift) & 15;
+		if (p == UNKNOWN) {
+			locate();
+			p = (int) (slots >>> shift) & 15;
+		}
+		switch (p) {
+			case ABSENT :
+				return null;
+			case UNKNOWN :
+			case ELSEWHERE :
+				return find(key.kind());
+			default :
+				return (T) get(p - 1);
+		}
+	}
+	
+	/**
+	 * Search for the first attribute of the given kind.
+	 */
+	private <T extends SyntacticAttribute> T find(Class<T> c) {
+		if (size > 0 && c.isInstance(first)) {
+			return (T) first;
+		} else if (size > 1 && c.isInstance(second)) {
+			return (T) second;
+		}
+		for (int i = 2; i < size; ++i) {
+			SyntacticAttribute a = rest[i - 2];
 			if (c.isInstance(a)) {
 				return (T) a;
 			}
 		}
 		return null;
-	}		
+	}
+	
+	/**
+	 * Determine the position of the first attribute of each registered kind.
+	 */
+	private void locate() {
+		AttributeKey<?>[] keys = AttributeKey.keys();
+		int n = Math.min(keys.length, AttributeKey.LIMIT);
+		long r = 0;
+		for (int k = 0; k != n; ++k) {
+			Class<?> c = keys[k].kind();
+			long p = ABSENT;
+			for (int i = 0; i != size; ++i) {
+				if (c.isInstance(get(i))) {
+					p = i < ELSEWHERE - 1 ? i + 1 : ELSEWHERE;
+					break;
+				}
+			}
+			r |= p << (k * 4);
+		}
+		slots = r;
+	}
+	
+	private SyntacticAttribute get(int index) {
+		switch (index) {
+			case 0 :
+				return first;
+			case 1 :
+				return second;
+			default :
+				return rest[index - 2];
+		}
+	}
+	
+	private void put(int index, SyntacticAttribute a) {
+		switch (index) {
+			case 0 :
+				first = a;
+				break;
+			case 1 :
+				second = a;
+				break;
+			default :
+				if (shared) {
+					rest = rest.clone();
+					shared = false;
+				}
+				rest[index - 2] = a;
+		}
+	}
+	
+	private void insert(int index, SyntacticAttribute a) {
+		int n = size - 1; // number needed in rest
+		if (n > 0 && (rest == null || rest.length < n)) {
+			rest = Arrays.copyOf(rest == null ? new SyntacticAttribute[0]
+					: rest, Math.max(n, 4));
+			shared = false;
+		}
+		for (int i = size; i > index; --i) {
+			put(i, get(i - 1));
+		}
+		put(index, a);
+		size++;
+	}
+	
+	private SyntacticAttribute delete(int index) {
+		SyntacticAttribute a = get(index);
+		for (int i = index + 1; i < size; ++i) {
+			put(i - 1, get(i));
+		}
+		put(size - 1, null);
+		size--;
+		return a;
+	}
+	
+	/**
+	 * A view of the attributes of this element, through which they can be
+	 * changed.
+	 */
+	private final class Attributes extends AbstractList<SyntacticAttribute>
+			implements RandomAccess {
+		public SyntacticElementImpl element() {
+			return SyntacticElementImpl.this;
+		}
+		
+		public int size() {
+			return size;
+		}
+		
+		public SyntacticAttribute get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("Index: " + index);
+			}
+			return SyntacticElementImpl.this.get(index);
+		}
+		
+		public SyntacticAttribute set(int index, SyntacticAttribute a) {
+			SyntacticAttribute old = get(index);
+			put(index, a);
+			slots = UNKNOWN;
+			return old;
+		}
+		
+		public void add(int index, SyntacticAttribute a) {
+			if (index < 0 || index > size) {
+				throw new IndexOutOfBoundsException("Index: " + index);
+			}
+			insert(index, a);
+			slots = UNKNOWN;
+			modCount++;
+		}
+		
+		public SyntacticAttribute remove(int index) {
+			get(index);
+			slots = UNKNOWN;
+			modCount++;
+			return delete(index);
+		}
+	}
 }
-
-
-
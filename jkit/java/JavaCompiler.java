@@ -22,6 +22,10 @@
 package jkit.java;
 
 import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.Charset;
 import java.util.*;
 
 import jkit.compiler.Compiler;
@@ -76,6 +80,39 @@ public class JavaCompiler implements Compiler {
      */
 	protected Set<String> parsed = new HashSet<String>();
 	
+	/**
+	 * The implicit compilation flag determines whether or not source files
+	 * which are parsed only because they are needed to resolve types (i.e.
+	 * found on the sourcepath) are themselves compiled. When it is disabled,
+	 * such files contribute only their skeletons, and are never placed onto
+	 * the compilation queue. This corresponds to javac's "-implicit:none".
+	 */
+	protected boolean implicitCompilationFlag = true;
+	
+	/**
+	 * The implicit units are those files which have been parsed for their
+	 * skeletons, but which were not placed onto the compilation queue (see
+	 * implicitCompilationFlag). They are retained in case they are
+	 * subsequently compiled explicitly.
+	 */
+	protected HashMap<String,Pair<JavaFile,List<JilClass>>> implicitUnits = new HashMap();
+	
+	/**
+	 * The character encoding of source files.
+	 */
+	protected Charset encoding = Charset.defaultCharset();
+	
+	/**
+	 * The largest amount of heap in use whilst parsing any one source file.
+	 */
+	protected long parsePeakHeap = 0;
+	
+	/**
+	 * The time (in milliseconds since the virtual machine was started) at
+	 * which the first source file had been parsed, or -1 if none has been.
+	 */
+	protected long firstParseTime = -1;
+	
 	/**
 	 * The output directory for class files.
 	 */
@@ -164,6 +201,48 @@ public class JavaCompiler implements Compiler {
 	public void setBytecodeOptimisation(boolean flag) {
 		bytecodeOptimisationFlag = flag;
 	}
+	
+	/**
+	 * Enable/disable compilation of source files which are parsed only to
+	 * resolve types.
+	 * 
+	 * @param flag
+	 */
+	public void setImplicitCompilation(boolean flag) {
+		implicitCompilationFlag = flag;
+	}
+	
+	/**
+	 * Set the character encoding used to read source files. By default, this
+	 * is the platform's encoding.
+	 * 
+	 * @param encoding
+	 */
+	public void setEncoding(Charset encoding) {
+		this.encoding = encoding;
+	}
+	
+	/**
+	 * Get the largest amount of heap (in bytes) which was in use whilst
+	 * parsing any one source file.
+	 * 
+	 * @return
+	 */
+	public long parsePeakHeap() {
+		return parsePeakHeap;
+	}
+	
+	/**
+	 * Get the time (in milliseconds since the virtual machine was started) at
+	 * which the first source file had been parsed. This includes the time
+	 * taken to start the virtual machine, and to load and initialise the
+	 * classes needed for parsing.
+	 * 
+	 * @return the time, or -1 if no source file has been parsed.
+	 */
+	public long firstParseTime() {
+		return firstParseTime;
+	}
 		
 	/**
 	 * The purpose of this method is to indicate that a source file is currently
@@ -258,7 +337,11 @@ public class JavaCompiler implements Compiler {
 	}
 	
 	public List<JilClass> parse(File filename) throws IOException {
-		return innerParse(filename).second();
+		return innerParse(filename, implicitCompilationFlag).second();
+	}
+	
+	protected Pair<JavaFile,List<JilClass>> innerParse(File filename) throws IOException {
+		return innerParse(filename, true);
 	}
 	
 	/**
@@ -267,8 +350,14 @@ public class JavaCompiler implements Compiler {
      * bodies. Furthermore, for each inner-class and enumeration, there will be
      * a separate skeleton created. Thus, a file which only contains one class
      * declaration (inc anonymous classes) will only produce one skeleton.
+     * 
+     * @param filename
+     * @param enqueue
+     *            indicates whether or not the file should be placed onto the
+     *            compilation queue.
      */
-	protected Pair<JavaFile,List<JilClass>> innerParse(File filename) throws IOException {				
+	protected Pair<JavaFile,List<JilClass>> innerParse(File filename,
+			boolean enqueue) throws IOException {				
 		String str_filename = filename.getCanonicalPath();
 		
 		if(parsed.contains(str_filename)) {			
@@ -277,13 +366,22 @@ public class JavaCompiler implements Compiler {
 					return new Pair(item.second(),item.third());
 				}				
 			}
+			Pair<JavaFile,List<JilClass>> unit = implicitUnits.get(str_filename);
+			if(unit != null && !enqueue) {
+				return unit;
+			} else if(unit != null) {
+				// This file was previously read only for its skeleton, but it
+				// now needs to be compiled. Therefore, we must read it again
+				// in full, as its method bodies were skipped.
+				implicitUnits.remove(str_filename);
+			}
 		}
 		
 		try {
 			// First, parse the Java source file to yield an abstract syntax
 			// tree.
 			
-			JavaFile jfile = parseSourceFile(filename);
+			JavaFile jfile = parseSourceFile(filename, !enqueue);
 		
 			// Second, we need to resolve types. That is, for each class
 			// reference type, determine what package it's in.			
@@ -299,7 +397,11 @@ public class JavaCompiler implements Compiler {
 			// 2) determine what fields are declared.			
 			skeletons.addAll(buildSkeletons(filename, jfile, loader));
 			
-			compilationQueue.add(new Triple(filename,jfile,skeletons));
+			if(enqueue) {
+				compilationQueue.add(new Triple(filename,jfile,skeletons));
+			} else {
+				implicitUnits.put(str_filename,new Pair(jfile,skeletons));
+			}
 			
 			// finally, 
 			parsed.add(str_filename);
@@ -443,13 +545,44 @@ public class JavaCompiler implements Compiler {
 	 */
 	protected JavaFile parseSourceFile(File srcFile) throws IOException,
 			SyntaxError {		
+		return parseSourceFile(srcFile, false);
+	}
+
+	/**
+	 * Parse a source file, optionally reading only its skeleton. In this
+	 * case, the bodies of methods, constructors and initialisers are skipped.
+	 * This is useful for files which are needed only to resolve types.
+	 * 
+	 * @param srcFile
+	 * @param skeletonOnly
+	 * @return
+	 * @throws IOException
+	 * @throws SyntaxError
+	 */
+	protected JavaFile parseSourceFile(File srcFile, boolean skeletonOnly)
+			throws IOException, SyntaxError {
 		long start = System.currentTimeMillis();
+		resetPeakHeap();
 				
-		JavaFileReader reader = new JavaFileReader(srcFile.getPath());
+		JavaFileReader reader = new JavaFileReader(srcFile.getPath(),
+				encoding, skeletonOnly);
 		JavaFile jfile = reader.read();
 		jfile.setFilename(srcFile.getPath());
-		logTimedMessage("[" + srcFile.getPath() + "] Parsing completed ",
-				(System.currentTimeMillis() - start));
+		long peak = peakHeap();
+		parsePeakHeap = Math.max(parsePeakHeap, peak);
+		if(firstParseTime < 0) {
+			firstParseTime = ManagementFactory.getRuntimeMXBean().getUptime();
+		}
+		if(skeletonOnly) {
+			logTimedMessage("[" + srcFile.getPath()
+					+ "] Parsing completed (skeleton, "
+					+ reader.skippedBodies() + " bodies skipped, peak heap "
+					+ (peak / 1024) + "KB)", (System.currentTimeMillis() - start));
+		} else {
+			logTimedMessage("[" + srcFile.getPath()
+					+ "] Parsing completed (peak heap " + (peak / 1024) + "KB)",
+					(System.currentTimeMillis() - start));
+		}
 		
 		return jfile;
 	}
@@ -738,6 +871,33 @@ public class JavaCompiler implements Compiler {
 		logout.print(time);
 		logout.println("ms]");
 	}
+
+	/**
+	 * Reset the peak usage of the heap's memory pools, so that the peak whilst
+	 * performing some task can be measured.
+	 */
+	private static void resetPeakHeap() {
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if(pool.getType() == MemoryType.HEAP) {
+				pool.resetPeakUsage();
+			}
+		}
+	}
+
+	/**
+	 * Get the peak heap usage since it was last reset. This is the sum of the
+	 * peaks of each memory pool, which need not have occurred at the same
+	 * time, and so is an upper bound.
+	 */
+	private static long peakHeap() {
+		long peak = 0;
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if(pool.getType() == MemoryType.HEAP) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
 	
 	/**
 	 * Create a string suitable as a filename for this class.
@@ -23,6 +23,7 @@ package jkit.java.io;
 
 import java.util.*;
 
+import jkit.compiler.ResolutionCache;
 import jkit.java.tree.Decl;
 import jkit.util.*;
 
@@ -31,6 +32,7 @@ public class JavaFile {
 	private String pkg;
 	private List<Pair<Boolean,String> > imports;
 	private List<Decl> declarations; 
+	private final ResolutionCache resolutionCache = new ResolutionCache();
 	
 	public JavaFile(String pkg, List<Pair<Boolean, String> > imports, List<Decl> declarations) {
 		this.pkg = pkg;
@@ -63,6 +65,16 @@ public class JavaFile {
 		return declarations;
 	}	
 	
+	/**
+	 * Get the cache of names resolved in this file, which is shared by the
+	 * stages which resolve names.
+	 * 
+	 * @return
+	 */
+	public ResolutionCache resolutionCache() {
+		return resolutionCache;
+	}
+	
 	public String filename() {
 		return filename; 
 	}
@@ -0,0 +1,183 @@
+//This file is part of the Java Compiler Kit (JKit)
+
+//The Java Compiler Kit is free software; you can
+//redistribute it and/or modify it under the terms of the
+//GNU General Public License as published by the Free Software
+//Foundation; either version 2 of the License, or (at your
+//option) any later version.
+
+//The Java Compiler Kit is distributed in the hope
+//that it will be useful, but WITHOUT ANY WARRANTY; without
+//even the implied warranty of MERCHANTABILITY or FITNESS FOR
+//A PARTICULAR PURPOSE.  See the GNU General Public License
+//for more details.
+
+//You should have received a copy of the GNU General Public
+//License along with the Java Compiler Kit; if not,
+//write to the Free Software Foundation, Inc., 59 Temple Place,
+//Suite 330, Boston, MA  02111-1307  USA
+
+//(C) David James Pearce, 2009.
+
+package jkit.java.io;
+
+import java.util.*;
+
+import jkit.java.parser.*;
+
+/**
+ * <p>
+ * A skeleton token source filters the tokens of a Java source file, such that
+ * the bodies of methods, constructors and initialiser blocks are removed. Only
+ * the enclosing braces of each body are kept, so the parser sees an empty
+ * block in each case. This is useful when a source file is needed only for
+ * its skeleton (i.e. its declarations and signatures), since the parser does
+ * not need to process the bodies, and no AST is built for them.
+ * </p>
+ *
+ * <p>
+ * Bodies are identified by tracking braces. A brace opened directly within a
+ * class body is a body to be skipped, unless it is part of a class
+ * declaration, a field initialiser (e.g. an array initialiser or anonymous
+ * class) or an annotation default. Skipped bodies are recorded as ranges in
+ * the original source.
+ * </p>
+ *
+ * @author djp
+ *
+ */
+class SkeletonTokenSource implements TokenSource {
+	private static final int TOP = 0;   // outside of any class
+	private static final int CLASS = 1; // directly within a class body
+	private static final int ENUM = 2;  // within the constants of an enum
+	private static final int OTHER = 3; // within anything else
+
+	private final TokenSource source;
+
+	/**
+	 * The kind of each currently open brace.
+	 */
+	private final Stack<Integer> frames = new Stack<Integer>();
+
+	/**
+	 * The character ranges (inclusive) of the bodies which have been skipped.
+	 */
+	private final ArrayList<int[]> skipped = new ArrayList<int[]>();
+
+	// The following track the member currently being declared.
+	private int parens = 0;
+	private String header = null;	// class, interface or enum keyword seen?
+	private boolean initialiser = false; // '=' or 'default' seen?
+
+	private Token pending = null; // opening brace of body to skip
+
+	public SkeletonTokenSource(TokenSource source) {
+		this.source = source;
+		frames.push(TOP);
+	}
+
+	/**
+	 * Get the ranges of the bodies which have been skipped. Each range is a
+	 * pair of character indices, giving the opening and closing brace.
+	 *
+	 * @return
+	 */
+	public List<int[]> skipped() {
+		return skipped;
+	}
+
+	public Token nextToken() {
+		if(pending != null) {
+			return skipBody();
+		}
+
+		Token t = source.nextToken();
+		if(t.type() == JavaTokens.EOF) {
+			return t;
+		}
+
+		String text = t.text();
+		int frame = frames.peek();
+
+		if(frame == OTHER) {
+			if(text.equals("{")) {
+				frames.push(OTHER);
+			} else if(text.equals("}")) {
+				frames.pop();
+			}
+		} else if(text.equals("(")) {
+			parens++;
+		} else if(text.equals(")")) {
+			parens--;
+		} else if(parens > 0) {
+			if(text.equals("{")) {
+				frames.push(OTHER);
+			}
+		} else if(text.equals("class") || text.equals("interface")
+				|| text.equals("enum")) {
+			header = text;
+		} else if(text.equals("=") || text.equals("default")) {
+			initialiser = true;
+		} else if(text.equals(";")) {
+			if(frame == ENUM) {
+				// end of enum constants, now onto the enum body.
+				frames.set(frames.size()-1,CLASS);
+			}
+			endMember();
+		} else if(text.equals(",") && frame == ENUM) {
+			endMember();
+		} else if(text.equals("{")) {
+			if(initialiser) {
+				frames.push(OTHER);
+			} else if(header != null) {
+				frames.push(header.equals("enum") ? ENUM : CLASS);
+				endMember();
+			} else if(frame == ENUM) {
+				// enum constant with a class body
+				frames.push(CLASS);
+				endMember();
+			} else if(frame == TOP) {
+				frames.push(OTHER);
+			} else {
+				pending = t;
+			}
+		} else if(text.equals("}") && frames.size() > 1) {
+			frames.pop();
+			endMember();
+		}
+
+		return t;
+	}
+
+	/**
+	 * Skip over the body opened by the pending brace, returning its closing
+	 * brace.
+	 */
+	private Token skipBody() {
+		int start = pending.start();
+		pending = null;
+		int depth = 1;
+		Token t;
+		while(true) {
+			t = source.nextToken();
+			if(t.type() == JavaTokens.EOF) {
+				return t;
+			}
+			String text = t.text();
+			if(text.equals("{")) {
+				depth++;
+			} else if(text.equals("}") && --depth == 0) {
+				break;
+			}
+		}
+		skipped.add(new int[]{start,t.stop()});
+		endMember();
+		return t;
+	}
+
+	private void endMember() {
+		parens = 0;
+		header = null;
+		initialiser = false;
+	}
+}
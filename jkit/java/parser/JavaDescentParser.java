@@ -0,0 +1,2470 @@
+//This file is part of the Java Compiler Kit (JKit)
+
+//The Java Compiler Kit is free software; you can
+//redistribute it and/or modify it under the terms of the
+//GNU General Public License as published by the Free Software
+//Foundation; either version 2 of the License, or (at your
+//option) any later version.
+
+//The Java Compiler Kit is distributed in the hope
+//that it will be useful, but WITHOUT ANY WARRANTY; without
+//even the implied warranty of MERCHANTABILITY or FITNESS FOR
+//A PARTICULAR PURPOSE.  See the GNU General Public License
+//for more details.
+
+//You should have received a copy of the GNU General Public
+//License along with the Java Compiler Kit; if not,
+//write to the Free Software Foundation, Inc., 59 Temple Place,
+//Suite 330, Boston, MA  02111-1307  USA
+
+//(C) David James Pearce, 2009.
+
+package jkit.java.parser;
+
+import java.util.*;
+
+import static jkit.java.parser.JavaTokens.*;
+
+import jkit.compiler.SyntaxError;
+import jkit.java.io.JavaFile;
+import jkit.java.tree.Annotation;
+import jkit.java.tree.Decl;
+import jkit.java.tree.Expr;
+import jkit.java.tree.Stmt;
+import jkit.java.tree.Type;
+import jkit.java.tree.Value;
+import jkit.jil.tree.Modifier;
+import jkit.jil.tree.SourceLocation;
+import jkit.util.Pair;
+import jkit.util.SymbolTable;
+import jkit.util.Triple;
+
+/**
+ * <p>
+ * A hand-written, recursive descent parser for Java source files. This builds
+ * the AST (i.e. the declarations, statements and expressions of
+ * jkit.java.tree) directly from the token stream, without any intermediate
+ * tree. Furthermore, it never backtracks. Each decision is made by looking at
+ * the next token or two and, in the few places where Java needs more than this
+ * (e.g. to distinguish a cast from a parenthesised expression, or a local
+ * variable declaration from an expression statement), by scanning ahead over a
+ * type without building anything. Thus, every token is parsed only once.
+ * </p>
+ *
+ * <p>
+ * The rules below are named after those of the original ANTLR grammar, and
+ * the AST produced is exactly that which was obtained by translating the tree
+ * produced by the parser generated from it. In particular, source locations
+ * are the same. Most constructs are located at their first token, but there
+ * are some exceptions: an operator is located at its first operand (e.g. a
+ * cast at its type, and a binary operator at its left-hand side); and a
+ * construct beginning with modifiers or statements (e.g. a class or a block)
+ * is located at the first of these, or at line 0 if there are none.
+ * </p>
+ *
+ * @author djp
+ *
+ */
+public final class JavaDescentParser {
+	private final JavaTokenStream input;
+
+	/**
+	 * The location of the expression, statement or member most recently
+	 * parsed. This is not always the location given to its AST node (e.g. a
+	 * binary operator is given the location of its right-hand side), and is
+	 * needed by those enclosing it.
+	 */
+	private int line;
+	private int column;
+
+	/**
+	 * The first error found in building the AST. This is deferred until the
+	 * whole file has been parsed, since a syntax error found later on takes
+	 * precedence. Some parts of the file are parsed but not used (e.g. the
+	 * message of an assertion); any errors found in them are discarded by
+	 * restoring this afterwards.
+	 */
+	private RuntimeException deferred;
+
+	public JavaDescentParser(JavaTokenStream input) {
+		this.input = input;
+	}
+
+	// =========================================================================
+	// Declarations
+	// =========================================================================
+
+	public JavaFile compilationUnit() {
+		HashSet<String> genericVariables = new HashSet<String>();
+		// Annotations preceding the package declaration are discarded.
+		while(LA(1) == AT && LA(2) != INTERFACE) {
+			RuntimeException saved = deferred;
+			annotation(genericVariables);
+			deferred = saved;
+		}
+		String pkg = "";
+		if(tryMatch(PACKAGE)) {
+			pkg = match(IDENTIFIER).text();
+			while(tryMatch(DOT)) {
+				pkg += "." + match(IDENTIFIER).text();
+			}
+			match(SEMICOLON);
+		}
+		ArrayList<Pair<Boolean,String>> imports = new ArrayList<Pair<Boolean,String>>();
+		while(LA(1) == IMPORT) {
+			imports.add(importDeclaration());
+		}
+		ArrayList<Decl> classes = new ArrayList<Decl>();
+		while(true) {
+			if(tryMatch(SEMICOLON)) {
+				continue;
+			} else if(isModifier(LA(1)) || LA(1) == AT || LA(1) == CLASS
+					|| LA(1) == INTERFACE || LA(1) == ENUM) {
+				classes.add(classOrInterfaceDeclaration(genericVariables));
+			} else {
+				break;
+			}
+		}
+		if(deferred != null) {
+			throw deferred;
+		}
+		return new JavaFile(pkg, imports, classes);
+	}
+
+	private Pair<Boolean,String> importDeclaration() {
+		match(IMPORT);
+		boolean isStatic = tryMatch(STATIC);
+		String filter = match(IDENTIFIER).text();
+		while(tryMatch(DOT)) {
+			if(LA(1) == STAR) {
+				filter += "." + match(STAR).text();
+				break;
+			}
+			filter += "." + match(IDENTIFIER).text();
+		}
+		match(SEMICOLON);
+		return new Pair<Boolean,String>(isStatic, filter);
+	}
+
+	private Decl classOrInterfaceDeclaration(HashSet<String> genericVariables) {
+		List<Modifier> mods = modifiers(genericVariables);
+		Decl decl = typeDeclaration(mods, genericVariables);
+		if(decl == null) {
+			throw error(LT(1));
+		}
+		return decl;
+	}
+
+	/**
+	 * Parse a class, interface, enum or annotation type declaration, whose
+	 * modifiers have already been parsed. If the next token does not start
+	 * such a declaration, then null is returned.
+	 */
+	private Decl typeDeclaration(List<Modifier> mods,
+			HashSet<String> genericVariables) {
+		switch(LA(1)) {
+		case CLASS:
+			return classDeclaration(mods, genericVariables);
+		case ENUM:
+			return enumDeclaration(mods, genericVariables);
+		case INTERFACE:
+			return normalInterfaceDeclaration(mods, genericVariables);
+		case AT:
+			if(LA(2) == INTERFACE) {
+				return annotationTypeDeclaration(mods, genericVariables);
+			}
+		}
+		return null;
+	}
+
+	private Decl.JavaClass classDeclaration(List<Modifier> mods,
+			HashSet<String> genericVariables) {
+		SourceLocation loc = location(mods);
+		match(CLASS);
+		genericVariables = (HashSet<String>) genericVariables.clone();
+		String name = SymbolTable.intern(match(IDENTIFIER).text());
+		ArrayList<Type.Variable> typeArgs = new ArrayList<Type.Variable>();
+		if(LA(1) == LT) {
+			typeParameters(typeArgs, genericVariables);
+		}
+		Type.Clazz superclass = null;
+		if(tryMatch(EXTENDS)) {
+			superclass = classType(genericVariables);
+		}
+		ArrayList<Type.Clazz> interfaces = new ArrayList<Type.Clazz>();
+		if(tryMatch(IMPLEMENTS)) {
+			classTypeList(interfaces, genericVariables);
+		}
+		ArrayList<Decl> declarations = new ArrayList<Decl>();
+		classBody(declarations, genericVariables, name);
+		return new Decl.JavaClass(mods, name, typeArgs, superclass, interfaces,
+				declarations, loc);
+	}
+
+	/**
+	 * Parse the declaration of some type variables, adding each to the set of
+	 * generic variables in scope as it is declared.
+	 */
+	private void typeParameters(List<Type.Variable> typeArgs,
+			HashSet<String> genericVariables) {
+		match(LT);
+		do {
+			Token id = match(IDENTIFIER);
+			String text = id.text();
+			HashSet<String> inner = (HashSet<String>) genericVariables.clone();
+			inner.add(text); // needed for recursive type bounds
+			ArrayList<Type.Reference> lowerBounds = new ArrayList<Type.Reference>();
+			if(tryMatch(EXTENDS)) {
+				do {
+					lowerBounds.add(reference(type(inner)));
+				} while(tryMatch(AMPERSAND));
+			}
+			SourceLocation loc = location(id);
+			Type.Variable tvar;
+			if(lowerBounds.size() > 1) {
+				Type.Intersection lowerBound = new Type.Intersection(lowerBounds, loc);
+				tvar = new Type.Variable(text, lowerBound, loc);
+			} else if(lowerBounds.size() == 1) {
+				tvar = new Type.Variable(text, lowerBounds.get(0), loc);
+			} else {
+				tvar = new Type.Variable(text, null, loc);
+			}
+			typeArgs.add(tvar);
+			genericVariables.add(text);
+		} while(tryMatch(COMMA));
+		match(GT);
+	}
+
+	private Decl.JavaEnum enumDeclaration(List<Modifier> mods,
+			HashSet<String> genericVariables) {
+		SourceLocation loc = location(mods);
+		match(ENUM);
+		String name = SymbolTable.intern(match(IDENTIFIER).text());
+		ArrayList<Type.Clazz> interfaces = new ArrayList<Type.Clazz>();
+		if(tryMatch(IMPLEMENTS)) {
+			classTypeList(interfaces, genericVariables);
+		}
+		match(LBRACE);
+		ArrayList<Decl.EnumConstant> constants = new ArrayList<Decl.EnumConstant>();
+		if(LA(1) == AT || LA(1) == IDENTIFIER) {
+			constants.add(enumConstant(genericVariables));
+			while(LA(1) == COMMA
+					&& (LA(2) == AT || LA(2) == IDENTIFIER)) {
+				match(COMMA);
+				constants.add(enumConstant(genericVariables));
+			}
+		}
+		tryMatch(COMMA);
+		ArrayList<Decl> declarations = new ArrayList<Decl>();
+		if(tryMatch(SEMICOLON)) {
+			while(LA(1) != RBRACE && LA(1) != EOF) {
+				classBodyDeclaration(declarations, genericVariables, name);
+			}
+		}
+		match(RBRACE);
+		return new Decl.JavaEnum(mods, name, interfaces, constants,
+				declarations, loc);
+	}
+
+	private Decl.EnumConstant enumConstant(HashSet<String> genericVariables) {
+		SourceLocation loc = location(LT(1));
+		String name;
+		if(LA(1) == AT) {
+			// Annotations on enum constants are not supported. The first is
+			// taken as the name of the constant, and anything following it is
+			// then an unknown expression.
+			RuntimeException saved = deferred;
+			name = LT(1).text();
+			annotation(genericVariables);
+			deferred = saved;
+			defer(unknownExpression(LT(1)));
+			while(LA(1) == AT) {
+				annotation(genericVariables);
+				deferred = saved;
+			}
+			match(IDENTIFIER);
+		} else {
+			name = match(IDENTIFIER).text();
+		}
+		ArrayList<Expr> arguments = new ArrayList<Expr>();
+		if(LA(1) == LPAREN) {
+			arguments(arguments, genericVariables);
+		}
+		ArrayList<Decl> declarations = new ArrayList<Decl>();
+		if(tryMatch(LBRACE)) {
+			while(LA(1) != RBRACE && LA(1) != EOF) {
+				RuntimeException saved = deferred;
+				int n = declarations.size();
+				if(classBodyDeclaration(declarations, genericVariables, null) == DECL_ANNOTATION) {
+					// annotation types cannot be declared here
+					declarations.remove(n);
+					deferred = saved;
+					defer(unknownExpression(DECL_ANNOTATION));
+				}
+			}
+			match(RBRACE);
+		}
+		return new Decl.EnumConstant(name, arguments, declarations, loc);
+	}
+
+	private Decl.JavaInterface normalInterfaceDeclaration(List<Modifier> mods,
+			HashSet<String> genericVariables) {
+		SourceLocation loc = location(mods);
+		match(INTERFACE);
+		genericVariables = (HashSet<String>) genericVariables.clone();
+		String name = SymbolTable.intern(match(IDENTIFIER).text());
+		ArrayList<Type.Variable> typeArgs = new ArrayList<Type.Variable>();
+		if(LA(1) == LT) {
+			typeParameters(typeArgs, genericVariables);
+		}
+		// interfaces record the interfaces they extend as implemented
+		ArrayList<Type.Clazz> interfaces = new ArrayList<Type.Clazz>();
+		if(tryMatch(EXTENDS)) {
+			classTypeList(interfaces, genericVariables);
+		}
+		match(LBRACE);
+		ArrayList<Decl> declarations = new ArrayList<Decl>();
+		while(LA(1) != RBRACE && LA(1) != EOF) {
+			interfaceBodyDeclaration(declarations, genericVariables, name);
+		}
+		match(RBRACE);
+		return new Decl.JavaInterface(mods, name, typeArgs, null, interfaces,
+				declarations, loc);
+	}
+
+	private Decl.AnnotationInterface annotationTypeDeclaration(
+			List<Modifier> mods, HashSet<String> genericVariables) {
+		SourceLocation start = location(mods);
+		match(AT);
+		match(INTERFACE);
+		String name = match(IDENTIFIER).text();
+		match(LBRACE);
+		ArrayList<Triple<Type, String, Value>> methods = new ArrayList<Triple<Type, String, Value>>();
+		while(LA(1) != RBRACE && LA(1) != EOF) {
+			annotationTypeElementDeclaration(methods, genericVariables);
+		}
+		match(RBRACE);
+		return new Decl.AnnotationInterface(mods, name, methods,
+				new SourceLocation(start.line(), start.column() - 1));
+	}
+
+	/**
+	 * Parse the body of a class, adding its members to the given list.
+	 *
+	 * @param name
+	 *            the name of the class, which is used to identify its
+	 *            constructors (or null if it has none).
+	 */
+	private void classBody(List<Decl> declarations,
+			HashSet<String> genericVariables, String name) {
+		match(LBRACE);
+		while(LA(1) != RBRACE && LA(1) != EOF) {
+			classBodyDeclaration(declarations, genericVariables, name);
+		}
+		match(RBRACE);
+	}
+
+	/**
+	 * Parse a member of a class, adding it to the given list (in the case of a
+	 * field, there may be several).
+	 *
+	 * @return the kind of member parsed (e.g. DECL_METHOD), or 0 if there
+	 *         was none.
+	 */
+	private int classBodyDeclaration(List<Decl> declarations,
+			HashSet<String> genericVariables, String name) {
+		if(tryMatch(SEMICOLON)) {
+			return 0;
+		} else if(LA(1) == STATIC && LA(2) == LBRACE) {
+			match(STATIC);
+			Stmt.Block block = block(genericVariables);
+			declarations.add(new Decl.StaticInitialiserBlock(block.statements(),
+					location()));
+			return DECL_STATIC;
+		} else if(LA(1) == LBRACE) {
+			Stmt.Block block = block(genericVariables);
+			declarations.add(new Decl.InitialiserBlock(block.statements(),
+					location()));
+			return DECL_BLOCK;
+		}
+
+		SourceLocation loc = location(LT(1));
+		List<Modifier> mods = modifiers(genericVariables);
+		SourceLocation start = location(mods);
+		Decl decl = typeDeclaration(mods, genericVariables);
+		if(decl != null) {
+			declarations.add(decl);
+			at(start);
+			return kind(decl);
+		}
+
+		if(LA(1) == LT) {
+			HashSet<String> inner = (HashSet<String>) genericVariables.clone();
+			ArrayList<Type.Variable> typeArgs = new ArrayList<Type.Variable>();
+			typeParameters(typeArgs, inner);
+			if(LA(1) == IDENTIFIER && LA(2) == LPAREN) {
+				declarations.add(constructorDeclaratorRest(mods, typeArgs,
+						inner, name, loc));
+			} else {
+				declarations.add(methodDeclaratorRest(mods, typeArgs,
+						returnType(inner), inner, loc));
+			}
+		} else if(LA(1) == VOID) {
+			HashSet<String> inner = (HashSet<String>) genericVariables.clone();
+			declarations.add(methodDeclaratorRest(mods,
+					new ArrayList<Type.Variable>(), returnType(inner), inner,
+					loc));
+		} else if(LA(1) == IDENTIFIER && LA(2) == LPAREN) {
+			declarations.add(constructorDeclaratorRest(mods,
+					new ArrayList<Type.Variable>(), genericVariables, name, loc));
+		} else {
+			Type type = type(genericVariables);
+			if(LA(1) == IDENTIFIER && LA(2) == LPAREN) {
+				declarations.add(methodDeclaratorRest(mods,
+						new ArrayList<Type.Variable>(), type, genericVariables,
+						loc));
+			} else {
+				fieldDeclarators(declarations, mods, type, false,
+						genericVariables, loc);
+				match(SEMICOLON);
+				return DECL_FIELD;
+			}
+		}
+		return DECL_METHOD;
+	}
+
+	private void interfaceBodyDeclaration(List<Decl> declarations,
+			HashSet<String> genericVariables, String name) {
+		if(tryMatch(SEMICOLON)) {
+			return;
+		}
+		SourceLocation loc = location(LT(1));
+		List<Modifier> mods = modifiers(genericVariables);
+		Decl decl = typeDeclaration(mods, genericVariables);
+		if(decl != null) {
+			declarations.add(decl);
+			return;
+		}
+		HashSet<String> inner = (HashSet<String>) genericVariables.clone();
+		ArrayList<Type.Variable> typeArgs = new ArrayList<Type.Variable>();
+		if(LA(1) == LT) {
+			typeParameters(typeArgs, inner);
+		}
+		boolean isVoid = LA(1) == VOID;
+		Type type = returnType(inner);
+		if(typeArgs.isEmpty() && !isVoid
+				&& !(LA(1) == IDENTIFIER && LA(2) == LPAREN)) {
+			fieldDeclarators(declarations, mods, type, true, genericVariables,
+					loc);
+			match(SEMICOLON);
+		} else {
+			String id = SymbolTable.intern(match(IDENTIFIER).text());
+			ArrayList<Decl.JavaParameter> params = new ArrayList<Decl.JavaParameter>();
+			boolean varargs = formalParameters(params, inner);
+			ArrayList<Type.Clazz> exceptions = throwsClause(inner);
+			match(SEMICOLON);
+			declarations.add(new Decl.JavaMethod(mods, id, type, params,
+					varargs, typeArgs, exceptions, null, loc));
+		}
+	}
+
+	private void annotationTypeElementDeclaration(
+			List<Triple<Type, String, Value>> methods,
+			HashSet<String> genericVariables) {
+		// Only the type, name and default value of each element are used
+		RuntimeException saved = deferred;
+		List<Modifier> mods = modifiers(genericVariables);
+		if(typeDeclaration(mods, genericVariables) != null) {
+			tryMatch(SEMICOLON);
+			deferred = saved;
+			return;
+		}
+		deferred = saved;
+		Type type = type(genericVariables);
+		if(LA(1) == IDENTIFIER && LA(2) == LPAREN) {
+			String name = match(IDENTIFIER).text();
+			match(LPAREN);
+			match(RPAREN);
+			Value value = null;
+			if(tryMatch(DEFAULT)) {
+				Expr e = elementValue(genericVariables);
+				if(e instanceof Value) {
+					value = (Value) e;
+				} else if(e != null) {
+					defer(new ClassCastException(e.getClass().getName()
+							+ " cannot be cast to " + Value.class.getName()));
+				}
+			}
+			methods.add(new Triple<Type, String, Value>(type, name, value));
+		} else {
+			fieldDeclarators(new ArrayList<Decl>(), mods, type, false,
+					genericVariables, null);
+			deferred = saved;
+		}
+		match(SEMICOLON);
+	}
+
+	/**
+	 * Parse the return type of a method, which is either void or a type.
+	 */
+	private Type returnType(HashSet<String> genericVariables) {
+		if(LA(1) == VOID) {
+			return new Type.Void(location(match(VOID)));
+		}
+		return type(genericVariables);
+	}
+
+	/**
+	 * Parse the remainder of a method declaration, which begins with its name.
+	 */
+	private Decl.JavaMethod methodDeclaratorRest(List<Modifier> mods,
+			List<Type.Variable> typeArgs, Type returnType,
+			HashSet<String> genericVariables, SourceLocation loc) {
+		String name = SymbolTable.intern(match(IDENTIFIER).text());
+		ArrayList<Decl.JavaParameter> params = new ArrayList<Decl.JavaParameter>();
+		boolean varargs = formalParameters(params, genericVariables);
+		ArrayList<Type.Clazz> exceptions = throwsClause(genericVariables);
+		Stmt.Block body = null;
+		if(!tryMatch(SEMICOLON)) {
+			body = block(genericVariables);
+		}
+		return new Decl.JavaMethod(mods, name, returnType, params, varargs,
+				typeArgs, exceptions, body, loc);
+	}
+
+	private Decl.JavaConstructor constructorDeclaratorRest(
+			List<Modifier> mods, List<Type.Variable> typeArgs,
+			HashSet<String> genericVariables, String nm, SourceLocation loc) {
+		String name = SymbolTable.intern(match(IDENTIFIER).text());
+		if(!name.equals(nm)) {
+			// without a return type, this must be a constructor
+			defer(new SyntaxError("Missing method return type in method: "
+					+ name, loc.line(), loc.column()));
+		}
+		ArrayList<Decl.JavaParameter> params = new ArrayList<Decl.JavaParameter>();
+		boolean varargs = formalParameters(params, genericVariables);
+		ArrayList<Type.Clazz> exceptions = throwsClause(genericVariables);
+		Stmt.Block body = block(genericVariables);
+		return new Decl.JavaConstructor(mods, name, params, varargs, typeArgs,
+				exceptions, body, loc);
+	}
+
+	/**
+	 * Parse the formal parameters of a method.
+	 *
+	 * @return true if the last parameter is variable arity.
+	 */
+	private boolean formalParameters(List<Decl.JavaParameter> params,
+			HashSet<String> genericVariables) {
+		boolean varargs = false;
+		match(LPAREN);
+		if(LA(1) != RPAREN) {
+			do {
+				List<Modifier> mods = variableModifiers(genericVariables);
+				Type type = type(genericVariables);
+				SourceLocation loc;
+				if(mods.isEmpty()) {
+					loc = (SourceLocation) type.attribute(SourceLocation.class);
+				} else {
+					loc = (SourceLocation) mods.get(0).attribute(SourceLocation.class);
+				}
+				varargs = tryMatch(ELLIPSIS);
+				String name = match(IDENTIFIER).text();
+				while(tryMatch(LBRACKET)) {
+					match(RBRACKET);
+					type = new Type.Array(type);
+				}
+				params.add(new Decl.JavaParameter(name, mods, type, loc));
+			} while(!varargs && tryMatch(COMMA));
+		}
+		match(RPAREN);
+		return varargs;
+	}
+
+	private ArrayList<Type.Clazz> throwsClause(HashSet<String> genericVariables) {
+		ArrayList<Type.Clazz> exceptions = new ArrayList<Type.Clazz>();
+		if(tryMatch(THROWS)) {
+			classTypeList(exceptions, genericVariables);
+		}
+		return exceptions;
+	}
+
+	/**
+	 * Parse the declarators of one or more fields. Note that array dimensions
+	 * given after the name of one field apply to those following it as well.
+	 * A constant declarator (i.e. in an interface) must have an initialiser.
+	 */
+	private void fieldDeclarators(List<Decl> declarations, List<Modifier> mods,
+			Type type, boolean constant, HashSet<String> genericVariables,
+			SourceLocation loc) {
+		do {
+			String name = match(IDENTIFIER).text();
+			while(tryMatch(LBRACKET)) {
+				match(RBRACKET);
+				type = new Type.Array(type);
+			}
+			Expr initialiser = null;
+			if(constant) {
+				match(ASSIGN);
+				initialiser = variableInitializer(genericVariables);
+			} else if(tryMatch(ASSIGN)) {
+				initialiser = variableInitializer(genericVariables);
+			}
+			declarations.add(new Decl.JavaField(mods, name, type, initialiser,
+					loc));
+		} while(tryMatch(COMMA));
+	}
+
+	private Expr variableInitializer(HashSet<String> genericVariables) {
+		if(LA(1) == LBRACE) {
+			return arrayInitializer(genericVariables);
+		}
+		return expression(genericVariables);
+	}
+
+	private Value.Array arrayInitializer(HashSet<String> genericVariables) {
+		ArrayList<Expr> values = new ArrayList<Expr>();
+		int l = 0, c = 0;
+		match(LBRACE);
+		if(LA(1) != RBRACE) {
+			values.add(variableInitializer(genericVariables));
+			l = line;
+			c = column;
+			while(LA(1) == COMMA && LA(2) != RBRACE) {
+				match(COMMA);
+				values.add(variableInitializer(genericVariables));
+			}
+			tryMatch(COMMA);
+		}
+		match(RBRACE);
+		at(l, c);
+		return new Value.Array(values, location());
+	}
+
+	private List<Modifier> modifiers(HashSet<String> genericVariables) {
+		ArrayList<Modifier> mods = new ArrayList<Modifier>();
+		while(true) {
+			int t = LA(1);
+			if(t == AT && LA(2) != INTERFACE) {
+				mods.add(annotation(genericVariables));
+			} else if(isModifier(t)) {
+				mods.add(modifier(match(t)));
+			} else {
+				return mods;
+			}
+		}
+	}
+
+	private List<Modifier> variableModifiers(HashSet<String> genericVariables) {
+		ArrayList<Modifier> mods = new ArrayList<Modifier>();
+		while(true) {
+			if(LA(1) == AT) {
+				mods.add(annotation(genericVariables));
+			} else if(LA(1) == FINAL) {
+				mods.add(modifier(match(FINAL)));
+			} else {
+				return mods;
+			}
+		}
+	}
+
+	private static Modifier modifier(Token t) {
+		SourceLocation loc = location(t);
+		switch(t.type()) {
+		case PUBLIC:
+			return new Modifier.Public(loc);
+		case PROTECTED:
+			return new Modifier.Protected(loc);
+		case PRIVATE:
+			return new Modifier.Private(loc);
+		case STATIC:
+			return new Modifier.Static(loc);
+		case ABSTRACT:
+			return new Modifier.Abstract(loc);
+		case FINAL:
+			return new Modifier.Final(loc);
+		case NATIVE:
+			return new Modifier.Native(loc);
+		case SYNCHRONIZED:
+			return new Modifier.Synchronized(loc);
+		case TRANSIENT:
+			return new Modifier.Transient(loc);
+		case VOLATILE:
+			return new Modifier.Volatile(loc);
+		default:
+			return new Modifier.StrictFP(loc);
+		}
+	}
+
+	// =========================================================================
+	// Types
+	// =========================================================================
+
+	private Type type(HashSet<String> genericVariables) {
+		Token first = LT(1);
+		SourceLocation loc = location(first);
+		Type r;
+		if(isPrimitive(first.type())) {
+			input.consume();
+			r = primitiveType(first.type(), loc);
+		} else if(genericVariables.contains(first.text())) {
+			// anything following the variable itself is ignored
+			RuntimeException saved = deferred;
+			classComponents(genericVariables, false);
+			deferred = saved;
+			r = new Type.Variable(first.text(), null, loc);
+		} else {
+			r = new Type.Clazz(classComponents(genericVariables, false), loc);
+		}
+		while(LA(1) == LBRACKET && LA(2) == RBRACKET) {
+			consume(2);
+			r = new Type.Array(r, loc);
+		}
+		return r;
+	}
+
+	/**
+	 * Parse the components of a class type (e.g. "java.util.List<String>").
+	 *
+	 * @param classType
+	 *            whether or not this is part of a class type, rather than a
+	 *            type (which only affects the error given for a primitive type
+	 *            argument).
+	 */
+	private ArrayList<Pair<String, List<Type.Reference>>> classComponents(
+			HashSet<String> genericVariables, boolean classType) {
+		ArrayList<Pair<String, List<Type.Reference>>> components = new ArrayList<Pair<String, List<Type.Reference>>>();
+		components.add(refComponent(genericVariables, classType));
+		while(LA(1) == DOT && LA(2) == IDENTIFIER) {
+			match(DOT);
+			components.add(refComponent(genericVariables, classType));
+		}
+		return components;
+	}
+
+	private Pair<String, List<Type.Reference>> refComponent(
+			HashSet<String> genericVariables, boolean classType) {
+		String text = SymbolTable.intern(match(IDENTIFIER).text());
+		ArrayList<Type.Reference> genArgs = new ArrayList<Type.Reference>();
+		if(LA(1) == LT && scanTypeArguments(1) > 0) {
+			match(LT);
+			do {
+				Token first = LT(1);
+				Type arg = typeArgument(genericVariables);
+				if(arg instanceof Type.Reference) {
+					genArgs.add((Type.Reference) arg);
+				} else if(classType) {
+					reference(arg);
+				} else {
+					defer(new SyntaxError(String.format(
+							"Syntax Error: Cannot use primitive type %s as a generic argument",
+							arg), first.line(), first.column()));
+				}
+			} while(tryMatch(COMMA));
+			match(GT);
+		}
+		return new Pair<String, List<Type.Reference>>(text, genArgs);
+	}
+
+	private Type typeArgument(HashSet<String> genericVariables) {
+		if(LA(1) != QUESTION) {
+			return type(genericVariables);
+		}
+		SourceLocation loc = location(match(QUESTION));
+		Type.Reference lowerBound = null;
+		Type.Reference upperBound = null;
+		if(tryMatch(EXTENDS)) {
+			lowerBound = classVarType(genericVariables);
+		} else if(tryMatch(SUPER)) {
+			upperBound = classVarType(genericVariables);
+		}
+		return new Type.Wildcard(lowerBound, upperBound, loc);
+	}
+
+	/**
+	 * Parse a class type, as found in an extends, implements or throws clause.
+	 * This gives a class type in all cases, even for what is actually a
+	 * primitive or array type.
+	 */
+	private Type.Clazz classType(HashSet<String> genericVariables) {
+		Token first = LT(1);
+		ArrayList<Pair<String, List<Type.Reference>>> components;
+		if(isPrimitive(first.type())) {
+			input.consume();
+			components = new ArrayList<Pair<String, List<Type.Reference>>>();
+			components.add(new Pair<String, List<Type.Reference>>(
+					SymbolTable.intern(first.text()),
+					new ArrayList<Type.Reference>()));
+		} else {
+			components = classComponents(genericVariables, true);
+		}
+		while(LA(1) == LBRACKET && LA(2) == RBRACKET) {
+			consume(2);
+			components.add(new Pair<String, List<Type.Reference>>(
+					SymbolTable.intern("["), new ArrayList<Type.Reference>()));
+		}
+		return new Type.Clazz(components, location(first));
+	}
+
+	/**
+	 * Parse the bound of a wildcard, which is either a type variable or a
+	 * class type.
+	 */
+	private Type.Reference classVarType(HashSet<String> genericVariables) {
+		Token first = LT(1);
+		if(first.type() == IDENTIFIER
+				&& genericVariables.contains(first.text())
+				&& scanType(1) == scanRefComponent(1)) {
+			RuntimeException saved = deferred;
+			refComponent(genericVariables, true);
+			deferred = saved;
+			return new Type.Variable(first.text(), null, location(first));
+		}
+		return classType(genericVariables);
+	}
+
+	private void classTypeList(List<Type.Clazz> types,
+			HashSet<String> genericVariables) {
+		do {
+			types.add(classType(genericVariables));
+		} while(tryMatch(COMMA));
+	}
+
+	private ArrayList<Type> nonWildcardTypeArguments(
+			HashSet<String> genericVariables) {
+		ArrayList<Type> types = new ArrayList<Type>();
+		match(LT);
+		do {
+			types.add(type(genericVariables));
+		} while(tryMatch(COMMA));
+		match(GT);
+		return types;
+	}
+
+	private static Type primitiveType(int t, SourceLocation loc) {
+		switch(t) {
+		case BOOLEAN:
+			return new Type.Bool(loc);
+		case CHAR:
+			return new Type.Char(loc);
+		case BYTE:
+			return new Type.Byte(loc);
+		case SHORT:
+			return new Type.Short(loc);
+		case INT:
+			return new Type.Int(loc);
+		case LONG:
+			return new Type.Long(loc);
+		case FLOAT:
+			return new Type.Float(loc);
+		default:
+			return new Type.Double(loc);
+		}
+	}
+
+	// =========================================================================
+	// Annotations
+	// =========================================================================
+
+	/**
+	 * Parse an annotation. Note that only a simple name, and arguments which
+	 * are element value pairs, are supported. Anything else gives an unknown
+	 * expression.
+	 */
+	private Annotation annotation(HashSet<String> genericVariables) {
+		SourceLocation loc = location(match(AT));
+		String name = match(IDENTIFIER).text();
+		ArrayList<Expr> arguments = new ArrayList<Expr>();
+		while(LA(1) == DOT) {
+			defer(unknownExpression(match(DOT)));
+			match(IDENTIFIER);
+		}
+		if(tryMatch(LPAREN)) {
+			if(LA(1) != RPAREN) {
+				arguments.add(elementValuePair(genericVariables));
+				while(LA(1) == COMMA) {
+					defer(unknownExpression(match(COMMA)));
+					arguments.add(elementValuePair(genericVariables));
+				}
+			}
+			match(RPAREN);
+		}
+		return new Annotation(new Type.Clazz(name), arguments, loc);
+	}
+
+	private Expr elementValuePair(HashSet<String> genericVariables) {
+		if(LA(1) == IDENTIFIER && LA(2) == ASSIGN) {
+			Token id = match(IDENTIFIER);
+			match(ASSIGN);
+			Expr lhs = new Expr.UnresolvedVariable(id.text(), location(id));
+			return new Stmt.Assignment(lhs, elementValue(genericVariables),
+					location(id));
+		}
+		return elementValue(genericVariables);
+	}
+
+	private Expr elementValue(HashSet<String> genericVariables) {
+		if(LA(1) == AT) {
+			// nested annotations are not supported
+			Token t = LT(1);
+			RuntimeException saved = deferred;
+			annotation(genericVariables);
+			deferred = saved;
+			defer(unknownExpression(t));
+			at(t);
+			return null;
+		} else if(LA(1) == LBRACE) {
+			ArrayList<Expr> values = new ArrayList<Expr>();
+			int l = 0, c = 0;
+			match(LBRACE);
+			if(LA(1) != RBRACE) {
+				values.add(elementValue(genericVariables));
+				l = line;
+				c = column;
+				while(tryMatch(COMMA)) {
+					values.add(elementValue(genericVariables));
+				}
+			}
+			match(RBRACE);
+			at(l, c);
+			return new Value.Array(values, location());
+		}
+		return conditionalExpression(genericVariables);
+	}
+
+	// =========================================================================
+	// Statements
+	// =========================================================================
+
+	/**
+	 * Parse a block, which is located at its first statement.
+	 */
+	private Stmt.Block block(HashSet<String> genericVariables) {
+		match(LBRACE);
+		ArrayList<Stmt> stmts = blockStatements(genericVariables);
+		match(RBRACE);
+		return new Stmt.Block(stmts, location());
+	}
+
+	/**
+	 * Parse a sequence of statements, up to the end of the enclosing block or
+	 * switch group. The location is left at that of the first statement.
+	 */
+	private ArrayList<Stmt> blockStatements(HashSet<String> genericVariables) {
+		ArrayList<Stmt> stmts = new ArrayList<Stmt>();
+		int l = 0, c = 0;
+		while(LA(1) != RBRACE && LA(1) != CASE && LA(1) != DEFAULT
+				&& LA(1) != EOF) {
+			stmts.add(blockStatement(genericVariables));
+			if(stmts.size() == 1) {
+				l = line;
+				c = column;
+			}
+		}
+		at(l, c);
+		return stmts;
+	}
+
+	private Stmt blockStatement(HashSet<String> genericVariables) {
+		if(isLocalVariableDeclaration()) {
+			Stmt decl = localVariableDeclaration(genericVariables);
+			match(SEMICOLON);
+			return decl;
+		} else if(isTypeDeclaration()) {
+			RuntimeException saved = deferred;
+			List<Modifier> mods = modifiers(genericVariables);
+			SourceLocation start = location(mods);
+			Decl decl = typeDeclaration(mods, genericVariables);
+			if(decl == null) {
+				throw error(LT(1));
+			}
+			at(start);
+			if(kind(decl) == DECL_CLASS) {
+				return (Decl.JavaClass) decl;
+			}
+			// only classes can be declared locally
+			deferred = saved;
+			defer(new SyntaxError("Syntax Error: Not a valid statement", line,
+					column));
+			return null;
+		}
+		return statement(genericVariables);
+	}
+
+	/**
+	 * Parse a local variable declaration, which is located at its first
+	 * modifier.
+	 */
+	private Stmt.VarDef localVariableDeclaration(
+			HashSet<String> genericVariables) {
+		List<Modifier> mods = variableModifiers(genericVariables);
+		SourceLocation loc = location(LT(1));
+		Type type = type(genericVariables);
+		ArrayList<Triple<String, Integer, Expr>> vardefs = new ArrayList<Triple<String, Integer, Expr>>();
+		do {
+			String name = match(IDENTIFIER).text();
+			int dims = 0;
+			while(tryMatch(LBRACKET)) {
+				match(RBRACKET);
+				dims++;
+			}
+			Expr initialiser = null;
+			if(tryMatch(ASSIGN)) {
+				initialiser = variableInitializer(genericVariables);
+			}
+			vardefs.add(new Triple<String, Integer, Expr>(name, dims,
+					initialiser));
+		} while(tryMatch(COMMA));
+		at(location(mods));
+		return new Stmt.VarDef(mods, type, vardefs, loc);
+	}
+
+	private Stmt statement(HashSet<String> genericVariables) {
+		Token lc = LT(1);
+		SourceLocation loc = location(lc);
+		Stmt stmt;
+		switch(lc.type()) {
+		case LBRACE:
+			return block(genericVariables);
+		case ASSERT: {
+			match(ASSERT);
+			Expr e = expression(genericVariables);
+			if(tryMatch(COLON)) {
+				// the message is ignored
+				RuntimeException saved = deferred;
+				expression(genericVariables);
+				deferred = saved;
+			}
+			match(SEMICOLON);
+			stmt = new Stmt.Assert(e, loc);
+			break;
+		}
+		case IF: {
+			match(IF);
+			Expr condition = parExpression(genericVariables);
+			Stmt trueStmt = statement(genericVariables);
+			Stmt falseStmt = null;
+			if(tryMatch(ELSE)) {
+				falseStmt = statement(genericVariables);
+			}
+			stmt = new Stmt.If(condition, trueStmt, falseStmt, loc);
+			break;
+		}
+		case FOR:
+			match(FOR);
+			match(LPAREN);
+			stmt = forControl(genericVariables, loc);
+			break;
+		case WHILE: {
+			match(WHILE);
+			Expr condition = parExpression(genericVariables);
+			stmt = new Stmt.While(condition, statement(genericVariables), loc);
+			break;
+		}
+		case DO: {
+			match(DO);
+			Stmt body = statement(genericVariables);
+			match(WHILE);
+			Expr condition = parExpression(genericVariables);
+			match(SEMICOLON);
+			stmt = new Stmt.DoWhile(condition, body, loc);
+			break;
+		}
+		case TRY:
+			match(TRY);
+			stmt = tryStatement(genericVariables, loc);
+			break;
+		case SWITCH:
+			match(SWITCH);
+			stmt = switchStatement(genericVariables, loc);
+			break;
+		case SYNCHRONIZED: {
+			match(SYNCHRONIZED);
+			Expr e = parExpression(genericVariables);
+			stmt = new Stmt.SynchronisedBlock(e, block(genericVariables)
+					.statements(), loc);
+			break;
+		}
+		case RETURN: {
+			match(RETURN);
+			Expr e = null;
+			if(LA(1) != SEMICOLON) {
+				e = expression(genericVariables);
+			}
+			match(SEMICOLON);
+			stmt = new Stmt.Return(e, loc);
+			break;
+		}
+		case THROW: {
+			match(THROW);
+			Expr e = expression(genericVariables);
+			match(SEMICOLON);
+			stmt = new Stmt.Throw(e, loc);
+			break;
+		}
+		case BREAK:
+		case CONTINUE: {
+			match(lc.type());
+			String label = null;
+			if(LA(1) == IDENTIFIER) {
+				label = match(IDENTIFIER).text();
+			}
+			match(SEMICOLON);
+			if(lc.type() == BREAK) {
+				stmt = new Stmt.Break(label, loc);
+			} else {
+				stmt = new Stmt.Continue(label, loc);
+			}
+			break;
+		}
+		case SEMICOLON:
+			match(SEMICOLON);
+			at(0, 0);
+			return new Stmt.Block(new ArrayList<Stmt>(), location());
+		case IDENTIFIER:
+			if(LA(2) == COLON) {
+				match(IDENTIFIER);
+				match(COLON);
+				stmt = new Stmt.Label(lc.text(), statement(genericVariables),
+						loc);
+				break;
+			}
+		default:
+			Expr e = expression(genericVariables);
+			match(SEMICOLON);
+			return expressionStatement(e);
+		}
+		at(lc);
+		return stmt;
+	}
+
+	/**
+	 * Convert an expression into a statement. Only assignments, invocations,
+	 * object creations and increments or decrements are valid statements.
+	 */
+	private Stmt expressionStatement(Expr e) {
+		if(e instanceof Stmt) {
+			return (Stmt) e;
+		} else if(e instanceof Expr.UnOp) {
+			Expr.UnOp u = (Expr.UnOp) e;
+			switch(u.op()) {
+			case Expr.UnOp.PREINC:
+			case Expr.UnOp.PREDEC:
+			case Expr.UnOp.POSTINC:
+			case Expr.UnOp.POSTDEC:
+				return new Stmt.PrePostIncDec(u.op(), u.expr(), u.attributes());
+			}
+		}
+		defer(new SyntaxError("Syntax Error: Not a valid statement", line,
+				column));
+		return null;
+	}
+
+	private Stmt forControl(HashSet<String> genericVariables, SourceLocation loc) {
+		if(isForVarControl()) {
+			List<Modifier> mods = variableModifiers(genericVariables);
+			Type type = type(genericVariables);
+			String var = match(IDENTIFIER).text();
+			match(COLON);
+			Expr src = expression(genericVariables);
+			match(RPAREN);
+			Stmt body = statement(genericVariables);
+			return new Stmt.ForEach(mods, var, type, src, body,
+					location(mods));
+		}
+		Stmt initialiser = null;
+		if(isLocalVariableDeclaration()) {
+			initialiser = localVariableDeclaration(genericVariables);
+		} else if(LA(1) != SEMICOLON) {
+			initialiser = statementExpressionList(genericVariables);
+		}
+		match(SEMICOLON);
+		Expr condition = null;
+		if(LA(1) != SEMICOLON) {
+			condition = expression(genericVariables);
+		}
+		match(SEMICOLON);
+		Stmt increment = null;
+		if(LA(1) != RPAREN) {
+			increment = statementExpressionList(genericVariables);
+		}
+		match(RPAREN);
+		Stmt body = statement(genericVariables);
+		if(body instanceof Stmt.Block
+				&& ((Stmt.Block) body).statements().isEmpty()) {
+			// an empty body is represented by null
+			body = null;
+		}
+		return new Stmt.For(initialiser, condition, increment, body, loc);
+	}
+
+	/**
+	 * Parse the initialiser or increment of a for loop. When this consists of
+	 * several statements, they are grouped into a block.
+	 */
+	private Stmt statementExpressionList(HashSet<String> genericVariables) {
+		Stmt stmt = expressionStatement(expression(genericVariables));
+		if(LA(1) != COMMA) {
+			return stmt;
+		}
+		ArrayList<Stmt> stmts = new ArrayList<Stmt>();
+		stmts.add(stmt);
+		while(tryMatch(COMMA)) {
+			stmts.add(expressionStatement(expression(genericVariables)));
+		}
+		return new Stmt.Block(stmts);
+	}
+
+	private Stmt tryStatement(HashSet<String> genericVariables,
+			SourceLocation loc) {
+		List<Stmt> stmts = block(genericVariables).statements();
+		if(LA(1) != CATCH && LA(1) != FINALLY) {
+			throw error(LT(1));
+		}
+		ArrayList<Stmt.CatchBlock> handlers = new ArrayList<Stmt.CatchBlock>();
+		while(tryMatch(CATCH)) {
+			match(LPAREN);
+			// the modifiers are not used
+			List<Modifier> mods = variableModifiers(genericVariables);
+			Type.Clazz type = classType(genericVariables);
+			String var = match(IDENTIFIER).text();
+			while(tryMatch(LBRACKET)) {
+				match(RBRACKET);
+			}
+			match(RPAREN);
+			List<Stmt> cbstmts = block(genericVariables).statements();
+			handlers.add(new Stmt.CatchBlock(type, var, cbstmts,
+					location(mods)));
+		}
+		Stmt.Block finallyBlk = null;
+		if(tryMatch(FINALLY)) {
+			finallyBlk = block(genericVariables);
+		}
+		return new Stmt.TryCatchBlock(handlers, finallyBlk, stmts, loc);
+	}
+
+	private Stmt switchStatement(HashSet<String> genericVariables,
+			SourceLocation loc) {
+		Expr condition = parExpression(genericVariables);
+		ArrayList<Stmt.Case> cases = new ArrayList<Stmt.Case>();
+		match(LBRACE);
+		while(LA(1) == CASE || LA(1) == DEFAULT) {
+			if(LA(1) == CASE) {
+				SourceLocation cloc = location(match(CASE));
+				Expr c = expression(genericVariables);
+				match(COLON);
+				cases.add(new Stmt.Case(c, blockStatements(genericVariables),
+						cloc));
+			} else {
+				match(DEFAULT);
+				match(COLON);
+				// the default case is located at its first statement
+				List<Stmt> stmts = blockStatements(genericVariables);
+				cases.add(new Stmt.DefaultCase(stmts, location()));
+			}
+		}
+		match(RBRACE);
+		return new Stmt.Switch(condition, cases, loc);
+	}
+
+	// =========================================================================
+	// Expressions
+	// =========================================================================
+
+	private Expr parExpression(HashSet<String> genericVariables) {
+		match(LPAREN);
+		Expr e = expression(genericVariables);
+		match(RPAREN);
+		return e;
+	}
+
+	private void expressionList(List<Expr> es, HashSet<String> genericVariables) {
+		do {
+			es.add(expression(genericVariables));
+		} while(tryMatch(COMMA));
+	}
+
+	private Expr expression(HashSet<String> genericVariables) {
+		Expr lhs = conditionalExpression(genericVariables);
+		int l = line, c = column;
+		Token lc = LT(1);
+		int op;
+		switch(lc.type()) {
+		case ASSIGN: {
+			match(ASSIGN);
+			Expr rhs = expression(genericVariables);
+			at(l, c);
+			return new Stmt.Assignment(lhs, rhs, location());
+		}
+		case PLUS:
+		case MINUS:
+		case STAR:
+		case SLASH:
+		case PERCENT:
+			if(LA(2) != ASSIGN) {
+				return lhs;
+			}
+			op = binaryOp(lc.type());
+			consume(2);
+			break;
+		case AND_ASSIGN:
+			op = Expr.BinOp.AND;
+			input.consume();
+			break;
+		case OR_ASSIGN:
+			op = Expr.BinOp.OR;
+			input.consume();
+			break;
+		case XOR_ASSIGN:
+			op = Expr.BinOp.XOR;
+			input.consume();
+			break;
+		case LT:
+			if(LA(2) != LT || LA(3) != ASSIGN) {
+				return lhs;
+			}
+			op = Expr.BinOp.SHL;
+			consume(3);
+			break;
+		case GT:
+			if(LA(2) != GT) {
+				return lhs;
+			} else if(LA(3) == ASSIGN) {
+				op = Expr.BinOp.SHR;
+				consume(3);
+			} else if(LA(3) == GT && LA(4) == ASSIGN) {
+				op = Expr.BinOp.USHR;
+				consume(4);
+			} else {
+				return lhs;
+			}
+			break;
+		default:
+			return lhs;
+		}
+		Expr rhs = expression(genericVariables);
+		at(lc);
+		return new Stmt.AssignmentOp(op, lhs, rhs, location());
+	}
+
+	private Expr conditionalExpression(HashSet<String> genericVariables) {
+		Expr cond = conditionalOrExpression(genericVariables);
+		if(tryMatch(QUESTION)) {
+			int l = line, c = column;
+			Expr tbranch = expression(genericVariables);
+			match(COLON);
+			Expr fbranch = expression(genericVariables);
+			at(l, c);
+			return new Expr.TernOp(cond, tbranch, fbranch, location());
+		}
+		return cond;
+	}
+
+	private Expr conditionalOrExpression(HashSet<String> genericVariables) {
+		Expr lhs = conditionalAndExpression(genericVariables);
+		if(tryMatch(LOGICAL_OR)) {
+			int l = line, c = column;
+			return binOp(Expr.BinOp.LOR, lhs,
+					conditionalOrExpression(genericVariables), l, c);
+		}
+		return lhs;
+	}
+
+	private Expr conditionalAndExpression(HashSet<String> genericVariables) {
+		Expr lhs = inclusiveOrExpression(genericVariables);
+		if(tryMatch(LOGICAL_AND)) {
+			int l = line, c = column;
+			return binOp(Expr.BinOp.LAND, lhs,
+					conditionalAndExpression(genericVariables), l, c);
+		}
+		return lhs;
+	}
+
+	private Expr inclusiveOrExpression(HashSet<String> genericVariables) {
+		Expr lhs = exclusiveOrExpression(genericVariables);
+		if(tryMatch(BAR)) {
+			int l = line, c = column;
+			return binOp(Expr.BinOp.OR, lhs,
+					inclusiveOrExpression(genericVariables), l, c);
+		}
+		return lhs;
+	}
+
+	private Expr exclusiveOrExpression(HashSet<String> genericVariables) {
+		Expr lhs = andExpression(genericVariables);
+		if(tryMatch(CARET)) {
+			int l = line, c = column;
+			return binOp(Expr.BinOp.XOR, lhs,
+					exclusiveOrExpression(genericVariables), l, c);
+		}
+		return lhs;
+	}
+
+	private Expr andExpression(HashSet<String> genericVariables) {
+		Expr lhs = equalityExpression(genericVariables);
+		if(tryMatch(AMPERSAND)) {
+			int l = line, c = column;
+			return binOp(Expr.BinOp.AND, lhs, andExpression(genericVariables),
+					l, c);
+		}
+		return lhs;
+	}
+
+	private Expr equalityExpression(HashSet<String> genericVariables) {
+		Expr lhs = instanceOfExpression(genericVariables);
+		int l = line, c = column;
+		if(tryMatch(EQUALS)) {
+			return binOp(Expr.BinOp.EQ, lhs,
+					instanceOfExpression(genericVariables), l, c);
+		} else if(tryMatch(NOT_EQUALS)) {
+			return binOp(Expr.BinOp.NEQ, lhs,
+					instanceOfExpression(genericVariables), l, c);
+		}
+		return lhs;
+	}
+
+	private Expr instanceOfExpression(HashSet<String> genericVariables) {
+		Expr lhs = relationalExpression(genericVariables);
+		if(tryMatch(INSTANCEOF)) {
+			int l = line, c = column;
+			Type type = type(genericVariables);
+			at(l, c);
+			return new Expr.InstanceOf(lhs, type, location());
+		}
+		return lhs;
+	}
+
+	private Expr relationalExpression(HashSet<String> genericVariables) {
+		Expr lhs = shiftExpression(genericVariables);
+		int l = line, c = column;
+		int t = LA(1);
+		if(t != LT && t != GT) {
+			return lhs;
+		} else if(LA(2) == t) {
+			// the start of a shift assignment
+			return lhs;
+		} else if(LA(2) == ASSIGN) {
+			consume(2);
+			return binOp(t == LT ? Expr.BinOp.LTEQ : Expr.BinOp.GTEQ, lhs,
+					shiftExpression(genericVariables), l, c);
+		} else {
+			input.consume();
+			return binOp(t == LT ? Expr.BinOp.LT : Expr.BinOp.GT, lhs,
+					shiftExpression(genericVariables), l, c);
+		}
+	}
+
+	/**
+	 * Parse a shift expression. Note that, for an unsigned shift, only the
+	 * first shift is used.
+	 */
+	private Expr shiftExpression(HashSet<String> genericVariables) {
+		Expr lhs = additiveExpression(genericVariables);
+		int l = line, c = column;
+		if(isShift(1)) {
+			do {
+				int op = LA(1) == LT ? Expr.BinOp.SHL : Expr.BinOp.SHR;
+				consume(2);
+				Expr rhs = additiveExpression(genericVariables);
+				lhs = new Expr.BinOp(op, lhs, rhs, location());
+			} while(isShift(1));
+			at(l, c);
+		} else if(isUnsignedShift(1)) {
+			consume(3);
+			lhs = binOp(Expr.BinOp.USHR, lhs,
+					additiveExpression(genericVariables), l, c);
+			RuntimeException saved = deferred;
+			while(isUnsignedShift(1)) {
+				consume(3);
+				additiveExpression(genericVariables);
+			}
+			deferred = saved;
+			at(l, c);
+		}
+		return lhs;
+	}
+
+	/**
+	 * Parse an additive expression. This is left associative, and each
+	 * operator is located at its right-hand side.
+	 */
+	private Expr additiveExpression(HashSet<String> genericVariables) {
+		Expr lhs = multiplicativeExpression(genericVariables);
+		if(!isAdditive(LA(1)) || LA(2) == ASSIGN) {
+			return lhs;
+		}
+		int l = line, c = column;
+		do {
+			int op = binaryOp(LA(1));
+			input.consume();
+			Expr rhs = multiplicativeExpression(genericVariables);
+			lhs = new Expr.BinOp(op, lhs, rhs, location());
+		} while(isAdditive(LA(1)) && LA(2) != ASSIGN);
+		at(l, c);
+		return lhs;
+	}
+
+	private Expr multiplicativeExpression(HashSet<String> genericVariables) {
+		Expr lhs = unaryExpression(genericVariables);
+		if(!isMultiplicative(LA(1)) || LA(2) == ASSIGN) {
+			return lhs;
+		}
+		int l = line, c = column;
+		do {
+			int op = binaryOp(LA(1));
+			input.consume();
+			Expr rhs = unaryExpression(genericVariables);
+			lhs = new Expr.BinOp(op, lhs, rhs, location());
+		} while(isMultiplicative(LA(1)) && LA(2) != ASSIGN);
+		at(l, c);
+		return lhs;
+	}
+
+	private Expr unaryExpression(HashSet<String> genericVariables) {
+		switch(LA(1)) {
+		case PLUS:
+			match(PLUS);
+			return unaryExpression(genericVariables);
+		case MINUS:
+			match(MINUS);
+			return unOp(Expr.UnOp.NEG, unaryExpression(genericVariables));
+		case INC:
+			match(INC);
+			return unOp(Expr.UnOp.PREINC, unaryExpression(genericVariables));
+		case DEC:
+			match(DEC);
+			return unOp(Expr.UnOp.PREDEC, unaryExpression(genericVariables));
+		}
+		return unaryExpressionNotPlusMinus(genericVariables);
+	}
+
+	private Expr unaryExpressionNotPlusMinus(HashSet<String> genericVariables) {
+		switch(LA(1)) {
+		case TILDE:
+			match(TILDE);
+			return unOp(Expr.UnOp.INV, unaryExpression(genericVariables));
+		case BANG:
+			match(BANG);
+			return unOp(Expr.UnOp.NOT, unaryExpression(genericVariables));
+		case LPAREN:
+			if(isPrimitive(LA(2)) && LA(3) == RPAREN) {
+				match(LPAREN);
+				Token t = LT(1);
+				input.consume();
+				Type type = primitiveType(t.type(), location(t));
+				match(RPAREN);
+				Expr e = unaryExpression(genericVariables);
+				at(t);
+				return new Expr.Cast(type, e, location());
+			} else if(isCast()) {
+				match(LPAREN);
+				Token t = LT(1);
+				Type type = type(genericVariables);
+				match(RPAREN);
+				Expr e = unaryExpressionNotPlusMinus(genericVariables);
+				at(t);
+				return new Expr.Cast(type, e, location());
+			}
+		}
+		Expr e = primary(genericVariables);
+		if(LA(1) == DOT || LA(1) == LBRACKET) {
+			int l = line, c = column;
+			do {
+				e = selector(e, genericVariables);
+			} while(LA(1) == DOT || LA(1) == LBRACKET);
+			at(l, c);
+		}
+		if(tryMatch(INC)) {
+			return unOp(Expr.UnOp.POSTINC, e);
+		} else if(tryMatch(DEC)) {
+			return unOp(Expr.UnOp.POSTDEC, e);
+		}
+		return e;
+	}
+
+	private Expr primary(HashSet<String> genericVariables) {
+		Token lc = LT(1);
+		switch(lc.type()) {
+		case LPAREN:
+			return parExpression(genericVariables);
+		case LT:
+			return explicitGenericInvocation(null, genericVariables);
+		case HEX_LITERAL:
+		case OCTAL_LITERAL:
+		case DECIMAL_LITERAL:
+			input.consume();
+			at(lc);
+			return intVal(lc);
+		case FLOATING_POINT_LITERAL:
+			input.consume();
+			at(lc);
+			return floatVal(lc);
+		case CHARACTER_LITERAL:
+			input.consume();
+			at(lc);
+			return charVal(lc);
+		case STRING_LITERAL:
+			input.consume();
+			at(lc);
+			return stringVal(lc);
+		case TRUE:
+		case FALSE:
+			input.consume();
+			at(lc);
+			return new Value.Bool(lc.type() == TRUE, location());
+		case NULL:
+			// the null literal has no location
+			match(NULL);
+			at(0, 0);
+			return new Value.Null(location());
+		case NEW:
+			return creator(genericVariables);
+		case VOID:
+			match(VOID);
+			match(DOT);
+			match(CLASS);
+			at(lc);
+			return new Value.Class(new Type.Void(location()));
+		case SUPER:
+		case IDENTIFIER:
+			if(lc.type() == SUPER || !isClassLiteral()) {
+				input.consume();
+				at(lc);
+				if(LA(1) == LPAREN) {
+					ArrayList<Expr> params = new ArrayList<Expr>();
+					arguments(params, genericVariables);
+					at(lc);
+					return new Expr.Invoke(null, lc.text(), params,
+							new ArrayList<Type>(), location());
+				}
+				return new Expr.UnresolvedVariable(lc.text(), location());
+			}
+			break;
+		default:
+			if(!isPrimitive(lc.type())) {
+				throw error(lc);
+			}
+		}
+		// class literal
+		Type type = type(genericVariables);
+		match(DOT);
+		match(CLASS);
+		at(lc);
+		return new Value.Class(type);
+	}
+
+	private Expr creator(HashSet<String> genericVariables) {
+		match(NEW);
+		if(LA(1) == LT) {
+			// type arguments for the constructor are ignored
+			RuntimeException saved = deferred;
+			nonWildcardTypeArguments(genericVariables);
+			deferred = saved;
+		}
+		Token first = LT(1);
+		SourceLocation loc = location(first);
+		Type type;
+		boolean primitive = isPrimitive(first.type());
+		if(primitive) {
+			input.consume();
+			type = primitiveType(first.type(), loc);
+		} else {
+			RuntimeException saved = deferred;
+			ArrayList<Pair<String, List<Type.Reference>>> components = new ArrayList<Pair<String, List<Type.Reference>>>();
+			components.add(refComponent(genericVariables, false));
+			while(tryMatch(DOT)) {
+				components.add(refComponent(genericVariables, false));
+			}
+			if(genericVariables.contains(first.text())) {
+				deferred = saved;
+				type = new Type.Variable(first.text(), null, loc);
+			} else {
+				type = new Type.Clazz(components, loc);
+			}
+		}
+		if(LA(1) == LBRACKET && LA(2) != RBRACKET) {
+			ArrayList<Expr> dims = new ArrayList<Expr>();
+			while(LA(1) == LBRACKET && LA(2) != RBRACKET) {
+				match(LBRACKET);
+				dims.add(expression(genericVariables));
+				match(RBRACKET);
+				type = new Type.Array(type, loc);
+			}
+			while(LA(1) == LBRACKET && LA(2) == RBRACKET) {
+				consume(2);
+				type = new Type.Array(type, loc);
+			}
+			at(first);
+			return new Expr.New(type, null, dims, new ArrayList<Decl>(), loc);
+		} else if(LA(1) == LBRACKET) {
+			while(tryMatch(LBRACKET)) {
+				match(RBRACKET);
+				type = new Type.Array(type, loc);
+			}
+			List<Expr> values = arrayInitializer(genericVariables).values();
+			at(first);
+			return new Value.TypedArray(type, values, loc);
+		} else if(primitive) {
+			throw error(LT(1));
+		}
+		return classCreatorRest(type, null, genericVariables, first);
+	}
+
+	/**
+	 * Parse the arguments and anonymous class body (if any) of an object
+	 * creation, which is located at the type being created.
+	 */
+	private Expr.New classCreatorRest(Type type, Expr context,
+			HashSet<String> genericVariables, Token first) {
+		ArrayList<Expr> params = new ArrayList<Expr>();
+		arguments(params, genericVariables);
+		ArrayList<Decl> declarations = new ArrayList<Decl>();
+		if(tryMatch(LBRACE)) {
+			boolean members = false;
+			while(LA(1) != RBRACE && LA(1) != EOF) {
+				RuntimeException saved = deferred;
+				int n = declarations.size();
+				int kind = classBodyDeclaration(declarations, genericVariables,
+						null);
+				if(kind == DECL_METHOD || kind == DECL_FIELD
+						|| kind == DECL_BLOCK) {
+					members = true;
+				} else if(kind != 0) {
+					// Only methods, fields and initialisers are supported in
+					// an anonymous class. Anything else is dropped, although
+					// it is an unknown expression when before them.
+					declarations.remove(n);
+					deferred = saved;
+					if(!members) {
+						defer(unknownExpression(kind));
+					}
+				}
+			}
+			match(RBRACE);
+		}
+		at(first);
+		return new Expr.New(type, context, params, declarations,
+				location());
+	}
+
+	/**
+	 * Parse an invocation which gives its type arguments explicitly (e.g.
+	 * "this.<String>f()"), which is located at its first type argument.
+	 */
+	private Expr.Invoke explicitGenericInvocation(Expr target,
+			HashSet<String> genericVariables) {
+		Token first = LT(2);
+		ArrayList<Type> typeParameters = nonWildcardTypeArguments(genericVariables);
+		String method;
+		ArrayList<Expr> params = new ArrayList<Expr>();
+		if(LA(1) == SUPER) {
+			method = match(SUPER).text();
+			if(LA(1) == DOT) {
+				defer(unknownExpression(match(DOT)));
+				match(IDENTIFIER);
+				if(LA(1) == LPAREN) {
+					arguments(params, genericVariables);
+				}
+			} else {
+				arguments(params, genericVariables);
+			}
+		} else {
+			method = match(IDENTIFIER).text();
+			arguments(params, genericVariables);
+		}
+		at(first);
+		return new Expr.Invoke(target, method, params, typeParameters,
+				location());
+	}
+
+	/**
+	 * Parse a selector applied to a given target. The location is left at the
+	 * selector itself.
+	 */
+	private Expr selector(Expr target, HashSet<String> genericVariables) {
+		if(tryMatch(LBRACKET)) {
+			// an array access is located at its index
+			Expr index = expression(genericVariables);
+			match(RBRACKET);
+			return new Expr.ArrayIndex(target, index, location());
+		}
+		match(DOT);
+		Token lc = LT(1);
+		switch(lc.type()) {
+		case NEW: {
+			match(NEW);
+			if(LA(1) == LT) {
+				RuntimeException saved = deferred;
+				nonWildcardTypeArguments(genericVariables);
+				deferred = saved;
+			}
+			Token id = match(IDENTIFIER);
+			SourceLocation loc = location(id);
+			String text = id.text();
+			Type type;
+			if(genericVariables.contains(text)) {
+				type = new Type.Variable(text, null, loc);
+			} else {
+				type = new Type.Clazz(SymbolTable.intern(text), loc);
+			}
+			return classCreatorRest(type, target, genericVariables, id);
+		}
+		case LT:
+			return explicitGenericInvocation(target, genericVariables);
+		case SUPER:
+			match(SUPER);
+			break;
+		default:
+			match(IDENTIFIER);
+			if(LA(1) != LPAREN) {
+				at(lc);
+				return new Expr.Deref(target, lc.text(), location());
+			}
+		}
+		ArrayList<Expr> params = new ArrayList<Expr>();
+		arguments(params, genericVariables);
+		at(lc);
+		return new Expr.Invoke(target, lc.text(), params,
+				new ArrayList<Type>(), location());
+	}
+
+	private void arguments(List<Expr> params, HashSet<String> genericVariables) {
+		match(LPAREN);
+		if(LA(1) != RPAREN) {
+			expressionList(params, genericVariables);
+		}
+		match(RPAREN);
+	}
+
+	private Expr binOp(int op, Expr lhs, Expr rhs, int l, int c) {
+		at(l, c);
+		return new Expr.BinOp(op, lhs, rhs, location());
+	}
+
+	/**
+	 * Construct a unary operator, which is located at its operand. Negations
+	 * and inversions of constants are folded.
+	 */
+	private Expr unOp(int uop, Expr e) {
+		if(e instanceof Value.Int) {
+			int x = ((Value.Int)e).value();
+			switch(uop) {
+				case Expr.UnOp.NEG:
+					return new Value.Int(-x,e.attributes());
+				case Expr.UnOp.INV:
+					return new Value.Int(~x,e.attributes());
+			}
+		} else if(e instanceof Value.Long) {
+			long x = ((Value.Long)e).value();
+			switch(uop) {
+				case Expr.UnOp.NEG:
+					return new Value.Long(-x,e.attributes());
+				case Expr.UnOp.INV:
+					return new Value.Long(~x,e.attributes());
+			}
+		} else if(e instanceof Value.Float) {
+			float x = ((Value.Float)e).value();
+			if(uop == Expr.UnOp.NEG) {
+				return new Value.Float(-x,e.attributes());
+			}
+		} else if(e instanceof Value.Double) {
+			double x = ((Value.Double)e).value();
+			if(uop == Expr.UnOp.NEG) {
+				return new Value.Double(-x,e.attributes());
+			}
+		}
+		return new Expr.UnOp(uop, e, location());
+	}
+
+	// =========================================================================
+	// Literals
+	// =========================================================================
+
+	private Expr intVal(Token lc) {
+		int radix = 10;
+		String value = lc.text();
+
+		if (value.startsWith("0x")) {
+			// HEX value
+			radix = 16;
+			value = value.substring(2);
+		} else if(value.startsWith("0")) {
+			radix = 8; // octal
+		}
+
+		char c = value.charAt(value.length() - 1);
+
+		long val = parseLongVal(value.substring(0, value.length() - 1), radix);
+
+		SourceLocation loc = location(lc);
+
+		if (c == 'l' || c == 'L') {
+			return new Value.Long(val, loc);
+		} else if (radix == 10 && (c == 'f' || c == 'F')) {
+			return new Value.Float(val, loc);
+		} else if (radix == 10 && (c == 'd' || c == 'D')) {
+			return new Value.Double(val,loc);
+		}
+
+		val = parseLongVal(value, radix);
+
+		return new Value.Int((int) val, loc);
+	}
+
+	/**
+     * Java's Long.parseLong() method throws an exception if the long parsed is
+     * too large whereas javac simply wraps. Hence, we need our own
+     * implementation.
+     */
+	private static long parseLongVal(String in, int radix) {
+		long out = 0;
+		for (int i = 0; i < in.length(); i++) {
+			int d = Character.digit(in.charAt(i), radix);
+			out = out * radix + d;
+		}
+		return out;
+	}
+
+	/**
+     * This parses a floating point value. Note that this may correspond to a
+     * Java float, or a Java double!
+     */
+	private Expr floatVal(Token lc) {
+		String val = lc.text();
+		char c = val.charAt(val.length() - 1);
+		if (c == 'f' || c == 'F') {
+			return new Value.Float(Float.parseFloat(val), location(lc));
+		} else {
+			return new Value.Double(Double.parseDouble(val), location(lc));
+		}
+	}
+
+	private Expr charVal(Token lc) {
+		String charv = lc.text();
+		SourceLocation loc = location(lc);
+		if (charv.length() == 3) {
+			return new Value.Char(charv.charAt(1), loc);
+		}
+		String tmp = charv.substring(1, charv.length() - 1);
+		if (tmp.equals("\\b"))
+			return new Value.Char('\b', loc);
+		else if (tmp.equals("\\t"))
+			return new Value.Char('\t', loc);
+		else if (tmp.equals("\\f"))
+			return new Value.Char('\f', loc);
+		else if (tmp.equals("\\n"))
+			return new Value.Char('\n', loc);
+		else if (tmp.equals("\\r"))
+			return new Value.Char('\r', loc);
+		else if (tmp.equals("\\\""))
+			return new Value.Char('\"', loc);
+		else if (tmp.equals("\\\\"))
+			return new Value.Char('\\', loc);
+		else if (tmp.equals("\\'"))
+			return new Value.Char('\'', loc);
+		else if (Character.isDigit(tmp.charAt(1))) {
+			int octal_val = Integer.parseInt(tmp.substring(1, tmp.length()), 8);
+			return new Value.Char((char) octal_val);
+		} else if (tmp.startsWith("\\u")) {
+			// including "slash u"
+			String unicode = tmp.substring(2, 6);
+			return new Value.Char((char) Integer.parseInt(unicode, 16), loc);
+		}
+		throw new SyntaxError("Unable to parse character constant: " + tmp,
+				lc.line(), lc.column(), charv.length());
+	}
+
+	private Expr stringVal(Token lc) {
+		String v = lc.text();
+
+		/*
+         * Parsing a string requires several steps to be taken. First, we need
+         * to strip quotes from the ends of the string.
+         */
+		v = v.substring(1, v.length() - 1);
+		if(v.indexOf('\\') < 0) {
+			return new Value.String(v, location(lc));
+		}
+		// Second, step through the string and replace escaped characters
+		StringBuilder r = new StringBuilder(v.length());
+		for (int i = 0; i < v.length(); i++) {
+			char c = v.charAt(i);
+			if (c != '\\') {
+				r.append(c);
+				continue;
+			} else if (v.length() <= i + 1) {
+				// the lexer does not allow this
+				throw new RuntimeException("bad string: " + v);
+			}
+			int len = 2;
+			switch (v.charAt(i + 1)) {
+				case 'b' :
+					c = '\b';
+					break;
+				case 't' :
+					c = '\t';
+					break;
+				case 'n' :
+					c = '\n';
+					break;
+				case 'f' :
+					c = '\f';
+					break;
+				case 'r' :
+					c = '\r';
+					break;
+				case '"' :
+					c = '\"';
+					break;
+				case '\'' :
+					c = '\'';
+					break;
+				case '\\' :
+					c = '\\';
+					break;
+				case 'u' :
+					// unicode escapes are six digits long, including
+					// "slash u", and are given in hex.
+					len = 6;
+					c = (char) Integer.parseInt(v.substring(i + 2, i + 6), 16);
+					break;
+				default :
+					if (!Character.isDigit(v.charAt(i + 1))) {
+						throw new SyntaxError("Unable to escape character: "
+								+ v, lc.line(),
+								lc.column(), lc.text()
+										.length());
+					}
+					// Octal escapes are upto 4 characters long. So, we need
+					// to figure out exactly how long!
+					for (len = 1; len != 4; ++len) {
+						if ((i + len) >= v.length()
+								|| !Character.isDigit(v.charAt(i + len))) {
+							break;
+						}
+					}
+					c = (char) Integer.parseInt(v.substring(i + 1, i + len), 8);
+			}
+			r.append(c);
+			i += len - 1;
+		}
+		return new Value.String(r.toString(), location(lc));
+	}
+
+	// =========================================================================
+	// Lookahead
+	// =========================================================================
+
+	/**
+	 * Check whether the next tokens begin a local variable declaration, rather
+	 * than a statement. That is, whether they are a type followed by an
+	 * identifier (after any modifiers).
+	 */
+	private boolean isLocalVariableDeclaration() {
+		int i = 1;
+		while(true) {
+			if(LA(i) == FINAL) {
+				i++;
+			} else if(LA(i) == AT && LA(i+1) != INTERFACE) {
+				i = scanAnnotation(i);
+			} else {
+				break;
+			}
+		}
+		i = scanType(i);
+		return i > 0 && LA(i) == IDENTIFIER;
+	}
+
+	/**
+	 * Check whether the next tokens begin the control of a for-each loop.
+	 */
+	private boolean isForVarControl() {
+		int i = 1;
+		while(true) {
+			if(LA(i) == FINAL) {
+				i++;
+			} else if(LA(i) == AT) {
+				i = scanAnnotation(i);
+			} else {
+				break;
+			}
+		}
+		i = scanType(i);
+		return i > 0 && LA(i) == IDENTIFIER && LA(i+1) == COLON;
+	}
+
+	/**
+	 * Check whether the next tokens begin a class, interface, enum or
+	 * annotation type declaration (after any modifiers).
+	 */
+	private boolean isTypeDeclaration() {
+		int i = 1;
+		while(true) {
+			int t = LA(i);
+			if(t == AT) {
+				if(LA(i+1) == INTERFACE) {
+					return true;
+				}
+				i = scanAnnotation(i);
+			} else if(isModifier(t)) {
+				i++;
+			} else {
+				return t == CLASS || t == INTERFACE || t == ENUM;
+			}
+		}
+	}
+
+	/**
+	 * Check whether the parenthesis which is the next token begins a cast to a
+	 * reference type. This is the case when it encloses a type and is followed
+	 * by something which can begin an operand (though not one beginning with
+	 * plus or minus, since this would be a binary expression).
+	 */
+	private boolean isCast() {
+		int i = scanType(2);
+		if(i < 0 || LA(i) != RPAREN) {
+			return false;
+		}
+		int t = LA(i+1);
+		switch(t) {
+		case TILDE:
+		case BANG:
+		case LPAREN:
+		case IDENTIFIER:
+		case HEX_LITERAL:
+		case OCTAL_LITERAL:
+		case DECIMAL_LITERAL:
+		case FLOATING_POINT_LITERAL:
+		case CHARACTER_LITERAL:
+		case STRING_LITERAL:
+		case TRUE:
+		case FALSE:
+		case NULL:
+		case NEW:
+		case SUPER:
+		case VOID:
+			return true;
+		}
+		return isPrimitive(t);
+	}
+
+	/**
+	 * Check whether the identifier which is the next token begins a class
+	 * literal (e.g. "String.class" or "String[].class").
+	 */
+	private boolean isClassLiteral() {
+		int t = LA(2);
+		if(t != DOT && t != LT && t != LBRACKET) {
+			return false;
+		}
+		int i = scanType(1);
+		return i > 0 && LA(i) == DOT && LA(i+1) == CLASS;
+	}
+
+	/**
+	 * Scan over a type beginning at the given lookahead position.
+	 *
+	 * @return the lookahead position after the type, or -1 if there is no
+	 *         type here.
+	 */
+	private int scanType(int i) {
+		if(isPrimitive(LA(i))) {
+			i++;
+		} else if(LA(i) == IDENTIFIER) {
+			i = scanRefComponent(i);
+			while(LA(i) == DOT && LA(i+1) == IDENTIFIER) {
+				i = scanRefComponent(i+1);
+			}
+		} else {
+			return -1;
+		}
+		while(LA(i) == LBRACKET && LA(i+1) == RBRACKET) {
+			i += 2;
+		}
+		return i;
+	}
+
+	private int scanRefComponent(int i) {
+		i++;
+		if(LA(i) == LT) {
+			int j = scanTypeArguments(i);
+			if(j > 0) {
+				return j;
+			}
+		}
+		return i;
+	}
+
+	private int scanTypeArguments(int i) {
+		while(true) {
+			i++; // skip '<' or ','
+			if(LA(i) == QUESTION) {
+				i++;
+				if(LA(i) == EXTENDS || LA(i) == SUPER) {
+					i = scanType(i+1);
+				}
+			} else {
+				i = scanType(i);
+			}
+			if(i < 0) {
+				return -1;
+			} else if(LA(i) == GT) {
+				return i+1;
+			} else if(LA(i) != COMMA) {
+				return -1;
+			}
+		}
+	}
+
+	private int scanAnnotation(int i) {
+		i++; // skip '@'
+		while(LA(i) == IDENTIFIER || LA(i) == DOT) {
+			i++;
+		}
+		if(LA(i) == LPAREN) {
+			int depth = 0;
+			do {
+				int t = LA(i++);
+				if(t == LPAREN) {
+					depth++;
+				} else if(t == RPAREN) {
+					depth--;
+				} else if(t == EOF) {
+					return i-1;
+				}
+			} while(depth > 0);
+		}
+		return i;
+	}
+
+	private boolean isShift(int i) {
+		int t = LA(i);
+		return (t == LT || t == GT) && LA(i+1) == t && LA(i+2) != ASSIGN
+				&& LA(i+2) != GT;
+	}
+
+	private boolean isUnsignedShift(int i) {
+		return LA(i) == GT && LA(i+1) == GT && LA(i+2) == GT
+				&& LA(i+3) != ASSIGN;
+	}
+
+	// =========================================================================
+	// Helpers
+	// =========================================================================
+
+	private int LA(int i) {
+		return input.LA(i);
+	}
+
+	private Token LT(int i) {
+		return input.LT(i);
+	}
+
+	private void consume(int n) {
+		for(int i=0;i!=n;++i) {
+			input.consume();
+		}
+	}
+
+	private Token match(int type) {
+		Token t = input.LT(1);
+		if(t.type() != type) {
+			throw error(t);
+		}
+		input.consume();
+		return t;
+	}
+
+	private boolean tryMatch(int type) {
+		if(input.LA(1) == type) {
+			input.consume();
+			return true;
+		}
+		return false;
+	}
+
+	private static SyntaxError error(Token t) {
+		String text = t.text();
+		if(text == null) {
+			text = "?";
+		}
+		return new SyntaxError("error on \"" + text + "\"", t.line(), t
+				.column(), text.length());
+	}
+
+	private void defer(RuntimeException e) {
+		if(deferred == null) {
+			deferred = e;
+		}
+	}
+
+	private static SyntaxError unknownExpression(Token t) {
+		String text = t.text();
+		return new SyntaxError("Unknown expression encountered (" + text + ")",
+				t.line(), t.column(), text.length());
+	}
+
+	/**
+	 * Construct the error for an unsupported construct of a given kind (e.g.
+	 * DECL_CLASS), located at the construct most recently parsed.
+	 */
+	private SyntaxError unknownExpression(int kind) {
+		String text = kindName(kind);
+		return new SyntaxError("Unknown expression encountered (" + text + ")",
+				line, column, text.length());
+	}
+
+	/**
+	 * Check that a type is a reference type, as is required for a bound.
+	 */
+	private Type.Reference reference(Type t) {
+		if(t instanceof Type.Reference) {
+			return (Type.Reference) t;
+		}
+		defer(new ClassCastException(t.getClass().getName()
+				+ " cannot be cast to " + Type.Reference.class.getName()));
+		return null;
+	}
+
+	private void at(int l, int c) {
+		line = l;
+		column = c;
+	}
+
+	private void at(Token t) {
+		line = t.line();
+		column = t.column();
+	}
+
+	private void at(SourceLocation loc) {
+		line = loc.line();
+		column = loc.column();
+	}
+
+	private SourceLocation location() {
+		return new SourceLocation(line, column);
+	}
+
+	private static SourceLocation location(Token t) {
+		return new SourceLocation(t.line(), t.column());
+	}
+
+	/**
+	 * Get the location of something beginning with some modifiers, which is
+	 * that of the first modifier (or line 0 if there are none).
+	 */
+	private static SourceLocation location(List<Modifier> mods) {
+		if(mods.isEmpty()) {
+			return new SourceLocation(0, 0);
+		}
+		return (SourceLocation) mods.get(0).attribute(SourceLocation.class);
+	}
+
+	private static int kind(Decl decl) {
+		if(decl instanceof Decl.JavaInterface) {
+			return DECL_INTERFACE;
+		} else if(decl instanceof Decl.JavaEnum) {
+			return DECL_ENUM;
+		} else if(decl instanceof Decl.JavaClass) {
+			return DECL_CLASS;
+		}
+		return DECL_ANNOTATION;
+	}
+
+	/**
+	 * Get the name of a kind of declaration, as reported when it is not
+	 * supported.
+	 */
+	private static String kindName(int kind) {
+		switch(kind) {
+		case DECL_CLASS:
+			return "CLASS";
+		case DECL_INTERFACE:
+			return "INTERFACE";
+		case DECL_ENUM:
+			return "ENUM";
+		case DECL_ANNOTATION:
+			return "ANNOTATION";
+		case DECL_STATIC:
+			return "STATIC";
+		case DECL_BLOCK:
+			return "BLOCK";
+		case DECL_FIELD:
+			return "FIELD";
+		default:
+			return "METHOD";
+		}
+	}
+
+	private static int binaryOp(int t) {
+		switch(t) {
+		case PLUS:
+			return Expr.BinOp.ADD;
+		case MINUS:
+			return Expr.BinOp.SUB;
+		case STAR:
+			return Expr.BinOp.MUL;
+		case SLASH:
+			return Expr.BinOp.DIV;
+		default:
+			return Expr.BinOp.MOD;
+		}
+	}
+
+	private static boolean isModifier(int t) {
+		switch(t) {
+		case PUBLIC:
+		case PROTECTED:
+		case PRIVATE:
+		case STATIC:
+		case ABSTRACT:
+		case FINAL:
+		case NATIVE:
+		case SYNCHRONIZED:
+		case TRANSIENT:
+		case VOLATILE:
+		case STRICTFP:
+			return true;
+		}
+		return false;
+	}
+
+	private static boolean isPrimitive(int t) {
+		switch(t) {
+		case BOOLEAN:
+		case CHAR:
+		case BYTE:
+		case SHORT:
+		case INT:
+		case LONG:
+		case FLOAT:
+		case DOUBLE:
+			return true;
+		}
+		return false;
+	}
+
+	private static boolean isAdditive(int t) {
+		return t == PLUS || t == MINUS;
+	}
+
+	private static boolean isMultiplicative(int t) {
+		return t == STAR || t == SLASH || t == PERCENT;
+	}
+
+	// =========================================================================
+	// Declaration Kinds
+	// =========================================================================
+
+	// The kinds of declaration distinguished by classBodyDeclaration(), and
+	// reported by unknownExpression().
+
+	private static final int DECL_CLASS = 1;
+	private static final int DECL_INTERFACE = 2;
+	private static final int DECL_ENUM = 3;
+	private static final int DECL_ANNOTATION = 4;
+	private static final int DECL_STATIC = 5;
+	private static final int DECL_BLOCK = 6;
+	private static final int DECL_FIELD = 7;
+	private static final int DECL_METHOD = 8;
+}
@@ -0,0 +1,588 @@
+//This file is part of the Java Compiler Kit (JKit)
+
+//The Java Compiler Kit is free software; you can
+//redistribute it and/or modify it under the terms of the
+//GNU General Public License as published by the Free Software
+//Foundation; either version 2 of the License, or (at your
+//option) any later version.
+
+//The Java Compiler Kit is distributed in the hope
+//that it will be useful, but WITHOUT ANY WARRANTY; without
+//even the implied warranty of MERCHANTABILITY or FITNESS FOR
+//A PARTICULAR PURPOSE.  See the GNU General Public License
+//for more details.
+
+//You should have received a copy of the GNU General Public
+//License along with the Java Compiler Kit; if not,
+//write to the Free Software Foundation, Inc., 59 Temple Place,
+//Suite 330, Boston, MA  02111-1307  USA
+
+//(C) David James Pearce, 2009.
+
+package jkit.java.parser;
+
+import java.nio.CharBuffer;
+
+import jkit.compiler.SyntaxError;
+
+/**
+ * <p>
+ * A hand-written scanner for Java source files, which accepts exactly the
+ * tokens of the Java language, and gives them the types in JavaTokens.
+ * The scanner works directly on an array of characters, which normally holds
+ * the whole file. Tokens are not represented as objects; rather, each call to
+ * next() moves onto the next token, whose type and offsets in the array can
+ * then be read off. Whitespace and comments are skipped over, since the parser
+ * never sees them.
+ * </p>
+ *
+ * <p>
+ * Keywords are recognised by first scanning an identifier, and then looking it
+ * up in a perfect hash table. That is, each keyword hashes to a distinct slot,
+ * so only one comparison is needed to determine whether or not an identifier
+ * is a keyword.
+ * </p>
+ *
+ * @author djp
+ *
+ */
+public final class JavaScanner {
+	private final char[] input;
+	private final int end;
+
+	private int pos;
+	private int line = 1;
+	private int lineStart; // index of first character on the current line
+
+	// The current token
+	private int type;
+	private int start;
+	private int tokenLine;
+	private int tokenColumn;
+
+	/**
+	 * Construct a scanner for the characters remaining in a buffer. If the
+	 * buffer is backed by an array, then this is used directly (and should not
+	 * be modified whilst scanning).
+	 *
+	 * @param text
+	 */
+	public JavaScanner(CharBuffer text) {
+		if(text.hasArray()) {
+			input = text.array();
+			pos = text.arrayOffset() + text.position();
+			end = text.arrayOffset() + text.limit();
+		} else {
+			input = new char[text.remaining()];
+			text.duplicate().get(input);
+			pos = 0;
+			end = input.length;
+		}
+		lineStart = pos;
+	}
+
+	/**
+	 * Move onto the next token in the input.
+	 *
+	 * @return the type of the token, or JavaTokens.EOF at the end of the input.
+	 */
+	public int next() {
+		skipWhitespace();
+		start = pos;
+		tokenLine = line;
+		tokenColumn = pos - lineStart;
+		if(pos == end) {
+			type = JavaTokens.EOF;
+		} else {
+			type = scan();
+		}
+		return type;
+	}
+
+	/**
+	 * Get the type of the current token.
+	 */
+	public int type() {
+		return type;
+	}
+
+	/**
+	 * Get the index of the first character of the current token.
+	 */
+	public int start() {
+		return start;
+	}
+
+	/**
+	 * Get the index of the last character of the current token.
+	 */
+	public int stop() {
+		return pos - 1;
+	}
+
+	public int line() {
+		return tokenLine;
+	}
+
+	public int column() {
+		return tokenColumn;
+	}
+
+	/**
+	 * Get the text of the current token. For keywords and punctuation, this is
+	 * a shared constant string.
+	 */
+	public String text() {
+		if(type == JavaTokens.EOF) {
+			return "<EOF>";
+		}
+		String text = TEXT[type];
+		if(text == null) {
+			text = new String(input, start, pos - start);
+		}
+		return text;
+	}
+
+	// =========================================================================
+	// Scanning
+	// =========================================================================
+
+	private void skipWhitespace() {
+		while(pos < end) {
+			char c = input[pos];
+			if(c == '\n') {
+				newline(++pos);
+			} else if(c == ' ' || c == '\t' || c == '\r' || c == '\f') {
+				pos++;
+			} else if(c == '/' && pos + 1 < end && input[pos + 1] == '*') {
+				int l = line, col = pos - lineStart;
+				pos += 2;
+				while(true) {
+					if(pos + 1 >= end) {
+						pos = end;
+						throw error(l, col);
+					} else if(input[pos] == '*' && input[pos + 1] == '/') {
+						break;
+					} else if(input[pos] == '\n') {
+						newline(pos + 1);
+					}
+					pos++;
+				}
+				pos += 2;
+			} else if(c == '/' && pos + 1 < end && input[pos + 1] == '/') {
+				pos += 2;
+				while(pos < end && input[pos] != '\n' && input[pos] != '\r') {
+					pos++;
+				}
+			} else {
+				return;
+			}
+		}
+	}
+
+	private void newline(int next) {
+		line++;
+		lineStart = next;
+	}
+
+	private int scan() {
+		char c = input[pos];
+		if(isLetter(c)) {
+			return identifierOrKeyword();
+		} else if(c >= '0' && c <= '9') {
+			return number();
+		}
+		pos++;
+		switch(c) {
+		case '.':
+			if(is('0','9')) {
+				pos--;
+				return number();
+			} else if(pos + 1 < end && input[pos] == '.'
+					&& input[pos + 1] == '.') {
+				pos += 2;
+				return JavaTokens.ELLIPSIS;
+			}
+			return JavaTokens.DOT;
+		case '\'':
+			if(pos < end && input[pos] != '\'') {
+				character();
+				if(pos < end && input[pos] == '\'') {
+					pos++;
+					return JavaTokens.CHARACTER_LITERAL;
+				}
+			}
+			throw error();
+		case '"':
+			while(pos < end && input[pos] != '"') {
+				character();
+			}
+			if(pos == end) {
+				throw error();
+			}
+			pos++;
+			return JavaTokens.STRING_LITERAL;
+		case ';':
+			return JavaTokens.SEMICOLON;
+		case ',':
+			return JavaTokens.COMMA;
+		case '(':
+			return JavaTokens.LPAREN;
+		case ')':
+			return JavaTokens.RPAREN;
+		case '{':
+			return JavaTokens.LBRACE;
+		case '}':
+			return JavaTokens.RBRACE;
+		case '[':
+			return JavaTokens.LBRACKET;
+		case ']':
+			return JavaTokens.RBRACKET;
+		case '<':
+			return JavaTokens.LT;
+		case '>':
+			return JavaTokens.GT;
+		case '?':
+			return JavaTokens.QUESTION;
+		case ':':
+			return JavaTokens.COLON;
+		case '@':
+			return JavaTokens.AT;
+		case '~':
+			return JavaTokens.TILDE;
+		case '*':
+			return JavaTokens.STAR;
+		case '/':
+			return JavaTokens.SLASH;
+		case '%':
+			return JavaTokens.PERCENT;
+		case '=':
+			return tryNext('=') ? JavaTokens.EQUALS
+					: JavaTokens.ASSIGN;
+		case '!':
+			return tryNext('=') ? JavaTokens.NOT_EQUALS
+					: JavaTokens.BANG;
+		case '+':
+			return tryNext('+') ? JavaTokens.INC
+					: JavaTokens.PLUS;
+		case '-':
+			return tryNext('-') ? JavaTokens.DEC
+					: JavaTokens.MINUS;
+		case '^':
+			return tryNext('=') ? JavaTokens.XOR_ASSIGN
+					: JavaTokens.CARET;
+		case '&':
+			if(tryNext('&')) {
+				return JavaTokens.LOGICAL_AND;
+			}
+			return tryNext('=') ? JavaTokens.AND_ASSIGN
+					: JavaTokens.AMPERSAND;
+		case '|':
+			if(tryNext('|')) {
+				return JavaTokens.LOGICAL_OR;
+			}
+			return tryNext('=') ? JavaTokens.OR_ASSIGN
+					: JavaTokens.BAR;
+		}
+		pos--;
+		throw error();
+	}
+
+	private int identifierOrKeyword() {
+		pos++;
+		while(pos < end && isIdentifierPart(input[pos])) {
+			pos++;
+		}
+		int len = pos - start;
+		if(len < 2 || len > 12) {
+			return JavaTokens.IDENTIFIER;
+		}
+		int h = hash(input, start, len);
+		char[] kw = KEYWORDS[h];
+		if(kw == null || kw.length != len) {
+			return JavaTokens.IDENTIFIER;
+		}
+		for(int i=0;i!=len;++i) {
+			if(kw[i] != input[start + i]) {
+				return JavaTokens.IDENTIFIER;
+			}
+		}
+		return KEYWORD_TYPES[h];
+	}
+
+	/**
+	 * Scan a numeric literal, which begins either with a digit or a '.'
+	 * followed by a digit.
+	 */
+	private int number() {
+		if(input[pos] == '0' && pos + 1 < end
+				&& (input[pos + 1] == 'x' || input[pos + 1] == 'X')) {
+			pos += 2;
+			if(!isHexDigit()) {
+				throw error();
+			}
+			while(isHexDigit()) {
+				pos++;
+			}
+			tryNext('l','L');
+			return JavaTokens.HEX_LITERAL;
+		}
+		digits();
+		boolean floating = false;
+		if(tryNext('.')) {
+			digits();
+			floating = true;
+		}
+		if(tryNext('e','E')) {
+			tryNext('+','-');
+			if(!is('0','9')) {
+				throw error();
+			}
+			digits();
+			floating = true;
+		}
+		if(tryNext('f','F') || tryNext('d','D') || floating) {
+			return JavaTokens.FLOATING_POINT_LITERAL;
+		}
+		int type = JavaTokens.DECIMAL_LITERAL;
+		if(input[start] == '0' && pos - start > 1) {
+			for(int i=start+1;i!=pos;++i) {
+				if(input[i] > '7') {
+					pos = i;
+					throw error();
+				}
+			}
+			type = JavaTokens.OCTAL_LITERAL;
+		}
+		tryNext('l','L');
+		return type;
+	}
+
+	private void digits() {
+		while(is('0','9')) {
+			pos++;
+		}
+	}
+
+	/**
+	 * Scan a single character of a character or string literal, which may be
+	 * an escape sequence.
+	 */
+	private void character() {
+		char c = input[pos++];
+		if(c == '\n') {
+			newline(pos);
+		} else if(c == '\\') {
+			if(pos == end) {
+				throw error();
+			}
+			c = input[pos++];
+			switch(c) {
+			case 'b':
+			case 't':
+			case 'n':
+			case 'f':
+			case 'r':
+			case '"':
+			case '\'':
+			case '\\':
+				return;
+			case 'u':
+				for(int i=0;i!=4;++i) {
+					if(!isHexDigit()) {
+						throw error();
+					}
+					pos++;
+				}
+				return;
+			}
+			if(c < '0' || c > '7') {
+				pos--;
+				throw error();
+			}
+			// octal escapes are at most \377
+			int n = c <= '3' ? 2 : 1;
+			for(int i=0;i!=n && is('0','7');++i) {
+				pos++;
+			}
+		}
+	}
+
+	private boolean is(char lo, char hi) {
+		return pos < end && input[pos] >= lo && input[pos] <= hi;
+	}
+
+	private boolean isHexDigit() {
+		return is('0','9') || is('a','f') || is('A','F');
+	}
+
+	private boolean tryNext(char c) {
+		if(pos < end && input[pos] == c) {
+			pos++;
+			return true;
+		}
+		return false;
+	}
+
+	private boolean tryNext(char c1, char c2) {
+		return tryNext(c1) || tryNext(c2);
+	}
+
+	private SyntaxError error() {
+		return error(line, pos - lineStart);
+	}
+
+	/**
+	 * Construct an error for an unexpected character (or the end of input).
+	 */
+	private SyntaxError error(int l, int col) {
+		String text = pos < end ? String.valueOf(input[pos]) : "<EOF>";
+		return new SyntaxError("error on \"" + text + "\"", l, col);
+	}
+
+	/**
+	 * The characters which may begin an identifier. This is the set of letters
+	 * of the original grammar, rather than Character.isJavaIdentifierStart().
+	 */
+	private static boolean isLetter(char c) {
+		if(c < 0x80) {
+			return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_'
+					|| c == '$';
+		}
+		return (c >= '\u00c0' && c <= '\u1fff' && c != '\u00d7' && c != '\u00f7')
+				|| (c >= '\u3040' && c <= '\u318f')
+				|| (c >= '\u3300' && c <= '\u337f')
+				|| (c >= '\u3400' && c <= '\u3d2d')
+				|| (c >= '\u4e00' && c <= '\u9fff')
+				|| (c >= '\uf900' && c <= '\ufaff');
+	}
+
+	/**
+	 * The characters which may be part of an identifier. Any other digits
+	 * permitted by the original grammar are all letters anyway.
+	 */
+	private static boolean isIdentifierPart(char c) {
+		return isLetter(c) || (c >= '0' && c <= '9');
+	}
+
+	// =========================================================================
+	// Keywords
+	// =========================================================================
+
+	private static final String[] TEXT = new String[256];
+	private static final char[][] KEYWORDS = new char[256][];
+	private static final int[] KEYWORD_TYPES = new int[256];
+
+	/**
+	 * A perfect hash function for the keywords, which are between 2 and 12
+	 * characters long. That is, no two keywords give the same hash.
+	 */
+	private static int hash(char[] text, int start, int len) {
+		return (text[start] * 3 + text[start + 1] * 55
+				+ text[start + len - 1] + len) & 0xFF;
+	}
+
+	private static void keyword(String text, int type) {
+		char[] kw = text.toCharArray();
+		int h = hash(kw, 0, kw.length);
+		if(KEYWORDS[h] != null) {
+			throw new IllegalStateException("keyword hash collision: " + text);
+		}
+		KEYWORDS[h] = kw;
+		KEYWORD_TYPES[h] = type;
+		TEXT[type] = text;
+	}
+
+	private static void punctuation(String text, int type) {
+		TEXT[type] = text;
+	}
+
+	static {
+		keyword("package", JavaTokens.PACKAGE);
+		keyword("import", JavaTokens.IMPORT);
+		keyword("static", JavaTokens.STATIC);
+		keyword("class", JavaTokens.CLASS);
+		keyword("extends", JavaTokens.EXTENDS);
+		keyword("implements", JavaTokens.IMPLEMENTS);
+		keyword("interface", JavaTokens.INTERFACE);
+		keyword("enum", JavaTokens.ENUM);
+		keyword("void", JavaTokens.VOID);
+		keyword("throws", JavaTokens.THROWS);
+		keyword("public", JavaTokens.PUBLIC);
+		keyword("protected", JavaTokens.PROTECTED);
+		keyword("private", JavaTokens.PRIVATE);
+		keyword("abstract", JavaTokens.ABSTRACT);
+		keyword("final", JavaTokens.FINAL);
+		keyword("native", JavaTokens.NATIVE);
+		keyword("synchronized", JavaTokens.SYNCHRONIZED);
+		keyword("transient", JavaTokens.TRANSIENT);
+		keyword("volatile", JavaTokens.VOLATILE);
+		keyword("strictfp", JavaTokens.STRICTFP);
+		keyword("boolean", JavaTokens.BOOLEAN);
+		keyword("char", JavaTokens.CHAR);
+		keyword("byte", JavaTokens.BYTE);
+		keyword("short", JavaTokens.SHORT);
+		keyword("int", JavaTokens.INT);
+		keyword("long", JavaTokens.LONG);
+		keyword("float", JavaTokens.FLOAT);
+		keyword("double", JavaTokens.DOUBLE);
+		keyword("super", JavaTokens.SUPER);
+		keyword("null", JavaTokens.NULL);
+		keyword("true", JavaTokens.TRUE);
+		keyword("false", JavaTokens.FALSE);
+		keyword("default", JavaTokens.DEFAULT);
+		keyword("assert", JavaTokens.ASSERT);
+		keyword("if", JavaTokens.IF);
+		keyword("else", JavaTokens.ELSE);
+		keyword("for", JavaTokens.FOR);
+		keyword("while", JavaTokens.WHILE);
+		keyword("do", JavaTokens.DO);
+		keyword("try", JavaTokens.TRY);
+		keyword("finally", JavaTokens.FINALLY);
+		keyword("switch", JavaTokens.SWITCH);
+		keyword("return", JavaTokens.RETURN);
+		keyword("throw", JavaTokens.THROW);
+		keyword("break", JavaTokens.BREAK);
+		keyword("continue", JavaTokens.CONTINUE);
+		keyword("catch", JavaTokens.CATCH);
+		keyword("case", JavaTokens.CASE);
+		keyword("instanceof", JavaTokens.INSTANCEOF);
+		keyword("new", JavaTokens.NEW);
+
+		punctuation(";", JavaTokens.SEMICOLON);
+		punctuation(".", JavaTokens.DOT);
+		punctuation("...", JavaTokens.ELLIPSIS);
+		punctuation(",", JavaTokens.COMMA);
+		punctuation("(", JavaTokens.LPAREN);
+		punctuation(")", JavaTokens.RPAREN);
+		punctuation("{", JavaTokens.LBRACE);
+		punctuation("}", JavaTokens.RBRACE);
+		punctuation("[", JavaTokens.LBRACKET);
+		punctuation("]", JavaTokens.RBRACKET);
+		punctuation("<", JavaTokens.LT);
+		punctuation(">", JavaTokens.GT);
+		punctuation("?", JavaTokens.QUESTION);
+		punctuation(":", JavaTokens.COLON);
+		punctuation("@", JavaTokens.AT);
+		punctuation("~", JavaTokens.TILDE);
+		punctuation("*", JavaTokens.STAR);
+		punctuation("/", JavaTokens.SLASH);
+		punctuation("%", JavaTokens.PERCENT);
+		punctuation("=", JavaTokens.ASSIGN);
+		punctuation("==", JavaTokens.EQUALS);
+		punctuation("!", JavaTokens.BANG);
+		punctuation("!=", JavaTokens.NOT_EQUALS);
+		punctuation("+", JavaTokens.PLUS);
+		punctuation("++", JavaTokens.INC);
+		punctuation("-", JavaTokens.MINUS);
+		punctuation("--", JavaTokens.DEC);
+		punctuation("^", JavaTokens.CARET);
+		punctuation("^=", JavaTokens.XOR_ASSIGN);
+		punctuation("&", JavaTokens.AMPERSAND);
+		punctuation("&&", JavaTokens.LOGICAL_AND);
+		punctuation("&=", JavaTokens.AND_ASSIGN);
+		punctuation("|", JavaTokens.BAR);
+		punctuation("||", JavaTokens.LOGICAL_OR);
+		punctuation("|=", JavaTokens.OR_ASSIGN);
+	}
+}
@@ -0,0 +1,45 @@
+//This file is part of the Java Compiler Kit (JKit)
+
+//The Java Compiler Kit is free software; you can
+//redistribute it and/or modify it under the terms of the
+//GNU General Public License as published by the Free Software
+//Foundation; either version 2 of the License, or (at your
+//option) any later version.
+
+//The Java Compiler Kit is distributed in the hope
+//that it will be useful, but WITHOUT ANY WARRANTY; without
+//even the implied warranty of MERCHANTABILITY or FITNESS FOR
+//A PARTICULAR PURPOSE.  See the GNU General Public License
+//for more details.
+
+//You should have received a copy of the GNU General Public
+//License along with the Java Compiler Kit; if not,
+//write to the Free Software Foundation, Inc., 59 Temple Place,
+//Suite 330, Boston, MA  02111-1307  USA
+
+//(C) David James Pearce, 2009.
+
+package jkit.java.parser;
+
+/**
+ * A token source which presents the tokens of a JavaScanner as Token objects,
+ * so they can be consumed by the parser via a token stream. A token object is
+ * created only for each token passed to the parser, and the text of keywords
+ * and punctuation is shared between them.
+ *
+ * @author djp
+ *
+ */
+public final class JavaTokenSource implements TokenSource {
+	private final JavaScanner scanner;
+
+	public JavaTokenSource(JavaScanner scanner) {
+		this.scanner = scanner;
+	}
+
+	public Token nextToken() {
+		int type = scanner.next();
+		return new Token(type, scanner.text(), scanner.line(),
+				scanner.column(), scanner.start(), scanner.stop());
+	}
+}
@@ -0,0 +1,57 @@
+//This file is part of the Java Compiler Kit (JKit)
+
+//The Java Compiler Kit is free software; you can
+//redistribute it and/or modify it under the terms of the
+//GNU General Public License as published by the Free Software
+//Foundation; either version 2 of the License, or (at your
+//option) any later version.
+
+//The Java Compiler Kit is distributed in the hope
+//that it will be useful, but WITHOUT ANY WARRANTY; without
+//even the implied warranty of MERCHANTABILITY or FITNESS FOR
+//A PARTICULAR PURPOSE.  See the GNU General Public License
+//for more details.
+
+//You should have received a copy of the GNU General Public
+//License along with the Java Compiler Kit; if not,
+//write to the Free Software Foundation, Inc., 59 Temple Place,
+//Suite 330, Boston, MA  02111-1307  USA
+
+//(C) David James Pearce, 2009.
+
+
+package jkit.java.parser;
+
+/**
+ * A stream of tokens, as read by the JavaDescentParser. The parser never
+ * rewinds, and so a stream need only support looking ahead of the current
+ * position and moving forward.
+ *
+ * @author djp
+ *
+ */
+public interface JavaTokenStream {
+
+	/**
+	 * Get the ith token from the current position, where the next token to be
+	 * consumed is LT(1). Beyond the end of input, this is the EOF token.
+	 *
+	 * @param i
+	 *            must be at least 1.
+	 * @return
+	 */
+	public Token LT(int i);
+
+	/**
+	 * Get the type of the ith token from the current position (see LT()).
+	 *
+	 * @param i
+	 * @return
+	 */
+	public int LA(int i);
+
+	/**
+	 * Move past the next token. At the end of input, this has no effect.
+	 */
+	public void consume();
+}
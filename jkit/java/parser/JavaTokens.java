@@ -0,0 +1,137 @@
+//This file is part of the Java Compiler Kit (JKit)
+
+//The Java Compiler Kit is free software; you can
+//redistribute it and/or modify it under the terms of the
+//GNU General Public License as published by the Free Software
+//Foundation; either version 2 of the License, or (at your
+//option) any later version.
+
+//The Java Compiler Kit is distributed in the hope
+//that it will be useful, but WITHOUT ANY WARRANTY; without
+//even the implied warranty of MERCHANTABILITY or FITNESS FOR
+//A PARTICULAR PURPOSE.  See the GNU General Public License
+//for more details.
+
+//You should have received a copy of the GNU General Public
+//License along with the Java Compiler Kit; if not,
+//write to the Free Software Foundation, Inc., 59 Temple Place,
+//Suite 330, Boston, MA  02111-1307  USA
+
+//(C) David James Pearce, 2009.
+
+
+package jkit.java.parser;
+
+/**
+ * The types of the tokens produced by the JavaScanner, and read by the
+ * JavaDescentParser. Every keyword and piece of punctuation has its own type,
+ * whilst identifiers and each form of literal have one type apiece. Types are
+ * small non-negative integers, so they can index a table directly; the end of
+ * input is given by EOF.
+ *
+ * @author djp
+ *
+ */
+public final class JavaTokens {
+	private JavaTokens() {}
+
+	public static final int EOF = -1;
+
+	// Identifiers and literals
+	public static final int IDENTIFIER = 1;
+	public static final int CHARACTER_LITERAL = 2;
+	public static final int STRING_LITERAL = 3;
+	public static final int HEX_LITERAL = 4;
+	public static final int OCTAL_LITERAL = 5;
+	public static final int DECIMAL_LITERAL = 6;
+	public static final int FLOATING_POINT_LITERAL = 7;
+
+	// Keywords
+	public static final int PACKAGE = 10; // 'package'
+	public static final int IMPORT = 11; // 'import'
+	public static final int STATIC = 12; // 'static'
+	public static final int CLASS = 13; // 'class'
+	public static final int EXTENDS = 14; // 'extends'
+	public static final int IMPLEMENTS = 15; // 'implements'
+	public static final int INTERFACE = 16; // 'interface'
+	public static final int ENUM = 17; // 'enum'
+	public static final int VOID = 18; // 'void'
+	public static final int THROWS = 19; // 'throws'
+	public static final int PUBLIC = 20; // 'public'
+	public static final int PROTECTED = 21; // 'protected'
+	public static final int PRIVATE = 22; // 'private'
+	public static final int ABSTRACT = 23; // 'abstract'
+	public static final int FINAL = 24; // 'final'
+	public static final int NATIVE = 25; // 'native'
+	public static final int SYNCHRONIZED = 26; // 'synchronized'
+	public static final int TRANSIENT = 27; // 'transient'
+	public static final int VOLATILE = 28; // 'volatile'
+	public static final int STRICTFP = 29; // 'strictfp'
+	public static final int BOOLEAN = 30; // 'boolean'
+	public static final int CHAR = 31; // 'char'
+	public static final int BYTE = 32; // 'byte'
+	public static final int SHORT = 33; // 'short'
+	public static final int INT = 34; // 'int'
+	public static final int LONG = 35; // 'long'
+	public static final int FLOAT = 36; // 'float'
+	public static final int DOUBLE = 37; // 'double'
+	public static final int SUPER = 38; // 'super'
+	public static final int NULL = 39; // 'null'
+	public static final int TRUE = 40; // 'true'
+	public static final int FALSE = 41; // 'false'
+	public static final int DEFAULT = 42; // 'default'
+	public static final int ASSERT = 43; // 'assert'
+	public static final int IF = 44; // 'if'
+	public static final int ELSE = 45; // 'else'
+	public static final int FOR = 46; // 'for'
+	public static final int WHILE = 47; // 'while'
+	public static final int DO = 48; // 'do'
+	public static final int TRY = 49; // 'try'
+	public static final int CATCH = 50; // 'catch'
+	public static final int FINALLY = 51; // 'finally'
+	public static final int SWITCH = 52; // 'switch'
+	public static final int CASE = 53; // 'case'
+	public static final int RETURN = 54; // 'return'
+	public static final int THROW = 55; // 'throw'
+	public static final int BREAK = 56; // 'break'
+	public static final int CONTINUE = 57; // 'continue'
+	public static final int INSTANCEOF = 58; // 'instanceof'
+	public static final int NEW = 59; // 'new'
+
+	// Punctuation and operators
+	public static final int LBRACE = 100; // '{'
+	public static final int RBRACE = 101; // '}'
+	public static final int LPAREN = 102; // '('
+	public static final int RPAREN = 103; // ')'
+	public static final int LBRACKET = 104; // '['
+	public static final int RBRACKET = 105; // ']'
+	public static final int SEMICOLON = 106; // ';'
+	public static final int COMMA = 107; // ','
+	public static final int DOT = 108; // '.'
+	public static final int ELLIPSIS = 109; // '...'
+	public static final int AT = 110; // '@'
+	public static final int QUESTION = 111; // '?'
+	public static final int COLON = 112; // ':'
+	public static final int ASSIGN = 113; // '='
+	public static final int LT = 114; // '<'
+	public static final int GT = 115; // '>'
+	public static final int PLUS = 116; // '+'
+	public static final int MINUS = 117; // '-'
+	public static final int STAR = 118; // '*'
+	public static final int SLASH = 119; // '/'
+	public static final int PERCENT = 120; // '%'
+	public static final int AMPERSAND = 121; // '&'
+	public static final int BAR = 122; // '|'
+	public static final int CARET = 123; // '^'
+	public static final int AND_ASSIGN = 124; // '&='
+	public static final int OR_ASSIGN = 125; // '|='
+	public static final int XOR_ASSIGN = 126; // '^='
+	public static final int LOGICAL_OR = 127; // '||'
+	public static final int LOGICAL_AND = 128; // '&&'
+	public static final int EQUALS = 129; // '=='
+	public static final int NOT_EQUALS = 130; // '!='
+	public static final int INC = 131; // '++'
+	public static final int DEC = 132; // '--'
+	public static final int TILDE = 133; // '~'
+	public static final int BANG = 134; // '!'
+}
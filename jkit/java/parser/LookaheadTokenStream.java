@@ -0,0 +1,120 @@
+//This file is part of the Java Compiler Kit (JKit)
+
+//The Java Compiler Kit is free software; you can
+//redistribute it and/or modify it under the terms of the
+//GNU General Public License as published by the Free Software
+//Foundation; either version 2 of the License, or (at your
+//option) any later version.
+
+//The Java Compiler Kit is distributed in the hope
+//that it will be useful, but WITHOUT ANY WARRANTY; without
+//even the implied warranty of MERCHANTABILITY or FITNESS FOR
+//A PARTICULAR PURPOSE.  See the GNU General Public License
+//for more details.
+
+//You should have received a copy of the GNU General Public
+//License along with the Java Compiler Kit; if not,
+//write to the Free Software Foundation, Inc., 59 Temple Place,
+//Suite 330, Boston, MA  02111-1307  USA
+
+//(C) David James Pearce, 2009.
+
+package jkit.java.parser;
+
+/**
+ * <p>
+ * A token stream which buffers only those tokens which have been looked at,
+ * but not yet consumed. By contrast, a stream for a backtracking parser must
+ * buffer every token of the file for as long as the stream exists, since the
+ * parser may rewind to any point.
+ * </p>
+ *
+ * <p>
+ * This stream is intended for a parser which never rewinds, such as the
+ * JavaDescentParser. Lookahead is unbounded, but only the tokens between the
+ * current position and the furthest token looked at are held, in a circular
+ * buffer which grows as necessary.
+ * </p>
+ *
+ * @author djp
+ *
+ */
+public final class LookaheadTokenStream implements JavaTokenStream {
+	private final TokenSource source;
+
+	private Token[] buffer = new Token[16]; // size is always a power of 2
+	private int head = 0;  // position of next token in buffer
+	private int count = 0; // number of tokens in buffer
+	private int peak = 0;  // largest number of tokens in buffer
+
+	public LookaheadTokenStream(TokenSource source) {
+		this.source = source;
+	}
+
+	/**
+	 * Get the largest number of tokens which have been held at any one time.
+	 * This is the furthest that the parser has had to look ahead.
+	 *
+	 * @return
+	 */
+	public int peakLookahead() {
+		return peak;
+	}
+
+	public Token LT(int i) {
+		if(i < 1) {
+			throw new IllegalArgumentException(
+					"cannot look behind in token stream");
+		}
+		fill(i);
+		if(i > count) {
+			// past the end of input
+			return buffer[(head + count - 1) & (buffer.length - 1)];
+		}
+		return buffer[(head + i - 1) & (buffer.length - 1)];
+	}
+
+	public int LA(int i) {
+		return LT(i).type();
+	}
+
+	public void consume() {
+		fill(1);
+		if(buffer[head].type() != JavaTokens.EOF) {
+			buffer[head] = null;
+			head = (head + 1) & (buffer.length - 1);
+			count--;
+		}
+	}
+
+	/**
+	 * Ensure that the next n tokens are buffered, or that the end of input is.
+	 */
+	private void fill(int n) {
+		while(count < n) {
+			if(count > 0
+					&& buffer[(head + count - 1) & (buffer.length - 1)]
+							.type() == JavaTokens.EOF) {
+				return;
+			}
+			Token t = source.nextToken();
+			if(count == buffer.length) {
+				grow();
+			}
+			buffer[(head + count) & (buffer.length - 1)] = t;
+			count++;
+		}
+		if(count > peak) {
+			peak = count;
+		}
+	}
+
+	private void grow() {
+		Token[] nbuffer = new Token[buffer.length * 2];
+		for(int i=0;i!=count;++i) {
+			nbuffer[i] = buffer[(head + i) & (buffer.length - 1)];
+		}
+		buffer = nbuffer;
+		head = 0;
+	}
+}
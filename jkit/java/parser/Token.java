@@ -0,0 +1,84 @@
+//This file is part of the Java Compiler Kit (JKit)
+
+//The Java Compiler Kit is free software; you can
+//redistribute it and/or modify it under the terms of the
+//GNU General Public License as published by the Free Software
+//Foundation; either version 2 of the License, or (at your
+//option) any later version.
+
+//The Java Compiler Kit is distributed in the hope
+//that it will be useful, but WITHOUT ANY WARRANTY; without
+//even the implied warranty of MERCHANTABILITY or FITNESS FOR
+//A PARTICULAR PURPOSE.  See the GNU General Public License
+//for more details.
+
+//You should have received a copy of the GNU General Public
+//License along with the Java Compiler Kit; if not,
+//write to the Free Software Foundation, Inc., 59 Temple Place,
+//Suite 330, Boston, MA  02111-1307  USA
+
+//(C) David James Pearce, 2009.
+
+
+package jkit.java.parser;
+
+/**
+ * A token of a Java source file, as passed from the scanner to the parser.
+ * This gives the type of the token (see JavaTokens), its text and where it
+ * occurs in the file.
+ *
+ * @author djp
+ *
+ */
+public final class Token {
+	private final int type;
+	private final String text;
+	private final int line;
+	private final int column;
+	private final int start;
+	private final int stop;
+
+	public Token(int type, String text, int line, int column, int start,
+			int stop) {
+		this.type = type;
+		this.text = text;
+		this.line = line;
+		this.column = column;
+		this.start = start;
+		this.stop = stop;
+	}
+
+	public int type() {
+		return type;
+	}
+
+	public String text() {
+		return text;
+	}
+
+	public int line() {
+		return line;
+	}
+
+	public int column() {
+		return column;
+	}
+
+	/**
+	 * Get the index of the first character of this token.
+	 */
+	public int start() {
+		return start;
+	}
+
+	/**
+	 * Get the index of the last character of this token.
+	 */
+	public int stop() {
+		return stop;
+	}
+
+	public String toString() {
+		return text;
+	}
+}
@@ -0,0 +1,41 @@
+//This file is part of the Java Compiler Kit (JKit)
+
+//The Java Compiler Kit is free software; you can
+//redistribute it and/or modify it under the terms of the
+//GNU General Public License as published by the Free Software
+//Foundation; either version 2 of the License, or (at your
+//option) any later version.
+
+//The Java Compiler Kit is distributed in the hope
+//that it will be useful, but WITHOUT ANY WARRANTY; without
+//even the implied warranty of MERCHANTABILITY or FITNESS FOR
+//A PARTICULAR PURPOSE.  See the GNU General Public License
+//for more details.
+
+//You should have received a copy of the GNU General Public
+//License along with the Java Compiler Kit; if not,
+//write to the Free Software Foundation, Inc., 59 Temple Place,
+//Suite 330, Boston, MA  02111-1307  USA
+
+//(C) David James Pearce, 2009.
+
+
+package jkit.java.parser;
+
+/**
+ * A source of tokens, such as a JavaTokenSource, from which a token stream
+ * is filled.
+ *
+ * @author djp
+ *
+ */
+public interface TokenSource {
+
+	/**
+	 * Get the next token. At the end of input, this is a token of type
+	 * JavaTokens.EOF, and so is every token after it.
+	 *
+	 * @return
+	 */
+	public Token nextToken();
+}
@@ -0,0 +1,523 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can
+// redistribute it and/or modify it under the terms of the
+// GNU General Public License as published by the Free Software
+// Foundation; either version 2 of the License, or (at your
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR
+// A PARTICULAR PURPOSE.  See the GNU General Public License
+// for more details.
+//
+// You should have received a copy of the GNU General Public
+// License along with the Java Compiler Kit; if not,
+// write to the Free Software Foundation, Inc., 59 Temple Place,
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009.
+
+package jkit.java.stages;
+
+import java.util.List;
+
+import jkit.compiler.SyntacticAttribute;
+import jkit.java.tree.Expr;
+import jkit.java.tree.Kind;
+import jkit.java.tree.Value;
+import jkit.jil.tree.Type;
+import static jkit.jil.util.Types.isJavaLangString;
+
+/**
+ * <p>
+ * The constant evaluator computes the value of constant expressions (JLS
+ * 15.28), with exactly the semantics they would have at runtime. For example,
+ * int arithmetic overflows, shift distances are masked, and floating point
+ * arithmetic is rounded as in Java. Constants are represented by the
+ * corresponding boxed values (e.g. java.lang.Integer for int, or
+ * java.lang.Character for char), or by a java.lang.String.
+ * </p>
+ *
+ * <p>
+ * Each method returns null if the result is not a constant. This happens when
+ * an operand is not a constant, when an operator cannot be applied to the
+ * operands given, and when the evaluation would throw an exception (i.e.
+ * integer division by zero). Equality of strings is not evaluated, since this
+ * depends upon interning.
+ * </p>
+ *
+ * @author djp
+ *
+ */
+public final class ConstantEvaluator {
+	private ConstantEvaluator() {
+	}
+
+	/**
+	 * Get the constant represented by an expression, if it is a value (other
+	 * than null, an array or a class).
+	 *
+	 * @param e
+	 * @return the constant, or null if the expression is not a constant.
+	 */
+	public static Object constant(Expr e) {
+		if(e == null) {
+			return null;
+		}
+		switch(e.kind()) {
+		case Kind.BOOL:
+			return ((Value.Bool) e).value();
+		case Kind.BYTE:
+			return ((Value.Byte) e).value();
+		case Kind.CHAR:
+			return ((Value.Char) e).value();
+		case Kind.SHORT:
+			return ((Value.Short) e).value();
+		case Kind.INT:
+			return ((Value.Int) e).value();
+		case Kind.LONG:
+			return ((Value.Long) e).value();
+		case Kind.FLOAT:
+			return ((Value.Float) e).value();
+		case Kind.DOUBLE:
+			return ((Value.Double) e).value();
+		case Kind.STRING:
+			return ((Value.String) e).value();
+		}
+		return null;
+	}
+
+	/**
+	 * Construct the value representing a constant.
+	 *
+	 * @param constant
+	 * @param attributes
+	 * @return the value, or null if the constant is not of a known kind.
+	 */
+	public static Value value(Object constant,
+			List<SyntacticAttribute> attributes) {
+		if(constant instanceof Boolean) {
+			return new Value.Bool((Boolean) constant,attributes);
+		} else if(constant instanceof Byte) {
+			return new Value.Byte((Byte) constant,attributes);
+		} else if(constant instanceof Character) {
+			return new Value.Char((Character) constant,attributes);
+		} else if(constant instanceof Short) {
+			return new Value.Short((Short) constant,attributes);
+		} else if(constant instanceof Integer) {
+			return new Value.Int((Integer) constant,attributes);
+		} else if(constant instanceof Long) {
+			return new Value.Long((Long) constant,attributes);
+		} else if(constant instanceof Float) {
+			return new Value.Float((Float) constant,attributes);
+		} else if(constant instanceof Double) {
+			return new Value.Double((Double) constant,attributes);
+		} else if(constant instanceof String) {
+			return new Value.String((String) constant,attributes);
+		}
+		return null;
+	}
+
+	/**
+	 * Convert a constant to a given type, as for a cast. A constant can be
+	 * converted to any primitive type other than boolean (if it is numeric),
+	 * to boolean (if it is boolean), and to String (if it is a String). For
+	 * convenience, a constant int can also be converted to boolean, where 0
+	 * is false. This is how boolean constants are stored in class files.
+	 *
+	 * @param constant
+	 * @param type
+	 * @return the converted constant, or null if it cannot be converted.
+	 */
+	public static Object convert(Object constant, Type type) {
+		if(constant == null || type == null) {
+			return null;
+		} else if(type instanceof Type.Bool) {
+			if(constant instanceof Boolean) {
+				return constant;
+			} else if(constant instanceof Integer) {
+				return ((Integer) constant) != 0;
+			}
+			return null;
+		} else if(isJavaLangString(type)) {
+			return constant instanceof String ? constant : null;
+		} else if(!isNumeric(constant)) {
+			return null;
+		}
+
+		if(constant instanceof Double) {
+			double v = (Double) constant;
+			if(type instanceof Type.Byte) {
+				return (byte) v;
+			} else if(type instanceof Type.Char) {
+				return (char) v;
+			} else if(type instanceof Type.Short) {
+				return (short) v;
+			} else if(type instanceof Type.Int) {
+				return (int) v;
+			} else if(type instanceof Type.Long) {
+				return (long) v;
+			} else if(type instanceof Type.Float) {
+				return (float) v;
+			} else if(type instanceof Type.Double) {
+				return v;
+			}
+		} else if(constant instanceof Float) {
+			float v = (Float) constant;
+			if(type instanceof Type.Byte) {
+				return (byte) v;
+			} else if(type instanceof Type.Char) {
+				return (char) v;
+			} else if(type instanceof Type.Short) {
+				return (short) v;
+			} else if(type instanceof Type.Int) {
+				return (int) v;
+			} else if(type instanceof Type.Long) {
+				return (long) v;
+			} else if(type instanceof Type.Float) {
+				return v;
+			} else if(type instanceof Type.Double) {
+				return (double) v;
+			}
+		} else {
+			long v = longValue(constant);
+			if(type instanceof Type.Byte) {
+				return (byte) v;
+			} else if(type instanceof Type.Char) {
+				return (char) v;
+			} else if(type instanceof Type.Short) {
+				return (short) v;
+			} else if(type instanceof Type.Int) {
+				return (int) v;
+			} else if(type instanceof Type.Long) {
+				return v;
+			} else if(type instanceof Type.Float) {
+				return (float) v;
+			} else if(type instanceof Type.Double) {
+				return (double) v;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Check whether a numeric constant can be converted to a given primitive
+	 * type without changing its value. This is required for an implicit
+	 * narrowing conversion of a constant (JLS 5.2).
+	 *
+	 * @param constant
+	 * @param type
+	 * @return
+	 */
+	public static boolean representable(Object constant, Type type) {
+		Object c = convert(constant, type);
+		if(c == null || !isNumeric(c)) {
+			return false;
+		} else if(constant instanceof Float || constant instanceof Double
+				|| c instanceof Float || c instanceof Double) {
+			return doubleValue(c) == doubleValue(constant);
+		} else {
+			return longValue(c) == longValue(constant);
+		}
+	}
+
+	/**
+	 * Evaluate a unary operator (one of Expr.UnOp.NOT, INV or NEG) applied to
+	 * a constant.
+	 *
+	 * @param op
+	 * @param constant
+	 * @return the result, or null if it is not a constant.
+	 */
+	public static Object unaryOp(int op, Object constant) {
+		if(op == Expr.UnOp.NOT) {
+			return constant instanceof Boolean ? !((Boolean) constant) : null;
+		}
+		Object v = unaryPromotion(constant);
+		if(v instanceof Integer) {
+			int i = (Integer) v;
+			switch(op) {
+			case Expr.UnOp.NEG:
+				return -i;
+			case Expr.UnOp.INV:
+				return ~i;
+			}
+		} else if(v instanceof Long) {
+			long l = (Long) v;
+			switch(op) {
+			case Expr.UnOp.NEG:
+				return -l;
+			case Expr.UnOp.INV:
+				return ~l;
+			}
+		} else if(v instanceof Float) {
+			if(op == Expr.UnOp.NEG) {
+				return -((Float) v);
+			}
+		} else if(v instanceof Double) {
+			if(op == Expr.UnOp.NEG) {
+				return -((Double) v);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Evaluate a binary operator (see Expr.BinOp) applied to two constants.
+	 * String concatenation is evaluated whenever either operand is a String,
+	 * regardless of whether the operator is Expr.BinOp.CONCAT or ADD.
+	 *
+	 * @param op
+	 * @param lhs
+	 * @param rhs
+	 * @return the result, or null if it is not a constant.
+	 */
+	public static Object binaryOp(int op, Object lhs, Object rhs) {
+		if(lhs == null || rhs == null) {
+			return null;
+		} else if((op == Expr.BinOp.CONCAT || op == Expr.BinOp.ADD)
+				&& (lhs instanceof String || rhs instanceof String)) {
+			return String.valueOf(lhs) + String.valueOf(rhs);
+		} else if(lhs instanceof Boolean || rhs instanceof Boolean) {
+			return booleanOp(op, lhs, rhs);
+		} else if(!isNumeric(lhs) || !isNumeric(rhs)) {
+			return null;
+		}
+
+		switch(op) {
+		case Expr.BinOp.SHL:
+		case Expr.BinOp.SHR:
+		case Expr.BinOp.USHR:
+			return shiftOp(op, unaryPromotion(lhs), unaryPromotion(rhs));
+		}
+
+		// binary numeric promotion (JLS 5.6.2)
+		if(lhs instanceof Double || rhs instanceof Double) {
+			return doubleOp(op, doubleValue(lhs), doubleValue(rhs));
+		} else if(lhs instanceof Float || rhs instanceof Float) {
+			return floatOp(op, floatValue(lhs), floatValue(rhs));
+		} else if(lhs instanceof Long || rhs instanceof Long) {
+			return longOp(op, longValue(lhs), longValue(rhs));
+		} else {
+			return intOp(op, (int) longValue(lhs), (int) longValue(rhs));
+		}
+	}
+
+	private static Object booleanOp(int op, Object lhs, Object rhs) {
+		if(!(lhs instanceof Boolean) || !(rhs instanceof Boolean)) {
+			return null;
+		}
+		boolean l = (Boolean) lhs;
+		boolean r = (Boolean) rhs;
+		switch(op) {
+		case Expr.BinOp.AND:
+		case Expr.BinOp.LAND:
+			return l && r;
+		case Expr.BinOp.OR:
+		case Expr.BinOp.LOR:
+			return l || r;
+		case Expr.BinOp.XOR:
+			return l ^ r;
+		case Expr.BinOp.EQ:
+			return l == r;
+		case Expr.BinOp.NEQ:
+			return l != r;
+		}
+		return null;
+	}
+
+	private static Object shiftOp(int op, Object lhs, Object rhs) {
+		// only the low order bits of the distance are used, and so it can be
+		// truncated to an int.
+		int r = (int) longValue(rhs);
+		if(lhs instanceof Integer) {
+			int l = (Integer) lhs;
+			switch(op) {
+			case Expr.BinOp.SHL:
+				return l << r;
+			case Expr.BinOp.SHR:
+				return l >> r;
+			default:
+				return l >>> r;
+			}
+		} else if(lhs instanceof Long) {
+			long l = (Long) lhs;
+			switch(op) {
+			case Expr.BinOp.SHL:
+				return l << r;
+			case Expr.BinOp.SHR:
+				return l >> r;
+			default:
+				return l >>> r;
+			}
+		}
+		return null;
+	}
+
+	private static Object intOp(int op, int l, int r) {
+		switch(op) {
+		case Expr.BinOp.ADD:
+			return l + r;
+		case Expr.BinOp.SUB:
+			return l - r;
+		case Expr.BinOp.MUL:
+			return l * r;
+		case Expr.BinOp.DIV:
+			return r == 0 ? null : l / r;
+		case Expr.BinOp.MOD:
+			return r == 0 ? null : l % r;
+		case Expr.BinOp.AND:
+			return l & r;
+		case Expr.BinOp.OR:
+			return l | r;
+		case Expr.BinOp.XOR:
+			return l ^ r;
+		case Expr.BinOp.LT:
+			return l < r;
+		case Expr.BinOp.LTEQ:
+			return l <= r;
+		case Expr.BinOp.GT:
+			return l > r;
+		case Expr.BinOp.GTEQ:
+			return l >= r;
+		case Expr.BinOp.EQ:
+			return l == r;
+		case Expr.BinOp.NEQ:
+			return l != r;
+		}
+		return null;
+	}
+
+	private static Object longOp(int op, long l, long r) {
+		switch(op) {
+		case Expr.BinOp.ADD:
+			return l + r;
+		case Expr.BinOp.SUB:
+			return l - r;
+		case Expr.BinOp.MUL:
+			return l * r;
+		case Expr.BinOp.DIV:
+			return r == 0 ? null : l / r;
+		case Expr.BinOp.MOD:
+			return r == 0 ? null : l % r;
+		case Expr.BinOp.AND:
+			return l & r;
+		case Expr.BinOp.OR:
+			return l | r;
+		case Expr.BinOp.XOR:
+			return l ^ r;
+		case Expr.BinOp.LT:
+			return l < r;
+		case Expr.BinOp.LTEQ:
+			return l <= r;
+		case Expr.BinOp.GT:
+			return l > r;
+		case Expr.BinOp.GTEQ:
+			return l >= r;
+		case Expr.BinOp.EQ:
+			return l == r;
+		case Expr.BinOp.NEQ:
+			return l != r;
+		}
+		return null;
+	}
+
+	private static Object floatOp(int op, float l, float r) {
+		switch(op) {
+		case Expr.BinOp.ADD:
+			return l + r;
+		case Expr.BinOp.SUB:
+			return l - r;
+		case Expr.BinOp.MUL:
+			return l * r;
+		case Expr.BinOp.DIV:
+			return l / r;
+		case Expr.BinOp.MOD:
+			return l % r;
+		case Expr.BinOp.LT:
+			return l < r;
+		case Expr.BinOp.LTEQ:
+			return l <= r;
+		case Expr.BinOp.GT:
+			return l > r;
+		case Expr.BinOp.GTEQ:
+			return l >= r;
+		case Expr.BinOp.EQ:
+			return l == r;
+		case Expr.BinOp.NEQ:
+			return l != r;
+		}
+		return null;
+	}
+
+	private static Object doubleOp(int op, double l, double r) {
+		switch(op) {
+		case Expr.BinOp.ADD:
+			return l + r;
+		case Expr.BinOp.SUB:
+			return l - r;
+		case Expr.BinOp.MUL:
+			return l * r;
+		case Expr.BinOp.DIV:
+			return l / r;
+		case Expr.BinOp.MOD:
+			return l % r;
+		case Expr.BinOp.LT:
+			return l < r;
+		case Expr.BinOp.LTEQ:
+			return l <= r;
+		case Expr.BinOp.GT:
+			return l > r;
+		case Expr.BinOp.GTEQ:
+			return l >= r;
+		case Expr.BinOp.EQ:
+			return l == r;
+		case Expr.BinOp.NEQ:
+			return l != r;
+		}
+		return null;
+	}
+
+	/**
+	 * Apply unary numeric promotion (JLS 5.6.1), so that byte, short and char
+	 * constants become int constants.
+	 */
+	private static Object unaryPromotion(Object constant) {
+		if(constant instanceof Byte || constant instanceof Short
+				|| constant instanceof Character) {
+			return (int) longValue(constant);
+		} else if(isNumeric(constant)) {
+			return constant;
+		}
+		return null;
+	}
+
+	private static boolean isNumeric(Object constant) {
+		return constant instanceof Number || constant instanceof Character;
+	}
+
+	private static long longValue(Object constant) {
+		if(constant instanceof Character) {
+			return (Character) constant;
+		}
+		return ((Number) constant).longValue();
+	}
+
+	private static float floatValue(Object constant) {
+		// a long must be rounded to float directly, not via double, since
+		// rounding twice can give a different result.
+		if(constant instanceof Character) {
+			return (Character) constant;
+		}
+		return ((Number) constant).floatValue();
+	}
+
+	private static double doubleValue(Object constant) {
+		if(constant instanceof Character) {
+			return (Character) constant;
+		}
+		return ((Number) constant).doubleValue();
+	}
+}
@@ -11,11 +11,12 @@ import java.util.Stack;
 
 import jkit.compiler.ClassLoader;
 import jkit.compiler.Clazz;
-import jkit.compiler.SyntacticAttribute;
+import jkit.compiler.SyntacticElement;
 import jkit.error.FieldNotFoundException;
 import jkit.java.io.JavaFile;
 import jkit.java.tree.Decl;
 import jkit.java.tree.Expr;
+import jkit.java.tree.Kind;
 import jkit.java.tree.Stmt;
 import jkit.java.tree.Value;
 import jkit.java.tree.Decl.JavaClass;
@@ -29,6 +30,7 @@ import jkit.jil.tree.JilClass;
 import jkit.jil.tree.JilField;
 import jkit.jil.tree.JilConstant;
 import jkit.util.Pair;
+import jkit.util.ScopeStack;
 import jkit.util.Triple;
 
 /**
@@ -58,6 +60,16 @@ import jkit.util.Triple;
  * The primary purpose of doing this is to ensure that case statements work on
  * constants, rather than arbitrary values.
  * 
+ * <p>
+ * More generally, every constant expression (JLS 15.28) is evaluated, using
+ * the ConstantEvaluator. This includes arithmetic, shifts, comparisons, casts,
+ * conditionals and string concatenation over constants, and also simple names
+ * which refer to local constant variables (i.e. final local variables of
+ * primitive type or String, which are initialised with a constant expression).
+ * Thus, <code>1 &lt;&lt; 20</code> or <code>"x = " + X</code> are evaluated here,
+ * rather than at runtime.
+ * </p>
+ * 
  * @author djp
  * 
  */
@@ -65,6 +77,7 @@ public class ConstantPropagation {
 	private ClassLoader loader;
 	private TypeSystem types;	
 	private Stack<Type.Clazz> enclosingClass = new Stack<Type.Clazz>();
+	private ScopeStack<SyntacticElement,Object> localConstants = new ScopeStack<SyntacticElement,Object>();
 	
 	public ConstantPropagation(ClassLoader loader, TypeSystem types) {
 		this.loader = loader; 
@@ -108,16 +121,24 @@ public class ConstantPropagation {
 	protected void doClass(JavaClass c, JavaFile file) {		
 		Type.Clazz type = c.attribute(Type.Clazz.class);
 		enclosingClass.push(type);
+		// The local variables of an enclosing method are accessed from within
+		// a local class as non-local variables, and so the local constants of
+		// that method are not visible here.
+		ScopeStack<SyntacticElement,Object> outerConstants = localConstants;
+		localConstants = new ScopeStack<SyntacticElement,Object>();
 		
 		for(Decl d : c.declarations()) {
 			doDeclaration(d, file);
 		}
 		
+		localConstants = outerConstants;
 		enclosingClass.pop();
 	}
 
 	protected void doMethod(JavaMethod d, JavaFile file) {		
+		localConstants.push(d);
 		doStatement(d.body(), file);
+		localConstants.pop();
 	}
 
 	protected void doField(JavaField d, JavaFile file) {		
@@ -125,8 +146,10 @@ public class ConstantPropagation {
 		
 		try {				
 			d.setInitialiser(doExpression(d.initialiser(), file));
+			Type type = d.type().attribute(Type.class);
 								
-			if(d.isConstant()) {				
+			if(d.isConstant()
+					&& ConstantEvaluator.convert(d.constant(), type) != null) {				
 				Clazz c = loader.loadClass(owner);			
 				if(!c.field(d.name()).isConstant()) {
 					// Ok, in this instance, we have determined that this field
@@ -140,7 +163,8 @@ public class ConstantPropagation {
 						if(f.name().equals(d.name())) {
 							// found it.
 							JilConstant jilc = new JilConstant(f.name(), f
-									.type(), d.constant(), f.modifiers(), f
+									.type(), ConstantEvaluator.convert(d
+									.constant(), type), f.modifiers(), f
 									.attributes());
 							fields.set(i,jilc); // done
 							break;
@@ -155,67 +179,100 @@ public class ConstantPropagation {
 	
 	protected void doInitialiserBlock(Decl.InitialiserBlock d,
 			JavaFile file) {
-
+		localConstants.push(d);
 		for (Stmt s : d.statements()) {
 			doStatement(s, file);
 		}
+		localConstants.pop();
 	}
 	
 	protected void doStaticInitialiserBlock(Decl.StaticInitialiserBlock d,
 			JavaFile file) {
+		localConstants.push(d);
 		for (Stmt s : d.statements()) {
 			doStatement(s, file);
 		}
+		localConstants.pop();
 	}
 	
 	protected void doStatement(Stmt e, JavaFile file) {
 		try {
-			if(e instanceof Stmt.SynchronisedBlock) {
-				doSynchronisedBlock((Stmt.SynchronisedBlock)e, file);
-			} else if(e instanceof Stmt.TryCatchBlock) {
-				doTryCatchBlock((Stmt.TryCatchBlock)e, file);
-			} else if(e instanceof Stmt.Block) {
-				doBlock((Stmt.Block)e, file);
-			} else if(e instanceof Stmt.VarDef) {
-				doVarDef((Stmt.VarDef) e, file);
-			} else if(e instanceof Stmt.Assignment) {
-				doAssignment((Stmt.Assignment) e, file);
-			} else if(e instanceof Stmt.Return) {
-				doReturn((Stmt.Return) e, file);
-			} else if(e instanceof Stmt.Throw) {
-				doThrow((Stmt.Throw) e, file);
-			} else if(e instanceof Stmt.Assert) {
-				doAssert((Stmt.Assert) e, file);
-			} else if(e instanceof Stmt.Break) {
-				doBreak((Stmt.Break) e, file);
-			} else if(e instanceof Stmt.Continue) {
-				doContinue((Stmt.Continue) e, file);
-			} else if(e instanceof Stmt.Label) {
-				doLabel((Stmt.Label) e, file);
-			} else if(e instanceof Stmt.If) {
-				doIf((Stmt.If) e, file);
-			} else if(e instanceof Stmt.For) {
-				doFor((Stmt.For) e, file);
-			} else if(e instanceof Stmt.ForEach) {
-				doForEach((Stmt.ForEach) e, file);
-			} else if(e instanceof Stmt.While) {
-				doWhile((Stmt.While) e, file);
-			} else if(e instanceof Stmt.DoWhile) {
-				doDoWhile((Stmt.DoWhile) e, file);
-			} else if(e instanceof Stmt.Switch) {
-				doSwitch((Stmt.Switch) e, file);
-			} else if(e instanceof Expr.Invoke) {
-				doInvoke((Expr.Invoke) e, file);
-			} else if(e instanceof Expr.New) {
-				doNew((Expr.New) e, file);
-			} else if(e instanceof Decl.JavaClass) {
-				doClass((Decl.JavaClass)e, file);
-			} else if(e instanceof Stmt.PrePostIncDec) {
-				doExpression((Stmt.PrePostIncDec)e, file);
-			} else if(e != null) {
-				syntax_error("Invalid statement encountered: "
-						+ e.getClass(),e);
-			}	
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.SYNCHRONISED_BLOCK:
+					doSynchronisedBlock((Stmt.SynchronisedBlock)e, file);
+					break;
+				case Kind.TRY_CATCH_BLOCK:
+					doTryCatchBlock((Stmt.TryCatchBlock)e, file);
+					break;
+				case Kind.BLOCK:
+				case Kind.CATCH_BLOCK:
+				case Kind.INITIALISER_BLOCK:
+				case Kind.STATIC_INITIALISER_BLOCK:
+					doBlock((Stmt.Block)e, file);
+					break;
+				case Kind.VAR_DEF:
+					doVarDef((Stmt.VarDef) e, file);
+					break;
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					doAssignment((Stmt.Assignment) e, file);
+					break;
+				case Kind.RETURN:
+					doReturn((Stmt.Return) e, file);
+					break;
+				case Kind.THROW:
+					doThrow((Stmt.Throw) e, file);
+					break;
+				case Kind.ASSERT:
+					doAssert((Stmt.Assert) e, file);
+					break;
+				case Kind.BREAK:
+					doBreak((Stmt.Break) e, file);
+					break;
+				case Kind.CONTINUE:
+					doContinue((Stmt.Continue) e, file);
+					break;
+				case Kind.LABEL:
+					doLabel((Stmt.Label) e, file);
+					break;
+				case Kind.IF:
+					doIf((Stmt.If) e, file);
+					break;
+				case Kind.FOR:
+					doFor((Stmt.For) e, file);
+					break;
+				case Kind.FOR_EACH:
+					doForEach((Stmt.ForEach) e, file);
+					break;
+				case Kind.WHILE:
+					doWhile((Stmt.While) e, file);
+					break;
+				case Kind.DO_WHILE:
+					doDoWhile((Stmt.DoWhile) e, file);
+					break;
+				case Kind.SWITCH:
+					doSwitch((Stmt.Switch) e, file);
+					break;
+				case Kind.INVOKE:
+					doInvoke((Expr.Invoke) e, file);
+					break;
+				case Kind.NEW:
+					doNew((Expr.New) e, file);
+					break;
+				case Kind.JAVA_CLASS:
+				case Kind.JAVA_INTERFACE:
+				case Kind.JAVA_ENUM:
+					doClass((Decl.JavaClass)e, file);
+					break;
+				case Kind.PRE_POST_INC_DEC:
+					doExpression((Stmt.PrePostIncDec)e, file);
+					break;
+				default:
+					syntax_error("Invalid statement encountered: "
+							+ e.getClass(),e);
+				}
+			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
 		}
@@ -223,19 +280,23 @@ public class ConstantPropagation {
 	
 	protected void doBlock(Stmt.Block block, JavaFile file) {
 		if(block != null) {
+			localConstants.push(block);
 			// now process every statement in this block.
 			for(Stmt s : block.statements()) {
 				doStatement(s, file);
 			}
+			localConstants.pop();
 		}
 	}
 	
 	protected void doCatchBlock(Stmt.CatchBlock block, JavaFile file) {
 		if(block != null) {
+			localConstants.push(block);
 			// now process every statement in this block.
 			for(Stmt s : block.statements()) {
 				doStatement(s, file);
 			}
+			localConstants.pop();
 		}
 	}
 	
@@ -256,11 +317,28 @@ public class ConstantPropagation {
 	
 	protected void doVarDef(Stmt.VarDef def, JavaFile file) {
 		List<Triple<String, Integer, Expr>> defs = def.definitions();				
+		Type type = def.type().attribute(Type.class);
+		boolean isFinal = false;
+		for(Modifier m : def.modifiers()) {
+			if(m instanceof Modifier.Final) {
+				isFinal = true;
+			}
+		}
 		
 		for(int i=0;i!=defs.size();++i) {
 			Triple<String, Integer, Expr> d = defs.get(i);
 			Expr e = doExpression(d.third(), file);
-			defs.set(i, new Triple(d.first(),d.second(),e));			
+			defs.set(i, new Triple<String, Integer, Expr>(d.first(), d.second(), e));
+			
+			// A final variable of primitive type or String, initialised with a
+			// constant, is a constant variable (JLS 4.12.4). Since a local
+			// variable cannot be redeclared within the scope of another, only
+			// constant variables need to be recorded.
+			Object constant = ConstantEvaluator.convert(ConstantEvaluator
+					.constant(e), type);
+			if(isFinal && d.second() == 0 && constant != null) {
+				localConstants.bind(d.first(), constant);
+			}
 		}		
 	}
 	
@@ -316,10 +394,12 @@ public class ConstantPropagation {
 	}
 	
 	protected void doFor(Stmt.For stmt, JavaFile file) {
+		localConstants.push(stmt);
 		doStatement(stmt.initialiser(), file);
 		stmt.setCondition(doExpression(stmt.condition(), file));
 		doStatement(stmt.increment(), file);
 		doStatement(stmt.body(), file);
+		localConstants.pop();
 	}
 	
 	protected void doForEach(Stmt.ForEach stmt, JavaFile file) {
@@ -330,72 +410,80 @@ public class ConstantPropagation {
 	protected void doSwitch(Stmt.Switch sw, JavaFile file) {
 		
 		sw.setCondition(doExpression(sw.condition(), file));
+		// the cases of a switch form a single block
+		localConstants.push(sw);
 		for(Case c : sw.cases()) {									
 			c.setCondition(doExpression(c.condition(), file));									
 			for(Stmt s : c.statements()) {
 				doStatement(s, file);
 			}
 		}		
+		localConstants.pop();
 		// should check that case conditions are final constants here.
 	}
 	
 	protected Expr doExpression(Expr e, JavaFile file) {	
 		try {
-			if(e instanceof Value.Bool) {
-				return doBoolVal((Value.Bool)e, file);
-			} else if(e instanceof Value.Byte) {
-				return doByteVal((Value.Byte)e, file);
-			} else if(e instanceof Value.Char) {
-				return doCharVal((Value.Char)e, file);
-			} else if(e instanceof Value.Short) {
-				return doShortVal((Value.Short)e, file);
-			} else if(e instanceof Value.Int) {
-				return doIntVal((Value.Int)e, file);
-			} else if(e instanceof Value.Long) {
-				return doLongVal((Value.Long)e, file);
-			} else if(e instanceof Value.Float) {
-				return doFloatVal((Value.Float)e, file);
-			} else if(e instanceof Value.Double) {
-				return doDoubleVal((Value.Double)e, file);
-			} else if(e instanceof Value.String) {
-				return doStringVal((Value.String)e, file);
-			} else if(e instanceof Value.Null) {
-				return doNullVal((Value.Null)e, file);
-			} else if(e instanceof Value.TypedArray) {
-				return doTypedArrayVal((Value.TypedArray)e, file);
-			} else if(e instanceof Value.Array) {
-				return doArrayVal((Value.Array)e, file);
-			} else if(e instanceof Value.Class) {
-				return doClassVal((Value.Class) e, file);
-			} else if(e instanceof Expr.LocalVariable) {
-				return doVariable((Expr.LocalVariable)e, file);
-			} else if(e instanceof Expr.NonLocalVariable) {
-				return doNonLocalVariable((Expr.NonLocalVariable)e, file);
-			} else if(e instanceof Expr.ClassVariable) {
-				return doClassVariable((Expr.ClassVariable)e, file);
-			} else if(e instanceof Expr.UnOp) {
-				return doUnOp((Expr.UnOp)e, file);
-			} else if(e instanceof Expr.BinOp) {
-				return doBinOp((Expr.BinOp)e, file);
-			} else if(e instanceof Expr.TernOp) {
-				return doTernOp((Expr.TernOp)e, file);
-			} else if(e instanceof Expr.Cast) {
-				return doCast((Expr.Cast)e, file);
-			} else if(e instanceof Expr.Convert) {
-				return doConvert((Expr.Convert)e, file);
-			} else if(e instanceof Expr.InstanceOf) {
-				return doInstanceOf((Expr.InstanceOf)e, file);
-			} else if(e instanceof Expr.Invoke) {
-				return doInvoke((Expr.Invoke) e, file);
-			} else if(e instanceof Expr.New) {
-				return doNew((Expr.New) e, file);
-			} else if(e instanceof Expr.ArrayIndex) {
-				return doArrayIndex((Expr.ArrayIndex) e, file);
-			} else if(e instanceof Expr.Deref) {
-				return doDeref((Expr.Deref) e, file);
-			} else if(e instanceof Stmt.Assignment) {
-				// force brackets			
-				return doAssignment((Stmt.Assignment) e, file);			
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.BOOL:
+					return doBoolVal((Value.Bool)e, file);
+				case Kind.BYTE:
+					return doByteVal((Value.Byte)e, file);
+				case Kind.CHAR:
+					return doCharVal((Value.Char)e, file);
+				case Kind.SHORT:
+					return doShortVal((Value.Short)e, file);
+				case Kind.INT:
+					return doIntVal((Value.Int)e, file);
+				case Kind.LONG:
+					return doLongVal((Value.Long)e, file);
+				case Kind.FLOAT:
+					return doFloatVal((Value.Float)e, file);
+				case Kind.DOUBLE:
+					return doDoubleVal((Value.Double)e, file);
+				case Kind.STRING:
+					return doStringVal((Value.String)e, file);
+				case Kind.NULL:
+					return doNullVal((Value.Null)e, file);
+				case Kind.TYPED_ARRAY:
+					return doTypedArrayVal((Value.TypedArray)e, file);
+				case Kind.ARRAY:
+					return doArrayVal((Value.Array)e, file);
+				case Kind.CLASS:
+					return doClassVal((Value.Class) e, file);
+				case Kind.LOCAL_VARIABLE:
+					return doVariable((Expr.LocalVariable)e, file);
+				case Kind.NON_LOCAL_VARIABLE:
+					return doNonLocalVariable((Expr.NonLocalVariable)e, file);
+				case Kind.CLASS_VARIABLE:
+					return doClassVariable((Expr.ClassVariable)e, file);
+				case Kind.UNOP:
+				case Kind.PRE_POST_INC_DEC:
+					return doUnOp((Expr.UnOp)e, file);
+				case Kind.BINOP:
+					return doBinOp((Expr.BinOp)e, file);
+				case Kind.TERNOP:
+					return doTernOp((Expr.TernOp)e, file);
+				case Kind.CAST:
+					return doCast((Expr.Cast)e, file);
+				case Kind.CONVERT:
+					return doConvert((Expr.Convert)e, file);
+				case Kind.INSTANCE_OF:
+					return doInstanceOf((Expr.InstanceOf)e, file);
+				case Kind.INVOKE:
+					return doInvoke((Expr.Invoke) e, file);
+				case Kind.NEW:
+					return doNew((Expr.New) e, file);
+				case Kind.ARRAY_INDEX:
+					return doArrayIndex((Expr.ArrayIndex) e, file);
+				case Kind.DEREF:
+					return doDeref((Expr.Deref) e, file);
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					// force brackets			
+					return doAssignment((Stmt.Assignment) e, file);			
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -417,8 +505,15 @@ public class ConstantPropagation {
 									
 			// static field access, which could be a constant
 			Triple<Clazz,Clazz.Field,Type> r = types.resolveField(owner, e.name(), loader);			
-			if(r.second().isConstant()) {								
-				return buildConstant(r.second().constant(),e);												
+			if(r.second().isConstant()) {
+				// constants of type char or boolean are stored as int in class
+				// files, and so must be converted.
+				Object constant = ConstantEvaluator.convert(r.second()
+						.constant(), r.third());
+				if(constant == null) {
+					constant = r.second().constant();
+				}
+				return buildConstant(constant,e);												
 			}
 		}
 		
@@ -465,6 +560,10 @@ public class ConstantPropagation {
 	}
 	
 	protected Expr doVariable(Expr.LocalVariable v, JavaFile file) { 
+		ScopeStack.Binding<Object> b = localConstants.lookup(v.value());
+		if(b != null) {
+			return buildConstant(b.value(), v);
+		}
 		return v;
 	}
 	
@@ -477,25 +576,39 @@ public class ConstantPropagation {
 	}
 	
 	protected Expr doCast(Expr.Cast e, JavaFile file) {
-		e.setExpr(doExpression(e.expr(),file));
+		Expr expr = doExpression(e.expr(),file);
+		e.setExpr(expr);
+		
+		// A cast between primitive types is wrapped around a conversion,
+		// which is not evaluated if it would lose information (see below).
+		// However, in this case, it is explicit.
+		if(expr instanceof Expr.Convert) {
+			expr = ((Expr.Convert) expr).expr();
+		}
+		Object constant = ConstantEvaluator.convert(ConstantEvaluator
+				.constant(expr), e.attribute(Type.class));
+		if(constant != null) {
+			return buildConstant(constant, e);
+		}
 		return e;
 	}
 	
 	protected Expr doConvert(Expr.Convert e, JavaFile file) {
 		Expr expr = doExpression(e.expr(),file);		
+		Object constant = ConstantEvaluator.constant(expr);
+		Type e_type = e.attribute(Type.class);
 		
-		if(expr instanceof Value.Number) {
-			Value.Number v = (Value.Number) expr;
-			int n = v.intValue();
-			Type e_type = e.attribute(Type.class);
-			if(e_type instanceof Type.Byte && Byte.MIN_VALUE <= n && n < Byte.MAX_VALUE) {
-				return new Value.Byte((byte)n,e.attributes());
-			} else if(e_type instanceof Type.Char && Character.MIN_VALUE <= n && n < Character.MAX_VALUE) {
-				return new Value.Char((char)n,e.attributes());
-			} else if(e_type instanceof Type.Short && Short.MIN_VALUE <= n && n < Short.MAX_VALUE) {
-				return new Value.Short((short)n,e.attributes());
+		// An implicit narrowing conversion of a constant is only permitted
+		// when the value is representable in the narrower type (JLS 5.2), and
+		// so is not evaluated otherwise.
+		if (constant != null
+				&& (!(e_type instanceof Type.Byte
+						|| e_type instanceof Type.Char || e_type instanceof Type.Short) || ConstantEvaluator
+						.representable(constant, e_type))) {
+			constant = ConstantEvaluator.convert(constant, e_type);
+			if(constant != null) {
+				return buildConstant(constant, e);
 			}
-			// not sure if more rewrites are needed here.
 		}
 		
 		e.setExpr(expr);
@@ -572,12 +685,24 @@ public class ConstantPropagation {
 		}
 		
 		e.setExpr(doExpression(e.expr(), file));
+		
+		Object constant = ConstantEvaluator.unaryOp(e.op(), ConstantEvaluator
+				.constant(e.expr()));
+		if(constant != null) {
+			return buildConstant(constant, e);
+		}
 		return e;
 	}
 		
 	protected Expr doBinOp(Expr.BinOp e, JavaFile file) {				
 		e.setLhs(doExpression(e.lhs(), file));
 		e.setRhs(doExpression(e.rhs(), file));
+		
+		Object constant = ConstantEvaluator.binaryOp(e.op(), ConstantEvaluator
+				.constant(e.lhs()), ConstantEvaluator.constant(e.rhs()));
+		if(constant != null) {
+			return buildConstant(constant, e);
+		}
 		return e;
 	}
 	
@@ -585,29 +710,28 @@ public class ConstantPropagation {
 		e.setCondition(doExpression(e.condition(), file));
 		e.setTrueBranch(doExpression(e.trueBranch(), file));
 		e.setFalseBranch(doExpression(e.falseBranch(), file));
+		
+		// the branches must both be constant, even though only one is chosen,
+		// and are converted to the type of the conditional (JLS 15.25).
+		Object condition = ConstantEvaluator.constant(e.condition());
+		Type type = e.attribute(Type.class);
+		Object trueBranch = ConstantEvaluator.convert(ConstantEvaluator
+				.constant(e.trueBranch()), type);
+		Object falseBranch = ConstantEvaluator.convert(ConstantEvaluator
+				.constant(e.falseBranch()), type);
+		if (condition instanceof Boolean && trueBranch != null
+				&& falseBranch != null) {
+			return buildConstant((Boolean) condition ? trueBranch
+					: falseBranch, e);
+		}
 		return e;
 	}
 	
 	protected Value buildConstant(Object constant, Expr src) {
-		List<SyntacticAttribute> attributes = src.attributes();
-		if(constant instanceof Boolean) {			
-			return new Value.Bool((Boolean) constant,attributes);
-		} else if(constant instanceof Character) {			
-			return new Value.Char((Character) constant,attributes);
-		} else if(constant instanceof Short) {			
-			return new Value.Short((Short) constant,attributes);
-		} else if(constant instanceof Integer) {
-			return new Value.Int((Integer) constant,attributes);
-		} else if(constant instanceof Long) {			
-			return new Value.Long((Long) constant,attributes);
-		} else if(constant instanceof Float) {			
-			return new Value.Float((Float) constant,attributes);
-		} else if(constant instanceof Double) {			
-			return new Value.Double((Double) constant,attributes);
-		} else if(constant instanceof String) {			
-			return new Value.String((String) constant,attributes);
-		} 
-		syntax_error("unknown constant encountered: " + constant,src);
-		return null; // dead
+		Value v = ConstantEvaluator.value(constant, src.attributes());
+		if(v == null) {
+			syntax_error("unknown constant encountered: " + constant,src);
+		}
+		return v;
 	}
 }
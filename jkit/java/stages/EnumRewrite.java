@@ -26,6 +26,7 @@ import static jkit.compiler.SyntaxError.internal_error;
 import java.util.*;
 
 import jkit.compiler.ClassLoader;
+import jkit.compiler.Clazz;
 import jkit.error.MethodNotFoundException;
 import jkit.java.io.JavaFile;
 import jkit.java.tree.*;
@@ -44,6 +45,7 @@ import jkit.util.Triple;
 public class EnumRewrite {
 	private ClassLoader loader;
 	private TypeSystem types;
+	private Stack<JavaClass> enclosingClass = new Stack<JavaClass>();
 
 	public EnumRewrite(ClassLoader loader, TypeSystem types) {
 		this.loader = loader;
@@ -87,6 +89,9 @@ public class EnumRewrite {
 		Type.Clazz type = ec.attribute(Type.Clazz.class);
 		JilClass skeleton = (JilClass) loader.loadClass(type);
 
+		// Switches over enumerations may occur within the enumeration itself.
+		doClass(ec);
+
 		// First, add the $VALUES field
 		List<Modifier> modifiers = new ArrayList<Modifier>();
 		modifiers.add(Modifier.ACC_PRIVATE);
@@ -121,10 +126,12 @@ public class EnumRewrite {
 	}
 
 	protected void doClass(JavaClass c) {
+		enclosingClass.push(c);
 		List<Decl> declarations = c.declarations();
 		for(int i=0;i!=declarations.size();++i) {
 			doDeclaration(declarations.get(i));
 		}
+		enclosingClass.pop();
 	}
 
 	protected void doMethod(JavaMethod d) {
@@ -149,51 +156,81 @@ public class EnumRewrite {
 	}
 
 	protected void doStatement(Stmt e) {
-		if(e instanceof Stmt.SynchronisedBlock) {
-			doSynchronisedBlock((Stmt.SynchronisedBlock)e);
-		} else if(e instanceof Stmt.TryCatchBlock) {
-			doTryCatchBlock((Stmt.TryCatchBlock)e);
-		} else if(e instanceof Stmt.Block) {
-			doBlock((Stmt.Block)e);
-		} else if(e instanceof Stmt.VarDef) {
-			doVarDef((Stmt.VarDef) e);
-		} else if(e instanceof Stmt.Assignment) {
-			doAssignment((Stmt.Assignment) e);
-		} else if(e instanceof Stmt.Return) {
-			doReturn((Stmt.Return) e);
-		} else if(e instanceof Stmt.Throw) {
-			doThrow((Stmt.Throw) e);
-		} else if(e instanceof Stmt.Assert) {
-			doAssert((Stmt.Assert) e);
-		} else if(e instanceof Stmt.Break) {
-			doBreak((Stmt.Break) e);
-		} else if(e instanceof Stmt.Continue) {
-			doContinue((Stmt.Continue) e);
-		} else if(e instanceof Stmt.Label) {
-			doLabel((Stmt.Label) e);
-		} else if(e instanceof Stmt.If) {
-			doIf((Stmt.If) e);
-		} else if(e instanceof Stmt.For) {
-			doFor((Stmt.For) e);
-		} else if(e instanceof Stmt.ForEach) {
-			doForEach((Stmt.ForEach) e);
-		} else if(e instanceof Stmt.While) {
-			doWhile((Stmt.While) e);
-		} else if(e instanceof Stmt.DoWhile) {
-			doDoWhile((Stmt.DoWhile) e);
-		} else if(e instanceof Stmt.Switch) {
-			doSwitch((Stmt.Switch) e);
-		} else if(e instanceof Expr.Invoke) {
-			doInvoke((Expr.Invoke) e);
-		} else if(e instanceof Expr.New) {
-			doNew((Expr.New) e);
-		} else if(e instanceof Decl.JavaClass) {
-			doClass((Decl.JavaClass)e);
-		} else if(e instanceof Stmt.PrePostIncDec) {
-			doExpression((Stmt.PrePostIncDec)e);
-		} else if(e != null) {
-			internal_error("invalid statement encountered: "
-					+ e.getClass(),e);
+		if(e != null) {
+			switch(e.kind()) {
+			case Kind.SYNCHRONISED_BLOCK:
+				doSynchronisedBlock((Stmt.SynchronisedBlock)e);
+				break;
+			case Kind.TRY_CATCH_BLOCK:
+				doTryCatchBlock((Stmt.TryCatchBlock)e);
+				break;
+			case Kind.BLOCK:
+			case Kind.CATCH_BLOCK:
+			case Kind.INITIALISER_BLOCK:
+			case Kind.STATIC_INITIALISER_BLOCK:
+				doBlock((Stmt.Block)e);
+				break;
+			case Kind.VAR_DEF:
+				doVarDef((Stmt.VarDef) e);
+				break;
+			case Kind.ASSIGNMENT:
+			case Kind.ASSIGNMENT_OP:
+				doAssignment((Stmt.Assignment) e);
+				break;
+			case Kind.RETURN:
+				doReturn((Stmt.Return) e);
+				break;
+			case Kind.THROW:
+				doThrow((Stmt.Throw) e);
+				break;
+			case Kind.ASSERT:
+				doAssert((Stmt.Assert) e);
+				break;
+			case Kind.BREAK:
+				doBreak((Stmt.Break) e);
+				break;
+			case Kind.CONTINUE:
+				doContinue((Stmt.Continue) e);
+				break;
+			case Kind.LABEL:
+				doLabel((Stmt.Label) e);
+				break;
+			case Kind.IF:
+				doIf((Stmt.If) e);
+				break;
+			case Kind.FOR:
+				doFor((Stmt.For) e);
+				break;
+			case Kind.FOR_EACH:
+				doForEach((Stmt.ForEach) e);
+				break;
+			case Kind.WHILE:
+				doWhile((Stmt.While) e);
+				break;
+			case Kind.DO_WHILE:
+				doDoWhile((Stmt.DoWhile) e);
+				break;
+			case Kind.SWITCH:
+				doSwitch((Stmt.Switch) e);
+				break;
+			case Kind.INVOKE:
+				doInvoke((Expr.Invoke) e);
+				break;
+			case Kind.NEW:
+				doNew((Expr.New) e);
+				break;
+			case Kind.JAVA_CLASS:
+			case Kind.JAVA_INTERFACE:
+			case Kind.JAVA_ENUM:
+				doClass((Decl.JavaClass)e);
+				break;
+			case Kind.PRE_POST_INC_DEC:
+				doExpression((Stmt.PrePostIncDec)e);
+				break;
+			default:
+				internal_error("invalid statement encountered: "
+						+ e.getClass(),e);
+			}
 		}
 	}
 
@@ -285,6 +322,43 @@ public class EnumRewrite {
 		doStatement(stmt.body());
 	}
 
+	/**
+	 * <p>
+	 * A switch over an enumeration is turned into a switch over an int, which
+	 * can then be compiled into a tableswitch. The obvious approach is to
+	 * switch on the ordinal of the constant. However, the ordinals are only
+	 * known when the enumeration is compiled, and they may change if it is
+	 * recompiled without recompiling this class (e.g. when constants are
+	 * added or reordered). Therefore, the enclosing class is given a switch
+	 * map, which maps the ordinal of each constant to its position in the
+	 * enumeration as it was at compile time. For example:
+	 * </p>
+	 *
+	 * <pre>
+	 * switch(c) {
+	 *  case RED: ...
+	 *  case BLUE: ...
+	 * }
+	 * </pre>
+	 *
+	 * <p>
+	 * becomes (for enum Color { RED, GREEN, BLUE }):
+	 * </p>
+	 *
+	 * <pre>
+	 * switch($SWITCH_TABLE$Color()[c.ordinal()]) {
+	 *  case 1: ...
+	 *  case 3: ...
+	 * }
+	 * </pre>
+	 *
+	 * <p>
+	 * The map is built lazily, on the first switch over the enumeration (see
+	 * createSwitchMap()), and is shared between all such switches in the
+	 * class. A constant which is missing from the map is mapped to 0, and so
+	 * goes to the default case.
+	 * </p>
+	 */
 	protected void doSwitch(Stmt.Switch sw) {
 		sw.setCondition(doExpression(sw.condition()));
 		for(Case c : sw.cases()) {
@@ -293,68 +367,271 @@ public class EnumRewrite {
 				doStatement(s);
 			}
 		}
+
+		Type type = sw.condition().attribute(Type.class);
+		if(!(type instanceof Type.Clazz)) {
+			return;
+		}
+
+		try {
+			Type.Clazz etype = (Type.Clazz) type;
+			Clazz ec = loader.loadClass(etype);
+			if(!ec.hasModifier(Modifier.Enum.class)) {
+				return;
+			}
+			SourceLocation loc = sw.attribute(SourceLocation.class);
+			JavaClass c = enclosingClass.peek();
+			String name = createSwitchMap(c, etype, ec, loc);
+
+			List<String> constants = enumConstants(ec);
+			for(Case cs : sw.cases()) {
+				if(cs.condition() != null) {
+					String constant = ((Expr.Deref) cs.condition()).name();
+					cs.setCondition(new Value.Int(
+							constants.indexOf(constant) + 1, Types.T_INT));
+				}
+			}
+
+			Type.Clazz ctype = c.attribute(Type.Clazz.class);
+			Type.Function ftype = new Type.Function(MAP_TYPE);
+			Expr.ClassVariable thisClass = new Expr.ClassVariable(ctype
+					.toString(), loc, ctype);
+			Expr.Invoke map = new Expr.Invoke(thisClass, name,
+					new ArrayList<Expr>(),
+					new ArrayList<jkit.java.tree.Type>(), loc, MAP_TYPE);
+			map.attributes().add(new JilBuilder.MethodInfo(
+					new ArrayList<Type.Clazz>(), ftype));
+			Expr.Invoke ordinal = new Expr.Invoke(sw.condition(), "ordinal",
+					new ArrayList<Expr>(),
+					new ArrayList<jkit.java.tree.Type>(), loc, Types.T_INT);
+			ordinal.attributes().add(new JilBuilder.MethodInfo(
+					new ArrayList<Type.Clazz>(), new Type.Function(Types.T_INT)));
+			sw.setCondition(new Expr.ArrayIndex(map, ordinal, loc,
+					Types.T_INT));
+		} catch(ClassNotFoundException ex) {
+			internal_error(sw,ex);
+		}
+	}
+
+	private static final Type.Array MAP_TYPE = new Type.Array(Types.T_INT);
+
+	/**
+	 * Get the names of the constants of an enumeration, in the order they are
+	 * declared.
+	 */
+	protected List<String> enumConstants(Clazz ec) {
+		ArrayList<String> r = new ArrayList<String>();
+		for(Clazz.Field f : ec.fields()) {
+			if(f.hasModifier(Modifier.Enum.class)) {
+				r.add(f.name());
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * Add to a class a switch map for a given enumeration, unless it already
+	 * has one. The map is held in a synthetic static field, and is created by
+	 * a synthetic static method of the same name, which looks like this:
+	 *
+	 * <pre>
+	 * static int[] $SWITCH_TABLE$Color() {
+	 *  int[] map = $SWITCH_TABLE$Color;
+	 *  if(map != null) { return map; }
+	 *  map = new int[Color.values().length];
+	 *  try { map[Color.RED.ordinal()] = 1; } catch(NoSuchFieldError e) {}
+	 *  try { map[Color.GREEN.ordinal()] = 2; } catch(NoSuchFieldError e) {}
+	 *  try { map[Color.BLUE.ordinal()] = 3; } catch(NoSuchFieldError e) {}
+	 *  $SWITCH_TABLE$Color = map;
+	 *  return map;
+	 * }
+	 * </pre>
+	 *
+	 * <p>
+	 * A constant which has since been removed from the enumeration is simply
+	 * left out of the map.
+	 * </p>
+	 *
+	 * @return the name of the field and method.
+	 */
+	protected String createSwitchMap(JavaClass c, Type.Clazz etype,
+			Clazz ec, SourceLocation loc) throws ClassNotFoundException {
+		String name = "$SWITCH_TABLE$";
+		if(!etype.pkg().equals("")) {
+			name += etype.pkg().replace('.', '$') + "$";
+		}
+		boolean firstTime = true;
+		for(Pair<String, List<Type.Reference>> p : etype.components()) {
+			if(!firstTime) {
+				name += "$";
+			}
+			firstTime = false;
+			name += p.first();
+		}
+
+		Type.Clazz ctype = c.attribute(Type.Clazz.class);
+		JilClass skeleton = (JilClass) loader.loadClass(ctype);
+		if(skeleton.field(name) != null) {
+			return name;
+		}
+
+		// First, add the field
+		List<Modifier> modifiers = new ArrayList<Modifier>();
+		modifiers.add(Modifier.ACC_PRIVATE);
+		modifiers.add(Modifier.ACC_STATIC);
+		modifiers.add(Modifier.ACC_SYNTHETIC);
+		skeleton.fields().add(new JilField(name, MAP_TYPE, modifiers));
+
+		// Second, create the method
+		jkit.java.tree.Type.Int jintType = new jkit.java.tree.Type.Int();
+		jintType.attributes().add(Types.T_INT);
+		jkit.java.tree.Type.Array jmapType = new jkit.java.tree.Type.Array(
+				jintType);
+		jmapType.attributes().add(MAP_TYPE);
+		Expr.ClassVariable thisClass = new Expr.ClassVariable(ctype
+				.toString(), loc, ctype);
+		Expr.ClassVariable enumClass = new Expr.ClassVariable(etype
+				.toString(), loc, etype);
+		ArrayList<Stmt> stmts = new ArrayList<Stmt>();
+
+		ArrayList<Triple<String, Integer, Expr>> defs = new ArrayList<Triple<String, Integer, Expr>>();
+		defs.add(new Triple<String, Integer, Expr>("map", 0, new Expr.Deref(
+				thisClass, name, loc, MAP_TYPE)));
+		stmts.add(new Stmt.VarDef(new ArrayList<Modifier>(), jmapType, defs,
+				loc));
+
+		Expr.BinOp cond = new Expr.BinOp(Expr.BinOp.NEQ,
+				new Expr.LocalVariable("map", loc, MAP_TYPE), new Value.Null(
+						loc, Types.T_NULL), loc, Types.T_BOOL);
+		stmts.add(new Stmt.If(cond, new Stmt.Return(new Expr.LocalVariable(
+				"map", loc, MAP_TYPE), loc), null, loc));
+
+		Type.Array valuesType = new Type.Array(etype);
+		Expr.Invoke values = new Expr.Invoke(enumClass, "values",
+				new ArrayList<Expr>(), new ArrayList<jkit.java.tree.Type>(),
+				loc, valuesType);
+		values.attributes().add(new JilBuilder.MethodInfo(
+				new ArrayList<Type.Clazz>(), new Type.Function(valuesType)));
+		ArrayList<Expr> arguments = new ArrayList<Expr>();
+		arguments.add(new Expr.Deref(values, "length", loc, Types.T_INT));
+		Expr.New anew = new Expr.New(jmapType, null, arguments,
+				new ArrayList<Decl>(), loc, MAP_TYPE);
+		stmts.add(new Stmt.Assignment(new Expr.LocalVariable("map", loc,
+				MAP_TYPE), anew, loc));
+
+		Type.Clazz errorType = new Type.Clazz("java.lang", "NoSuchFieldError");
+		Type.Function ordinalType = new Type.Function(Types.T_INT);
+		int i = 1;
+		for(String constant : enumConstants(ec)) {
+			Expr.Invoke ordinal = new Expr.Invoke(new Expr.Deref(enumClass,
+					constant, loc, etype), "ordinal", new ArrayList<Expr>(),
+					new ArrayList<jkit.java.tree.Type>(), loc, Types.T_INT);
+			ordinal.attributes().add(new JilBuilder.MethodInfo(
+					new ArrayList<Type.Clazz>(), ordinalType));
+			Expr.ArrayIndex element = new Expr.ArrayIndex(
+					new Expr.LocalVariable("map", loc, MAP_TYPE), ordinal,
+					loc, Types.T_INT);
+			ArrayList<Stmt> body = new ArrayList<Stmt>();
+			body.add(new Stmt.Assignment(element, new Value.Int(i++,
+					Types.T_INT), loc));
+
+			jkit.java.tree.Type.Clazz jerrorType = new jkit.java.tree.Type.Clazz(
+					"java.lang.NoSuchFieldError", loc);
+			jerrorType.attributes().add(errorType);
+			ArrayList<Stmt.CatchBlock> handlers = new ArrayList<Stmt.CatchBlock>();
+			handlers.add(new Stmt.CatchBlock(jerrorType, "e",
+					new ArrayList<Stmt>(), loc));
+			stmts.add(new Stmt.TryCatchBlock(handlers, null, body, loc));
+		}
+
+		stmts.add(new Stmt.Assignment(new Expr.Deref(thisClass, name, loc,
+				MAP_TYPE), new Expr.LocalVariable("map", loc, MAP_TYPE), loc));
+		stmts.add(new Stmt.Return(new Expr.LocalVariable("map", loc,
+				MAP_TYPE), loc));
+
+		Type.Function ftype = new Type.Function(MAP_TYPE);
+		Decl.JavaMethod m = new Decl.JavaMethod(
+				new ArrayList<Modifier>(modifiers), name, jmapType,
+				new ArrayList<Decl.JavaParameter>(), false,
+				new ArrayList<jkit.java.tree.Type.Variable>(),
+				new ArrayList<jkit.java.tree.Type.Clazz>(), new Stmt.Block(
+						stmts, loc), loc);
+		m.attributes().add(ftype);
+		c.declarations().add(m);
+
+		skeleton.methods().add(
+				new JilMethod(name, ftype, new ArrayList<JilMethod.JilParameter>(),
+						new ArrayList<Modifier>(modifiers),
+						new ArrayList<Type.Clazz>(), loc));
+
+		return name;
 	}
 
 	protected Expr doExpression(Expr e) {
 		try {
-			if(e instanceof Value.Bool) {
-				return doBoolVal((Value.Bool)e);
-			} else if(e instanceof Value.Byte) {
-				return doByteVal((Value.Byte)e);
-			} else if(e instanceof Value.Char) {
-				return doCharVal((Value.Char)e);
-			} else if(e instanceof Value.Short) {
-				return doShortVal((Value.Short)e);
-			} else if(e instanceof Value.Int) {
-				return doIntVal((Value.Int)e);
-			} else if(e instanceof Value.Long) {
-				return doLongVal((Value.Long)e);
-			} else if(e instanceof Value.Float) {
-				return doFloatVal((Value.Float)e);
-			} else if(e instanceof Value.Double) {
-				return doDoubleVal((Value.Double)e);
-			} else if(e instanceof Value.String) {
-				return doStringVal((Value.String)e);
-			} else if(e instanceof Value.Null) {
-				return doNullVal((Value.Null)e);
-			} else if(e instanceof Value.TypedArray) {
-				return doTypedArrayVal((Value.TypedArray)e);
-			} else if(e instanceof Value.Array) {
-				return doArrayVal((Value.Array)e);
-			} else if(e instanceof Value.Class) {
-				return doClassVal((Value.Class) e);
-			} else if(e instanceof Expr.LocalVariable) {
-				return doLocalVariable((Expr.LocalVariable)e);
-			} else if(e instanceof Expr.NonLocalVariable) {
-				return doNonLocalVariable((Expr.NonLocalVariable)e);
-			} else if(e instanceof Expr.ClassVariable) {
-				return doClassVariable((Expr.ClassVariable)e);
-			} else if(e instanceof Expr.UnOp) {
-				return doUnOp((Expr.UnOp)e);
-			} else if(e instanceof Expr.BinOp) {
-				return doBinOp((Expr.BinOp)e);
-			} else if(e instanceof Expr.TernOp) {
-				return doTernOp((Expr.TernOp)e);
-			} else if(e instanceof Expr.Cast) {
-				return doCast((Expr.Cast)e);
-			} else if(e instanceof Expr.Convert) {
-				return doConvert((Expr.Convert)e);
-			} else if(e instanceof Expr.InstanceOf) {
-				return doInstanceOf((Expr.InstanceOf)e);
-			} else if(e instanceof Expr.Invoke) {
-				return doInvoke((Expr.Invoke) e);
-			} else if(e instanceof Expr.New) {
-				return doNew((Expr.New) e);
-			} else if(e instanceof Expr.ArrayIndex) {
-				return doArrayIndex((Expr.ArrayIndex) e);
-			} else if(e instanceof Expr.Deref) {
-				return doDeref((Expr.Deref) e);
-			} else if(e instanceof Stmt.Assignment) {
-				// force brackets
-				return doAssignment((Stmt.Assignment) e);
-			} else if(e != null) {
-				internal_error("invalid expression encountered: "
-						+ e.getClass(),e);
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.BOOL:
+					return doBoolVal((Value.Bool)e);
+				case Kind.BYTE:
+					return doByteVal((Value.Byte)e);
+				case Kind.CHAR:
+					return doCharVal((Value.Char)e);
+				case Kind.SHORT:
+					return doShortVal((Value.Short)e);
+				case Kind.INT:
+					return doIntVal((Value.Int)e);
+				case Kind.LONG:
+					return doLongVal((Value.Long)e);
+				case Kind.FLOAT:
+					return doFloatVal((Value.Float)e);
+				case Kind.DOUBLE:
+					return doDoubleVal((Value.Double)e);
+				case Kind.STRING:
+					return doStringVal((Value.String)e);
+				case Kind.NULL:
+					return doNullVal((Value.Null)e);
+				case Kind.TYPED_ARRAY:
+					return doTypedArrayVal((Value.TypedArray)e);
+				case Kind.ARRAY:
+					return doArrayVal((Value.Array)e);
+				case Kind.CLASS:
+					return doClassVal((Value.Class) e);
+				case Kind.LOCAL_VARIABLE:
+					return doLocalVariable((Expr.LocalVariable)e);
+				case Kind.NON_LOCAL_VARIABLE:
+					return doNonLocalVariable((Expr.NonLocalVariable)e);
+				case Kind.CLASS_VARIABLE:
+					return doClassVariable((Expr.ClassVariable)e);
+				case Kind.UNOP:
+				case Kind.PRE_POST_INC_DEC:
+					return doUnOp((Expr.UnOp)e);
+				case Kind.BINOP:
+					return doBinOp((Expr.BinOp)e);
+				case Kind.TERNOP:
+					return doTernOp((Expr.TernOp)e);
+				case Kind.CAST:
+					return doCast((Expr.Cast)e);
+				case Kind.CONVERT:
+					return doConvert((Expr.Convert)e);
+				case Kind.INSTANCE_OF:
+					return doInstanceOf((Expr.InstanceOf)e);
+				case Kind.INVOKE:
+					return doInvoke((Expr.Invoke) e);
+				case Kind.NEW:
+					return doNew((Expr.New) e);
+				case Kind.ARRAY_INDEX:
+					return doArrayIndex((Expr.ArrayIndex) e);
+				case Kind.DEREF:
+					return doDeref((Expr.Deref) e);
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					// force brackets
+					return doAssignment((Stmt.Assignment) e);
+				default:
+					internal_error("invalid expression encountered: "
+							+ e.getClass(),e);
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -212,51 +212,80 @@ public class InnerClassRewrite {
 	
 	protected Stmt doStatement(Stmt e) {
 		try {
-			if(e instanceof Stmt.SynchronisedBlock) {
-				doSynchronisedBlock((Stmt.SynchronisedBlock)e);
-			} else if(e instanceof Stmt.TryCatchBlock) {
-				doTryCatchBlock((Stmt.TryCatchBlock)e);
-			} else if(e instanceof Stmt.Block) {
-				doBlock((Stmt.Block)e);
-			} else if(e instanceof Stmt.VarDef) {
-				doVarDef((Stmt.VarDef) e);
-			} else if(e instanceof Stmt.Assignment) {
-				return (Stmt) doAssignment((Stmt.Assignment) e);
-			} else if(e instanceof Stmt.Return) {
-				doReturn((Stmt.Return) e);
-			} else if(e instanceof Stmt.Throw) {
-				doThrow((Stmt.Throw) e);
-			} else if(e instanceof Stmt.Assert) {
-				doAssert((Stmt.Assert) e);
-			} else if(e instanceof Stmt.Break) {
-				doBreak((Stmt.Break) e);
-			} else if(e instanceof Stmt.Continue) {
-				doContinue((Stmt.Continue) e);
-			} else if(e instanceof Stmt.Label) {
-				doLabel((Stmt.Label) e);
-			} else if(e instanceof Stmt.If) {
-				doIf((Stmt.If) e);
-			} else if(e instanceof Stmt.For) {
-				doFor((Stmt.For) e);
-			} else if(e instanceof Stmt.ForEach) {
-				doForEach((Stmt.ForEach) e);
-			} else if(e instanceof Stmt.While) {
-				doWhile((Stmt.While) e);
-			} else if(e instanceof Stmt.DoWhile) {
-				doDoWhile((Stmt.DoWhile) e);
-			} else if(e instanceof Stmt.Switch) {
-				doSwitch((Stmt.Switch) e);
-			} else if(e instanceof Expr.Invoke) {
-				doInvoke((Expr.Invoke) e);
-			} else if(e instanceof Expr.New) {
-				doNew((Expr.New) e);
-			} else if(e instanceof Decl.JavaClass) {
-				doClass((Decl.JavaClass)e);
-			} else if(e instanceof Stmt.PrePostIncDec) {
-				doExpression((Stmt.PrePostIncDec)e);
-			} else if(e != null) {
-				internal_error("invalid statement encountered: "
-						+ e.getClass(),e);
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.SYNCHRONISED_BLOCK:
+					doSynchronisedBlock((Stmt.SynchronisedBlock)e);
+					break;
+				case Kind.TRY_CATCH_BLOCK:
+					doTryCatchBlock((Stmt.TryCatchBlock)e);
+					break;
+				case Kind.BLOCK:
+				case Kind.CATCH_BLOCK:
+				case Kind.INITIALISER_BLOCK:
+				case Kind.STATIC_INITIALISER_BLOCK:
+					doBlock((Stmt.Block)e);
+					break;
+				case Kind.VAR_DEF:
+					doVarDef((Stmt.VarDef) e);
+					break;
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					return (Stmt) doAssignment((Stmt.Assignment) e);
+				case Kind.RETURN:
+					doReturn((Stmt.Return) e);
+					break;
+				case Kind.THROW:
+					doThrow((Stmt.Throw) e);
+					break;
+				case Kind.ASSERT:
+					doAssert((Stmt.Assert) e);
+					break;
+				case Kind.BREAK:
+					doBreak((Stmt.Break) e);
+					break;
+				case Kind.CONTINUE:
+					doContinue((Stmt.Continue) e);
+					break;
+				case Kind.LABEL:
+					doLabel((Stmt.Label) e);
+					break;
+				case Kind.IF:
+					doIf((Stmt.If) e);
+					break;
+				case Kind.FOR:
+					doFor((Stmt.For) e);
+					break;
+				case Kind.FOR_EACH:
+					doForEach((Stmt.ForEach) e);
+					break;
+				case Kind.WHILE:
+					doWhile((Stmt.While) e);
+					break;
+				case Kind.DO_WHILE:
+					doDoWhile((Stmt.DoWhile) e);
+					break;
+				case Kind.SWITCH:
+					doSwitch((Stmt.Switch) e);
+					break;
+				case Kind.INVOKE:
+					doInvoke((Expr.Invoke) e);
+					break;
+				case Kind.NEW:
+					doNew((Expr.New) e);
+					break;
+				case Kind.JAVA_CLASS:
+				case Kind.JAVA_INTERFACE:
+				case Kind.JAVA_ENUM:
+					doClass((Decl.JavaClass)e);
+					break;
+				case Kind.PRE_POST_INC_DEC:
+					doExpression((Stmt.PrePostIncDec)e);
+					break;
+				default:
+					internal_error("invalid statement encountered: "
+							+ e.getClass(),e);
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -455,61 +484,66 @@ public class InnerClassRewrite {
 	
 	protected Expr doExpression(Expr e) {	
 		try {
-			if(e instanceof Value.Bool) {
-				return doBoolVal((Value.Bool)e);
-			} if(e instanceof Value.Byte) {
-				return doByteVal((Value.Byte)e);
-			} else if(e instanceof Value.Char) {
-				return doCharVal((Value.Char)e);
-			} else if(e instanceof Value.Short) {
-				return doShortVal((Value.Short)e);
-			} else if(e instanceof Value.Int) {
-				return doIntVal((Value.Int)e);
-			} else if(e instanceof Value.Long) {
-				return doLongVal((Value.Long)e);
-			} else if(e instanceof Value.Float) {
-				return doFloatVal((Value.Float)e);
-			} else if(e instanceof Value.Double) {
-				return doDoubleVal((Value.Double)e);
-			} else if(e instanceof Value.String) {
-				return doStringVal((Value.String)e);
-			} else if(e instanceof Value.Null) {
-				return doNullVal((Value.Null)e);
-			} else if(e instanceof Value.TypedArray) {
-				return doTypedArrayVal((Value.TypedArray)e);
-			} else if(e instanceof Value.Array) {
-				return doArrayVal((Value.Array)e);
-			} else if(e instanceof Value.Class) {
-				return doClassVal((Value.Class) e);
-			} else if(e instanceof Expr.LocalVariable) {
-				return doLocalVariable((Expr.LocalVariable)e);
-			} else if(e instanceof Expr.NonLocalVariable) {
-				return doNonLocalVariable((Expr.NonLocalVariable)e);
-			} else if(e instanceof Expr.ClassVariable) {
-				return doClassVariable((Expr.ClassVariable)e);
-			} else if(e instanceof Expr.UnOp) {
-				return doUnOp((Expr.UnOp)e);
-			} else if(e instanceof Expr.BinOp) {
-				return doBinOp((Expr.BinOp)e);
-			} else if(e instanceof Expr.TernOp) {	
-				return doTernOp((Expr.TernOp)e);
-			} else if(e instanceof Expr.Cast) {
-				return doCast((Expr.Cast)e);
-			} else if(e instanceof Expr.Convert) {
-				return doConvert((Expr.Convert)e);
-			} else if(e instanceof Expr.InstanceOf) {
-				return doInstanceOf((Expr.InstanceOf)e);
-			} else if(e instanceof Expr.Invoke) {
-				return doInvoke((Expr.Invoke) e);
-			} else if(e instanceof Expr.New) {
-				return doNew((Expr.New) e);
-			} else if(e instanceof Expr.ArrayIndex) {
-				return doArrayIndex((Expr.ArrayIndex) e);
-			} else if(e instanceof Expr.Deref) {
-				return doDeref((Expr.Deref) e);
-			} else if(e instanceof Stmt.Assignment) {
-				// force brackets			
-				return doAssignment((Stmt.Assignment) e);			
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.BOOL:
+					return doBoolVal((Value.Bool)e);
+				case Kind.BYTE:
+					return doByteVal((Value.Byte)e);
+				case Kind.CHAR:
+					return doCharVal((Value.Char)e);
+				case Kind.SHORT:
+					return doShortVal((Value.Short)e);
+				case Kind.INT:
+					return doIntVal((Value.Int)e);
+				case Kind.LONG:
+					return doLongVal((Value.Long)e);
+				case Kind.FLOAT:
+					return doFloatVal((Value.Float)e);
+				case Kind.DOUBLE:
+					return doDoubleVal((Value.Double)e);
+				case Kind.STRING:
+					return doStringVal((Value.String)e);
+				case Kind.NULL:
+					return doNullVal((Value.Null)e);
+				case Kind.TYPED_ARRAY:
+					return doTypedArrayVal((Value.TypedArray)e);
+				case Kind.ARRAY:
+					return doArrayVal((Value.Array)e);
+				case Kind.CLASS:
+					return doClassVal((Value.Class) e);
+				case Kind.LOCAL_VARIABLE:
+					return doLocalVariable((Expr.LocalVariable)e);
+				case Kind.NON_LOCAL_VARIABLE:
+					return doNonLocalVariable((Expr.NonLocalVariable)e);
+				case Kind.CLASS_VARIABLE:
+					return doClassVariable((Expr.ClassVariable)e);
+				case Kind.UNOP:
+				case Kind.PRE_POST_INC_DEC:
+					return doUnOp((Expr.UnOp)e);
+				case Kind.BINOP:
+					return doBinOp((Expr.BinOp)e);
+				case Kind.TERNOP:
+					return doTernOp((Expr.TernOp)e);
+				case Kind.CAST:
+					return doCast((Expr.Cast)e);
+				case Kind.CONVERT:
+					return doConvert((Expr.Convert)e);
+				case Kind.INSTANCE_OF:
+					return doInstanceOf((Expr.InstanceOf)e);
+				case Kind.INVOKE:
+					return doInvoke((Expr.Invoke) e);
+				case Kind.NEW:
+					return doNew((Expr.New) e);
+				case Kind.ARRAY_INDEX:
+					return doArrayIndex((Expr.ArrayIndex) e);
+				case Kind.DEREF:
+					return doDeref((Expr.Deref) e);
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					// force brackets			
+					return doAssignment((Stmt.Assignment) e);			
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -26,6 +26,7 @@ import java.util.*;
 import static jkit.compiler.SyntaxError.*;
 import static jkit.jil.util.Exprs.*;
 import static jkit.jil.util.Types.*;
+import jkit.compiler.AttributeKey;
 import jkit.compiler.ClassLoader;
 import jkit.compiler.Clazz;
 import jkit.compiler.SyntacticAttribute;
@@ -36,6 +37,7 @@ import jkit.jil.tree.*;
 import jkit.jil.tree.Type;
 import jkit.jil.util.Types;
 import jkit.util.Pair;
+import jkit.util.ScopeStack;
 import jkit.util.Triple;
 
 /**
@@ -61,6 +63,9 @@ public class JilBuilder {
 	 * 
 	 */
 	public static class MethodInfo implements SyntacticAttribute {
+		public static final AttributeKey<MethodInfo> KEY = AttributeKey
+				.register(MethodInfo.class);
+		
 		public final ArrayList<Type.Clazz> exceptions;
 		public Type.Function type;
 
@@ -109,7 +114,7 @@ public class JilBuilder {
 		}
 	}
 	
-	private final Stack<Scope> scopes = new Stack<Scope>();
+	private final ScopeStack<Scope,LabelScope> scopes = new ScopeStack<Scope,LabelScope>();
 	
 	public JilBuilder(ClassLoader loader, TypeSystem types) {
 		this.loader = loader;
@@ -125,21 +130,30 @@ public class JilBuilder {
 	
 	protected void doDeclaration(Decl d, JilClass parent) {
 		try {
-			if(d instanceof Decl.JavaInterface) {
+			switch(d.kind()) {
+			case Kind.JAVA_INTERFACE:
 				doInterface((Decl.JavaInterface)d);
-			} else if(d instanceof Decl.JavaEnum) {
+				break;
+			case Kind.JAVA_ENUM:
 				doEnum((Decl.JavaEnum)d);
-			} else if(d instanceof Decl.JavaClass) {
+				break;
+			case Kind.JAVA_CLASS:
 				doClass((Decl.JavaClass)d);
-			} else if(d instanceof Decl.JavaMethod) {				
+				break;
+			case Kind.JAVA_METHOD:
+			case Kind.JAVA_CONSTRUCTOR:
 				doMethod((Decl.JavaMethod)d, parent);
-			} else if(d instanceof Decl.JavaField) {
+				break;
+			case Kind.JAVA_FIELD:
 				doField((Decl.JavaField)d, parent);
-			} else if (d instanceof Decl.InitialiserBlock) {
+				break;
+			case Kind.INITIALISER_BLOCK:
 				doInitialiserBlock((Decl.InitialiserBlock)d , parent);
-			} else if (d instanceof Decl.StaticInitialiserBlock) {
+				break;
+			case Kind.STATIC_INITIALISER_BLOCK:
 				doStaticInitialiserBlock((Decl.StaticInitialiserBlock) d, parent);
-			} else {
+				break;
+			default:
 				syntax_error("internal failure (unknown declaration \"" + d
 						+ "\" encountered)", d);
 			}
@@ -194,6 +208,7 @@ public class JilBuilder {
 
 	protected void doMethod(Decl.JavaMethod d, JilClass parent) throws ClassNotFoundException {	
 		Type.Function type = d.attribute(Type.Function.class);
+		blankLocals = 0;
 		List<JilStmt> stmts = doStatement(d.body());		
 				
 		// simple hack here, for case when no return statement is provided.
@@ -289,6 +304,7 @@ public class JilBuilder {
 	
 	protected void doInitialiserBlock(Decl.InitialiserBlock d, JilClass parent) {
 		ArrayList<JilStmt> stmts = new ArrayList<JilStmt>();
+		blankLocals = 0;
 		
 		for (Stmt s : d.statements()) {
 			stmts.addAll(doStatement(s));
@@ -309,6 +325,7 @@ public class JilBuilder {
 	
 	protected void doStaticInitialiserBlock(Decl.StaticInitialiserBlock d, JilClass parent) {		
 		ArrayList<JilStmt> stmts = new ArrayList<JilStmt>();
+		blankLocals = 0;
 		for (Stmt s : d.statements()) {
 			stmts.addAll(doStatement(s));
 		}		
@@ -320,54 +337,66 @@ public class JilBuilder {
 	
 	protected List<JilStmt> doStatement(Stmt e) {
 		try {
-			if(e instanceof Stmt.SynchronisedBlock) {
-				return doSynchronisedBlock((Stmt.SynchronisedBlock)e);
-			} else if(e instanceof Stmt.TryCatchBlock) {
-				return doTryCatchBlock((Stmt.TryCatchBlock)e);
-			} else if(e instanceof Stmt.Block) {
-				return doBlock((Stmt.Block)e);
-			} else if(e instanceof Stmt.VarDef) {
-				return doVarDef((Stmt.VarDef) e);
-			} else if(e instanceof Stmt.Assignment) {
-				return doAssignment((Stmt.Assignment) e).second();
-			} else if(e instanceof Stmt.Return) {
-				return doReturn((Stmt.Return) e);
-			} else if(e instanceof Stmt.Throw) {
-				return doThrow((Stmt.Throw) e);
-			} else if(e instanceof Stmt.Assert) {
-				return doAssert((Stmt.Assert) e);
-			} else if(e instanceof Stmt.Break) {
-				return doBreak((Stmt.Break) e);
-			} else if(e instanceof Stmt.Continue) {
-				return doContinue((Stmt.Continue) e);
-			} else if(e instanceof Stmt.Label) {
-				return doLabel((Stmt.Label) e);
-			} else if(e instanceof Stmt.If) {
-				return doIf((Stmt.If) e);
-			} else if(e instanceof Stmt.For) {
-				return doFor((Stmt.For) e);
-			} else if(e instanceof Stmt.ForEach) {
-				return doForEach((Stmt.ForEach) e);
-			} else if(e instanceof Stmt.While) {
-				return doWhile((Stmt.While) e);
-			} else if(e instanceof Stmt.DoWhile) {
-				return doDoWhile((Stmt.DoWhile) e);
-			} else if(e instanceof Stmt.Switch) {
-				return doSwitch((Stmt.Switch) e);
-			} else if(e instanceof Expr.Invoke) {
-				Pair<JilExpr, List<JilStmt>> r = doInvoke((Expr.Invoke) e);
-				r.second().add((JilExpr.Invoke) r.first());
-				return r.second();
-			} else if(e instanceof Expr.New) {
-				Pair<JilExpr, List<JilStmt>> r =  doNew((Expr.New) e);
-				r.second().add((JilExpr.New) r.first());
-				return r.second();
-			} else if(e instanceof Decl.JavaClass) {
-				doClass((Decl.JavaClass)e);
-				return new ArrayList<JilStmt>();
-			} else if(e instanceof Stmt.PrePostIncDec) {
-				Pair<JilExpr, List<JilStmt>> r = doExpression((Stmt.PrePostIncDec) e);
-				return r.second();
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.SYNCHRONISED_BLOCK:
+					return doSynchronisedBlock((Stmt.SynchronisedBlock)e);
+				case Kind.TRY_CATCH_BLOCK:
+					return doTryCatchBlock((Stmt.TryCatchBlock)e);
+				case Kind.BLOCK:
+				case Kind.CATCH_BLOCK:
+				case Kind.INITIALISER_BLOCK:
+				case Kind.STATIC_INITIALISER_BLOCK:
+					return doBlock((Stmt.Block)e);
+				case Kind.VAR_DEF:
+					return doVarDef((Stmt.VarDef) e);
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					return doAssignment((Stmt.Assignment) e).second();
+				case Kind.RETURN:
+					return doReturn((Stmt.Return) e);
+				case Kind.THROW:
+					return doThrow((Stmt.Throw) e);
+				case Kind.ASSERT:
+					return doAssert((Stmt.Assert) e);
+				case Kind.BREAK:
+					return doBreak((Stmt.Break) e);
+				case Kind.CONTINUE:
+					return doContinue((Stmt.Continue) e);
+				case Kind.LABEL:
+					return doLabel((Stmt.Label) e);
+				case Kind.IF:
+					return doIf((Stmt.If) e);
+				case Kind.FOR:
+					return doFor((Stmt.For) e);
+				case Kind.FOR_EACH:
+					return doForEach((Stmt.ForEach) e);
+				case Kind.WHILE:
+					return doWhile((Stmt.While) e);
+				case Kind.DO_WHILE:
+					return doDoWhile((Stmt.DoWhile) e);
+				case Kind.SWITCH:
+					return doSwitch((Stmt.Switch) e);
+				case Kind.INVOKE: {
+					Pair<JilExpr, List<JilStmt>> r = doInvoke((Expr.Invoke) e);
+					r.second().add((JilExpr.Invoke) r.first());
+					return r.second();
+				}
+				case Kind.NEW: {
+					Pair<JilExpr, List<JilStmt>> r =  doNew((Expr.New) e);
+					r.second().add((JilExpr.New) r.first());
+					return r.second();
+				}
+				case Kind.JAVA_CLASS:
+				case Kind.JAVA_INTERFACE:
+				case Kind.JAVA_ENUM:
+					doClass((Decl.JavaClass)e);
+					return new ArrayList<JilStmt>();
+				case Kind.PRE_POST_INC_DEC: {
+					Pair<JilExpr, List<JilStmt>> r = doExpression((Stmt.PrePostIncDec) e);
+					return r.second();
+				}
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -428,6 +457,9 @@ public class JilBuilder {
 	
 	protected List<JilStmt> doTryCatchBlock(Stmt.TryCatchBlock block) {
 		String exitLab = "tryexit" + tryexit_label++;
+		// Any local variable declared without an initialiser before here may
+		// still be in scope after the try block (see addFinallyBlock()).
+		boolean share = blankLocals == 0;
 		ArrayList<JilStmt> r = new ArrayList<JilStmt>();
 		r.addAll(doBlock(block));
 		
@@ -472,7 +504,7 @@ public class JilBuilder {
 		if(!finallyBlock.isEmpty()) {
 			// Now, we add the finally block. This is done in a separate method
 			// because it's actually quite challenging.
-			addFinallyBlock(r,finallyBlock);			
+			addFinallyBlock(r,finallyBlock,share);			
 		}
 		
 		return r;
@@ -480,7 +512,73 @@ public class JilBuilder {
 	
 	protected static int finallyex_label = 0;
 	
-	protected void addFinallyBlock(List<JilStmt> block, List<JilStmt> finallyBlk) {
+	/**
+	 * The number of local variables declared without an initialiser so far, in
+	 * the method (or initialiser) being translated. See addFinallyBlock().
+	 */
+	protected int blankLocals = 0;
+	
+	/**
+	 * <p>
+	 * Add a finally block to a (translated) try block. Normal completion of the
+	 * block has its own copy of the finally block. The other exits (i.e.
+	 * returns, non-local branches and exceptions) may also each be given a copy
+	 * but, since nested try-finally statements with several exits then grow
+	 * multiplicatively, they share a single copy where this is smaller. In this
+	 * case, each exit records which exit it is in a selector variable, and
+	 * branches to the shared copy. This then dispatches on the selector to
+	 * complete the exit. For example:
+	 * </p>
+	 * 
+	 * <pre>
+	 * try {
+	 * 	if(x) { return y; }
+	 * 	f();
+	 * } finally { g(); }
+	 * </pre>
+	 * 
+	 * <p>
+	 * is translated (roughly, and assuming g() stands for a large block) as
+	 * follows:
+	 * </p>
+	 * 
+	 * <pre>
+	 *  $ret = 0; $ex = null;
+	 *  if(x) { $ret = y; $sel = 1; goto body; }
+	 *  f();
+	 *  g();
+	 *  goto exit;
+	 * body:
+	 *  g();
+	 *  switch($sel) { case 1: return $ret; default: throw $ex; }
+	 * handler:
+	 *  $ex = $; $sel = 2; goto body;
+	 * exit:
+	 * </pre>
+	 * 
+	 * <p>
+	 * Note that the return value is computed before the finally block is
+	 * executed. The variables holding the return value and the exception are
+	 * initialised before the try block, since the bytecode verifier requires
+	 * them to have a type on every path reaching the shared copy.
+	 * </p>
+	 * 
+	 * <p>
+	 * The exits cannot share a copy when a local variable declared without an
+	 * initialiser may be in scope. This is because such a variable may be
+	 * assigned before some exits, but not others. Since these exits meet at
+	 * the shared copy, neither the definite assignment analysis (see
+	 * VariableDefinitions) nor the bytecode verifier would then accept a use of
+	 * the variable after the exit.
+	 * </p>
+	 * 
+	 * @param block
+	 * @param finallyBlk
+	 * @param share
+	 *            whether or not the exits may share a copy of the finally block.
+	 */
+	protected void addFinallyBlock(List<JilStmt> block,
+			List<JilStmt> finallyBlk, boolean share) {
 		// So, to add the finally block properly, we need to iterate through the
 		// block and find any situations where we exit the block. This includes
 		// return statements, branches to labels which are not in the block,
@@ -497,24 +595,78 @@ public class JilBuilder {
 			}
 		}			
 		
+		// Second, decide whether or not the exits should share a copy of the
+		// finally block. Setting the selector, and dispatching on it, costs
+		// roughly two statements per exit, plus four for the exception.
+		// Therefore, the exits share a copy only when this is smaller than
+		// giving each its own.
+		int nexits = 0;
+		for(JilStmt s : block) {
+			if (s instanceof JilStmt.Return
+					|| (s instanceof JilStmt.Goto && !labels
+							.contains(((JilStmt.Goto) s).label()))) {
+				nexits++;
+			}
+		}
+		int size = finallyBlk.size();
+		share = share && (size + 2 * nexits + 4) < (nexits + 1) * size;
+		
 		String exceptionLabel = "finally" + finallyex_label++; 
+		String exitLabel = "finallyexit" + (finallyex_label-1);
+		String bodyLabel = exceptionLabel + "$body";
+		JilExpr.Variable selector = new JilExpr.Variable("$" + exceptionLabel
+				+ "$sel", T_INT);
+		JilExpr.Variable exception = new JilExpr.Variable(exceptionLabel + "$",
+				Types.JAVA_LANG_THROWABLE);
+		
+		// The exits from the block which branch to the shared copy. The
+		// selector for exit i is i+1.
+		ArrayList<JilStmt> exits = new ArrayList<JilStmt>();
+		HashMap<Type,JilExpr.Variable> returnVars = new HashMap<Type,JilExpr.Variable>();
 		
 		// Now, iterate the block looking for non-local branches.
 		boolean lastNonBranch = false;
 		for(int i=0;i!=block.size();++i) {
 			lastNonBranch = true;
 			JilStmt stmt = block.get(i);
-			if(stmt instanceof JilStmt.Return) {
-				block.addAll(i,copyBlock(finallyBlk));
-				i += finallyBlk.size();
+			if (stmt instanceof JilStmt.Return
+					|| (stmt instanceof JilStmt.Goto && !labels
+							.contains(((JilStmt.Goto) stmt).label()))) {
+				// this is a return or a non-local branch statement.
+				ArrayList<JilStmt> jump = new ArrayList<JilStmt>();
+				JilStmt exit = stmt.clearAddExceptions(new ArrayList());
+				if(stmt instanceof JilStmt.Return) {
+					JilExpr e = ((JilStmt.Return) stmt).expr();
+					if(e != null && !(e instanceof JilExpr.Value)) {
+						JilExpr.Variable var = returnVars.get(e.type());
+						if(var == null) {
+							var = new JilExpr.Variable(getTempVar(), e.type());
+							returnVars.put(e.type(), var);
+						}
+						// The expression may throw, in which case the finally
+						// block must still run.
+						jump.add(new JilStmt.Assign(var, e,
+								new ArrayList<Pair<Type.Clazz, String>>(stmt
+										.exceptions()), stmt.attributes())
+								.addException(Types.JAVA_LANG_THROWABLE,
+										exceptionLabel));
+						exit = new JilStmt.Return(var, stmt.attributes());
+					}
+				}
+				if(share) {
+					exits.add(exit);
+					jump.add(new JilStmt.Assign(selector, new JilExpr.Int(exits
+							.size()), stmt.attributes()));
+					jump.add(new JilStmt.Goto(bodyLabel, stmt.attributes()));
+				} else {
+					jump.addAll(copyBlock(finallyBlk));
+					jump.add(exit);
+				}
+				block.remove(i);
+				block.addAll(i, jump);
+				i += jump.size() - 1;
 				lastNonBranch = false;
 			} else if(stmt instanceof JilStmt.Goto) {
-				JilStmt.Goto g = (JilStmt.Goto) stmt;
-				if(!labels.contains(g.label())) {
-					// this is a non-local branch statement.
-					block.addAll(i,copyBlock(finallyBlk));
-					i += finallyBlk.size();					
-				} 
 				lastNonBranch = false;
 			} else if(stmt instanceof JilStmt.IfGoto) {
 				JilStmt.IfGoto g = (JilStmt.IfGoto) stmt;
@@ -535,20 +687,50 @@ public class JilBuilder {
 			}
 		}
 		
-		String exitLabel = "finallyexit" + (finallyex_label-1); 
+		if(!exits.isEmpty()) {
+			// Initialise the variables read after the shared copy.
+			block.add(0, new JilStmt.Assign(exception, new JilExpr.Null()));
+			for(JilExpr.Variable var : returnVars.values()) {
+				block.add(0, new JilStmt.Assign(var, defaultValue(var.type())));
+			}
+		}
+		
 		if(lastNonBranch) {
-			block.addAll(finallyBlk);
+			block.addAll(copyBlock(finallyBlk));
 			block.add(new JilStmt.Goto(exitLabel));
-		}		
+		}
+		
+		if(!exits.isEmpty()) {
+			// Now, add the shared copy, followed by the dispatch to the exit
+			// taken.
+			ArrayList<Pair<JilExpr.Number,String>> cases = new ArrayList();
+			for(int i=1;i<=exits.size();++i) {
+				cases.add(new Pair(new JilExpr.Int(i), bodyLabel + i));
+			}
+			block.add(new JilStmt.Label(bodyLabel));
+			block.addAll(finallyBlk);
+			block.add(new JilStmt.Switch(selector, cases, exceptionLabel
+					+ "$throw"));
+			for(int i=1;i<=exits.size();++i) {
+				block.add(new JilStmt.Label(bodyLabel + i));
+				block.add(exits.get(i-1));
+			}
+			block.add(new JilStmt.Label(exceptionLabel + "$throw"));
+			block.add(new JilStmt.Throw(exception));
+		}
 		
 		// Now, process exceptional exit
 		block.add(new JilStmt.Label(exceptionLabel));
-		block.add(new JilStmt.Assign(new JilExpr.Variable(exceptionLabel + "$",
-				Types.JAVA_LANG_THROWABLE), new JilExpr.Variable("$",
-				Types.JAVA_LANG_THROWABLE)));	
-		block.addAll(copyBlock(finallyBlk));
-		block.add(new JilStmt.Throw(new JilExpr.Variable(exceptionLabel + "$",
+		block.add(new JilStmt.Assign(exception, new JilExpr.Variable("$",
 				Types.JAVA_LANG_THROWABLE)));
+		if(!exits.isEmpty()) {
+			block.add(new JilStmt.Assign(selector, new JilExpr.Int(exits
+					.size() + 1)));
+			block.add(new JilStmt.Goto(bodyLabel));
+		} else {
+			block.addAll(finallyBlk);
+			block.add(new JilStmt.Throw(exception));
+		}
 		
 		if(lastNonBranch) {
 			block.add(new JilStmt.Label(exitLabel));
@@ -587,7 +769,7 @@ public class JilBuilder {
 					target = target + "$copy" + copy_label;
 				} 
 				nblock.add(new JilStmt.Goto(target, nexceptions,
-						new ArrayList<SyntacticAttribute>(stmt.attributes())));
+						stmt.attributes()));
 			} else if(stmt instanceof JilStmt.IfGoto) {
 				JilStmt.IfGoto igto = (JilStmt.IfGoto) stmt;
 				String target = igto.label();
@@ -596,7 +778,7 @@ public class JilBuilder {
 				} 
 				nblock.add(new JilStmt.IfGoto(igto.condition(), target,
 						nexceptions,
-						new ArrayList<SyntacticAttribute>(stmt.attributes())));
+						stmt.attributes()));
 			} else if(stmt instanceof JilStmt.Switch) {
 				JilStmt.Switch swt = (JilStmt.Switch) stmt;
 				ArrayList<Pair<JilExpr.Number,String>> ncases = new ArrayList();
@@ -613,7 +795,7 @@ public class JilBuilder {
 					deftarget = deftarget + "$copy" + copy_label;
 				} 	
 				nblock.add(new JilStmt.Switch(swt.condition(), ncases,
-						deftarget, new ArrayList<SyntacticAttribute>(swt.attributes())));
+						deftarget, swt.attributes()));
 			} else if(stmt instanceof JilStmt.Label) {			
 				JilStmt.Label lab = (JilStmt.Label) stmt;
 				String target = lab.label();
@@ -621,7 +803,7 @@ public class JilBuilder {
 					target = target + "$copy" + copy_label;
 				} 
 				nblock.add(new JilStmt.Label(target,
-						new ArrayList<SyntacticAttribute>(stmt.attributes())));
+						stmt.attributes()));
 			} else {
 				// there is a bug relating to switch statements.
 				JilStmt nstmt = stmt.clearAddExceptions(nexceptions);
@@ -652,6 +834,8 @@ public class JilBuilder {
 				JilExpr lhs = new JilExpr.Variable(d.first(), nt, def
 						.attributes());
 				r.add(new JilStmt.Assign(lhs, e.first()));
+			} else {
+				blankLocals++;
 			}
 		}
 		
@@ -774,21 +958,11 @@ public class JilBuilder {
 			r.add(new JilStmt.Goto(ls.exitLab,brk.attributes()));
 		} else {
 			String label = brk.label();
-			LabelScope target = null;
-			for(int i=scopes.size()-1;i>=0;--i) {
-				Scope s = scopes.get(i);
-				if(s instanceof LabelScope) {
-					LabelScope lab = (LabelScope) s;
-					if(lab.label.equals(label)) {
-						target = lab;
-						break;
-					}
-				}
-			}
+			ScopeStack.Binding<LabelScope> target = scopes.lookup(label);
 			if(target == null) {
 				syntax_error("undefined label: " + label,brk);
 			}
-			r.add(new JilStmt.Goto(target.label,brk.attributes()));
+			r.add(new JilStmt.Goto(target.value().label,brk.attributes()));
 		}
 		
 		return r;
@@ -829,7 +1003,9 @@ public class JilBuilder {
 	}
 	
 	protected List<JilStmt> doLabel(Stmt.Label lab) {
-		scopes.push(new LabelScope(lab.label()));
+		LabelScope myScope = new LabelScope(lab.label());
+		scopes.push(myScope);
+		scopes.bind(lab.label(), myScope);
 		List<JilStmt> r = doStatement(lab.statement());
 		scopes.pop();
 		r.add(new JilStmt.Label(lab.label(), lab.attributes()));
@@ -870,31 +1046,79 @@ public class JilBuilder {
 	}
 	
 	static protected int whileheader_label = 0;
+	static protected int whilebody_label = 0;
 	static protected int whileexit_label = 0;
 	
+	/**
+	 * Translate a while loop. The loop is laid out with its condition at the
+	 * bottom, which is reached by a branch before the first iteration. Thus,
+	 * each iteration executes only one branch (i.e. the conditional branch
+	 * back to the body), rather than a branch out of the loop and another
+	 * back to its top. For example:
+	 * 
+	 * <pre>
+	 * while(i &lt; n) { i = i + 1; }
+	 * </pre>
+	 * 
+	 * is translated as follows:
+	 * 
+	 * <pre>
+	 *  goto whileheader0;
+	 * whilebody0:
+	 *  i = i + 1;
+	 * whileheader0:
+	 *  if(i &lt; n) goto whilebody0;
+	 * whileexit0:
+	 * </pre>
+	 * 
+	 * Here, a continue statement branches to whileheader0.
+	 * 
+	 * @param stmt
+	 * @return
+	 */
 	protected List<JilStmt> doWhile(Stmt.While stmt) {
 		String headerLab = "whileheader" + whileheader_label++;
+		String bodyLab = "whilebody" + whilebody_label++;
 		String exitLab = "whileexit" + whileexit_label++;
 		ArrayList<JilStmt> r = new ArrayList<JilStmt>();
 		
-		r.add(new JilStmt.Label(headerLab, stmt
-				.attributes()));
 		Pair<JilExpr, List<JilStmt>> cond = doExpression(stmt.condition());
-		r.addAll(cond.second());
-		r.add(new JilStmt.IfGoto(new JilExpr.UnOp(cond.first(), JilExpr.UnOp.NOT,
-				T_BOOL, stmt.condition().attributes()), exitLab, stmt
-				.attributes()));
+		
+		if(isTrue(cond)) {
+			// In this case, there is no condition to test.
+			r.add(new JilStmt.Label(headerLab, stmt.attributes()));
+		} else {
+			r.add(new JilStmt.Goto(headerLab, stmt.attributes()));
+			r.add(new JilStmt.Label(bodyLab, stmt.attributes()));
+		}
 		scopes.push(new LoopScope(headerLab,exitLab));
 		r.addAll(doStatement(stmt.body()));
 		scopes.pop();
-		r.add(new JilStmt.Goto(headerLab, stmt
-				.attributes()));
+		if(isTrue(cond)) {
+			r.add(new JilStmt.Goto(headerLab, stmt.attributes()));
+		} else {
+			r.add(new JilStmt.Label(headerLab, stmt.attributes()));
+			r.addAll(cond.second());
+			r.add(new JilStmt.IfGoto(cond.first(), bodyLab, stmt.attributes()));
+		}
 		r.add(new JilStmt.Label(exitLab, stmt
 						.attributes()));
 		
 		return r;
 	}
 	
+	/**
+	 * Check whether a translated loop condition is the constant true, in which
+	 * case the loop can only be left by a break, return or exception.
+	 * 
+	 * @param cond
+	 * @return
+	 */
+	protected static boolean isTrue(Pair<JilExpr, List<JilStmt>> cond) {
+		return cond.second().isEmpty() && cond.first() instanceof JilExpr.Bool
+				&& ((JilExpr.Bool) cond.first()).value();
+	}
+	
 	static protected int dowhileheader_label = 0;	
 	static protected int dowhileexit_label = 0;
 	
@@ -918,11 +1142,20 @@ public class JilBuilder {
 	}
 	
 	static protected int forheader_label = 0;
+	static protected int forbody_label = 0;
 	static protected int forinc_label = 0;
 	static protected int forexit_label = 0;
 	
+	/**
+	 * Translate a for loop. As for a while loop, the condition is placed at
+	 * the bottom of the loop, after the increment (see doWhile()).
+	 * 
+	 * @param stmt
+	 * @return
+	 */
 	protected List<JilStmt> doFor(Stmt.For stmt) {
 		String headerLab = "forheader" + forheader_label++;
+		String bodyLab = "forbody" + forbody_label++;
 		String exitLab = "forexit" + forexit_label++;
 		String incLab = "forinc" + forinc_label++;
 		
@@ -932,15 +1165,21 @@ public class JilBuilder {
 			r.addAll(doStatement(stmt.initialiser()));
 		}
 		
-		r.add(new JilStmt.Label(headerLab, stmt
-				.attributes()));
-		
+		Pair<JilExpr, List<JilStmt>> cond = null;
 		if(stmt.condition() != null) {
-			Pair<JilExpr, List<JilStmt>> cond = doExpression(stmt.condition());
-			r.addAll(cond.second());
-			r.add(new JilStmt.IfGoto(new JilExpr.UnOp(cond.first(), JilExpr.UnOp.NOT,
-					T_BOOL, stmt.condition().attributes()), exitLab,
-					stmt.attributes()));
+			cond = doExpression(stmt.condition());
+			if(isTrue(cond)) {
+				// In this case, there is no condition to test.
+				cond = null;
+			}
+		}
+		
+		if(cond == null) {
+			r.add(new JilStmt.Label(headerLab, stmt
+					.attributes()));
+		} else {
+			r.add(new JilStmt.Goto(headerLab, stmt.attributes()));
+			r.add(new JilStmt.Label(bodyLab, stmt.attributes()));
 		}
 		
 		if(stmt.increment() != null) {
@@ -958,8 +1197,14 @@ public class JilBuilder {
 			r.addAll(doStatement(stmt.increment()));
 		}
 		
-		r.add(new JilStmt.Goto(headerLab, stmt
-				.attributes()));
+		if(cond == null) {
+			r.add(new JilStmt.Goto(headerLab, stmt
+					.attributes()));
+		} else {
+			r.add(new JilStmt.Label(headerLab, stmt.attributes()));
+			r.addAll(cond.second());
+			r.add(new JilStmt.IfGoto(cond.first(), bodyLab, stmt.attributes()));
+		}
 		r.add(new JilStmt.Label(exitLab, stmt
 				.attributes()));
 		
@@ -967,12 +1212,21 @@ public class JilBuilder {
 	}
 	
 	static protected int forallheader_label = 0;
+	static protected int forallbody_label = 0;
 	static protected int forallexit_label = 0;
 	static protected int foralliter_label = 0;
 	static protected int forallinc_label = 0;
 	
+	/**
+	 * Translate a for-each loop. As for a while loop, the condition is placed
+	 * at the bottom of the loop (see doWhile()).
+	 * 
+	 * @param stmt
+	 * @return
+	 */
 	protected List<JilStmt> doForEach(Stmt.ForEach stmt) {
 		String headerLab = "forallheader" + forallheader_label++;
+		String bodyLab = "forallbody" + forallbody_label++;
 		String exitLab = "forallexit" + forallexit_label++;
 		String iterLab = "foralliter" + foralliter_label++;
 		String incLab = "forallinc" + forallinc_label++;
@@ -1006,28 +1260,25 @@ public class JilBuilder {
 					.attributes()));
 		}				
 		
-		stmts.add(new JilStmt.Label(headerLab, stmt
-				.attributes()));
+		stmts.add(new JilStmt.Goto(headerLab, stmt.attributes()));
+		stmts.add(new JilStmt.Label(bodyLab, stmt.attributes()));
 		
-		// Second, do condition
+		// Second, do loop variable
 		
+		JilExpr cond;
 		if (srcType instanceof Type.Array) {
 			Type.Array arrType = (Type.Array) srcType;
 			JilExpr arrlength = new JilExpr.Deref(src.first(),"length",false,T_INT, stmt
 					.attributes());
-			JilExpr gecmp = new JilExpr.BinOp(iter,arrlength,JilExpr.BinOp.GTEQ,T_BOOL, stmt
+			cond = new JilExpr.BinOp(iter,arrlength,JilExpr.BinOp.LT,T_BOOL, stmt
 					.attributes());
-			stmts.add(new JilStmt.IfGoto(gecmp,exitLab, stmt
-					.attributes()));					
 			
 			stmts.add(new JilStmt.Assign(loopVar, implicitCast(new JilExpr.ArrayIndex(src.first(),
 					iter, arrType.element(),stmt.attributes()),loopVar.type()), stmt.attributes()));
 		} else {
-			JilExpr hasnext = new JilExpr.Invoke(iter, "hasNext",
+			cond = new JilExpr.Invoke(iter, "hasNext",
 					new ArrayList<JilExpr>(), new Type.Function(T_BOOL),
 					T_BOOL, stmt.attributes());
-			stmts.add(new JilStmt.IfGoto(new JilExpr.UnOp(hasnext, JilExpr.UnOp.NOT,
-					T_BOOL,stmt.attributes()), exitLab, stmt.attributes()));
 			
 			JilExpr cast;
 			if(loopVar.type() instanceof Type.Primitive) {
@@ -1066,7 +1317,10 @@ public class JilBuilder {
 			stmts.add(new JilStmt.Assign(iter,rhs,stmt.attributes()));
 		} 
 		
-		stmts.add(new JilStmt.Goto(headerLab,stmt.attributes()));
+		// Fifth, do condition
+		stmts.add(new JilStmt.Label(headerLab, stmt
+				.attributes()));
+		stmts.add(new JilStmt.IfGoto(cond, bodyLab, stmt.attributes()));
 		
 		stmts.add(new JilStmt.Label(exitLab, stmt
 				.attributes()));
@@ -1114,61 +1368,66 @@ public class JilBuilder {
 	
 	protected Pair<JilExpr,List<JilStmt>> doExpression(Expr e) {	
 		try {
-			if(e instanceof Value.Bool) {
-				return doBoolVal((Value.Bool)e);
-			} else if(e instanceof Value.Byte) {
-				return doByteVal((Value.Byte)e);
-			} else if(e instanceof Value.Char) {
-				return doCharVal((Value.Char)e);
-			} else if(e instanceof Value.Short) {
-				return doShortVal((Value.Short)e);
-			} else if(e instanceof Value.Int) {
-				return doIntVal((Value.Int)e);
-			} else if(e instanceof Value.Long) {
-				return doLongVal((Value.Long)e);
-			} else if(e instanceof Value.Float) {
-				return doFloatVal((Value.Float)e);
-			} else if(e instanceof Value.Double) {
-				return doDoubleVal((Value.Double)e);
-			} else if(e instanceof Value.String) {
-				return doStringVal((Value.String)e);
-			} else if(e instanceof Value.Null) {
-				return doNullVal((Value.Null)e);
-			} else if(e instanceof Value.TypedArray) {
-				return doTypedArrayVal((Value.TypedArray)e);
-			} else if(e instanceof Value.Array) {
-				return doArrayVal((Value.Array)e);
-			} else if(e instanceof Value.Class) {
-				return doClassVal((Value.Class) e);
-			} else if(e instanceof Expr.LocalVariable) {
-				return doLocalVariable((Expr.LocalVariable)e);
-			} else if(e instanceof Expr.NonLocalVariable) {
-				return doNonLocalVariable((Expr.NonLocalVariable)e);
-			} else if(e instanceof Expr.ClassVariable) {
-				return doClassVariable((Expr.ClassVariable)e);
-			} else if(e instanceof Expr.UnOp) {
-				return doUnOp((Expr.UnOp)e);
-			} else if(e instanceof Expr.BinOp) {
-				return doBinOp((Expr.BinOp)e);
-			} else if(e instanceof Expr.TernOp) {
-				return doTernOp((Expr.TernOp)e);
-			} else if(e instanceof Expr.Cast) {
-				return doCast((Expr.Cast)e);
-			} else if(e instanceof Expr.Convert) {
-				return doConvert((Expr.Convert)e);
-			} else if(e instanceof Expr.InstanceOf) {
-				return doInstanceOf((Expr.InstanceOf)e);
-			} else if(e instanceof Expr.Invoke) {
-				return doInvoke((Expr.Invoke) e);
-			} else if(e instanceof Expr.New) {
-				return doNew((Expr.New) e);
-			} else if(e instanceof Expr.ArrayIndex) {
-				return doArrayIndex((Expr.ArrayIndex) e);
-			} else if(e instanceof Expr.Deref) {
-				return doDeref((Expr.Deref) e);
-			} else if(e instanceof Stmt.Assignment) {
-				// force brackets			
-				return doAssignment((Stmt.Assignment) e);			
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.BOOL:
+					return doBoolVal((Value.Bool)e);
+				case Kind.BYTE:
+					return doByteVal((Value.Byte)e);
+				case Kind.CHAR:
+					return doCharVal((Value.Char)e);
+				case Kind.SHORT:
+					return doShortVal((Value.Short)e);
+				case Kind.INT:
+					return doIntVal((Value.Int)e);
+				case Kind.LONG:
+					return doLongVal((Value.Long)e);
+				case Kind.FLOAT:
+					return doFloatVal((Value.Float)e);
+				case Kind.DOUBLE:
+					return doDoubleVal((Value.Double)e);
+				case Kind.STRING:
+					return doStringVal((Value.String)e);
+				case Kind.NULL:
+					return doNullVal((Value.Null)e);
+				case Kind.TYPED_ARRAY:
+					return doTypedArrayVal((Value.TypedArray)e);
+				case Kind.ARRAY:
+					return doArrayVal((Value.Array)e);
+				case Kind.CLASS:
+					return doClassVal((Value.Class) e);
+				case Kind.LOCAL_VARIABLE:
+					return doLocalVariable((Expr.LocalVariable)e);
+				case Kind.NON_LOCAL_VARIABLE:
+					return doNonLocalVariable((Expr.NonLocalVariable)e);
+				case Kind.CLASS_VARIABLE:
+					return doClassVariable((Expr.ClassVariable)e);
+				case Kind.UNOP:
+				case Kind.PRE_POST_INC_DEC:
+					return doUnOp((Expr.UnOp)e);
+				case Kind.BINOP:
+					return doBinOp((Expr.BinOp)e);
+				case Kind.TERNOP:
+					return doTernOp((Expr.TernOp)e);
+				case Kind.CAST:
+					return doCast((Expr.Cast)e);
+				case Kind.CONVERT:
+					return doConvert((Expr.Convert)e);
+				case Kind.INSTANCE_OF:
+					return doInstanceOf((Expr.InstanceOf)e);
+				case Kind.INVOKE:
+					return doInvoke((Expr.Invoke) e);
+				case Kind.NEW:
+					return doNew((Expr.New) e);
+				case Kind.ARRAY_INDEX:
+					return doArrayIndex((Expr.ArrayIndex) e);
+				case Kind.DEREF:
+					return doDeref((Expr.Deref) e);
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					// force brackets			
+					return doAssignment((Stmt.Assignment) e);			
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -1251,7 +1510,7 @@ public class JilBuilder {
 		ArrayList<JilStmt> r = new ArrayList();	
 		Type.Reference type = e.type().attribute(Type.Reference.class);
 				
-		MethodInfo mi = e.attribute(MethodInfo.class);			
+		MethodInfo mi = e.attribute(MethodInfo.KEY);			
 		
 		Pair<JilExpr,List<JilStmt>> context = doExpression(e.context());
 		Pair<List<JilExpr>,List<JilStmt>> params = doExpressionList(e.parameters());
@@ -1278,7 +1537,7 @@ public class JilBuilder {
 	protected Pair<JilExpr,List<JilStmt>> doInvoke(Expr.Invoke e) {
 		ArrayList<JilStmt> r = new ArrayList();
 		Type type = e.attribute(Type.class);				
-		MethodInfo mi = e.attribute(MethodInfo.class);				
+		MethodInfo mi = e.attribute(MethodInfo.KEY);				
 		
 		Pair<JilExpr,List<JilStmt>> target = doExpression(e.target());
 		r.addAll(target.second());
@@ -1523,80 +1782,153 @@ public class JilBuilder {
 	
 	protected static int stringbuilder_label = 0;
 	
+	/**
+	 * Translate a string concatenation. A chain of concatenations, such as
+	 * <code>a + b + c + d</code>, is flattened so that a single StringBuilder
+	 * is used for the whole chain, rather than one for each operator. Adjacent
+	 * constants in the chain are merged into one string, and the builder is
+	 * presized to hold them. When only one operand remains (e.g.
+	 * <code>"" + x</code>) and it is a number or a char, String.valueOf() is
+	 * used instead of a builder. This is not done for other operands, since
+	 * String.valueOf() may then return an existing string, whereas the result
+	 * of a concatenation must be a new string (JLS 15.18.1).
+	 * 
+	 * @param bop
+	 * @return
+	 */
 	protected Pair<JilExpr,List<JilStmt>> doStringConcat(Expr.BinOp bop){
+		ArrayList<Expr> operands = new ArrayList<Expr>();
+		flattenConcat(bop, operands);
+		
+		// First, merge adjacent constants, dropping any which are empty.
+		ArrayList<Object> parts = new ArrayList<Object>();
+		String literal = "";
+		int length = 0;
+		for(Expr e : operands) {
+			Object constant = ConstantEvaluator.constant(e);
+			if(constant != null) {
+				literal += constant;
+			} else {
+				if(literal.length() > 0) {
+					parts.add(literal);
+					length += literal.length();
+					literal = "";
+				}
+				parts.add(e);
+			}
+		}
+		if(literal.length() > 0) {
+			parts.add(literal);
+			length += literal.length();
+		}
 		
-		// This method is evidence as to why Java sucks as a programming
-		// language. It should be easy to construct datatypes, as I'm doing
-		// here, but lack of good notation makes it awkward in Java. Sure, there
-		// are some hacks to can do to improve the situation but basically it's
-		// screwed.
-		String builderLab = "$builder" + stringbuilder_label++;
-		Pair<JilExpr,List<JilStmt>> lhs = doExpression(bop.lhs());
-		Pair<JilExpr,List<JilStmt>> rhs = doExpression(bop.rhs());
-		
-		List<JilStmt> stmts = lhs.second();		
-		stmts.addAll(rhs.second());
+		List<JilStmt> stmts = new ArrayList<JilStmt>();
+		
+		if(parts.isEmpty()) {
+			return new Pair<JilExpr, List<JilStmt>>(new JilExpr.StringVal("",
+					bop.attributes()), stmts);
+		} else if(parts.size() == 1 && parts.get(0) instanceof String) {
+			return new Pair<JilExpr, List<JilStmt>>(new JilExpr.StringVal(
+					(String) parts.get(0), bop.attributes()), stmts);
+		} else if (parts.size() == 1
+				&& ((Expr) parts.get(0)).attribute(Type.class) instanceof Type.Primitive
+				&& !(((Expr) parts.get(0)).attribute(Type.class) instanceof Type.Bool)) {
+			Pair<JilExpr, List<JilStmt>> p = doExpression((Expr) parts.get(0));
+			ArrayList<JilExpr> params = new ArrayList<JilExpr>();
+			params.add(p.first());
+			JilExpr r = new JilExpr.Invoke(new JilExpr.ClassVariable(
+					JAVA_LANG_STRING, bop.attributes()), "valueOf", params,
+					new Type.Function(JAVA_LANG_STRING, appendType(p.first()
+							.type())), JAVA_LANG_STRING, bop.attributes());
+			return new Pair<JilExpr, List<JilStmt>>(r, p.second());
+		}
 		
 		Type.Clazz builder = new Type.Clazz("java.lang",
 				"StringBuilder");
-						
-		stmts.add(new JilStmt.Assign(new JilExpr.Variable(builderLab, builder),
-				new JilExpr.New(builder, new ArrayList<JilExpr>(),
-						new Type.Function(T_VOID), bop.attributes()), bop
-						.attributes()));					
-		
-		Type lhs_t = lhs.first().type(); 
-		if (lhs_t instanceof Type.Primitive || isString(lhs_t)) {
-			if(lhs_t instanceof Type.Short || lhs_t instanceof Type.Byte) {
-				lhs_t = new Type.Int(); 
-			}
-			ArrayList<JilExpr> params = new ArrayList<JilExpr>();
-			params.add(lhs.first());
-			stmts.add(new JilExpr.Invoke(new JilExpr.Variable(builderLab,
-					builder), "append", params, new Type.Function(
-					new Type.Clazz("java.lang", "StringBuilder"), lhs.first()
-							.type()), new Type.Clazz("java.lang",
-					"StringBuilder"), bop.attributes()));
-		} else {
-			ArrayList<JilExpr> params = new ArrayList<JilExpr>();
-			params.add(lhs.first());
-			stmts.add(new JilExpr.Invoke(new JilExpr.Variable(builderLab,
-					builder), "append", params, new Type.Function(
-					new Type.Clazz("java.lang", "StringBuilder"),
-					JAVA_LANG_OBJECT), new Type.Clazz("java.lang",
-					"StringBuilder"), bop.attributes()));
+		ArrayList<JilExpr> capacity = new ArrayList<JilExpr>();
+		Type.Function constructor = new Type.Function(T_VOID);
+		if(length > 0) {
+			// the default capacity is kept for the other operands.
+			capacity.add(new JilExpr.Int(length + 16));
+			constructor = new Type.Function(T_VOID, T_INT);
 		}
-
-		// Now, do the right hand side
-		JilExpr r;
-		Type rhs_t = rhs.first().type(); 
-		if(rhs_t instanceof Type.Primitive || isString(rhs_t)) {
-			if(rhs_t instanceof Type.Short || rhs_t instanceof Type.Byte) {
-				rhs_t = new Type.Int(); 
+		JilExpr r = new JilExpr.New(builder, capacity, constructor, bop
+				.attributes());
+		String builderLab = null;
+		boolean appended = false;
+		
+		// Now, append each operand in turn. The appends are chained together,
+		// unless an operand has side-effects. In that case, these must happen
+		// after the preceding operands are appended, and so the builder is
+		// stored in a variable.
+		for(Object part : parts) {
+			JilExpr operand;
+			if(part instanceof String) {
+				operand = new JilExpr.StringVal((String) part, bop.attributes());
+			} else {
+				Pair<JilExpr, List<JilStmt>> p = doExpression((Expr) part);
+				if(!p.second().isEmpty() && appended) {
+					if(builderLab == null) {
+						builderLab = "$builder" + stringbuilder_label++;
+						stmts.add(new JilStmt.Assign(new JilExpr.Variable(
+								builderLab, builder), r, bop.attributes()));
+					} else {
+						stmts.add((JilExpr.Invoke) r);
+					}
+					r = new JilExpr.Variable(builderLab, builder);
+					appended = false;
+				}
+				stmts.addAll(p.second());
+				operand = p.first();
 			}
 			ArrayList<JilExpr> params = new ArrayList<JilExpr>();
-			params.add(rhs.first());
-			r = new JilExpr.Invoke(new JilExpr.Variable(builderLab, builder),
-					"append", params, new Type.Function(new Type.Clazz(
-							"java.lang", "StringBuilder"), rhs_t),
-					new Type.Clazz("java.lang", "StringBuilder"), bop
-							.attributes());
-		} else {
-			ArrayList<JilExpr> params = new ArrayList<JilExpr>();
-			params.add(rhs.first());
-			r = new JilExpr.Invoke(new JilExpr.Variable(builderLab, builder),
-					"append", params, new Type.Function(new Type.Clazz(
-							"java.lang", "StringBuilder"), JAVA_LANG_OBJECT),
-					new Type.Clazz("java.lang", "StringBuilder"), bop
-							.attributes());
+			params.add(operand);
+			r = new JilExpr.Invoke(r, "append", params, new Type.Function(
+					builder, appendType(operand.type())), builder, bop
+					.attributes());
+			appended = true;
 		}
-
+		
 		r = new JilExpr.Invoke(r, "toString", new ArrayList<JilExpr>(),
 				new Type.Function(JAVA_LANG_STRING), JAVA_LANG_STRING, bop
 						.attributes());
 		
 		return new Pair<JilExpr,List<JilStmt>>(r,stmts);
 	}
+	
+	/**
+	 * Flatten a chain of string concatenations into the list of its operands,
+	 * in order of evaluation.
+	 * 
+	 * @param e
+	 * @param operands
+	 */
+	protected static void flattenConcat(Expr e, List<Expr> operands) {
+		if(e instanceof Expr.BinOp && ((Expr.BinOp) e).op() == Expr.BinOp.CONCAT) {
+			Expr.BinOp bop = (Expr.BinOp) e;
+			flattenConcat(bop.lhs(), operands);
+			flattenConcat(bop.rhs(), operands);
+		} else {
+			operands.add(e);
+		}
+	}
+	
+	/**
+	 * Determine the parameter type of the append() (or String.valueOf())
+	 * method used to convert a value of the given type to a string.
+	 * 
+	 * @param t
+	 * @return
+	 */
+	protected static Type appendType(Type t) {
+		if(t instanceof Type.Short || t instanceof Type.Byte) {
+			return T_INT;
+		} else if(t instanceof Type.Primitive || isString(t)) {
+			return t;
+		} else {
+			return JAVA_LANG_OBJECT;
+		}
+	}
 
 	protected int ternop_label = 0;
 	protected Pair<JilExpr,List<JilStmt>> doTernOp(Expr.TernOp e) {
@@ -1721,7 +2053,7 @@ public class JilBuilder {
 			}
 
 			// check declared exceptions
-			MethodInfo mi = stmt.attribute(MethodInfo.class);
+			MethodInfo mi = stmt.attribute(MethodInfo.KEY);
 			for(Type.Clazz ex : mi.exceptions) {
 				if (types.subtype(exception, ex, loader)) {
 					return true;
@@ -1744,7 +2076,7 @@ public class JilBuilder {
 				return true;			
 			} else if(!(ivk.type() instanceof Type.Array)) {
 				// check declared exceptions
-				MethodInfo mi = ivk.attribute(MethodInfo.class);
+				MethodInfo mi = ivk.attribute(MethodInfo.KEY);
 				for(Type.Clazz ex : mi.exceptions) {
 					if (types.subtype(exception, ex, loader)) {
 						return true;
@@ -1901,6 +2233,22 @@ public class JilBuilder {
 		}
 	}	
 	
+	/**
+	 * Get the default value of a given type (i.e. zero, false or null).
+	 * 
+	 * @param t
+	 * @return
+	 */
+	protected JilExpr defaultValue(Type t) {
+		if(t instanceof Type.Bool) {
+			return new JilExpr.Bool(false);
+		} else if(t instanceof Type.Primitive) {
+			return constant(0, t);
+		} else {
+			return new JilExpr.Null();
+		}
+	}
+	
 	protected JilExpr constant(int constant, Type t) {
 		if(t instanceof Type.Byte) {
 			return new JilExpr.Byte((byte)constant);
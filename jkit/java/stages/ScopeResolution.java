@@ -24,6 +24,7 @@ package jkit.java.stages;
 import java.util.*;
 
 import jkit.compiler.ClassLoader;
+import jkit.compiler.ResolutionCache;
 import jkit.compiler.SyntacticElement;
 import jkit.compiler.SyntaxError;
 import static jkit.compiler.SyntaxError.*;
@@ -33,6 +34,7 @@ import jkit.error.FieldNotFoundException;
 import jkit.java.io.JavaFile;
 import jkit.java.tree.Decl;
 import jkit.java.tree.Expr;
+import jkit.java.tree.Kind;
 import jkit.java.tree.Stmt;
 import jkit.java.tree.Value;
 import jkit.java.tree.Decl.JavaClass;
@@ -44,6 +46,7 @@ import jkit.jil.tree.Modifier;
 import jkit.jil.tree.SourceLocation;
 import jkit.jil.tree.Type;
 import jkit.util.Pair;
+import jkit.util.ScopeStack;
 import jkit.util.Triple;
 
 /**
@@ -171,22 +174,20 @@ public class ScopeResolution {
 
 	/*
 	 * A Scope represents a declaration which defines some variables that may be
-	 * accessed directly by code contained within this scope.
+	 * accessed directly by code contained within this scope. The variables
+	 * themselves are bound in the scope stack.
 	 */
 	private static class Scope {
-		public final HashMap<String,Pair<Type,List<Modifier>>> variables;
-		public Scope() {
-			this.variables = new HashMap<String,Pair<Type,List<Modifier>>>();
-		}
-		public Scope(HashMap<String,Pair<Type,List<Modifier>>> variables) {
-			this.variables = variables;
-		}
 	}
 
 	private static class ClassScope extends Scope {
 		public Type.Clazz type;
 		public Type.Clazz superType;
 		public boolean isStatic;
+		// The fields (including those inherited) and methods which have been
+		// looked for in this class, mapped to null if they are not found.
+		public final HashMap<String,Clazz.Field> fields = new HashMap<String,Clazz.Field>();
+		public final HashMap<String,Boolean> methods = new HashMap<String,Boolean>();
 		public ClassScope(Type.Clazz type, Type.Clazz superType, boolean isStatic) {
 			this.type = type;
 			this.superType = superType;
@@ -211,8 +212,10 @@ public class ScopeResolution {
 	private ClassLoader loader;
 	private TypeSystem types;
 	private int anonymousClassCount = 0;
-	private final Stack<Scope> scopes = new Stack<Scope>();
+	private final ScopeStack<Scope,Pair<Type,List<Modifier>>> scopes = new ScopeStack<Scope,Pair<Type,List<Modifier>>>();
 	private final LinkedList<String> imports = new LinkedList<String>();
+	private ResolutionCache cache;
+	private ResolutionCache.Scope resolved; // null if imports changed
 
 	public ScopeResolution(ClassLoader loader, TypeSystem types) {
 		this.loader = loader;
@@ -220,6 +223,9 @@ public class ScopeResolution {
 	}
 
 	public void apply(JavaFile file) {
+		cache = file.resolutionCache();
+		resolved = null;
+
 		// First, setup the imports list (in reverse order).
 		imports.add(file.pkg() + ".*");
 		for(Pair<Boolean,String> i : file.imports()) {
@@ -235,6 +241,7 @@ public class ScopeResolution {
 		}
 
 		imports.clear();
+		resolved = null;
 	}
 
 	protected void doDeclaration(Decl d, JavaFile file) {
@@ -281,16 +288,18 @@ public class ScopeResolution {
 
 		// Create an appropriate import declaration for this class.
 		imports.addFirst(computeImportDecl(myType));
+		resolved = null;
 
 		// And, push on a scope representing this class definition.
 		ClassScope myScope = new ClassScope(myType,superType,c.isStatic());
-		scopes.add(myScope);
+		scopes.push(myScope);
 
 		for(Decl d : c.declarations()) {
 			doDeclaration(d, file);
 		}
 
 		imports.removeFirst();
+		resolved = null;
 		scopes.pop();
 	}
 
@@ -303,7 +312,7 @@ public class ScopeResolution {
 				.parameters()) {
 			Type type = t.type().attribute(Type.class);
 			Pair<Type, List<Modifier>> p = new Pair(type, t.modifiers());
-			myScope.variables.put(t.name(), p);
+			scopes.bind(t.name(), p);
 		}
 
 		if (!d.isStatic()) {
@@ -313,11 +322,11 @@ public class ScopeResolution {
 			ms.add(Modifier.ACC_FINAL);
 			ClassScope cs = ((ClassScope) findEnclosingScope(ClassScope.class));
 			Pair<Type, List<Modifier>> p = new Pair(cs.type,ms);
-			myScope.variables.put("this",p);
+			scopes.bind("this",p);
 
 			// now, we'll add super as a variable (if there is a super class).
 			if(cs.superType != null) {
-				myScope.variables.put("super",new Pair(cs.superType,new ArrayList()));
+				scopes.bind("super",new Pair(cs.superType,new ArrayList()));
 			}
 		}
 
@@ -329,21 +338,22 @@ public class ScopeResolution {
 
 	protected void doField(JavaField d, JavaFile file) {
 		FieldScope myScope = new FieldScope(d.isStatic());
+		ClassScope cs = ((ClassScope) findEnclosingScope(ClassScope.class));
+
+		scopes.push(myScope);
 
 		if (!d.isStatic()) {
 			// put in a type for the special "this" variable
 			ArrayList<Modifier> ms = new ArrayList<Modifier>();
 			ms.add(Modifier.ACC_FINAL);
-			ClassScope cs = ((ClassScope) findEnclosingScope(ClassScope.class));
 			Pair<Type, List<Modifier>> p = new Pair(cs.type,ms);
-			myScope.variables.put("this",p);
+			scopes.bind("this",p);
 			// now, we'll add super as a variable (if there is a super class).
 			if(cs.superType != null) {
-				myScope.variables.put("super",new Pair(cs.superType,new ArrayList()));
+				scopes.bind("super",new Pair(cs.superType,new ArrayList()));
 			}
 		}
 
-		scopes.push(myScope);
 		d.setInitialiser(doExpression(d.initialiser(), file));
 		scopes.pop();
 	}
@@ -351,23 +361,22 @@ public class ScopeResolution {
 	protected void doInitialiserBlock(Decl.InitialiserBlock d,
 			JavaFile file) {
 
-		Scope myScope = new Scope();
+		ClassScope cs = ((ClassScope) findEnclosingScope(ClassScope.class));
+
+		scopes.push(new Scope());
 
 		// put in a type for the special "this" variable, and "super"
 		// variable (if appropriate).
 		ArrayList<Modifier> ms = new ArrayList<Modifier>();
 		ms.add(Modifier.ACC_FINAL);
-		ClassScope cs = ((ClassScope) findEnclosingScope(ClassScope.class));
 		Pair<Type, List<Modifier>> p = new Pair(cs.type,ms);
-		myScope.variables.put("this",p);
+		scopes.bind("this",p);
 
 		// now, we'll add super as a variable (if there is a super class).
 		if(cs.superType != null) {
-			myScope.variables.put("super",new Pair(cs.superType,new ArrayList()));
+			scopes.bind("super",new Pair(cs.superType,new ArrayList()));
 		}
 
-		scopes.push(myScope);
-
 		for (Stmt s : d.statements()) {
 			doStatement(s, file);
 		}
@@ -389,51 +398,81 @@ public class ScopeResolution {
 
 	protected void doStatement(Stmt e, JavaFile file) {
 		try {
-			if(e instanceof Stmt.SynchronisedBlock) {
-				doSynchronisedBlock((Stmt.SynchronisedBlock)e, file);
-			} else if(e instanceof Stmt.TryCatchBlock) {
-				doTryCatchBlock((Stmt.TryCatchBlock)e, file);
-			} else if(e instanceof Stmt.Block) {
-				doBlock((Stmt.Block)e, file);
-			} else if(e instanceof Stmt.VarDef) {
-				doVarDef((Stmt.VarDef) e, file);
-			} else if(e instanceof Stmt.Assignment) {
-				doAssignment((Stmt.Assignment) e, file);
-			} else if(e instanceof Stmt.Return) {
-				doReturn((Stmt.Return) e, file);
-			} else if(e instanceof Stmt.Throw) {
-				doThrow((Stmt.Throw) e, file);
-			} else if(e instanceof Stmt.Assert) {
-				doAssert((Stmt.Assert) e, file);
-			} else if(e instanceof Stmt.Break) {
-				doBreak((Stmt.Break) e, file);
-			} else if(e instanceof Stmt.Continue) {
-				doContinue((Stmt.Continue) e, file);
-			} else if(e instanceof Stmt.Label) {
-				doLabel((Stmt.Label) e, file);
-			} else if(e instanceof Stmt.If) {
-				doIf((Stmt.If) e, file);
-			} else if(e instanceof Stmt.For) {
-				doFor((Stmt.For) e, file);
-			} else if(e instanceof Stmt.ForEach) {
-				doForEach((Stmt.ForEach) e, file);
-			} else if(e instanceof Stmt.While) {
-				doWhile((Stmt.While) e, file);
-			} else if(e instanceof Stmt.DoWhile) {
-				doDoWhile((Stmt.DoWhile) e, file);
-			} else if(e instanceof Stmt.Switch) {
-				doSwitch((Stmt.Switch) e, file);
-			} else if(e instanceof Expr.Invoke) {
-				doInvoke((Expr.Invoke) e, file);
-			} else if(e instanceof Expr.New) {
-				doNew((Expr.New) e, file);
-			} else if(e instanceof Decl.JavaClass) {
-				doClass((Decl.JavaClass)e, file);
-			} else if(e instanceof Stmt.PrePostIncDec) {
-				doExpression((Stmt.PrePostIncDec)e, file);
-			} else if(e != null) {
-				syntax_error("Invalid statement encountered: "
-						+ e.getClass(),e);
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.SYNCHRONISED_BLOCK:
+					doSynchronisedBlock((Stmt.SynchronisedBlock)e, file);
+					break;
+				case Kind.TRY_CATCH_BLOCK:
+					doTryCatchBlock((Stmt.TryCatchBlock)e, file);
+					break;
+				case Kind.BLOCK:
+				case Kind.CATCH_BLOCK:
+				case Kind.INITIALISER_BLOCK:
+				case Kind.STATIC_INITIALISER_BLOCK:
+					doBlock((Stmt.Block)e, file);
+					break;
+				case Kind.VAR_DEF:
+					doVarDef((Stmt.VarDef) e, file);
+					break;
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					doAssignment((Stmt.Assignment) e, file);
+					break;
+				case Kind.RETURN:
+					doReturn((Stmt.Return) e, file);
+					break;
+				case Kind.THROW:
+					doThrow((Stmt.Throw) e, file);
+					break;
+				case Kind.ASSERT:
+					doAssert((Stmt.Assert) e, file);
+					break;
+				case Kind.BREAK:
+					doBreak((Stmt.Break) e, file);
+					break;
+				case Kind.CONTINUE:
+					doContinue((Stmt.Continue) e, file);
+					break;
+				case Kind.LABEL:
+					doLabel((Stmt.Label) e, file);
+					break;
+				case Kind.IF:
+					doIf((Stmt.If) e, file);
+					break;
+				case Kind.FOR:
+					doFor((Stmt.For) e, file);
+					break;
+				case Kind.FOR_EACH:
+					doForEach((Stmt.ForEach) e, file);
+					break;
+				case Kind.WHILE:
+					doWhile((Stmt.While) e, file);
+					break;
+				case Kind.DO_WHILE:
+					doDoWhile((Stmt.DoWhile) e, file);
+					break;
+				case Kind.SWITCH:
+					doSwitch((Stmt.Switch) e, file);
+					break;
+				case Kind.INVOKE:
+					doInvoke((Expr.Invoke) e, file);
+					break;
+				case Kind.NEW:
+					doNew((Expr.New) e, file);
+					break;
+				case Kind.JAVA_CLASS:
+				case Kind.JAVA_INTERFACE:
+				case Kind.JAVA_ENUM:
+					doClass((Decl.JavaClass)e, file);
+					break;
+				case Kind.PRE_POST_INC_DEC:
+					doExpression((Stmt.PrePostIncDec)e, file);
+					break;
+				default:
+					syntax_error("Invalid statement encountered: "
+							+ e.getClass(),e);
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -455,10 +494,9 @@ public class ScopeResolution {
 
 	protected void doCatchBlock(Stmt.CatchBlock block, JavaFile file) {
 		if(block != null) {
-			Scope myScope = new Scope();
-			scopes.push(myScope);
+			scopes.push(new Scope());
 
-			myScope.variables.put(block.variable(), new Pair((Type.Clazz) block
+			scopes.bind(block.variable(), new Pair((Type.Clazz) block
 					.type().attribute(Type.class), new ArrayList<Modifier>()));
 
 			// now process every statement in this block.
@@ -487,7 +525,6 @@ public class ScopeResolution {
 
 	protected void doVarDef(Stmt.VarDef def, JavaFile file) {
 		List<Triple<String, Integer, Expr>> defs = def.definitions();
-		Scope enclosingScope = findEnclosingScope();
 		Type t = def.type().attribute(Type.class);
 
 		for(int i=0;i!=defs.size();++i) {
@@ -498,8 +535,7 @@ public class ScopeResolution {
 				nt = new Type.Array(nt);
 			}
 
-			enclosingScope.variables.put(d.first(), new Pair(nt, def
-					.modifiers()));
+			scopes.bind(d.first(), new Pair(nt, def.modifiers()));
 
 			Expr e = doExpression(d.third(), file);
 			defs.set(i, new Triple(d.first(),d.second(),e));
@@ -564,10 +600,9 @@ public class ScopeResolution {
 	}
 
 	protected void doForEach(Stmt.ForEach stmt, JavaFile file) {
-		Scope myScope = new Scope();
-		scopes.push(myScope);
+		scopes.push(new Scope());
 
-		myScope.variables.put(stmt.var(), new Pair(stmt.type()
+		scopes.bind(stmt.var(), new Pair(stmt.type()
 				.attribute(Type.class), stmt.modifiers()));
 
 		stmt.setSource(doExpression(stmt.source(), file));
@@ -579,7 +614,16 @@ public class ScopeResolution {
 	protected void doSwitch(Stmt.Switch sw, JavaFile file) {
 		sw.setCondition(doExpression(sw.condition(), file));
 		for(Case c : sw.cases()) {
-			c.setCondition(doExpression(c.condition(), file));
+			Expr label = c.condition();
+			// A case label which names no visible variable may be an
+			// enumeration constant. Such a label is left unresolved, since
+			// its meaning depends upon the type of the switch condition (see
+			// TypePropagation.doSwitch()).
+			if (!(label instanceof Expr.UnresolvedVariable)
+					|| isVariable(((Expr.UnresolvedVariable) label).value(),
+							file)) {
+				c.setCondition(doExpression(label, file));
+			}
 			for(Stmt s : c.statements()) {
 				doStatement(s, file);
 			}
@@ -590,55 +634,60 @@ public class ScopeResolution {
 
 	protected Expr doExpression(Expr e, JavaFile file) {
 		try {
-			if(e instanceof Value.Bool) {
-				return doBoolVal((Value.Bool)e, file);
-			} else if(e instanceof Value.Byte) {
-				return doByteVal((Value.Byte)e, file);
-			} else if(e instanceof Value.Char) {
-				return doCharVal((Value.Char)e, file);
-			} else if(e instanceof Value.Short) {
-				return doShortVal((Value.Short)e, file);
-			} else if(e instanceof Value.Int) {
-				return doIntVal((Value.Int)e, file);
-			} else if(e instanceof Value.Long) {
-				return doLongVal((Value.Long)e, file);
-			} else if(e instanceof Value.Float) {
-				return doFloatVal((Value.Float)e, file);
-			} else if(e instanceof Value.Double) {
-				return doDoubleVal((Value.Double)e, file);
-			} else if(e instanceof Value.String) {
-				return doStringVal((Value.String)e, file);
-			} else if(e instanceof Value.Null) {
-				return doNullVal((Value.Null)e, file);
-			} else if(e instanceof Value.TypedArray) {
-				return doTypedArrayVal((Value.TypedArray)e, file);
-			} else if(e instanceof Value.Array) {
-				return doArrayVal((Value.Array)e, file);
-			} else if(e instanceof Value.Class) {
-				return doClassVal((Value.Class) e, file);
-			} else if(e instanceof Expr.UnresolvedVariable) {
-				return doUnresolvedVariable((Expr.UnresolvedVariable)e, file);
-			} else if(e instanceof Expr.UnOp) {
-				return doUnOp((Expr.UnOp)e, file);
-			} else if(e instanceof Expr.BinOp) {
-				return doBinOp((Expr.BinOp)e, file);
-			} else if(e instanceof Expr.TernOp) {
-				return doTernOp((Expr.TernOp)e, file);
-			} else if(e instanceof Expr.Cast) {
-				return doCast((Expr.Cast)e, file);
-			} else if(e instanceof Expr.InstanceOf) {
-				return doInstanceOf((Expr.InstanceOf)e, file);
-			} else if(e instanceof Expr.Invoke) {
-				return doInvoke((Expr.Invoke) e, file);
-			} else if(e instanceof Expr.New) {
-				return doNew((Expr.New) e, file);
-			} else if(e instanceof Expr.ArrayIndex) {
-				return doArrayIndex((Expr.ArrayIndex) e, file);
-			} else if(e instanceof Expr.Deref) {
-				return doDeref((Expr.Deref) e, file);
-			} else if(e instanceof Stmt.Assignment) {
-				// force brackets
-				return doAssignment((Stmt.Assignment) e, file);
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.BOOL:
+					return doBoolVal((Value.Bool)e, file);
+				case Kind.BYTE:
+					return doByteVal((Value.Byte)e, file);
+				case Kind.CHAR:
+					return doCharVal((Value.Char)e, file);
+				case Kind.SHORT:
+					return doShortVal((Value.Short)e, file);
+				case Kind.INT:
+					return doIntVal((Value.Int)e, file);
+				case Kind.LONG:
+					return doLongVal((Value.Long)e, file);
+				case Kind.FLOAT:
+					return doFloatVal((Value.Float)e, file);
+				case Kind.DOUBLE:
+					return doDoubleVal((Value.Double)e, file);
+				case Kind.STRING:
+					return doStringVal((Value.String)e, file);
+				case Kind.NULL:
+					return doNullVal((Value.Null)e, file);
+				case Kind.TYPED_ARRAY:
+					return doTypedArrayVal((Value.TypedArray)e, file);
+				case Kind.ARRAY:
+					return doArrayVal((Value.Array)e, file);
+				case Kind.CLASS:
+					return doClassVal((Value.Class) e, file);
+				case Kind.UNRESOLVED_VARIABLE:
+					return doUnresolvedVariable((Expr.UnresolvedVariable)e, file);
+				case Kind.UNOP:
+				case Kind.PRE_POST_INC_DEC:
+					return doUnOp((Expr.UnOp)e, file);
+				case Kind.BINOP:
+					return doBinOp((Expr.BinOp)e, file);
+				case Kind.TERNOP:
+					return doTernOp((Expr.TernOp)e, file);
+				case Kind.CAST:
+					return doCast((Expr.Cast)e, file);
+				case Kind.INSTANCE_OF:
+					return doInstanceOf((Expr.InstanceOf)e, file);
+				case Kind.INVOKE:
+					return doInvoke((Expr.Invoke) e, file);
+				case Kind.NEW:
+					return doNew((Expr.New) e, file);
+				case Kind.ARRAY_INDEX:
+					return doArrayIndex((Expr.ArrayIndex) e, file);
+				case Kind.DEREF:
+					return doDeref((Expr.Deref) e, file);
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					// force brackets
+					return doAssignment((Stmt.Assignment) e, file);
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -694,8 +743,7 @@ public class ScopeResolution {
 				// Right, if we get here then there is no field ... so maybe
 				// this is actually an inner class (or a syntax error :)
 				try {
-					Type.Clazz c = loader.resolve(cv.type().replace('.','$') + "$" + e.name(),
-							imports);
+					Type.Clazz c = resolveClass(cv.type().replace('.','$') + "$" + e.name());
 					Expr r = new Expr.ClassVariable(cv.type() + "." + e.name(),
 							e.attributes());
 					r.attributes().add(c);
@@ -809,7 +857,7 @@ public class ScopeResolution {
 					// explicitly in this scope; rather it may be declared
 					// in a superclass of this class and we must account for
 					// this.
-					if(types.hasMethod(cs.type,e.name(),loader)) {
+					if(hasMethod(cs,e.name())) {
 						// Ok, we have found the relevant method in question.
 						if(isThis && !isStatic) {
 							target = new Expr.LocalVariable("this",
@@ -976,25 +1024,28 @@ public class ScopeResolution {
 		// which contains the field we're after.
 
 		boolean isThis = true;
+		ScopeStack.Binding<Pair<Type,List<Modifier>>> b = scopes.lookup(e
+				.value());
 		for(int i=scopes.size()-1;i>=0;--i) {
 			Scope s = scopes.get(i);
+			while(b != null && b.depth() > i) {
+				// a variable bound in a class scope is not visible.
+				b = b.shadowed();
+			}
 			if(s instanceof ClassScope) {
 				// resolve field from here
 				ClassScope cs = (ClassScope) s;
+				Clazz.Field f = findField(cs, e.value());
 
-				try {
-
-					Triple<Clazz, Clazz.Field, Type> r = types
-							.resolveField(cs.type, e.value(), loader);
-
+				if(f != null) {
 					// Ok, this variable access corresponds to a field load.
-					if(isThis && !isStatic && !r.second().isStatic()) {
+					if(isThis && !isStatic && !f.isStatic()) {
 						Expr thisvar = new Expr.LocalVariable("this",
 								e.attributes());
 						thisvar.attributes().add(cs.type);
 						return new Expr.Deref(thisvar, e.value(), e
 							.attributes());
-					} else if(!isStatic && !r.second().isStatic()){
+					} else if(!isStatic && !f.isStatic()){
 						// Create a class access variable via a parent pointer
 						Expr.ClassVariable cv = new Expr.ClassVariable(cs.type.toString(),e.attributes());
 						cv.attributes().add(cs.type);
@@ -1006,7 +1057,7 @@ public class ScopeResolution {
 						// to check for, is whether or not the variable in
 						// question is static or not (as, if not, then we have a
 						// syntax error)
-						if (!r.second().isStatic()) {
+						if (!f.isStatic()) {
 							syntax_error("Cannot access non-static field \""
 									+ e.value() + "\" from static context", e);
 						}
@@ -1016,23 +1067,20 @@ public class ScopeResolution {
 						return new Expr.Deref(cv, e.value(), e
 								.attributes());
 					}
-				} catch(ClassNotFoundException cne) {
-				} catch(FieldNotFoundException fne) {
 				}
 				isThis = false;
 				isStatic = cs.isStatic;
-			} else if(s.variables.containsKey(e.value())) {
+			} else if(b != null && b.depth() == i) {
 				Expr r;
 				if(isThis) {
-					Type t = (Type) s.variables.get(e.value()).first();
 					r = new Expr.LocalVariable(e.value(),
 							e.attributes());
-					r.attributes().add(s.variables.get(e.value()).first());
+					r.attributes().add(b.value().first());
 					return r;
 				} else {
 					// Check whether or not the non-local variable is declared
 					// final (as this is a Java requirement).
-					if (!hasFinalModifier(s.variables.get(e.value()).second())) {
+					if (!hasFinalModifier(b.value().second())) {
 						// no it doesn't
 						syntax_error(
 								"local variable \""
@@ -1044,7 +1092,7 @@ public class ScopeResolution {
 					r = new Expr.NonLocalVariable(e.value(), new ArrayList(e
 							.attributes()));
 					// add the variables type here.
-					r.attributes().add(s.variables.get(e.value()).first());
+					r.attributes().add(b.value().first());
 					return r;
 				}
 			} else if(s instanceof MethodScope) {
@@ -1088,7 +1136,7 @@ public class ScopeResolution {
 		// could represent a class.
 
 		try {
-			Type.Clazz c = loader.resolve(e.value(), imports);
+			Type.Clazz c = resolveClass(e.value());
 			Expr r = new Expr.ClassVariable(e.value(),e.attributes());
 			r.attributes().add(c);
 			return r;
@@ -1124,7 +1172,7 @@ public class ScopeResolution {
 	}
 
 	protected Scope findEnclosingScope() {
-		return scopes.get(scopes.size()-1);
+		return scopes.peek();
 	}
 
 	protected Scope findEnclosingScope(Class c) {
@@ -1137,6 +1185,85 @@ public class ScopeResolution {
 		return null;
 	}
 
+	/**
+	 * Find a field declared in, or inherited by, the class of a given scope.
+	 * The answer is remembered in the scope, since the same names are looked
+	 * up over and over again.
+	 *
+	 * @return the field, or null if there is no such field.
+	 */
+	protected Clazz.Field findField(ClassScope cs, String name) {
+		Clazz.Field f = cs.fields.get(name);
+		if(f == null && !cs.fields.containsKey(name)) {
+			try {
+				f = types.resolveField(cs.type, name, loader).second();
+			} catch(ClassNotFoundException cne) {
+			} catch(FieldNotFoundException fne) {
+			}
+			cs.fields.put(name, f);
+		}
+		return f;
+	}
+
+	/**
+	 * Check whether a name refers to a visible variable, field or statically
+	 * imported field.
+	 */
+	protected boolean isVariable(String name, JavaFile file) {
+		if(scopes.lookup(name) != null) {
+			return true;
+		}
+		for(int i=scopes.size()-1;i>=0;--i) {
+			Scope s = scopes.get(i);
+			if(s instanceof ClassScope && findField((ClassScope) s, name) != null) {
+				return true;
+			}
+		}
+		for(Pair<Boolean,String> p : file.imports()) {
+			if(p.first()) {
+				Triple<String,String,String> s = splitStaticImport(p.second());
+				if(s.third().equals(name)) {
+					return true;
+				} else if(s.third().equals("*")) {
+					try {
+						types.resolveField(new Type.Clazz(s.first(), s
+								.second()), name, loader);
+						return true;
+					} catch(ClassNotFoundException cne) {
+					} catch(FieldNotFoundException fne) {
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check whether the class of a given scope declares, or inherits, a method
+	 * of a given name. As for fields, the answer is remembered in the scope.
+	 */
+	protected boolean hasMethod(ClassScope cs, String name)
+			throws ClassNotFoundException {
+		Boolean r = cs.methods.get(name);
+		if(r == null) {
+			r = types.hasMethod(cs.type, name, loader);
+			cs.methods.put(name, r);
+		}
+		return r;
+	}
+
+	/**
+	 * Resolve a class name against the current imports, using the resolution
+	 * cache of the file being compiled.
+	 */
+	protected Type.Clazz resolveClass(String className)
+			throws ClassNotFoundException {
+		if(resolved == null) {
+			resolved = cache.scope(imports);
+		}
+		return resolved.resolve(className, loader);
+	}
+
 	/**
 	 * Convert a class reference type into a proper name.
 	 */
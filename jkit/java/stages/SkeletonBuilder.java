@@ -30,6 +30,7 @@ import jkit.bytecode.attributes.SourceFile;
 import jkit.java.io.JavaFile;
 import jkit.java.tree.Decl;
 import jkit.java.tree.Expr;
+import jkit.java.tree.Kind;
 import jkit.java.tree.Stmt;
 import jkit.java.tree.Value;
 import jkit.java.tree.Stmt.Case;
@@ -79,19 +80,28 @@ public class SkeletonBuilder {
 		context.push(d);
 		
 		try {
-			if(d instanceof Decl.JavaInterface) {
+			switch(d.kind()) {
+			case Kind.JAVA_INTERFACE:
 				doInterface((Decl.JavaInterface)d, skeleton);
-			} else if(d instanceof Decl.JavaClass) {
+				break;
+			case Kind.JAVA_CLASS:
+			case Kind.JAVA_ENUM:
 				doClass((Decl.JavaClass)d, skeleton);
-			} else if(d instanceof Decl.JavaMethod) {
+				break;
+			case Kind.JAVA_METHOD:
+			case Kind.JAVA_CONSTRUCTOR:
 				doMethod((Decl.JavaMethod)d, skeleton);
-			} else if(d instanceof Decl.JavaField) {
+				break;
+			case Kind.JAVA_FIELD:
 				doField((Decl.JavaField)d, skeleton);
-			} else if (d instanceof Decl.InitialiserBlock) {
+				break;
+			case Kind.INITIALISER_BLOCK:
 				doInitialiserBlock((Decl.InitialiserBlock) d, skeleton);
-			} else if (d instanceof Decl.StaticInitialiserBlock) {
+				break;
+			case Kind.STATIC_INITIALISER_BLOCK:
 				doStaticInitialiserBlock((Decl.StaticInitialiserBlock) d, skeleton);
-			} else {
+				break;
+			default:
 				syntax_error("internal failure (unknown declaration \"" + d
 						+ "\" encountered)",d);
 			}
@@ -174,9 +184,10 @@ public class SkeletonBuilder {
 			modifiers.add(Modifier.ACC_PUBLIC);
 			modifiers.add(Modifier.ACC_STATIC);
 			modifiers.add(Modifier.ACC_FINAL);
+			modifiers.add(Modifier.ACC_ENUM);
 			skeleton.fields().add(
 					new JilField(enc.name(), type, modifiers,
-							new ArrayList(enc.attributes())));
+							enc.attributes()));
 			
 			// Now, check to see if we need an extra class to deal with this
             // enumeration constant. This can happen if the enum constant
@@ -256,7 +267,7 @@ public class SkeletonBuilder {
 		
 		skeleton.methods().add(
 				new JilMethod(name, type, parameters, d.modifiers(),
-						exceptions, new ArrayList(d.attributes())));				
+						exceptions, d.attributes()));				
 		
 		doStatement(d.body(), skeleton);
 	}
@@ -267,6 +278,8 @@ public class SkeletonBuilder {
 		Object constant = f.isConstant()
 				? f.constant()
 				: determineConstantValue(f.initialiser(), skeleton);
+		// e.g. the initialiser of a long constant may be an int
+		constant = ConstantEvaluator.convert(constant, t);
 		
 		if(skeleton.isInterface()) {						
 			ArrayList<Modifier> mods = new ArrayList(f.modifiers());
@@ -324,52 +337,82 @@ public class SkeletonBuilder {
 	
 	protected void doStatement(Stmt e, JilClass skeleton) {
 		try {
-			if(e instanceof Stmt.SynchronisedBlock) {
-				doSynchronisedBlock((Stmt.SynchronisedBlock)e, skeleton);
-			} else if(e instanceof Stmt.TryCatchBlock) {
-				doTryCatchBlock((Stmt.TryCatchBlock)e, skeleton);
-			} else if(e instanceof Stmt.Block) {
-				doBlock((Stmt.Block)e, skeleton);
-			} else if(e instanceof Stmt.VarDef) {
-				doVarDef((Stmt.VarDef) e, skeleton);
-			} else if(e instanceof Stmt.Assignment) {
-				doAssignment((Stmt.Assignment) e, skeleton);
-			} else if(e instanceof Stmt.Return) {
-				doReturn((Stmt.Return) e, skeleton);
-			} else if(e instanceof Stmt.Throw) {
-				doThrow((Stmt.Throw) e, skeleton);
-			} else if(e instanceof Stmt.Assert) {
-				doAssert((Stmt.Assert) e, skeleton);
-			} else if(e instanceof Stmt.Break) {
-				doBreak((Stmt.Break) e, skeleton);
-			} else if(e instanceof Stmt.Continue) {
-				doContinue((Stmt.Continue) e, skeleton);
-			} else if(e instanceof Stmt.Label) {
-				doLabel((Stmt.Label) e, skeleton);
-			} else if(e instanceof Stmt.If) {
-				doIf((Stmt.If) e, skeleton);
-			} else if(e instanceof Stmt.For) {
-				doFor((Stmt.For) e, skeleton);
-			} else if(e instanceof Stmt.ForEach) {
-				doForEach((Stmt.ForEach) e, skeleton);
-			} else if(e instanceof Stmt.While) {
-				doWhile((Stmt.While) e, skeleton);
-			} else if(e instanceof Stmt.DoWhile) {
-				doDoWhile((Stmt.DoWhile) e, skeleton);
-			} else if(e instanceof Stmt.Switch) {
-				doSwitch((Stmt.Switch) e, skeleton);
-			} else if(e instanceof Expr.Invoke) {
-				doInvoke((Expr.Invoke) e, skeleton);
-			} else if(e instanceof Expr.New) {
-				doNew((Expr.New) e, skeleton);
-			} else if(e instanceof Decl.JavaClass) {
-				doClass((Decl.JavaClass)e, skeleton);
-			} else if(e instanceof Stmt.PrePostIncDec) {
-				doExpression((Stmt.PrePostIncDec)e, skeleton);
-			} else if(e != null) {
-				syntax_error("Internal failure (invalid statement \""
-						+ e.getClass() + "\" encountered)", e);			
-			}		
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.SYNCHRONISED_BLOCK:
+					doSynchronisedBlock((Stmt.SynchronisedBlock)e, skeleton);
+					break;
+				case Kind.TRY_CATCH_BLOCK:
+					doTryCatchBlock((Stmt.TryCatchBlock)e, skeleton);
+					break;
+				case Kind.BLOCK:
+				case Kind.CATCH_BLOCK:
+				case Kind.INITIALISER_BLOCK:
+				case Kind.STATIC_INITIALISER_BLOCK:
+					doBlock((Stmt.Block)e, skeleton);
+					break;
+				case Kind.VAR_DEF:
+					doVarDef((Stmt.VarDef) e, skeleton);
+					break;
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					doAssignment((Stmt.Assignment) e, skeleton);
+					break;
+				case Kind.RETURN:
+					doReturn((Stmt.Return) e, skeleton);
+					break;
+				case Kind.THROW:
+					doThrow((Stmt.Throw) e, skeleton);
+					break;
+				case Kind.ASSERT:
+					doAssert((Stmt.Assert) e, skeleton);
+					break;
+				case Kind.BREAK:
+					doBreak((Stmt.Break) e, skeleton);
+					break;
+				case Kind.CONTINUE:
+					doContinue((Stmt.Continue) e, skeleton);
+					break;
+				case Kind.LABEL:
+					doLabel((Stmt.Label) e, skeleton);
+					break;
+				case Kind.IF:
+					doIf((Stmt.If) e, skeleton);
+					break;
+				case Kind.FOR:
+					doFor((Stmt.For) e, skeleton);
+					break;
+				case Kind.FOR_EACH:
+					doForEach((Stmt.ForEach) e, skeleton);
+					break;
+				case Kind.WHILE:
+					doWhile((Stmt.While) e, skeleton);
+					break;
+				case Kind.DO_WHILE:
+					doDoWhile((Stmt.DoWhile) e, skeleton);
+					break;
+				case Kind.SWITCH:
+					doSwitch((Stmt.Switch) e, skeleton);
+					break;
+				case Kind.INVOKE:
+					doInvoke((Expr.Invoke) e, skeleton);
+					break;
+				case Kind.NEW:
+					doNew((Expr.New) e, skeleton);
+					break;
+				case Kind.JAVA_CLASS:
+				case Kind.JAVA_INTERFACE:
+				case Kind.JAVA_ENUM:
+					doClass((Decl.JavaClass)e, skeleton);
+					break;
+				case Kind.PRE_POST_INC_DEC:
+					doExpression((Stmt.PrePostIncDec)e, skeleton);
+					break;
+				default:
+					syntax_error("Internal failure (invalid statement \""
+							+ e.getClass() + "\" encountered)", e);			
+				}
+			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
 		}
@@ -476,56 +519,84 @@ public class SkeletonBuilder {
 	
 	protected void doExpression(Expr e, JilClass skeleton) {	
 		try {
-			if(e instanceof Value.Bool) {
-				doBoolVal((Value.Bool)e, skeleton);
-			} else if(e instanceof Value.Char) {
-				doCharVal((Value.Char)e, skeleton);
-			} else if(e instanceof Value.Int) {
-				doIntVal((Value.Int)e, skeleton);
-			} else if(e instanceof Value.Long) {
-				doLongVal((Value.Long)e, skeleton);
-			} else if(e instanceof Value.Float) {
-				doFloatVal((Value.Float)e, skeleton);
-			} else if(e instanceof Value.Double) {
-				doDoubleVal((Value.Double)e, skeleton);
-			} else if(e instanceof Value.String) {
-				doStringVal((Value.String)e, skeleton);
-			} else if(e instanceof Value.Null) {
-				doNullVal((Value.Null)e, skeleton);
-			} else if(e instanceof Value.TypedArray) {
-				doTypedArrayVal((Value.TypedArray)e, skeleton);
-			} else if(e instanceof Value.Array) {
-				doArrayVal((Value.Array)e, skeleton);
-			} else if(e instanceof Value.Class) {
-				doClassVal((Value.Class) e, skeleton);
-			} else if(e instanceof Expr.UnresolvedVariable) {
-				doUnresolvedVariable((Expr.UnresolvedVariable)e, skeleton);
-			} else if(e instanceof Expr.ClassVariable) {
-				doClassVariable((Expr.ClassVariable)e, skeleton);
-			} else if(e instanceof Expr.UnOp) {
-				doUnOp((Expr.UnOp)e, skeleton);
-			} else if(e instanceof Expr.BinOp) {
-				doBinOp((Expr.BinOp)e, skeleton);
-			} else if(e instanceof Expr.TernOp) {
-				doTernOp((Expr.TernOp)e, skeleton);
-			} else if(e instanceof Expr.Cast) {
-				doCast((Expr.Cast)e, skeleton);
-			} else if(e instanceof Expr.InstanceOf) {
-				doInstanceOf((Expr.InstanceOf)e, skeleton);
-			} else if(e instanceof Expr.Invoke) {
-				doInvoke((Expr.Invoke) e, skeleton);
-			} else if(e instanceof Expr.New) {
-				doNew((Expr.New) e, skeleton);
-			} else if(e instanceof Expr.ArrayIndex) {
-				doArrayIndex((Expr.ArrayIndex) e, skeleton);
-			} else if(e instanceof Expr.Deref) {
-				doDeref((Expr.Deref) e, skeleton);
-			} else if(e instanceof Stmt.Assignment) {
-				// force brackets			
-				doAssignment((Stmt.Assignment) e, skeleton);			
-			} else if(e != null) {
-				syntax_error("Internal failure (invalid expression \""
-						+ e.getClass() + "\" encountered)", e);			
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.BOOL:
+					doBoolVal((Value.Bool)e, skeleton);
+					break;
+				case Kind.CHAR:
+					doCharVal((Value.Char)e, skeleton);
+					break;
+				case Kind.INT:
+					doIntVal((Value.Int)e, skeleton);
+					break;
+				case Kind.LONG:
+					doLongVal((Value.Long)e, skeleton);
+					break;
+				case Kind.FLOAT:
+					doFloatVal((Value.Float)e, skeleton);
+					break;
+				case Kind.DOUBLE:
+					doDoubleVal((Value.Double)e, skeleton);
+					break;
+				case Kind.STRING:
+					doStringVal((Value.String)e, skeleton);
+					break;
+				case Kind.NULL:
+					doNullVal((Value.Null)e, skeleton);
+					break;
+				case Kind.TYPED_ARRAY:
+					doTypedArrayVal((Value.TypedArray)e, skeleton);
+					break;
+				case Kind.ARRAY:
+					doArrayVal((Value.Array)e, skeleton);
+					break;
+				case Kind.CLASS:
+					doClassVal((Value.Class) e, skeleton);
+					break;
+				case Kind.UNRESOLVED_VARIABLE:
+					doUnresolvedVariable((Expr.UnresolvedVariable)e, skeleton);
+					break;
+				case Kind.CLASS_VARIABLE:
+					doClassVariable((Expr.ClassVariable)e, skeleton);
+					break;
+				case Kind.UNOP:
+				case Kind.PRE_POST_INC_DEC:
+					doUnOp((Expr.UnOp)e, skeleton);
+					break;
+				case Kind.BINOP:
+					doBinOp((Expr.BinOp)e, skeleton);
+					break;
+				case Kind.TERNOP:
+					doTernOp((Expr.TernOp)e, skeleton);
+					break;
+				case Kind.CAST:
+					doCast((Expr.Cast)e, skeleton);
+					break;
+				case Kind.INSTANCE_OF:
+					doInstanceOf((Expr.InstanceOf)e, skeleton);
+					break;
+				case Kind.INVOKE:
+					doInvoke((Expr.Invoke) e, skeleton);
+					break;
+				case Kind.NEW:
+					doNew((Expr.New) e, skeleton);
+					break;
+				case Kind.ARRAY_INDEX:
+					doArrayIndex((Expr.ArrayIndex) e, skeleton);
+					break;
+				case Kind.DEREF:
+					doDeref((Expr.Deref) e, skeleton);
+					break;
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					// force brackets			
+					doAssignment((Stmt.Assignment) e, skeleton);			
+					break;
+				default:
+					syntax_error("Internal failure (invalid expression \""
+							+ e.getClass() + "\" encountered)", e);			
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -670,139 +741,44 @@ public class SkeletonBuilder {
 	
 	/*
      * The purpose of this method is to try an determine the constant value of a
-     * field initialiser.
+     * field initialiser. The constant is evaluated with exactly the same
+     * semantics as in ConstantPropagation, since the value determined here
+     * becomes the field's ConstantValue attribute.
      */
 	protected Object determineConstantValue(Expr e, JilClass skeleton) {
-		if(e instanceof Expr.UnresolvedVariable) {
-			Expr.UnresolvedVariable v = (Expr.UnresolvedVariable) e;
-			String name = v.value();
-			JilField f = (JilField) skeleton.field(name);
-			if(f != null && f.isConstant()) {
-				return f.constant();
-			} 
+		if(e != null) {
+			switch(e.kind()) {
+			case Kind.UNRESOLVED_VARIABLE: {
+				Expr.UnresolvedVariable v = (Expr.UnresolvedVariable) e;
+				String name = v.value();
+				JilField f = (JilField) skeleton.field(name);
+				if(f != null && f.isConstant()) {
+					return f.constant();
+				} 
 			
-			// need to look somewhere else?
-		} else if(e instanceof Value.Bool) {
-			return ((Value.Bool) e).value();
-		} else if(e instanceof Value.Int) {
-			return ((Value.Int) e).value();
-		} else if(e instanceof Value.Float) {
-			return ((Value.Float) e).value();
-		} else if(e instanceof Value.Double) {
-			return ((Value.Double) e).value();
-		} else if(e instanceof Expr.BinOp) {
-			return eval((Expr.BinOp) e,skeleton);			
-		}		
+				// need to look somewhere else?
+				break;
+			}
+			case Kind.UNOP: {
+				Expr.UnOp uop = (Expr.UnOp) e;
+				return ConstantEvaluator.unaryOp(uop.op(),
+						determineConstantValue(uop.expr(), skeleton));
+			}
+			case Kind.BINOP:
+				return eval((Expr.BinOp) e,skeleton);
+			default:
+				return ConstantEvaluator.constant(e);
+			}
+		}
 		
 		return null;
 	}
 	
 	protected Object eval(Expr.BinOp bop, JilClass skeleton) {
-
-		// this code needs substantial work yet.
-		
 		Object lval = determineConstantValue(bop.lhs(),skeleton);
 		Object rval = determineConstantValue(bop.rhs(),skeleton);
 		
-		if(lval instanceof Integer && rval instanceof Integer) {
-			int l = (Integer) lval;
-			int r = (Integer) rval;
-									
-			switch(bop.op()) {
-				case Expr.BinOp.ADD:
-					return l+r;
-				case Expr.BinOp.SUB:
-					return l-r;
-				case Expr.BinOp.MUL:
-					return l*r;
-				case Expr.BinOp.DIV:
-					return l/r;
-				case Expr.BinOp.MOD:
-					return l%r;
-				case Expr.BinOp.SHL:
-					return l<<r;
-				case Expr.BinOp.SHR:
-					return l>>r;
-				case Expr.BinOp.USHR:
-					return l>>>r;
-				case Expr.BinOp.OR:					
-					return l|r;
-				case Expr.BinOp.AND:
-					return l&r;
-				case Expr.BinOp.LT:
-					return l<r;
-				case Expr.BinOp.LTEQ:
-					return l<=r;
-				case Expr.BinOp.GT:
-					return l>r;
-				case Expr.BinOp.GTEQ:
-					return l>=r;
-				case Expr.BinOp.EQ:
-					return l==r;
-				case Expr.BinOp.NEQ:
-					return l!=r;													
-			}
-		} else if ((lval instanceof Float || lval instanceof Integer)
-				&& (rval instanceof Float || rval instanceof Integer)) {
-			float l = lval instanceof Float ? (Float) lval : (Integer) lval;
-			float r = rval instanceof Float ? (Float) rval : (Integer) rval;			
-									
-			switch(bop.op()) {
-				case Expr.BinOp.ADD:
-					return l+r;
-				case Expr.BinOp.SUB:
-					return l-r;
-				case Expr.BinOp.MUL:
-					return l*r;
-				case Expr.BinOp.DIV:
-					return l/r;
-				case Expr.BinOp.MOD:
-					return l%r;
-				case Expr.BinOp.LT:
-					return l<r;
-				case Expr.BinOp.LTEQ:
-					return l<=r;
-				case Expr.BinOp.GT:
-					return l>r;
-				case Expr.BinOp.GTEQ:
-					return l>=r;
-				case Expr.BinOp.EQ:
-					return l==r;
-				case Expr.BinOp.NEQ:
-					return l!=r;													
-			}		
-		} else if ((lval instanceof Double || lval instanceof Integer)
-				&& (rval instanceof Double || rval instanceof Integer)) {
-			double l = lval instanceof Double ? (Double) lval : (Integer) lval;
-			double r = rval instanceof Double ? (Double) rval : (Integer) rval;			
-									
-			switch(bop.op()) {
-				case Expr.BinOp.ADD:
-					return l+r;
-				case Expr.BinOp.SUB:
-					return l-r;
-				case Expr.BinOp.MUL:
-					return l*r;
-				case Expr.BinOp.DIV:
-					return l/r;
-				case Expr.BinOp.MOD:
-					return l%r;
-				case Expr.BinOp.LT:
-					return l<r;
-				case Expr.BinOp.LTEQ:
-					return l<=r;
-				case Expr.BinOp.GT:
-					return l>r;
-				case Expr.BinOp.GTEQ:
-					return l>=r;
-				case Expr.BinOp.EQ:
-					return l==r;
-				case Expr.BinOp.NEQ:
-					return l!=r;													
-			}		
-		}
-		
-		return null;
+		return ConstantEvaluator.binaryOp(bop.op(), lval, rval);
 	}
 	
 	protected List<SyntacticAttribute> addSrcFile(List<SyntacticAttribute> attributes) {
@@ -839,14 +815,20 @@ public class SkeletonBuilder {
 	protected boolean inStaticContext() {
 		Decl d = context.peek();
 		
-		if(d instanceof Decl.StaticInitialiserBlock) {
-			return true;
-		} else if(d instanceof Decl.JavaMethod) {
-			return ((Decl.JavaMethod)d).isStatic();
-		} else if(d instanceof Decl.JavaField) {
-			return ((Decl.JavaField)d).isStatic();
-		} else if(d instanceof Decl.JavaClass) {
-			return ((Decl.JavaClass)d).isStatic();
+		if(d != null) {
+			switch(d.kind()) {
+			case Kind.STATIC_INITIALISER_BLOCK:
+				return true;
+			case Kind.JAVA_METHOD:
+			case Kind.JAVA_CONSTRUCTOR:
+				return ((Decl.JavaMethod)d).isStatic();
+			case Kind.JAVA_FIELD:
+				return ((Decl.JavaField)d).isStatic();
+			case Kind.JAVA_CLASS:
+			case Kind.JAVA_INTERFACE:
+			case Kind.JAVA_ENUM:
+				return ((Decl.JavaClass)d).isStatic();
+			}
 		}
 		
 		return false;
@@ -33,6 +33,7 @@ import jkit.bytecode.attributes.SourceFile;
 import jkit.java.io.JavaFile;
 import jkit.java.tree.Decl;
 import jkit.java.tree.Expr;
+import jkit.java.tree.Kind;
 import jkit.java.tree.Decl.JavaField;
 import jkit.java.tree.Stmt.Case;
 import jkit.java.tree.Stmt;
@@ -97,21 +98,23 @@ public class SkeletonDiscovery {
 	
 	protected List<JilClass> doDeclaration(Decl d) {	
 		try {
-			if(d instanceof Decl.JavaInterface) {
+			switch(d.kind()) {
+			case Kind.JAVA_INTERFACE:
 				return doInterface((Decl.JavaInterface)d);
-			} else if(d instanceof Decl.JavaEnum) {
+			case Kind.JAVA_ENUM:
 				return doEnum((Decl.JavaEnum)d);
-			} else if(d instanceof Decl.JavaClass) {
+			case Kind.JAVA_CLASS:
 				return doClass((Decl.JavaClass)d);
-			} else if(d instanceof Decl.JavaMethod) {
+			case Kind.JAVA_METHOD:
+			case Kind.JAVA_CONSTRUCTOR:
 				return doMethod((Decl.JavaMethod)d);
-			} else if(d instanceof Decl.JavaField) {
+			case Kind.JAVA_FIELD:
 				return doField((JavaField)d);
-			} else if(d instanceof Decl.InitialiserBlock) {
+			case Kind.INITIALISER_BLOCK:
 				return doInitialiserBlock((Decl.InitialiserBlock)d);
-			} else if(d instanceof Decl.StaticInitialiserBlock) {
+			case Kind.STATIC_INITIALISER_BLOCK:
 				return doStaticInitialiserBlock((Decl.StaticInitialiserBlock)d);
-			} else {
+			default:
 				syntax_error("internal failure (unknown declaration \"" + d
 						+ "\" encountered)",d);		
 			}
@@ -246,30 +249,39 @@ public class SkeletonDiscovery {
 	}		
 	
 	protected List<JilClass> doStatement(Stmt e) {
+		if(e == null) {
+			return new ArrayList<JilClass>();
+		}
 		try {
-			if(e instanceof Stmt.SynchronisedBlock) {
+			switch(e.kind()) {
+			case Kind.SYNCHRONISED_BLOCK:
 				return doSynchronisedBlock((Stmt.SynchronisedBlock)e);
-			} else if(e instanceof Stmt.TryCatchBlock) {
+			case Kind.TRY_CATCH_BLOCK:
 				return doTryCatchBlock((Stmt.TryCatchBlock)e);
-			} else if(e instanceof Stmt.Block) {
+			case Kind.BLOCK:
+			case Kind.CATCH_BLOCK:
+			case Kind.INITIALISER_BLOCK:
+			case Kind.STATIC_INITIALISER_BLOCK:
 				return doBlock((Stmt.Block)e);
-			} else if(e instanceof Stmt.Label) {
+			case Kind.LABEL:
 				return doLabel((Stmt.Label) e);
-			} else if(e instanceof Stmt.If) {
+			case Kind.IF:
 				return doIf((Stmt.If) e);
-			} else if(e instanceof Stmt.For) {
+			case Kind.FOR:
 				return doFor((Stmt.For) e);
-			} else if(e instanceof Stmt.ForEach) {
+			case Kind.FOR_EACH:
 				return doForEach((Stmt.ForEach) e);
-			} else if(e instanceof Stmt.While) {
+			case Kind.WHILE:
 				return doWhile((Stmt.While) e);
-			} else if(e instanceof Stmt.DoWhile) {
+			case Kind.DO_WHILE:
 				return doDoWhile((Stmt.DoWhile) e);
-			} else if(e instanceof Stmt.Switch) {
+			case Kind.SWITCH:
 				return doSwitch((Stmt.Switch) e);
-			} else if(e instanceof Decl.JavaClass) {				
+			case Kind.JAVA_CLASS:
+			case Kind.JAVA_INTERFACE:
+			case Kind.JAVA_ENUM:
 				return doClass((Decl.JavaClass)e);
-			} else {
+			default:
 				return new ArrayList<JilClass>();
 			}
 		} catch(Exception ex) {
@@ -36,11 +36,13 @@ import static jkit.error.OperatorTypeMismatchException.checkTypeAllowed;
 import jkit.java.io.JavaFile;
 import jkit.java.tree.Decl;
 import jkit.java.tree.Expr;
+import jkit.java.tree.Kind;
 import jkit.java.tree.Stmt;
 import jkit.java.tree.Value;
 import jkit.java.tree.Decl.*;
 import jkit.java.tree.Expr.*;
 import jkit.java.tree.Stmt.*;
+import jkit.jil.tree.Modifier;
 import jkit.jil.tree.SourceLocation;
 import jkit.jil.tree.Type;
 import jkit.jil.util.Types;
@@ -140,51 +142,81 @@ public class TypeChecking {
 
 	protected void checkStatement(Stmt e) {
 		try {
-			if(e instanceof Stmt.SynchronisedBlock) {
-				checkSynchronisedBlock((Stmt.SynchronisedBlock)e);
-			} else if(e instanceof Stmt.TryCatchBlock) {
-				checkTryCatchBlock((Stmt.TryCatchBlock)e);
-			} else if(e instanceof Stmt.Block) {
-				checkBlock((Stmt.Block)e);
-			} else if(e instanceof Stmt.VarDef) {
-				checkVarDef((Stmt.VarDef) e);
-			} else if(e instanceof Stmt.Assignment) {
-				checkAssignment((Stmt.Assignment) e);
-			} else if(e instanceof Stmt.Return) {
-				checkReturn((Stmt.Return) e);
-			} else if(e instanceof Stmt.Throw) {
-				checkThrow((Stmt.Throw) e);
-			} else if(e instanceof Stmt.Assert) {
-				checkAssert((Stmt.Assert) e);
-			} else if(e instanceof Stmt.Break) {
-				checkBreak((Stmt.Break) e);
-			} else if(e instanceof Stmt.Continue) {
-				checkContinue((Stmt.Continue) e);
-			} else if(e instanceof Stmt.Label) {
-				checkLabel((Stmt.Label) e);
-			} else if(e instanceof Stmt.If) {
-				checkIf((Stmt.If) e);
-			} else if(e instanceof Stmt.For) {
-				checkFor((Stmt.For) e);
-			} else if(e instanceof Stmt.ForEach) {
-				checkForEach((Stmt.ForEach) e);
-			} else if(e instanceof Stmt.While) {
-				checkWhile((Stmt.While) e);
-			} else if(e instanceof Stmt.DoWhile) {
-				checkDoWhile((Stmt.DoWhile) e);
-			} else if(e instanceof Stmt.Switch) {
-				checkSwitch((Stmt.Switch) e);
-			} else if(e instanceof Expr.Invoke) {
-				checkInvoke((Expr.Invoke) e);
-			} else if(e instanceof Expr.New) {
-				checkNew((Expr.New) e);
-			} else if(e instanceof Decl.JavaClass) {
-				checkClass((Decl.JavaClass)e);
-			} else if(e instanceof Stmt.PrePostIncDec) {
-				checkExpression((Stmt.PrePostIncDec)e);
-			} else if(e != null) {
-				throw new RuntimeException("Invalid statement encountered: "
-						+ e.getClass());
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.SYNCHRONISED_BLOCK:
+					checkSynchronisedBlock((Stmt.SynchronisedBlock)e);
+					break;
+				case Kind.TRY_CATCH_BLOCK:
+					checkTryCatchBlock((Stmt.TryCatchBlock)e);
+					break;
+				case Kind.BLOCK:
+				case Kind.CATCH_BLOCK:
+				case Kind.INITIALISER_BLOCK:
+				case Kind.STATIC_INITIALISER_BLOCK:
+					checkBlock((Stmt.Block)e);
+					break;
+				case Kind.VAR_DEF:
+					checkVarDef((Stmt.VarDef) e);
+					break;
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					checkAssignment((Stmt.Assignment) e);
+					break;
+				case Kind.RETURN:
+					checkReturn((Stmt.Return) e);
+					break;
+				case Kind.THROW:
+					checkThrow((Stmt.Throw) e);
+					break;
+				case Kind.ASSERT:
+					checkAssert((Stmt.Assert) e);
+					break;
+				case Kind.BREAK:
+					checkBreak((Stmt.Break) e);
+					break;
+				case Kind.CONTINUE:
+					checkContinue((Stmt.Continue) e);
+					break;
+				case Kind.LABEL:
+					checkLabel((Stmt.Label) e);
+					break;
+				case Kind.IF:
+					checkIf((Stmt.If) e);
+					break;
+				case Kind.FOR:
+					checkFor((Stmt.For) e);
+					break;
+				case Kind.FOR_EACH:
+					checkForEach((Stmt.ForEach) e);
+					break;
+				case Kind.WHILE:
+					checkWhile((Stmt.While) e);
+					break;
+				case Kind.DO_WHILE:
+					checkDoWhile((Stmt.DoWhile) e);
+					break;
+				case Kind.SWITCH:
+					checkSwitch((Stmt.Switch) e);
+					break;
+				case Kind.INVOKE:
+					checkInvoke((Expr.Invoke) e);
+					break;
+				case Kind.NEW:
+					checkNew((Expr.New) e);
+					break;
+				case Kind.JAVA_CLASS:
+				case Kind.JAVA_INTERFACE:
+				case Kind.JAVA_ENUM:
+					checkClass((Decl.JavaClass)e);
+					break;
+				case Kind.PRE_POST_INC_DEC:
+					checkExpression((Stmt.PrePostIncDec)e);
+					break;
+				default:
+					throw new RuntimeException("Invalid statement encountered: "
+							+ e.getClass());
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -416,7 +448,18 @@ public class TypeChecking {
 
 		Type condT = sw.condition().attribute(Type.class);
 
-		if(!(condT instanceof Type.Int)) {
+		// a switch may also be over an enumeration
+		boolean isEnum = false;
+		if(condT instanceof Type.Clazz) {
+			try {
+				isEnum = loader.loadClass((Type.Clazz) condT).hasModifier(
+						Modifier.Enum.class);
+			} catch (ClassNotFoundException ex) {
+				syntax_error(ex.getMessage(), sw);
+			}
+		}
+
+		if(!(condT instanceof Type.Int) && !isEnum) {
 			ErrorHandler.handleTypeMismatch(new TypeMismatchException(sw.condition(),
 							T_INT, loader, types), sw.condition().attribute(SourceLocation.class));
 		}
@@ -431,63 +474,95 @@ public class TypeChecking {
 
 	protected void checkExpression(Expr e) {
 		try {
-			if(e instanceof Value.Bool) {
-				checkBoolVal((Value.Bool)e);
-			} else if(e instanceof Value.Byte) {
-				checkByteVal((Value.Byte)e);
-			} else if(e instanceof Value.Char) {
-				checkCharVal((Value.Char)e);
-			} else if(e instanceof Value.Int) {
-				checkIntVal((Value.Int)e);
-			} else if(e instanceof Value.Short) {
-				checkShortVal((Value.Short)e);
-			} else if(e instanceof Value.Long) {
-				checkLongVal((Value.Long)e);
-			} else if(e instanceof Value.Float) {
-				checkFloatVal((Value.Float)e);
-			} else if(e instanceof Value.Double) {
-				checkDoubleVal((Value.Double)e);
-			} else if(e instanceof Value.String) {
-				checkStringVal((Value.String)e);
-			} else if(e instanceof Value.Null) {
-				checkNullVal((Value.Null)e);
-			} else if(e instanceof Value.TypedArray) {
-				checkTypedArrayVal((Value.TypedArray)e);
-			} else if(e instanceof Value.Array) {
-				checkArrayVal((Value.Array)e);
-			} else if(e instanceof Value.Class) {
-				checkClassVal((Value.Class) e);
-			} else if(e instanceof Expr.LocalVariable) {
-				checkLocalVariable((Expr.LocalVariable)e);
-			} else if(e instanceof Expr.NonLocalVariable) {
-				checkNonLocalVariable((Expr.NonLocalVariable)e);
-			} else if(e instanceof Expr.ClassVariable) {
-				checkClassVariable((Expr.ClassVariable)e);
-			} else if(e instanceof Expr.UnOp) {
-				checkUnOp((Expr.UnOp)e);
-			} else if(e instanceof Expr.BinOp) {
-				checkBinOp((Expr.BinOp)e);
-			} else if(e instanceof Expr.TernOp) {
-				checkTernOp((Expr.TernOp)e);
-			} else if(e instanceof Expr.Cast) {
-				checkCast((Expr.Cast)e);
-			} else if(e instanceof Expr.Convert) {
-				checkConvert((Expr.Convert)e);
-			} else if(e instanceof Expr.InstanceOf) {
-				checkInstanceOf((Expr.InstanceOf)e);
-			} else if(e instanceof Expr.Invoke) {
-				checkInvoke((Expr.Invoke) e);
-			} else if(e instanceof Expr.New) {
-				checkNew((Expr.New) e);
-			} else if(e instanceof Expr.ArrayIndex) {
-				checkArrayIndex((Expr.ArrayIndex) e);
-			} else if(e instanceof Expr.Deref) {
-				checkDeref((Expr.Deref) e);
-			} else if(e instanceof Stmt.Assignment) {
-				checkAssignment((Stmt.Assignment) e);
-			} else if(e != null) {
-				throw new RuntimeException("Invalid expression encountered: "
-						+ e.getClass());
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.BOOL:
+					checkBoolVal((Value.Bool)e);
+					break;
+				case Kind.BYTE:
+					checkByteVal((Value.Byte)e);
+					break;
+				case Kind.CHAR:
+					checkCharVal((Value.Char)e);
+					break;
+				case Kind.INT:
+					checkIntVal((Value.Int)e);
+					break;
+				case Kind.SHORT:
+					checkShortVal((Value.Short)e);
+					break;
+				case Kind.LONG:
+					checkLongVal((Value.Long)e);
+					break;
+				case Kind.FLOAT:
+					checkFloatVal((Value.Float)e);
+					break;
+				case Kind.DOUBLE:
+					checkDoubleVal((Value.Double)e);
+					break;
+				case Kind.STRING:
+					checkStringVal((Value.String)e);
+					break;
+				case Kind.NULL:
+					checkNullVal((Value.Null)e);
+					break;
+				case Kind.TYPED_ARRAY:
+					checkTypedArrayVal((Value.TypedArray)e);
+					break;
+				case Kind.ARRAY:
+					checkArrayVal((Value.Array)e);
+					break;
+				case Kind.CLASS:
+					checkClassVal((Value.Class) e);
+					break;
+				case Kind.LOCAL_VARIABLE:
+					checkLocalVariable((Expr.LocalVariable)e);
+					break;
+				case Kind.NON_LOCAL_VARIABLE:
+					checkNonLocalVariable((Expr.NonLocalVariable)e);
+					break;
+				case Kind.CLASS_VARIABLE:
+					checkClassVariable((Expr.ClassVariable)e);
+					break;
+				case Kind.UNOP:
+				case Kind.PRE_POST_INC_DEC:
+					checkUnOp((Expr.UnOp)e);
+					break;
+				case Kind.BINOP:
+					checkBinOp((Expr.BinOp)e);
+					break;
+				case Kind.TERNOP:
+					checkTernOp((Expr.TernOp)e);
+					break;
+				case Kind.CAST:
+					checkCast((Expr.Cast)e);
+					break;
+				case Kind.CONVERT:
+					checkConvert((Expr.Convert)e);
+					break;
+				case Kind.INSTANCE_OF:
+					checkInstanceOf((Expr.InstanceOf)e);
+					break;
+				case Kind.INVOKE:
+					checkInvoke((Expr.Invoke) e);
+					break;
+				case Kind.NEW:
+					checkNew((Expr.New) e);
+					break;
+				case Kind.ARRAY_INDEX:
+					checkArrayIndex((Expr.ArrayIndex) e);
+					break;
+				case Kind.DEREF:
+					checkDeref((Expr.Deref) e);
+					break;
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					checkAssignment((Stmt.Assignment) e);
+					break;
+				default:
+					throw new RuntimeException("Invalid expression encountered: "
+							+ e.getClass());
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
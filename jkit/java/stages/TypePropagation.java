@@ -41,6 +41,7 @@ import static jkit.java.tree.Type.fromJilType;
 import jkit.java.io.JavaFile;
 import jkit.java.tree.Decl;
 import jkit.java.tree.Expr;
+import jkit.java.tree.Kind;
 import jkit.java.tree.Stmt;
 import jkit.java.tree.Value;
 import jkit.java.tree.Decl.*;
@@ -178,53 +179,83 @@ public class TypePropagation {
 
 	protected void doStatement(Stmt e, JavaMethod m) {
 		try {
-			if(e instanceof Stmt.SynchronisedBlock) {
-				doSynchronisedBlock((Stmt.SynchronisedBlock)e, m);
-			} else if(e instanceof Stmt.TryCatchBlock) {
-				doTryCatchBlock((Stmt.TryCatchBlock)e, m);
-			} else if(e instanceof Stmt.Block) {
-				doBlock((Stmt.Block)e, m);
-			} else if(e instanceof Stmt.VarDef) {
-				doVarDef((Stmt.VarDef) e, m);
-			} else if(e instanceof Stmt.AssignmentOp) {
-				doAssignmentOp((Stmt.AssignmentOp) e, m);
-			} else if(e instanceof Stmt.Assignment) {
-				doAssignment((Stmt.Assignment) e, m);
-			} else if(e instanceof Stmt.Return) {
-				doReturn((Stmt.Return) e, m);
-			} else if(e instanceof Stmt.Throw) {
-				doThrow((Stmt.Throw) e, m);
-			} else if(e instanceof Stmt.Assert) {
-				doAssert((Stmt.Assert) e, m);
-			} else if(e instanceof Stmt.Break) {
-				doBreak((Stmt.Break) e, m);
-			} else if(e instanceof Stmt.Continue) {
-				doContinue((Stmt.Continue) e, m);
-			} else if(e instanceof Stmt.Label) {
-				doLabel((Stmt.Label) e, m);
-			} else if(e instanceof Stmt.If) {
-				doIf((Stmt.If) e, m);
-			} else if(e instanceof Stmt.For) {
-				doFor((Stmt.For) e, m);
-			} else if(e instanceof Stmt.ForEach) {
-				doForEach((Stmt.ForEach) e, m);
-			} else if(e instanceof Stmt.While) {
-				doWhile((Stmt.While) e, m);
-			} else if(e instanceof Stmt.DoWhile) {
-				doDoWhile((Stmt.DoWhile) e, m);
-			} else if(e instanceof Stmt.Switch) {
-				doSwitch((Stmt.Switch) e, m);
-			} else if(e instanceof Expr.Invoke) {
-				doInvoke((Expr.Invoke) e);
-			} else if(e instanceof Expr.New) {
-				doNew((Expr.New) e);
-			} else if(e instanceof Decl.JavaClass) {
-				doClass((Decl.JavaClass)e);
-			} else if(e instanceof Stmt.PrePostIncDec) {
-				doExpression((Stmt.PrePostIncDec)e);
-			} else if(e != null) {
-				syntax_error("Internal failure (invalid statement \""
-						+ e.getClass() + "\" encountered)", e);
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.SYNCHRONISED_BLOCK:
+					doSynchronisedBlock((Stmt.SynchronisedBlock)e, m);
+					break;
+				case Kind.TRY_CATCH_BLOCK:
+					doTryCatchBlock((Stmt.TryCatchBlock)e, m);
+					break;
+				case Kind.BLOCK:
+				case Kind.CATCH_BLOCK:
+				case Kind.INITIALISER_BLOCK:
+				case Kind.STATIC_INITIALISER_BLOCK:
+					doBlock((Stmt.Block)e, m);
+					break;
+				case Kind.VAR_DEF:
+					doVarDef((Stmt.VarDef) e, m);
+					break;
+				case Kind.ASSIGNMENT_OP:
+					doAssignmentOp((Stmt.AssignmentOp) e, m);
+					break;
+				case Kind.ASSIGNMENT:
+					doAssignment((Stmt.Assignment) e, m);
+					break;
+				case Kind.RETURN:
+					doReturn((Stmt.Return) e, m);
+					break;
+				case Kind.THROW:
+					doThrow((Stmt.Throw) e, m);
+					break;
+				case Kind.ASSERT:
+					doAssert((Stmt.Assert) e, m);
+					break;
+				case Kind.BREAK:
+					doBreak((Stmt.Break) e, m);
+					break;
+				case Kind.CONTINUE:
+					doContinue((Stmt.Continue) e, m);
+					break;
+				case Kind.LABEL:
+					doLabel((Stmt.Label) e, m);
+					break;
+				case Kind.IF:
+					doIf((Stmt.If) e, m);
+					break;
+				case Kind.FOR:
+					doFor((Stmt.For) e, m);
+					break;
+				case Kind.FOR_EACH:
+					doForEach((Stmt.ForEach) e, m);
+					break;
+				case Kind.WHILE:
+					doWhile((Stmt.While) e, m);
+					break;
+				case Kind.DO_WHILE:
+					doDoWhile((Stmt.DoWhile) e, m);
+					break;
+				case Kind.SWITCH:
+					doSwitch((Stmt.Switch) e, m);
+					break;
+				case Kind.INVOKE:
+					doInvoke((Expr.Invoke) e);
+					break;
+				case Kind.NEW:
+					doNew((Expr.New) e);
+					break;
+				case Kind.JAVA_CLASS:
+				case Kind.JAVA_INTERFACE:
+				case Kind.JAVA_ENUM:
+					doClass((Decl.JavaClass)e);
+					break;
+				case Kind.PRE_POST_INC_DEC:
+					doExpression((Stmt.PrePostIncDec)e);
+					break;
+				default:
+					syntax_error("Internal failure (invalid statement \""
+							+ e.getClass() + "\" encountered)", e);
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -405,8 +436,27 @@ public class TypePropagation {
 
 	protected void doSwitch(Stmt.Switch sw, JavaMethod m) {
 		doExpression(sw.condition());
-		sw.setCondition(implicitCast(sw.condition(),T_INT));
+		Type t = sw.condition().attribute(Type.class);
+		boolean isEnum = false;
+		if(t instanceof Type.Clazz) {
+			try {
+				isEnum = loader.loadClass((Type.Clazz) t).hasModifier(
+						Modifier.Enum.class);
+			} catch(ClassNotFoundException ex) {
+				internal_error(sw.condition(),ex);
+			}
+		}
+		if(!isEnum) {
+			sw.setCondition(implicitCast(sw.condition(),T_INT));
+		}
 		for(Case c : sw.cases()) {
+			if(isEnum && c.condition() != null) {
+				c.setCondition(doEnumLabel(c.condition(), (Type.Clazz) t));
+			} else if(c.condition() instanceof Expr.UnresolvedVariable) {
+				syntax_error("Cannot find symbol - variable \""
+						+ ((Expr.UnresolvedVariable) c.condition()).value()
+						+ "\"", c.condition());
+			}
 			doExpression(c.condition());
 			for(Stmt s : c.statements()) {
 				doStatement(s,m);
@@ -416,61 +466,133 @@ public class TypePropagation {
 		// should check that case conditions are final constants here.
 	}
 
+	/**
+	 * The label of a case in a switch over an enumeration is the unqualified
+	 * name of one of its constants. Therefore, this method turns the label
+	 * into an access of that constant, whatever the name was resolved to
+	 * (see ScopeResolution.doSwitch()).
+	 *
+	 * @param label
+	 * @param type
+	 *            the enumeration being switched on.
+	 * @return
+	 */
+	protected Expr doEnumLabel(Expr label, Type.Clazz type) {
+		String name = null;
+		if(label instanceof Expr.UnresolvedVariable) {
+			name = ((Expr.UnresolvedVariable) label).value();
+		} else if(label instanceof Expr.LocalVariable) {
+			name = ((Expr.LocalVariable) label).value();
+		} else if(label instanceof Expr.NonLocalVariable) {
+			name = ((Expr.NonLocalVariable) label).value();
+		} else if(label instanceof Expr.Deref) {
+			name = ((Expr.Deref) label).name();
+		}
+
+		Clazz.Field f = null;
+		if(name != null) {
+			try {
+				f = types.resolveField(type, name, loader).second();
+			} catch(ClassNotFoundException ex) {
+				internal_error(label,ex);
+			} catch(FieldNotFoundException ex) {
+				// fall through
+			}
+		}
+		if(f == null || !f.hasModifier(Modifier.Enum.class)) {
+			syntax_error("an enum switch case label must be the unqualified "
+					+ "name of an enumeration constant", label);
+		}
+
+		SourceLocation loc = label.attribute(SourceLocation.class);
+		Expr.ClassVariable cv = new Expr.ClassVariable(type.toString(), loc);
+		cv.attributes().add(type);
+		return new Expr.Deref(cv, name, loc);
+	}
+
 	protected void doExpression(Expr e) {
 		try {
-			if(e instanceof Value.Bool) {
-				doBoolVal((Value.Bool)e);
-			} else if(e instanceof Value.Char) {
-				doCharVal((Value.Char)e);
-			} else if(e instanceof Value.Int) {
-				doIntVal((Value.Int)e);
-			} else if(e instanceof Value.Long) {
-				doLongVal((Value.Long)e);
-			} else if(e instanceof Value.Float) {
-				doFloatVal((Value.Float)e);
-			} else if(e instanceof Value.Double) {
-				doDoubleVal((Value.Double)e);
-			} else if(e instanceof Value.String) {
-				doStringVal((Value.String)e);
-			} else if(e instanceof Value.Null) {
-				doNullVal((Value.Null)e);
-			} else if(e instanceof Value.TypedArray) {
-				doTypedArrayVal((Value.TypedArray)e);
-			} else if(e instanceof Value.Class) {
-				doClassVal((Value.Class) e);
-			} else if(e instanceof Expr.LocalVariable) {
-				doLocalVariable((Expr.LocalVariable)e);
-			} else if(e instanceof Expr.NonLocalVariable) {
-				doNonLocalVariable((Expr.NonLocalVariable)e);
-			} else if(e instanceof Expr.ClassVariable) {
-				doClassVariable((Expr.ClassVariable)e);
-			} else if(e instanceof Expr.UnOp) {
-				doUnOp((Expr.UnOp)e);
-			} else if(e instanceof Expr.BinOp) {
-				doBinOp((Expr.BinOp)e);
-			} else if(e instanceof Expr.TernOp) {
-				doTernOp((Expr.TernOp)e);
-			} else if(e instanceof Expr.Cast) {
-				doCast((Expr.Cast)e);
-			} else if(e instanceof Expr.InstanceOf) {
-				doInstanceOf((Expr.InstanceOf)e);
-			} else if(e instanceof Expr.Invoke) {
-				doInvoke((Expr.Invoke) e);
-			} else if(e instanceof Expr.New) {
-				doNew((Expr.New) e);
-			} else if(e instanceof Expr.ArrayIndex) {
-				doArrayIndex((Expr.ArrayIndex) e);
-			} else if(e instanceof Expr.Deref) {
-				doDeref((Expr.Deref) e);
-			} else if(e instanceof Stmt.AssignmentOp) {
-				// force brackets
-				doAssignmentOp((Stmt.AssignmentOp) e, null);
-			} else if(e instanceof Stmt.Assignment) {
-				// force brackets
-				doAssignment((Stmt.Assignment) e, null);
-			} else if (e != null) {
-				syntax_error("Internal failure (invalid expression \""
-						+ e.getClass() + "\" encountered)", e);
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.BOOL:
+					doBoolVal((Value.Bool)e);
+					break;
+				case Kind.CHAR:
+					doCharVal((Value.Char)e);
+					break;
+				case Kind.INT:
+					doIntVal((Value.Int)e);
+					break;
+				case Kind.LONG:
+					doLongVal((Value.Long)e);
+					break;
+				case Kind.FLOAT:
+					doFloatVal((Value.Float)e);
+					break;
+				case Kind.DOUBLE:
+					doDoubleVal((Value.Double)e);
+					break;
+				case Kind.STRING:
+					doStringVal((Value.String)e);
+					break;
+				case Kind.NULL:
+					doNullVal((Value.Null)e);
+					break;
+				case Kind.TYPED_ARRAY:
+					doTypedArrayVal((Value.TypedArray)e);
+					break;
+				case Kind.CLASS:
+					doClassVal((Value.Class) e);
+					break;
+				case Kind.LOCAL_VARIABLE:
+					doLocalVariable((Expr.LocalVariable)e);
+					break;
+				case Kind.NON_LOCAL_VARIABLE:
+					doNonLocalVariable((Expr.NonLocalVariable)e);
+					break;
+				case Kind.CLASS_VARIABLE:
+					doClassVariable((Expr.ClassVariable)e);
+					break;
+				case Kind.UNOP:
+				case Kind.PRE_POST_INC_DEC:
+					doUnOp((Expr.UnOp)e);
+					break;
+				case Kind.BINOP:
+					doBinOp((Expr.BinOp)e);
+					break;
+				case Kind.TERNOP:
+					doTernOp((Expr.TernOp)e);
+					break;
+				case Kind.CAST:
+					doCast((Expr.Cast)e);
+					break;
+				case Kind.INSTANCE_OF:
+					doInstanceOf((Expr.InstanceOf)e);
+					break;
+				case Kind.INVOKE:
+					doInvoke((Expr.Invoke) e);
+					break;
+				case Kind.NEW:
+					doNew((Expr.New) e);
+					break;
+				case Kind.ARRAY_INDEX:
+					doArrayIndex((Expr.ArrayIndex) e);
+					break;
+				case Kind.DEREF:
+					doDeref((Expr.Deref) e);
+					break;
+				case Kind.ASSIGNMENT_OP:
+					// force brackets
+					doAssignmentOp((Stmt.AssignmentOp) e, null);
+					break;
+				case Kind.ASSIGNMENT:
+					// force brackets
+					doAssignment((Stmt.Assignment) e, null);
+					break;
+				default:
+					syntax_error("Internal failure (invalid expression \""
+							+ e.getClass() + "\" encountered)", e);
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
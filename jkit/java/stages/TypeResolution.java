@@ -24,6 +24,7 @@ package jkit.java.stages;
 import java.util.*;
 
 import jkit.compiler.ClassLoader;
+import jkit.compiler.ResolutionCache;
 import jkit.compiler.Clazz;
 import jkit.compiler.SyntacticElement;
 import static jkit.compiler.SyntaxError.*;
@@ -31,6 +32,7 @@ import static jkit.jil.util.Types.*;
 import jkit.java.io.JavaFile;
 import jkit.java.tree.Decl;
 import jkit.java.tree.Expr;
+import jkit.java.tree.Kind;
 import jkit.java.tree.Stmt;
 import jkit.java.tree.Value;
 import jkit.java.tree.Decl.JavaClass;
@@ -45,6 +47,7 @@ import jkit.jil.tree.SourceLocation;
 import jkit.jil.tree.Type;
 import jkit.jil.util.Types;
 import jkit.util.Pair;
+import jkit.util.ScopeStack;
 import jkit.util.Triple;
 
 /**
@@ -89,8 +92,8 @@ public class TypeResolution {
 	// classes.
 	
 	private static class Scope {
-		// The type vars map is used to map type variables to their proper type.
-		public final HashMap<String,Type.Variable> typeVars = new HashMap();		
+		// The type variables declared in a scope are bound in the scope stack,
+		// which maps them to their proper type.
 		public Type.Clazz type;	
 				
 		public Scope(Type.Clazz type) { this.type = type; }
@@ -115,8 +118,10 @@ public class TypeResolution {
 		}
 	}
 	
-	private Stack<Scope> scopes = new Stack<Scope>();
+	private ScopeStack<Scope,Type.Variable> scopes = new ScopeStack<Scope,Type.Variable>();
 	private LinkedList<String> imports = new LinkedList<String>();
+	private ResolutionCache cache;
+	private ResolutionCache.Scope resolved; // null if imports changed
 	
 	public TypeResolution(ClassLoader loader, TypeSystem types) {
 		this.loader = loader; 
@@ -124,6 +129,7 @@ public class TypeResolution {
 	}
 	
 	public void apply(JavaFile file) { 		
+		cache = file.resolutionCache();
 		imports.add(file.pkg() + ".*");	
 		for(Pair<Boolean,String> i : file.imports()) {
 			imports.add(1,i.second());			
@@ -196,6 +202,7 @@ public class TypeResolution {
 		LinkedList<String> oldImports = (LinkedList<String>) imports.clone();
 		
 		imports.addFirst(computeImportDecl(parentType,c.name()));
+		resolved = null;
 		
 		resolve(c.modifiers());
 		
@@ -225,7 +232,7 @@ public class TypeResolution {
 		for (jkit.java.tree.Type.Variable v : c.typeParameters()) {
 			Type.Variable tv = (Type.Variable) substituteTypeVars(resolve(v));
 			typevars.add(tv);
-			myScope.typeVars.put(tv.variable(), tv);
+			scopes.bind(tv.variable(), tv);
 		}
 		
 		String name = c.name();
@@ -251,6 +258,7 @@ public class TypeResolution {
 			Type.Clazz superType = (Type.Clazz) substituteTypeVars(resolve(c.superclass()));
 			c.superclass().attributes().add(superType);
 			imports.addAll(1,computeRecursiveImportDecls(superType));
+			resolved = null;
 			
 		}		
 
@@ -259,6 +267,7 @@ public class TypeResolution {
 			Type.Clazz interType = (Type.Clazz) substituteTypeVars(resolve(i)); 
 			i.attributes().add(interType);
 			imports.addAll(1,computeRecursiveImportDecls(interType));
+			resolved = null;
 		}			 						
 		
 		// 3) resolve types in my other declarations (e.g. fields, methods,inner
@@ -270,6 +279,7 @@ public class TypeResolution {
 		scopes.pop(); // undo my type
 		
 		imports = oldImports; // undo my old imports
+		resolved = null;
 	}
 
 	protected void doMethod(JavaMethod d) throws ClassNotFoundException {
@@ -280,7 +290,7 @@ public class TypeResolution {
 		ArrayList<Type.Variable> typeVars = new ArrayList<Type.Variable>();
 		for (jkit.java.tree.Type.Variable v : d.typeParameters()) {			
 			Type.Variable tv = (Type.Variable) substituteTypeVars(resolve(v));
-			myScope.typeVars.put(v.variable(), tv);
+			scopes.bind(v.variable(), tv);
 			typeVars.add(tv);
 			v.attributes().add(tv);
 		}		
@@ -356,52 +366,82 @@ public class TypeResolution {
 	
 	protected void doStatement(Stmt e) {
 		try {
-			if(e instanceof Stmt.SynchronisedBlock) {
-				doSynchronisedBlock((Stmt.SynchronisedBlock)e);
-			} else if(e instanceof Stmt.TryCatchBlock) {
-				doTryCatchBlock((Stmt.TryCatchBlock)e);
-			} else if(e instanceof Stmt.Block) {
-				doBlock((Stmt.Block)e);
-			} else if(e instanceof Stmt.VarDef) {
-				doVarDef((Stmt.VarDef) e);
-			} else if(e instanceof Stmt.Assignment) {
-				doAssignment((Stmt.Assignment) e);
-			} else if(e instanceof Stmt.Return) {
-				doReturn((Stmt.Return) e);
-			} else if(e instanceof Stmt.Throw) {
-				doThrow((Stmt.Throw) e);
-			} else if(e instanceof Stmt.Assert) {
-				doAssert((Stmt.Assert) e);
-			} else if(e instanceof Stmt.Break) {
-				doBreak((Stmt.Break) e);
-			} else if(e instanceof Stmt.Continue) {
-				doContinue((Stmt.Continue) e);
-			} else if(e instanceof Stmt.Label) {
-				doLabel((Stmt.Label) e);
-			} else if(e instanceof Stmt.If) {
-				doIf((Stmt.If) e);
-			} else if(e instanceof Stmt.For) {
-				doFor((Stmt.For) e);
-			} else if(e instanceof Stmt.ForEach) {
-				doForEach((Stmt.ForEach) e);
-			} else if(e instanceof Stmt.While) {
-				doWhile((Stmt.While) e);
-			} else if(e instanceof Stmt.DoWhile) {
-				doDoWhile((Stmt.DoWhile) e);
-			} else if(e instanceof Stmt.Switch) {
-				doSwitch((Stmt.Switch) e);
-			} else if(e instanceof Expr.Invoke) {
-				doInvoke((Expr.Invoke) e);
-			} else if(e instanceof Expr.New) {
-				doNew((Expr.New) e);
-			} else if(e instanceof Stmt.PrePostIncDec) {
-				doExpression((Stmt.PrePostIncDec)e);
-			} else if(e instanceof Decl.JavaClass) {				
-				doClass((Decl.JavaClass)e);
-			} else if(e != null) {
-				syntax_error("Invalid statement encountered: "
-						+ e.getClass(),e);
-			}		
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.SYNCHRONISED_BLOCK:
+					doSynchronisedBlock((Stmt.SynchronisedBlock)e);
+					break;
+				case Kind.TRY_CATCH_BLOCK:
+					doTryCatchBlock((Stmt.TryCatchBlock)e);
+					break;
+				case Kind.BLOCK:
+				case Kind.CATCH_BLOCK:
+				case Kind.INITIALISER_BLOCK:
+				case Kind.STATIC_INITIALISER_BLOCK:
+					doBlock((Stmt.Block)e);
+					break;
+				case Kind.VAR_DEF:
+					doVarDef((Stmt.VarDef) e);
+					break;
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					doAssignment((Stmt.Assignment) e);
+					break;
+				case Kind.RETURN:
+					doReturn((Stmt.Return) e);
+					break;
+				case Kind.THROW:
+					doThrow((Stmt.Throw) e);
+					break;
+				case Kind.ASSERT:
+					doAssert((Stmt.Assert) e);
+					break;
+				case Kind.BREAK:
+					doBreak((Stmt.Break) e);
+					break;
+				case Kind.CONTINUE:
+					doContinue((Stmt.Continue) e);
+					break;
+				case Kind.LABEL:
+					doLabel((Stmt.Label) e);
+					break;
+				case Kind.IF:
+					doIf((Stmt.If) e);
+					break;
+				case Kind.FOR:
+					doFor((Stmt.For) e);
+					break;
+				case Kind.FOR_EACH:
+					doForEach((Stmt.ForEach) e);
+					break;
+				case Kind.WHILE:
+					doWhile((Stmt.While) e);
+					break;
+				case Kind.DO_WHILE:
+					doDoWhile((Stmt.DoWhile) e);
+					break;
+				case Kind.SWITCH:
+					doSwitch((Stmt.Switch) e);
+					break;
+				case Kind.INVOKE:
+					doInvoke((Expr.Invoke) e);
+					break;
+				case Kind.NEW:
+					doNew((Expr.New) e);
+					break;
+				case Kind.PRE_POST_INC_DEC:
+					doExpression((Stmt.PrePostIncDec)e);
+					break;
+				case Kind.JAVA_CLASS:
+				case Kind.JAVA_INTERFACE:
+				case Kind.JAVA_ENUM:
+					doClass((Decl.JavaClass)e);
+					break;
+				default:
+					syntax_error("Invalid statement encountered: "
+							+ e.getClass(),e);
+				}
+			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
 		}
@@ -528,54 +568,81 @@ public class TypeResolution {
 	
 	protected void doExpression(Expr e) {
 		try {
-			if(e instanceof Value.Bool) {
-				doBoolVal((Value.Bool)e);
-			} else if(e instanceof Value.Char) {
-				doCharVal((Value.Char)e);
-			} else if(e instanceof Value.Int) {
-				doIntVal((Value.Int)e);
-			} else if(e instanceof Value.Long) {
-				doLongVal((Value.Long)e);
-			} else if(e instanceof Value.Float) {
-				doFloatVal((Value.Float)e);
-			} else if(e instanceof Value.Double) {
-				doDoubleVal((Value.Double)e);
-			} else if(e instanceof Value.String) {
-				doStringVal((Value.String)e);
-			} else if(e instanceof Value.Null) {
-				doNullVal((Value.Null)e);
-			} else if(e instanceof Value.TypedArray) {
-				doTypedArrayVal((Value.TypedArray)e);
-			} else if(e instanceof Value.Array) {
-				doArrayVal((Value.Array)e);
-			} else if(e instanceof Value.Class) {
-				doClassVal((Value.Class) e);
-			} else if(e instanceof Expr.UnresolvedVariable) {
-				doVariable((Expr.UnresolvedVariable)e);
-			} else if(e instanceof Expr.UnOp) {
-				doUnOp((Expr.UnOp)e);
-			} else if(e instanceof Expr.BinOp) {
-				doBinOp((Expr.BinOp)e);
-			} else if(e instanceof Expr.TernOp) {
-				doTernOp((Expr.TernOp)e);
-			} else if(e instanceof Expr.Cast) {
-				doCast((Expr.Cast)e);
-			} else if(e instanceof Expr.InstanceOf) {
-				doInstanceOf((Expr.InstanceOf)e);
-			} else if(e instanceof Expr.Invoke) {
-				doInvoke((Expr.Invoke) e);
-			} else if(e instanceof Expr.New) {
-				doNew((Expr.New) e);
-			} else if(e instanceof Expr.ArrayIndex) {
-				doArrayIndex((Expr.ArrayIndex) e);
-			} else if(e instanceof Expr.Deref) {
-				doDeref((Expr.Deref) e);
-			} else if(e instanceof Stmt.Assignment) {
-				// force brackets			
-				doAssignment((Stmt.Assignment) e);			
-			} else if(e != null) {
-				syntax_error("Invalid expression encountered: "
-						+ e.getClass(),e);
+			if(e != null) {
+				switch(e.kind()) {
+				case Kind.BOOL:
+					doBoolVal((Value.Bool)e);
+					break;
+				case Kind.CHAR:
+					doCharVal((Value.Char)e);
+					break;
+				case Kind.INT:
+					doIntVal((Value.Int)e);
+					break;
+				case Kind.LONG:
+					doLongVal((Value.Long)e);
+					break;
+				case Kind.FLOAT:
+					doFloatVal((Value.Float)e);
+					break;
+				case Kind.DOUBLE:
+					doDoubleVal((Value.Double)e);
+					break;
+				case Kind.STRING:
+					doStringVal((Value.String)e);
+					break;
+				case Kind.NULL:
+					doNullVal((Value.Null)e);
+					break;
+				case Kind.TYPED_ARRAY:
+					doTypedArrayVal((Value.TypedArray)e);
+					break;
+				case Kind.ARRAY:
+					doArrayVal((Value.Array)e);
+					break;
+				case Kind.CLASS:
+					doClassVal((Value.Class) e);
+					break;
+				case Kind.UNRESOLVED_VARIABLE:
+					doVariable((Expr.UnresolvedVariable)e);
+					break;
+				case Kind.UNOP:
+				case Kind.PRE_POST_INC_DEC:
+					doUnOp((Expr.UnOp)e);
+					break;
+				case Kind.BINOP:
+					doBinOp((Expr.BinOp)e);
+					break;
+				case Kind.TERNOP:
+					doTernOp((Expr.TernOp)e);
+					break;
+				case Kind.CAST:
+					doCast((Expr.Cast)e);
+					break;
+				case Kind.INSTANCE_OF:
+					doInstanceOf((Expr.InstanceOf)e);
+					break;
+				case Kind.INVOKE:
+					doInvoke((Expr.Invoke) e);
+					break;
+				case Kind.NEW:
+					doNew((Expr.New) e);
+					break;
+				case Kind.ARRAY_INDEX:
+					doArrayIndex((Expr.ArrayIndex) e);
+					break;
+				case Kind.DEREF:
+					doDeref((Expr.Deref) e);
+					break;
+				case Kind.ASSIGNMENT:
+				case Kind.ASSIGNMENT_OP:
+					// force brackets			
+					doAssignment((Stmt.Assignment) e);			
+					break;
+				default:
+					syntax_error("Invalid expression encountered: "
+							+ e.getClass(),e);
+				}
 			}
 		} catch(Exception ex) {
 			internal_error(e,ex);
@@ -682,6 +749,18 @@ public class TypeResolution {
 		doExpression(e.falseBranch());
 		doExpression(e.trueBranch());
 	}
+	
+	/**
+	 * Resolve a class name against the current import list, using the
+	 * resolution cache of the file being compiled.
+	 */
+	protected Type.Clazz resolveClass(String className)
+			throws ClassNotFoundException {
+		if(resolved == null) {
+			resolved = cache.scope(imports);
+		}
+		return resolved.resolve(className, loader);
+	}
 		
 	/**
 	 * The purpose of the resolve method is to examine the type in question, and
@@ -843,7 +922,7 @@ public class TypeResolution {
 		// source code and, hence, we need to determine this from the CLASSPATH
 		// and the import list. There are two phases. 
 						
-		Type.Clazz r = loader.resolve(className,imports);		
+		Type.Clazz r = resolveClass(className);		
 		
 		// The following loop is required for two reasons:
 		//
@@ -940,12 +1019,9 @@ public class TypeResolution {
 	}
 	
 	protected Type substituteTypeVars(Type.Variable t) {
-		for(int i=scopes.size()-1;i>=0;--i) {
-			Scope scope = scopes.get(i);
-			Type.Variable v = scope.typeVars.get(t.variable());
-			if(v != null) {
-				return v;
-			}
+		ScopeStack.Binding<Type.Variable> b = scopes.lookup(t.variable());
+		if(b != null) {
+			return b.value();
 		}
 		// this is probably a syntax error.
 		return t;
@@ -33,6 +33,13 @@ import jkit.jil.tree.Modifier;
 import jkit.util.Triple;
 
 public interface Decl extends SyntacticElement {
+	/**
+	 * Get the kind of this declaration, which identifies its class (see Kind).
+	 * 
+	 * @return
+	 */
+	public int kind();
+	
 
 	public static class JavaClass extends SyntacticElementImpl implements Decl, Stmt {
 		private List<Modifier> modifiers;
@@ -199,6 +206,10 @@ public interface Decl extends SyntacticElement {
 			}
 			return false;
 		}
+
+		public int kind() {
+			return Kind.JAVA_CLASS;
+		}
 	}
 
 	public static class JavaInterface extends JavaClass {
@@ -210,6 +221,10 @@ public interface Decl extends SyntacticElement {
 					declarations, attributes);
 			modifiers.add(new Modifier.Interface());
 		}
+
+		public int kind() {
+			return Kind.JAVA_INTERFACE;
+		}
 	}
 
 	public static class JavaEnum extends JavaClass {
@@ -226,6 +241,10 @@ public interface Decl extends SyntacticElement {
 		public List<EnumConstant> constants() {
 			return constants;
 		}
+
+		public int kind() {
+			return Kind.JAVA_ENUM;
+		}
 	}
 
 	public static class EnumConstant extends SyntacticElementImpl{
@@ -277,6 +296,10 @@ public interface Decl extends SyntacticElement {
 		public List<Triple<Type, String, Value>> methods() {
 			return methods;
 		}
+
+		public int kind() {
+			return Kind.ANNOTATION_INTERFACE;
+		}
 	}
 
 	public static class JavaParameter extends SyntacticElementImpl {
@@ -499,6 +522,10 @@ public interface Decl extends SyntacticElement {
 			}
 			return false;
 		}
+
+		public int kind() {
+			return Kind.JAVA_METHOD;
+		}
 	}
 
 	/**
@@ -516,6 +543,10 @@ public interface Decl extends SyntacticElement {
 			super(modifiers, name, null, parameters, varargs, typeParameters,
 					exceptions, block,attributes);
 		}
+
+		public int kind() {
+			return Kind.JAVA_CONSTRUCTOR;
+		}
 	}
 
 	public static class JavaField extends SyntacticElementImpl implements Decl {
@@ -693,17 +724,29 @@ public interface Decl extends SyntacticElement {
 			}
 			return false;
 		}
+
+		public int kind() {
+			return Kind.JAVA_FIELD;
+		}
 	}
 
 	public static class InitialiserBlock extends Stmt.Block implements Decl {
 		public InitialiserBlock(List<Stmt> statements, SyntacticAttribute... attributes) {
 			super(statements,attributes);
 		}
+
+		public int kind() {
+			return Kind.INITIALISER_BLOCK;
+		}
 	}
 	public static class StaticInitialiserBlock extends Stmt.Block implements Decl {
 		public StaticInitialiserBlock(List<Stmt> statements, SyntacticAttribute... attributes) {
 			super(statements,attributes);
 		}
+
+		public int kind() {
+			return Kind.STATIC_INITIALISER_BLOCK;
+		}
 	}
 
 
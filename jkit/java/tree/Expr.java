@@ -29,6 +29,13 @@ import jkit.compiler.SyntacticElementImpl;
 import jkit.error.OperatorTypeMismatchException.AllowedType;
 
 public interface Expr extends SyntacticElement {
+	/**
+	 * Get the kind of this expression, which identifies its class (see Kind).
+	 * 
+	 * @return
+	 */
+	public int kind();
+	
 	/**
 	 * An unresolved variable access. The parser will turn anything that looks
 	 * like a variable access into a Variable object. However, in many cases,
@@ -61,6 +68,10 @@ public interface Expr extends SyntacticElement {
 		public String toString() {
 			return value;
 		}
+
+		public int kind() {
+			return Kind.UNRESOLVED_VARIABLE;
+		}
 	}
 
 	/**
@@ -92,6 +103,10 @@ public interface Expr extends SyntacticElement {
 		public String toString() {
 			return value;
 		}
+
+		public int kind() {
+			return Kind.LOCAL_VARIABLE;
+		}
 	}
 
 	/**
@@ -137,6 +152,10 @@ public interface Expr extends SyntacticElement {
 		public String toString() {
 			return value;
 		}
+
+		public int kind() {
+			return Kind.NON_LOCAL_VARIABLE;
+		}
 	}
 
 	/**
@@ -165,6 +184,10 @@ public interface Expr extends SyntacticElement {
 		public String toString() {
 			return type;
 		}
+
+		public int kind() {
+			return Kind.CLASS_VARIABLE;
+		}
 	}
 
 
@@ -209,6 +232,10 @@ public interface Expr extends SyntacticElement {
 		public String toString() {
 			return String.format("(%s) %s", type, expr);
 		}
+
+		public int kind() {
+			return Kind.CAST;
+		}
 	}
 
 	/**
@@ -248,6 +275,10 @@ public interface Expr extends SyntacticElement {
 			return expr.toString();
 		}
 
+
+		public int kind() {
+			return Kind.CONVERT;
+		}
 	}
 
 	/**
@@ -291,6 +322,10 @@ public interface Expr extends SyntacticElement {
 		public String toString() {
 			return String.format("%s instanceof %s", lhs, rhs);
 		}
+
+		public int kind() {
+			return Kind.INSTANCE_OF;
+		}
 	}
 
 	/**
@@ -372,6 +407,10 @@ public interface Expr extends SyntacticElement {
 				return String.valueOf(op);
 			}
 		}
+
+		public int kind() {
+			return Kind.UNOP;
+		}
 	}
 
 	/**
@@ -570,6 +609,10 @@ public interface Expr extends SyntacticElement {
 			}
 			return type;
 		}
+
+		public int kind() {
+			return Kind.BINOP;
+		}
 	}
 
 	public static class TernOp extends SyntacticElementImpl implements Expr {
@@ -621,6 +664,10 @@ public interface Expr extends SyntacticElement {
 		public String toString() {
 			return String.format("(%s) ? %s : %s", cond, toption, foption);
 		}
+
+		public int kind() {
+			return Kind.TERNOP;
+		}
 	}
 
 	/**
@@ -715,6 +762,10 @@ public interface Expr extends SyntacticElement {
 
 			return String.format("%s.%s%s", target, name, params);
 		}
+
+		public int kind() {
+			return Kind.INVOKE;
+		}
 	}
 
 	/**
@@ -849,6 +900,10 @@ public interface Expr extends SyntacticElement {
 						type.toString();
 			return String.format("new %s%s%s%s", ctxt, t, params, decl);
 		}
+
+		public int kind() {
+			return Kind.NEW;
+		}
 	}
 
 	/**
@@ -892,6 +947,10 @@ public interface Expr extends SyntacticElement {
 		public String toString() {
 			return String.format("%s.%s", target, name);
 		}
+
+		public int kind() {
+			return Kind.DEREF;
+		}
 	}
 
 	/**
@@ -935,5 +994,9 @@ public interface Expr extends SyntacticElement {
 		public String toString() {
 			return String.format("%s[%s]", array, idx);
 		}
+
+		public int kind() {
+			return Kind.ARRAY_INDEX;
+		}
 	}
 }
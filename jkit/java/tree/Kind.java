@@ -0,0 +1,117 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can
+// redistribute it and/or modify it under the terms of the
+// GNU General Public License as published by the Free Software
+// Foundation; either version 2 of the License, or (at your
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR
+// A PARTICULAR PURPOSE.  See the GNU General Public License
+// for more details.
+//
+// You should have received a copy of the GNU General Public
+// License along with the Java Compiler Kit; if not,
+// write to the Free Software Foundation, Inc., 59 Temple Place,
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009.
+
+package jkit.java.tree;
+
+/**
+ * <p>
+ * The kinds of statement, expression and declaration in the Java tree. Each
+ * class of node returns its kind from <code>kind()</code>, which allows a
+ * stage to dispatch on the class of a node with a single switch, rather than
+ * a long chain of instanceof tests. For example:
+ * </p>
+ *
+ * <pre>
+ * switch (e.kind()) {
+ * case Kind.BINOP:
+ * 	doBinOp((Expr.BinOp) e);
+ * 	break;
+ * ...
+ * }
+ * </pre>
+ *
+ * <p>
+ * Note that a subclass has its own kind (e.g. Stmt.AssignmentOp, rather than
+ * Stmt.Assignment), and so a switch must list every kind which it handles.
+ * </p>
+ *
+ * @author djp
+ *
+ */
+public final class Kind {
+	private Kind() {
+	}
+
+	// Expressions
+	public static final int UNRESOLVED_VARIABLE = 0;
+	public static final int LOCAL_VARIABLE = 1;
+	public static final int NON_LOCAL_VARIABLE = 2;
+	public static final int CLASS_VARIABLE = 3;
+	public static final int CAST = 4;
+	public static final int CONVERT = 5;
+	public static final int INSTANCE_OF = 6;
+	public static final int UNOP = 7;
+	public static final int BINOP = 8;
+	public static final int TERNOP = 9;
+	public static final int INVOKE = 10;
+	public static final int NEW = 11;
+	public static final int DEREF = 12;
+	public static final int ARRAY_INDEX = 13;
+
+	// Values
+	public static final int NUMBER = 14;
+	public static final int BOOL = 15;
+	public static final int CHAR = 16;
+	public static final int BYTE = 17;
+	public static final int SHORT = 18;
+	public static final int INT = 19;
+	public static final int LONG = 20;
+	public static final int FLOAT = 21;
+	public static final int DOUBLE = 22;
+	public static final int STRING = 23;
+	public static final int NULL = 24;
+	public static final int ARRAY = 25;
+	public static final int TYPED_ARRAY = 26;
+	public static final int CLASS = 27;
+
+	// Statements
+	public static final int BLOCK = 28;
+	public static final int SYNCHRONISED_BLOCK = 29;
+	public static final int CATCH_BLOCK = 30;
+	public static final int TRY_CATCH_BLOCK = 31;
+	public static final int LABEL = 32;
+	public static final int ASSIGNMENT = 33;
+	public static final int ASSIGNMENT_OP = 34;
+	public static final int RETURN = 35;
+	public static final int THROW = 36;
+	public static final int ASSERT = 37;
+	public static final int BREAK = 38;
+	public static final int CONTINUE = 39;
+	public static final int IF = 40;
+	public static final int WHILE = 41;
+	public static final int DO_WHILE = 42;
+	public static final int FOR = 43;
+	public static final int FOR_EACH = 44;
+	public static final int VAR_DEF = 45;
+	public static final int SWITCH = 46;
+	public static final int PRE_POST_INC_DEC = 47;
+
+	// Declarations
+	public static final int JAVA_CLASS = 48;
+	public static final int JAVA_INTERFACE = 49;
+	public static final int JAVA_ENUM = 50;
+	public static final int ANNOTATION_INTERFACE = 51;
+	public static final int JAVA_METHOD = 52;
+	public static final int JAVA_CONSTRUCTOR = 53;
+	public static final int JAVA_FIELD = 54;
+	public static final int INITIALISER_BLOCK = 55;
+	public static final int STATIC_INITIALISER_BLOCK = 56;
+}
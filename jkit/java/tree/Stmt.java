@@ -33,6 +33,13 @@ import jkit.jil.tree.Modifier;
 import jkit.util.Triple;
 
 public interface Stmt extends SyntacticElement {
+	/**
+	 * Get the kind of this statement, which identifies its class (see Kind).
+	 * 
+	 * @return
+	 */
+	public int kind();
+	
 
 	/**
 	 * A simple statement represents one which is not composed of other
@@ -73,6 +80,10 @@ public interface Stmt extends SyntacticElement {
 		public List<Stmt> statements() {
 			return statements;
 		}
+
+		public int kind() {
+			return Kind.BLOCK;
+		}
 	}
 
 	/**
@@ -103,6 +114,10 @@ public interface Stmt extends SyntacticElement {
 		public void setExpr(Expr expr) {
 			this.expr = expr;
 		}
+
+		public int kind() {
+			return Kind.SYNCHRONISED_BLOCK;
+		}
 	}
 
 	/**
@@ -129,6 +144,10 @@ public interface Stmt extends SyntacticElement {
 		public String variable() {
 			return variable;
 		}
+
+		public int kind() {
+			return Kind.CATCH_BLOCK;
+		}
 	}
 
 	/**
@@ -163,6 +182,10 @@ public interface Stmt extends SyntacticElement {
 		public Block finaly() {
 			return finallyBlk;
 		}
+
+		public int kind() {
+			return Kind.TRY_CATCH_BLOCK;
+		}
 	}
 
 	public static class Label extends SyntacticElementImpl implements Stmt {
@@ -186,6 +209,10 @@ public interface Stmt extends SyntacticElement {
 		public void setStatement(Stmt stmt) {
 			this.statement = stmt;
 		}
+
+		public int kind() {
+			return Kind.LABEL;
+		}
 	}
 
 	public static class Assignment extends SyntacticElementImpl implements Simple, Expr {
@@ -213,6 +240,10 @@ public interface Stmt extends SyntacticElement {
 		public void setRhs(Expr rhs) {
 			this.rhs = rhs;
 		}
+
+		public int kind() {
+			return Kind.ASSIGNMENT;
+		}
 	}
 
 	public static class AssignmentOp extends Assignment {
@@ -231,6 +262,10 @@ public interface Stmt extends SyntacticElement {
 		public void setOp(int op) {
 			this.op = op;
 		}
+
+		public int kind() {
+			return Kind.ASSIGNMENT_OP;
+		}
 	}
 	
 	public static class Return extends SyntacticElementImpl implements Simple {
@@ -248,6 +283,10 @@ public interface Stmt extends SyntacticElement {
 		public void setExpr(Expr expr) {
 			this.expr = expr;
 		}
+
+		public int kind() {
+			return Kind.RETURN;
+		}
 	}
 
 	public static class Throw extends SyntacticElementImpl implements Simple {
@@ -265,6 +304,10 @@ public interface Stmt extends SyntacticElement {
 		public void setExpr(Expr expr) {
 			this.expr = expr;
 		}
+
+		public int kind() {
+			return Kind.THROW;
+		}
 	}
 
 	public static class Assert extends SyntacticElementImpl implements Simple {
@@ -282,6 +325,10 @@ public interface Stmt extends SyntacticElement {
 		public void setExpr(Expr expr) {
 			this.expr = expr;
 		}
+
+		public int kind() {
+			return Kind.ASSERT;
+		}
 	}
 
 	public static class Break extends SyntacticElementImpl implements Simple {
@@ -299,6 +346,10 @@ public interface Stmt extends SyntacticElement {
 		public void setLabel(String label) {
 			this.label = label;
 		}
+
+		public int kind() {
+			return Kind.BREAK;
+		}
 	}
 
 	public static class Continue extends SyntacticElementImpl implements Simple {
@@ -316,6 +367,10 @@ public interface Stmt extends SyntacticElement {
 		public void setLabel(String label) {
 			this.label = label;
 		}
+
+		public int kind() {
+			return Kind.CONTINUE;
+		}
 	}
 
 	public static class If extends SyntacticElementImpl implements Stmt {
@@ -354,6 +409,10 @@ public interface Stmt extends SyntacticElement {
 		public void setFalseStatement(Stmt falseStatement) {
 			this.falseStatement = falseStatement;
 		}
+
+		public int kind() {
+			return Kind.IF;
+		}
 	}
 
 	public static class While extends SyntacticElementImpl implements Stmt {
@@ -381,6 +440,10 @@ public interface Stmt extends SyntacticElement {
 		public void setBody(Stmt body) {
 			this.body = body;
 		}
+
+		public int kind() {
+			return Kind.WHILE;
+		}
 	}
 
 	public static class DoWhile extends SyntacticElementImpl implements Stmt {
@@ -408,6 +471,10 @@ public interface Stmt extends SyntacticElement {
 		public void setBody(Stmt body) {
 			this.body = body;
 		}
+
+		public int kind() {
+			return Kind.DO_WHILE;
+		}
 	}
 
 	public static class For extends SyntacticElementImpl implements Stmt {
@@ -456,6 +523,10 @@ public interface Stmt extends SyntacticElement {
 		public void setIncrement(Stmt increment) {
 			this.increment = increment;
 		}
+
+		public int kind() {
+			return Kind.FOR;
+		}
 	}
 
 	public static class ForEach extends SyntacticElementImpl implements Stmt {
@@ -547,6 +618,10 @@ public interface Stmt extends SyntacticElement {
 		public void setBody(Stmt b) {
 			body = b;
 		}
+
+		public int kind() {
+			return Kind.FOR_EACH;
+		}
 	}
 
 	/**
@@ -603,6 +678,10 @@ public interface Stmt extends SyntacticElement {
 		public Type type() {
 			return type;
 		}
+
+		public int kind() {
+			return Kind.VAR_DEF;
+		}
 	}
 
 	public static class Case extends SyntacticElementImpl {
@@ -657,6 +736,10 @@ public interface Stmt extends SyntacticElement {
 		public List<Case> cases() {
 			return cases;
 		}
+
+		public int kind() {
+			return Kind.SWITCH;
+		}
 	}
 	
 
@@ -674,5 +757,9 @@ public interface Stmt extends SyntacticElement {
 		public PrePostIncDec(int op, Expr expr, List<SyntacticAttribute> attributes) {
 			super(op,expr,attributes);
 		}
+
+		public int kind() {
+			return Kind.PRE_POST_INC_DEC;
+		}
 	}
 }
@@ -55,6 +55,10 @@ public interface Value extends Expr {
 		public java.lang.String toString() {
 			return java.lang.String.valueOf(value);
 		}
+
+		public int kind() {
+			return Kind.NUMBER;
+		}
 	}
 
 	/**
@@ -77,6 +81,10 @@ public interface Value extends Expr {
 		public java.lang.String toString() {
 			return (value == 1) ? "true" : "false";
 		}
+
+		public int kind() {
+			return Kind.BOOL;
+		}
 	}
 
 	/**
@@ -99,6 +107,10 @@ public interface Value extends Expr {
 		public java.lang.String toString() {
 			return java.lang.String.format("%c", value());
 		}
+
+		public int kind() {
+			return Kind.CHAR;
+		}
 	}
 
 	/**
@@ -122,6 +134,10 @@ public interface Value extends Expr {
 		public java.lang.String toString() {
 			return java.lang.String.valueOf(value());
 		}
+
+		public int kind() {
+			return Kind.BYTE;
+		}
 	}
 
 	/**
@@ -140,6 +156,10 @@ public interface Value extends Expr {
 		public short value() {
 			return (short)value;
 		}
+
+		public int kind() {
+			return Kind.SHORT;
+		}
 	}
 
 	/**
@@ -159,6 +179,10 @@ public interface Value extends Expr {
 		public int value() {
 			return value;
 		}
+
+		public int kind() {
+			return Kind.INT;
+		}
 	}
 
 	/**
@@ -187,6 +211,10 @@ public interface Value extends Expr {
 		public java.lang.String toString() {
 			return java.lang.String.valueOf(value) + "l";
 		}
+
+		public int kind() {
+			return Kind.LONG;
+		}
 	}
 
 	/**
@@ -215,6 +243,10 @@ public interface Value extends Expr {
 		public java.lang.String toString() {
 			return java.lang.String.valueOf(value) + "f";
 		}
+
+		public int kind() {
+			return Kind.FLOAT;
+		}
 	}
 
 	/**
@@ -243,6 +275,10 @@ public interface Value extends Expr {
 		public java.lang.String toString() {
 			return java.lang.String.valueOf(value);
 		}
+
+		public int kind() {
+			return Kind.DOUBLE;
+		}
 	}
 
 	/**
@@ -270,6 +306,10 @@ public interface Value extends Expr {
 		public java.lang.String toString() {
 			return (value);
 		}
+
+		public int kind() {
+			return Kind.STRING;
+		}
 	}
 
 	/**
@@ -289,6 +329,10 @@ public interface Value extends Expr {
 		public java.lang.String toString() {
 			return "null";
 		}
+
+		public int kind() {
+			return Kind.NULL;
+		}
 	}
 
 	/**
@@ -323,6 +367,10 @@ public interface Value extends Expr {
 			sb.append("}");
 			return sb.toString();
 		}
+
+		public int kind() {
+			return Kind.ARRAY;
+		}
 	}
 
 	/**
@@ -364,6 +412,10 @@ public interface Value extends Expr {
 			sb.append("}");
 			return sb.toString();
 		}
+
+		public int kind() {
+			return Kind.TYPED_ARRAY;
+		}
 	}
 
 	/**
@@ -385,6 +437,10 @@ public interface Value extends Expr {
 		public java.lang.String toString() {
 			return type.toString();
 		}
+
+		public int kind() {
+			return Kind.CLASS;
+		}
 	}
 
 }
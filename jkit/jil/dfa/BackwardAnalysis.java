@@ -85,12 +85,15 @@ public abstract class BackwardAnalysis<T extends FlowSet> {
 					merge(current,store,worklist,preds);
 				}
 
-				if(stmt instanceof JilStmt.Goto) {
+				switch(stmt.kind()) {
+				case JilKind.GOTO: {
 					JilStmt.Goto gto = (JilStmt.Goto) stmt;
 					int target = labels.get(gto.label());
 					T store = get_store(target,emptyStore);
 					merge(current,store,worklist,preds);
-				} else if(stmt instanceof JilStmt.IfGoto) {				
+					break;
+				}
+				case JilKind.IF_GOTO: {
 					JilStmt.IfGoto gto = (JilStmt.IfGoto) stmt;
 					JilExpr condition = Exprs.eliminateNot(gto.condition());				
 					JilExpr notCondition = Exprs.eliminateNot(new JilExpr.UnOp(gto.condition(), JilExpr.UnOp.NOT,Types.T_BOOL));				
@@ -99,7 +102,9 @@ public abstract class BackwardAnalysis<T extends FlowSet> {
 					T f_store = transfer(notCondition,get_store(current+1,emptyStore));				
 					T store = join(t_store,f_store);				
 					merge(current,store,worklist,preds);				
-				} else if(stmt instanceof JilStmt.Switch) {
+					break;
+				}
+				case JilKind.SWITCH: {
 					JilStmt.Switch swt = (JilStmt.Switch) stmt;
 					JilExpr defCase = new JilExpr.Bool(false);
 					for(Pair<JilExpr.Number,String> c : swt.cases()) {
@@ -115,13 +120,19 @@ public abstract class BackwardAnalysis<T extends FlowSet> {
 					defCase = new JilExpr.UnOp(defCase, JilExpr.UnOp.NOT,Types.T_BOOL);	
 					T d_store = transfer(defCase, get_store(deftarget,emptyStore));
 					merge(current,d_store,worklist,preds);				
-				} else if(stmt instanceof JilStmt.Return || stmt instanceof JilStmt.Throw) {
+					break;
+				}
+				case JilKind.RETURN:
+				case JilKind.THROW:
 					// collect the final store as the one at the end of the list
 					merge(current,transfer(stmt,finalStore),worklist,preds);			
-				} else if(!(stmt instanceof JilStmt.Label)){				
-					merge(current,transfer(stmt,get_store(current+1,emptyStore)),worklist,preds);
-				} else if(stmt instanceof JilStmt.Label) {
-					merge(current,get_store(current+1,emptyStore),worklist,preds);
+					break;
+				default:
+					if(!(stmt instanceof JilStmt.Label)) {
+						merge(current,transfer(stmt,get_store(current+1,emptyStore)),worklist,preds);
+					} else if(stmt instanceof JilStmt.Label) {
+						merge(current,get_store(current+1,emptyStore),worklist,preds);
+					}
 				}
 			} catch(Exception e) {										
 				internal_error(stmt,e);
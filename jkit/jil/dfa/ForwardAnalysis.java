@@ -85,11 +85,14 @@ public abstract class ForwardAnalysis<T extends FlowSet> {
 					merge(target,store,worklist);
 				}
 
-				if(stmt instanceof JilStmt.Goto) {
+				switch(stmt.kind()) {
+				case JilKind.GOTO: {
 					JilStmt.Goto gto = (JilStmt.Goto) stmt;
 					int target = labels.get(gto.label());
 					merge(target,store,worklist);
-				} else if(stmt instanceof JilStmt.IfGoto) {				
+					break;
+				}
+				case JilKind.IF_GOTO: {
 					JilStmt.IfGoto gto = (JilStmt.IfGoto) stmt;
 					JilExpr condition = Exprs.eliminateNot(gto.condition());
 					JilExpr notCondition = Exprs.eliminateNot(new JilExpr.UnOp(gto.condition(), JilExpr.UnOp.NOT,Types.T_BOOL));
@@ -98,7 +101,9 @@ public abstract class ForwardAnalysis<T extends FlowSet> {
 					T f_store = transfer(notCondition,store);				
 					merge(target,t_store,worklist);
 					merge(current+1,f_store,worklist);
-				} else if(stmt instanceof JilStmt.Switch) {
+					break;
+				}
+				case JilKind.SWITCH: {
 					JilStmt.Switch swt = (JilStmt.Switch) stmt;
 					JilExpr defCase = new JilExpr.Bool(false);
 					for(Pair<JilExpr.Number,String> c : swt.cases()) {
@@ -114,13 +119,19 @@ public abstract class ForwardAnalysis<T extends FlowSet> {
 					defCase = new JilExpr.UnOp(defCase, JilExpr.UnOp.NOT,Types.T_BOOL);	
 					T d_store = transfer(defCase, store);
 					merge(deftarget,d_store,worklist);				
-				} else if(stmt instanceof JilStmt.Return || stmt instanceof JilStmt.Throw) {
+					break;
+				}
+				case JilKind.RETURN:
+				case JilKind.THROW:
 					// collect the final store as the one at the end of the list
 					merge(body.size(),transfer(stmt,store),worklist);			
-				} else if(!(stmt instanceof JilStmt.Label)){				
-					merge(current+1,transfer(stmt,store),worklist);
-				} else if(stmt instanceof JilStmt.Label) {
-					merge(current+1,store,worklist);
+					break;
+				default:
+					if(!(stmt instanceof JilStmt.Label)) {
+						merge(current+1,transfer(stmt,store),worklist);
+					} else if(stmt instanceof JilStmt.Label) {
+						merge(current+1,store,worklist);
+					}
 				}
 			} catch(Exception e) {											
 				internal_error(stmt,e);
@@ -105,33 +105,47 @@ public class StaticDependenceGraph {
 	}
 	
 	protected void addEdges(JilStmt stmt, Tag.Method myNode) {
-		if(stmt instanceof JilStmt.IfGoto) {
+		switch(stmt.kind()) {
+		case JilKind.IF_GOTO:
 			addEdges((JilStmt.IfGoto)stmt,myNode);					
-		} else if(stmt instanceof JilStmt.Switch) {
+			break;
+		case JilKind.SWITCH:
 			addEdges((JilStmt.Switch)stmt,myNode);					
-		} else if(stmt instanceof JilStmt.Assign) {
+			break;
+		case JilKind.ASSIGN:
 			addEdges((JilStmt.Assign)stmt,myNode);					
-		} else if(stmt instanceof JilExpr.Invoke) {
+			break;
+		case JilKind.INVOKE:
+		case JilKind.SPECIAL_INVOKE:
 			addEdges((JilExpr.Invoke)stmt,myNode);										
-		} else if(stmt instanceof JilExpr.New) {
+			break;
+		case JilKind.NEW:
 			addEdges((JilExpr.New) stmt,myNode);						
-		} else if(stmt instanceof JilStmt.Return) {
+			break;
+		case JilKind.RETURN:
 			addEdges((JilStmt.Return) stmt,myNode);
-		} else if(stmt instanceof JilStmt.Throw) {
+			break;
+		case JilKind.THROW:
 			addEdges((JilStmt.Throw) stmt,myNode);
-		} else if(stmt instanceof JilStmt.Nop) {		
+			break;
+		case JilKind.NOP:
 			
-		} else if(stmt instanceof JilStmt.Label) {		
+			break;
+		case JilKind.LABEL:
 			
-		} else if(stmt instanceof JilStmt.Goto) {		
+			break;
+		case JilKind.GOTO:
 			
-		} else if(stmt instanceof JilStmt.Lock) {		
+			break;
+		case JilKind.LOCK:
 			addEdges((JilStmt.Lock) stmt, myNode);
-		} else if(stmt instanceof JilStmt.Unlock) {		
+			break;
+		case JilKind.UNLOCK:
 			addEdges((JilStmt.Unlock) stmt, myNode);
-		} else {
+			break;
+		default:
 			syntax_error("unknown statement encountered (" + stmt.getClass().getName() + ")",stmt);			
-		}		
+		}
 	}
 	
 	protected void addEdges(JilStmt.IfGoto stmt, Tag.Method myNode) {		
@@ -188,30 +202,58 @@ public class StaticDependenceGraph {
 	}
 	
 	protected void addEdges(JilExpr expr, Tag.Method myNode) {
-		if(expr instanceof JilExpr.ArrayIndex) {
-			addEdges((JilExpr.ArrayIndex) expr, myNode);
-		} else if(expr instanceof JilExpr.BinOp) {		
-			addEdges((JilExpr.BinOp) expr, myNode);
-		} else if(expr instanceof JilExpr.UnOp) {		
-			addEdges((JilExpr.UnOp) expr, myNode);								
-		} else if(expr instanceof JilExpr.Cast) {
-			addEdges((JilExpr.Cast) expr, myNode);			 			
-		}  else if(expr instanceof JilExpr.Convert) {
-			addEdges((JilExpr.Convert) expr, myNode);			 			
-		} else if(expr instanceof JilExpr.ClassVariable) {
-			addEdges((JilExpr.ClassVariable) expr, myNode);			 			
-		} else if(expr instanceof JilExpr.Deref) {
-			addEdges((JilExpr.Deref) expr, myNode);			 							
-		} else if(expr instanceof JilExpr.Variable) {
-			addEdges((JilExpr.Variable) expr, myNode);
-		} else if(expr instanceof JilExpr.InstanceOf) {
-			addEdges((JilExpr.InstanceOf) expr, myNode);
-		} else if(expr instanceof JilExpr.Invoke) {
-			addEdges((JilExpr.Invoke) expr, myNode);
-		} else if(expr instanceof JilExpr.New) {
-			addEdges((JilExpr.New) expr, myNode);
-		} else if(expr instanceof JilExpr.Value) {
-			addEdges((JilExpr.Value) expr, myNode);
+		if(expr != null) {
+			switch(expr.kind()) {
+			case JilKind.ARRAY_INDEX:
+				addEdges((JilExpr.ArrayIndex) expr, myNode);
+				break;
+			case JilKind.BINOP:
+				addEdges((JilExpr.BinOp) expr, myNode);
+				break;
+			case JilKind.UNOP:
+				addEdges((JilExpr.UnOp) expr, myNode);								
+				break;
+			case JilKind.CAST:
+				addEdges((JilExpr.Cast) expr, myNode);			 			
+				break;
+			case JilKind.CONVERT:
+				addEdges((JilExpr.Convert) expr, myNode);			 			
+				break;
+			case JilKind.CLASS_VARIABLE:
+				addEdges((JilExpr.ClassVariable) expr, myNode);			 			
+				break;
+			case JilKind.DEREF:
+				addEdges((JilExpr.Deref) expr, myNode);			 							
+				break;
+			case JilKind.VARIABLE:
+				addEdges((JilExpr.Variable) expr, myNode);
+				break;
+			case JilKind.INSTANCE_OF:
+				addEdges((JilExpr.InstanceOf) expr, myNode);
+				break;
+			case JilKind.INVOKE:
+			case JilKind.SPECIAL_INVOKE:
+				addEdges((JilExpr.Invoke) expr, myNode);
+				break;
+			case JilKind.NEW:
+				addEdges((JilExpr.New) expr, myNode);
+				break;
+			case JilKind.NUMBER:
+			case JilKind.BOOL:
+			case JilKind.CHAR:
+			case JilKind.BYTE:
+			case JilKind.SHORT:
+			case JilKind.INT:
+			case JilKind.LONG:
+			case JilKind.FLOAT:
+			case JilKind.DOUBLE:
+			case JilKind.STRING:
+			case JilKind.NULL:
+			case JilKind.ARRAY:
+			case JilKind.CLASS:
+				addEdges((JilExpr.Value) expr, myNode);
+				break;
+			}
 		}
 	}
 	
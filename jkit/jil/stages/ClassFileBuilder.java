@@ -26,6 +26,7 @@ import java.util.*;
 import jkit.bytecode.*;
 import jkit.bytecode.Bytecode.*;
 import jkit.bytecode.attributes.*;
+import jkit.compiler.AttributeKey;
 import jkit.compiler.Clazz;
 import jkit.compiler.ClassLoader;
 import jkit.compiler.SyntaxError;
@@ -235,13 +236,36 @@ public final class ClassFileBuilder {
 		}
 
 		// === TRANSLATE BYTECODES ===
-		for(JilStmt s : method.body()) {
-			SourceLocation loc = s.attribute(SourceLocation.class);
+		List<JilStmt> body = method.body();
+		for(int i=0;i!=body.size();++i) {
+			JilStmt s = body.get(i);
+			SourceLocation loc = s.attribute(AttributeKey.LOCATION);
 			int start = bytecodes.size();
 			if(loc != null) {
 				lines.add(new LineNumberTable.Entry(start,loc.line()));
 			}
-			translateStatement(s,localVarMap,bytecodes);
+			if (s instanceof JilStmt.Goto
+					&& fallsThrough(body, i, ((JilStmt.Goto) s).label())) {
+				// a branch to the next statement is redundant.
+			} else if (s instanceof JilStmt.IfGoto && (i + 1) < body.size()
+					&& body.get(i + 1) instanceof JilStmt.Goto
+					&& body.get(i + 1).exceptions().isEmpty()
+					&& fallsThrough(body, i + 1, ((JilStmt.IfGoto) s).label())) {
+				// In this case, we have "if(c) goto l1; goto l2; l1: ...".
+				// Therefore, we branch to l2 if c is false, and otherwise
+				// fall through to l1.
+				JilStmt.IfGoto ifgoto = (JilStmt.IfGoto) s;
+				JilStmt.Goto gto = (JilStmt.Goto) body.get(++i);
+				try {
+					translateConditionalBranch(Exprs.invertBoolean(ifgoto
+							.condition()), gto.label(), ifgoto.label(),
+							localVarMap, bytecodes);
+				} catch(Exception ex) {
+					internal_error(s,ex);
+				}
+			} else {
+				translateStatement(s,localVarMap,bytecodes);
+			}
 			// add exception handlers (if present)
 			for(Pair<Type.Clazz,String> c : s.exceptions()) {
 				Code.Handler handler = new Code.Handler(start, bytecodes.size(), c
@@ -391,36 +415,50 @@ public final class ClassFileBuilder {
 	protected void translateStatement(JilStmt stmt,
 			HashMap<String, Integer> varmap, ArrayList<Bytecode> bytecodes) {
 		try {
-			if (stmt instanceof JilStmt.Return) {
+			switch(stmt.kind()) {
+			case JilKind.RETURN:
 				translateReturn((JilStmt.Return) stmt, varmap,
 						bytecodes);
-			} else if (stmt instanceof JilStmt.Assign) {
+				break;
+			case JilKind.ASSIGN:
 				translateAssign((JilStmt.Assign) stmt, varmap,
 						bytecodes);
-			} else if (stmt instanceof JilExpr.Invoke) {
+				break;
+			case JilKind.INVOKE:
+			case JilKind.SPECIAL_INVOKE:
 				translateInvoke((JilExpr.Invoke) stmt, varmap,
 						bytecodes, false);
-			} else if (stmt instanceof JilExpr.New) {
+				break;
+			case JilKind.NEW:
 				translateNew((JilExpr.New) stmt, varmap, bytecodes,
 						false);
-			} else if (stmt instanceof JilStmt.Nop) {
+				break;
+			case JilKind.NOP:
 				bytecodes.add(new Bytecode.Nop());
-			} else if (stmt instanceof JilStmt.Throw) {
+				break;
+			case JilKind.THROW:
 				translateThrow((JilStmt.Throw) stmt, varmap, bytecodes);
-			} else if (stmt instanceof JilStmt.Lock) {
+				break;
+			case JilKind.LOCK:
 				translateLock((JilStmt.Lock) stmt, varmap, bytecodes);
-			} else if (stmt instanceof JilStmt.Unlock) {
+				break;
+			case JilKind.UNLOCK:
 				translateUnlock((JilStmt.Unlock) stmt, varmap,
 						bytecodes);
-			} else if(stmt instanceof JilStmt.Label) {
+				break;
+			case JilKind.LABEL:
 				translateLabel((JilStmt.Label)stmt,varmap,bytecodes);
-			} else if(stmt instanceof JilStmt.IfGoto) {
+				break;
+			case JilKind.IF_GOTO:
 				translateIfGoto((JilStmt.IfGoto)stmt,varmap,bytecodes);
-			} else if(stmt instanceof JilStmt.Goto) {
+				break;
+			case JilKind.GOTO:
 				translateGoto((JilStmt.Goto)stmt,varmap,bytecodes);
-			} else if(stmt instanceof JilStmt.Switch) {
+				break;
+			case JilKind.SWITCH:
 				translateSwitch((JilStmt.Switch)stmt,varmap,bytecodes);
-			} else {
+				break;
+			default:
 				throw new RuntimeException("Unknown statement encountered: " + stmt);
 			}
 		} catch(Exception ex) {
@@ -435,6 +473,31 @@ public final class ClassFileBuilder {
 				bytecodes);
 	}
 
+	/**
+	 * Check whether a given label immediately follows a given statement, such
+	 * that control falls through to it from that statement. That is, the
+	 * label is amongst the labels which follow the statement.
+	 *
+	 * @param body
+	 *            the method body
+	 * @param index
+	 *            the index of the statement in the body
+	 * @param label
+	 * @return
+	 */
+	protected static boolean fallsThrough(List<JilStmt> body, int index,
+			String label) {
+		for(int i=index+1;i<body.size();++i) {
+			JilStmt s = body.get(i);
+			if(!(s instanceof JilStmt.Label)) {
+				return false;
+			} else if(((JilStmt.Label) s).label().equals(label)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * This method is responsible for translating a conditional expression, such
 	 * as if(x < 0) etc.
@@ -451,25 +514,59 @@ public final class ClassFileBuilder {
 	protected static int condLabelCount = 0;
 	protected void translateConditionalBranch(JilExpr condition, String trueLabel,
 			HashMap<String, Integer> varmap, ArrayList<Bytecode> bytecodes) throws ClassNotFoundException, MethodNotFoundException {
+		translateConditionalBranch(condition, trueLabel, null, varmap,
+				bytecodes);
+	}
+
+	/**
+	 * This method is responsible for translating a conditional expression,
+	 * where the label of the code which follows it is known. Thus, if the
+	 * condition is false, control falls through to this label. This allows a
+	 * short-circuit condition to be translated with exactly one conditional
+	 * branch for each of its operands. For example, "if(x &amp;&amp; y) goto
+	 * l1" is translated as "if(!x) goto l2; if(y) goto l1", where l2 is the
+	 * label which follows.
+	 *
+	 * @param condition
+	 *            the condition being tested
+	 * @param trueLabel
+	 *            the destination if the condition is true
+	 * @param falseLabel
+	 *            the label which follows the branch, or null if there is
+	 *            none. In the latter case, a label may be added after the
+	 *            branch.
+	 * @param varmap
+	 *            Maps local variables to their slot number
+	 * @param bytecodes
+	 *            bytecodes representing this statement are appended onto this
+	 */
+	protected void translateConditionalBranch(JilExpr condition,
+			String trueLabel, String falseLabel,
+			HashMap<String, Integer> varmap, ArrayList<Bytecode> bytecodes)
+			throws ClassNotFoundException, MethodNotFoundException {
 
 		if (condition instanceof JilExpr.BinOp) {
 			JilExpr.BinOp bop = (JilExpr.BinOp) condition;
 
 			switch (bop.op()) {
 			case JilExpr.BinOp.LAND: {
-				String exitLabel = "CL" + condLabelCount++;
-				translateConditionalBranch(Exprs.invertBoolean(bop
-						.lhs()), exitLabel, varmap, bytecodes);
+				String exitLabel = falseLabel;
+				if(exitLabel == null) {
+					exitLabel = "CL" + condLabelCount++;
+				}
 				translateConditionalBranch(Exprs.invertBoolean(bop
-						.rhs()), exitLabel, varmap, bytecodes);
-				bytecodes.add(new Bytecode.Goto(trueLabel));
-				bytecodes.add(new Bytecode.Label(exitLabel));
+						.lhs()), exitLabel, null, varmap, bytecodes);
+				translateConditionalBranch(bop.rhs(), trueLabel, exitLabel,
+						varmap, bytecodes);
+				if(falseLabel == null) {
+					bytecodes.add(new Bytecode.Label(exitLabel));
+				}
 				return;
 			}
 			case JilExpr.BinOp.LOR: {
-				translateConditionalBranch(bop.lhs(), trueLabel,
+				translateConditionalBranch(bop.lhs(), trueLabel, null,
 						varmap, bytecodes);
-				translateConditionalBranch(bop.rhs(), trueLabel,
+				translateConditionalBranch(bop.rhs(), trueLabel, falseLabel,
 						varmap, bytecodes);
 				return;
 			}
@@ -531,7 +628,8 @@ public final class ClassFileBuilder {
 					}
 				} else {
 					// not elimination was successful ...
-					translateConditionalBranch(e1, trueLabel, varmap, bytecodes);
+					translateConditionalBranch(e1, trueLabel, falseLabel,
+							varmap, bytecodes);
 				}
 			} else {
 				// anything else doesn't make sense
@@ -878,31 +976,44 @@ public final class ClassFileBuilder {
 			HashMap<String, Integer> varmap, ArrayList<Bytecode> bytecodes) {
 
 		try {
-			if (expr instanceof JilExpr.Bool) {
+			switch(expr.kind()) {
+			case JilKind.BOOL:
 				bytecodes.add(new Bytecode.LoadConst(((JilExpr.Bool) expr).value()));
-			} else if (expr instanceof JilExpr.Byte) {
+				break;
+			case JilKind.BYTE:
 				bytecodes.add(new Bytecode.LoadConst(((JilExpr.Byte) expr).value()));
-			} else if (expr instanceof JilExpr.Char) {
+				break;
+			case JilKind.CHAR:
 				bytecodes.add(new Bytecode.LoadConst(((JilExpr.Char) expr).value()));
-			} else if (expr instanceof JilExpr.Short) {
+				break;
+			case JilKind.SHORT:
 				bytecodes.add(new Bytecode.LoadConst(((JilExpr.Short) expr).value()));
-			} else if (expr instanceof JilExpr.Int) {
+				break;
+			case JilKind.INT:
 				bytecodes.add(new Bytecode.LoadConst(((JilExpr.Int) expr).value()));
-			} else if (expr instanceof JilExpr.Long) {
+				break;
+			case JilKind.LONG:
 				bytecodes.add(new Bytecode.LoadConst(((JilExpr.Long) expr).value()));
-			} else if (expr instanceof JilExpr.Float) {
+				break;
+			case JilKind.FLOAT:
 				bytecodes.add(new Bytecode.LoadConst(((JilExpr.Float) expr).value()));
-			} else if (expr instanceof JilExpr.Double) {
+				break;
+			case JilKind.DOUBLE:
 				bytecodes.add(new Bytecode.LoadConst(((JilExpr.Double) expr).value()));
-			} else if (expr instanceof JilExpr.Null) {
+				break;
+			case JilKind.NULL:
 				bytecodes.add(new Bytecode.LoadConst(null));
-			} else if (expr instanceof JilExpr.StringVal) {
+				break;
+			case JilKind.STRING:
 				bytecodes.add(new Bytecode.LoadConst(((JilExpr.StringVal) expr).value()));
-			} else if (expr instanceof JilExpr.Array) {
+				break;
+			case JilKind.ARRAY:
 				translateArrayVal((JilExpr.Array) expr, varmap, bytecodes);
-			} else if (expr instanceof JilExpr.Class) {
+				break;
+			case JilKind.CLASS:
 				translateClassVal((JilExpr.Class) expr, varmap, bytecodes);
-			} else if (expr instanceof JilExpr.Variable) {
+				break;
+			case JilKind.VARIABLE: {
 				JilExpr.Variable lv = (JilExpr.Variable) expr;
 
 				if (varmap.containsKey(lv.value())) {
@@ -916,33 +1027,48 @@ public final class ClassFileBuilder {
 				} else {
 					syntax_error("unknown variable \"" + lv.value() + "\"", expr);
 				}
-			} else if (expr instanceof JilExpr.New) {
+				break;
+			}
+			case JilKind.NEW:
 				translateNew((JilExpr.New) expr, varmap, bytecodes,true);
-			} else if (expr instanceof JilExpr.Deref) {
+				break;
+			case JilKind.DEREF:
 				translateDeref((JilExpr.Deref) expr, varmap, bytecodes);
-			} else if (expr instanceof JilExpr.ArrayIndex) {
+				break;
+			case JilKind.ARRAY_INDEX: {
 				JilExpr.ArrayIndex ai = (JilExpr.ArrayIndex) expr;
 				translateExpression(ai.target(), varmap, bytecodes);
 				translateExpression(ai.index(), varmap, bytecodes);
 				Type arr_t = ai.target().type();
 				bytecodes.add(new Bytecode.ArrayLoad((Type.Array) arr_t));
-			} else if (expr instanceof JilExpr.Invoke) {
+				break;
+			}
+			case JilKind.INVOKE:
+			case JilKind.SPECIAL_INVOKE:
 				translateInvoke((JilExpr.Invoke) expr, varmap, bytecodes, true);
-			} else if (expr instanceof JilExpr.UnOp) {
+				break;
+			case JilKind.UNOP:
 				translateUnaryOp((JilExpr.UnOp) expr, varmap,bytecodes);
-			} else if (expr instanceof JilExpr.BinOp) {
+				break;
+			case JilKind.BINOP:
 				translateBinaryOp((JilExpr.BinOp) expr, varmap,bytecodes);
-			} else if (expr instanceof JilExpr.InstanceOf) {
+				break;
+			case JilKind.INSTANCE_OF: {
 				JilExpr.InstanceOf iof = (JilExpr.InstanceOf) expr;
 				translateExpression(iof.lhs(), varmap, bytecodes);
 				bytecodes.add(new Bytecode.InstanceOf(iof.rhs()));
-			} else if (expr instanceof JilExpr.Cast) {
+				break;
+			}
+			case JilKind.CAST:
 				translateCast((JilExpr.Cast) expr, varmap,bytecodes);
-			} else if (expr instanceof JilExpr.Convert) {
+				break;
+			case JilKind.CONVERT:
 				translateConvert((JilExpr.Convert) expr, varmap,bytecodes);
-			} else if (expr instanceof JilExpr.ClassVariable) {
+				break;
+			case JilKind.CLASS_VARIABLE:
 				translateClassVariable((JilExpr.ClassVariable)expr,varmap,bytecodes);
-			} else {
+				break;
+			default:
 				throw new RuntimeException("Unknown expression encountered ("
 						+ expr + ")");
 			}
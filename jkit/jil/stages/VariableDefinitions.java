@@ -93,26 +93,28 @@ public class VariableDefinitions extends ForwardAnalysis<UnionFlowSet<String>> {
 			System.out.println("***    " + in);
 			System.out.println("*** " + stmt);
 		}
-		if(stmt instanceof JilStmt.Assign) {
+		switch(stmt.kind()) {
+		case JilKind.ASSIGN:
 			return transfer((JilStmt.Assign)stmt,in);					
-		} else if(stmt instanceof JilExpr.Invoke) {
+		case JilKind.INVOKE:
+		case JilKind.SPECIAL_INVOKE:
 			return transfer((JilExpr.Invoke)stmt,in);										
-		} else if(stmt instanceof JilExpr.New) {
+		case JilKind.NEW:
 			return transfer((JilExpr.New) stmt,in);						
-		} else if(stmt instanceof JilStmt.Return) {
+		case JilKind.RETURN:
 			return transfer((JilStmt.Return) stmt,in);
-		} else if(stmt instanceof JilStmt.Throw) {
+		case JilKind.THROW:
 			return transfer((JilStmt.Throw) stmt,in);
-		} else if(stmt instanceof JilStmt.Nop) {		
+		case JilKind.NOP:
 			return in;
-		} else if(stmt instanceof JilStmt.Lock) {		
+		case JilKind.LOCK:
 			return transfer((JilStmt.Lock) stmt,in);
-		} else if(stmt instanceof JilStmt.Unlock) {		
+		case JilKind.UNLOCK:
 			return transfer((JilStmt.Unlock) stmt,in);
-		} else {
+		default:
 			syntax_error("unknown statement encountered (" + stmt.getClass().getName() + ")",stmt);
 			return null;
-		}				
+		}
 	}
 	
 	public UnionFlowSet<String> transfer(JilStmt.Assign stmt, UnionFlowSet<String> undefs) {
@@ -178,34 +180,48 @@ public class VariableDefinitions extends ForwardAnalysis<UnionFlowSet<String>> {
 	}
 	
 	public Set<String> uses(JilExpr expr, SyntacticElement s) {
-		if(expr instanceof JilExpr.ArrayIndex) {
+		switch(expr.kind()) {
+		case JilKind.ARRAY_INDEX:
 			return uses((JilExpr.ArrayIndex) expr,  s);
-		} else if(expr instanceof JilExpr.BinOp) {		
+		case JilKind.BINOP:
 			return uses((JilExpr.BinOp) expr, s);
-		} else if(expr instanceof JilExpr.UnOp) {		
+		case JilKind.UNOP:
 			return uses((JilExpr.UnOp) expr, s);								
-		} else if(expr instanceof JilExpr.Cast) {
+		case JilKind.CAST:
 			return uses((JilExpr.Cast) expr, s);			 			
-		}  else if(expr instanceof JilExpr.Convert) {
+		case JilKind.CONVERT:
 			return uses((JilExpr.Convert) expr, s);			 			
-		} else if(expr instanceof JilExpr.ClassVariable) {
+		case JilKind.CLASS_VARIABLE:
 			return uses((JilExpr.ClassVariable) expr, s);			 			
-		} else if(expr instanceof JilExpr.Deref) {
+		case JilKind.DEREF:
 			return uses((JilExpr.Deref) expr, s);			 							
-		} else if(expr instanceof JilExpr.Variable) {
+		case JilKind.VARIABLE:
 			return uses((JilExpr.Variable) expr, s);
-		} else if(expr instanceof JilExpr.InstanceOf) {
+		case JilKind.INSTANCE_OF:
 			return uses((JilExpr.InstanceOf) expr, s);
-		} else if(expr instanceof JilExpr.Invoke) {
+		case JilKind.INVOKE:
+		case JilKind.SPECIAL_INVOKE:
 			return uses((JilExpr.Invoke) expr, s);
-		} else if(expr instanceof JilExpr.New) {
+		case JilKind.NEW:
 			return uses((JilExpr.New) expr, s);
-		} else if(expr instanceof JilExpr.Value) {
+		case JilKind.NUMBER:
+		case JilKind.BOOL:
+		case JilKind.CHAR:
+		case JilKind.BYTE:
+		case JilKind.SHORT:
+		case JilKind.INT:
+		case JilKind.LONG:
+		case JilKind.FLOAT:
+		case JilKind.DOUBLE:
+		case JilKind.STRING:
+		case JilKind.NULL:
+		case JilKind.ARRAY:
+		case JilKind.CLASS:
 			return uses((JilExpr.Value) expr, s);
-		} else {
+		default:
 			syntax_error("Unknown expression \"" + expr + "\" encoutered",s);
 			return null;
-		}		
+		}
 	}
 	
 	public Set<String> uses(JilExpr.ArrayIndex expr, SyntacticElement s) { 
@@ -24,31 +24,40 @@ package jkit.jil.tree;
 import java.util.*;
 import java.util.concurrent.*;
 
+import jkit.compiler.AttributeKey;
 import jkit.compiler.SyntacticAttribute;
 import jkit.compiler.SyntacticElement;
 import jkit.compiler.SyntacticElementImpl;
 import jkit.util.Pair;
 
 public interface JilExpr extends SyntacticElement,Cloneable {
+	/**
+	 * Get the kind of this expression, which identifies its class (see JilKind).
+	 * 
+	 * @return
+	 */
+	public int kind();
+	
 	
 	public Type type();
 	
-	public static class AbstractExpr {
-		private final ArrayList<SyntacticAttribute> attributes;
-		
+	public static class AbstractExpr extends SyntacticElementImpl {
 		public AbstractExpr(SyntacticAttribute... attributes) {
-			this.attributes = new ArrayList();
-			for(SyntacticAttribute a : attributes) {
-				this.attributes.add(a);
-			}
+			super(attributes);
 		}
 		
 		public AbstractExpr(List<SyntacticAttribute> attributes) {
-			this.attributes = new ArrayList(attributes);			
+			super(attributes);
 		}
 				
 		public <T extends SyntacticAttribute> T attribute(java.lang.Class<T> ac) {
-			for(SyntacticAttribute a : attributes) {
+			AttributeKey<T> key = AttributeKey.lookup(ac);
+			if(key != null && key.exact()) {
+				// an attribute of a final class is exactly of that class, and
+				// so can be looked up directly.
+				return super.attribute(key);
+			}
+			for(SyntacticAttribute a : attributes()) {
 				if(a.getClass().equals(ac)) {
 					return (T) a;
 				}
@@ -56,20 +65,22 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 			return null;
 		}
 		
+		public <T extends SyntacticAttribute> T attribute(AttributeKey<T> key) {
+			if(key.exact()) {
+				return super.attribute(key);
+			}
+			return attribute(key.kind());
+		}
+		
 		public <T extends SyntacticAttribute> List<T> attributes(java.lang.Class<T> ac) {
 			ArrayList<T> r = new ArrayList();
-			for(SyntacticAttribute a : attributes) {
+			for(SyntacticAttribute a : attributes()) {
 				if(a.getClass().equals(ac)) {
 					r.add((T) a);
 				}
 			}
 			return r;
 		}
-		
-		public List<SyntacticAttribute> attributes() {
-			// this is to prevent any kind of aliasing issues.
-			return attributes;
-		}
 	}
 	
 	/**
@@ -120,6 +131,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return value;
 		}
+
+		public int kind() {
+			return JilKind.VARIABLE;
+		}
 	}
 	
 	/**
@@ -155,6 +170,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return type.toString();
 		}
+
+		public int kind() {
+			return JilKind.CLASS_VARIABLE;
+		}
 	}
 
 	
@@ -203,6 +222,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return "(" + type.toString() + ")" + expr;
 		}
+
+		public int kind() {
+			return JilKind.CAST;
+		}
 	}
 
 	/**
@@ -250,6 +273,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return "[" + type.toString() + "]" + expr;
 		}
+
+		public int kind() {
+			return JilKind.CONVERT;
+		}
 	}
 	
 	/**
@@ -304,6 +331,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return "(" + lhs.toString() + " instanceof " + rhs + ")";
 		}
+
+		public int kind() {
+			return JilKind.INSTANCE_OF;
+		}
 	}
 
 	/**
@@ -364,6 +395,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return unopstr[op] + "(" + expr + ")";
 		}
+
+		public int kind() {
+			return JilKind.UNOP;
+		}
 	}
 
 	/**
@@ -451,6 +486,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return "(" + lhs + binopstr[op] + rhs + ")";
 		}
+
+		public int kind() {
+			return JilKind.BINOP;
+		}
 	}
 
 	/**
@@ -597,6 +636,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 			}
 			return r + ")";
 		}
+
+		public int kind() {
+			return JilKind.INVOKE;
+		}
 	}
 
 	/**
@@ -683,6 +726,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 			}
 			return r + ")";
 		}
+
+		public int kind() {
+			return JilKind.SPECIAL_INVOKE;
+		}
 	}
 		
 	
@@ -796,6 +843,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 			}
 			return r + ")";
 		}
+
+		public int kind() {
+			return JilKind.NEW;
+		}
 	}
 
 	/**
@@ -865,6 +916,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return target + "." + name;
 		}
+
+		public int kind() {
+			return JilKind.DEREF;
+		}
 	}
 
 	/**
@@ -919,6 +974,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return array + "[" + idx + "]";
 		}
+
+		public int kind() {
+			return JilKind.ARRAY_INDEX;
+		}
 	}
 	
 	public static interface Value extends JilExpr {}
@@ -958,6 +1017,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public Type.Primitive type() {
 			return type;
 		}		
+
+		public int kind() {
+			return JilKind.NUMBER;
+		}
 	}
 	
 	/**
@@ -983,6 +1046,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 			if(value==1) { return "true"; }
 			else { return "false"; }
 		}
+
+		public int kind() {
+			return JilKind.BOOL;
+		}
 	}
 	
 	/**
@@ -1007,6 +1074,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return "'" + (char)value + "'"; 
 		}
+
+		public int kind() {
+			return JilKind.CHAR;
+		}
 	}
 	
 	/**
@@ -1031,6 +1102,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return value + "b"; 
 		}
+
+		public int kind() {
+			return JilKind.BYTE;
+		}
 	}
 	
 	/**
@@ -1054,6 +1129,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return value + "s"; 
 		}
+
+		public int kind() {
+			return JilKind.SHORT;
+		}
 	}
 
 	/**
@@ -1077,6 +1156,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return java.lang.Integer.toString(value);			
 		}
+
+		public int kind() {
+			return JilKind.INT;
+		}
 	}
 
 	/**
@@ -1108,6 +1191,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return value + "l"; 
 		}
+
+		public int kind() {
+			return JilKind.LONG;
+		}
 	}
 	
 	/**
@@ -1139,6 +1226,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return value + "f"; 
 		}
+
+		public int kind() {
+			return JilKind.FLOAT;
+		}
 	}
 
 	/**
@@ -1170,6 +1261,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return java.lang.Double.toString(value); 
 		}
+
+		public int kind() {
+			return JilKind.DOUBLE;
+		}
 	}
 	
 	/**
@@ -1201,6 +1296,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return "\"" + value + "\""; 
 		}
+
+		public int kind() {
+			return JilKind.STRING;
+		}
 	}		
 	
 	/**
@@ -1220,6 +1319,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return "null"; 
 		}
+
+		public int kind() {
+			return JilKind.NULL;
+		}
 	}
 			
 	/**
@@ -1276,6 +1379,10 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 			}
 			return r + "}";
 		}
+
+		public int kind() {
+			return JilKind.ARRAY;
+		}
 	}	
 	
 	/**
@@ -1315,5 +1422,9 @@ public interface JilExpr extends SyntacticElement,Cloneable {
 		public String toString() {
 			return classType + ".class";
 		}
+
+		public int kind() {
+			return JilKind.CLASS;
+		}
 	}
 }
@@ -0,0 +1,78 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can
+// redistribute it and/or modify it under the terms of the
+// GNU General Public License as published by the Free Software
+// Foundation; either version 2 of the License, or (at your
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR
+// A PARTICULAR PURPOSE.  See the GNU General Public License
+// for more details.
+//
+// You should have received a copy of the GNU General Public
+// License along with the Java Compiler Kit; if not,
+// write to the Free Software Foundation, Inc., 59 Temple Place,
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009.
+
+package jkit.jil.tree;
+
+/**
+ * The kinds of statement and expression in the Jil tree. As for the Java tree
+ * (see jkit.java.tree.Kind), each class of node returns its kind from
+ * <code>kind()</code>, so that stages can dispatch on it with a switch. A
+ * subclass has its own kind (e.g. JilExpr.SpecialInvoke, rather than
+ * JilExpr.Invoke).
+ *
+ * @author djp
+ *
+ */
+public final class JilKind {
+	private JilKind() {
+	}
+
+	// Expressions
+	public static final int VARIABLE = 0;
+	public static final int CLASS_VARIABLE = 1;
+	public static final int CAST = 2;
+	public static final int CONVERT = 3;
+	public static final int INSTANCE_OF = 4;
+	public static final int UNOP = 5;
+	public static final int BINOP = 6;
+	public static final int INVOKE = 7;
+	public static final int SPECIAL_INVOKE = 8;
+	public static final int NEW = 9;
+	public static final int DEREF = 10;
+	public static final int ARRAY_INDEX = 11;
+
+	// Values
+	public static final int NUMBER = 12;
+	public static final int BOOL = 13;
+	public static final int CHAR = 14;
+	public static final int BYTE = 15;
+	public static final int SHORT = 16;
+	public static final int INT = 17;
+	public static final int LONG = 18;
+	public static final int FLOAT = 19;
+	public static final int DOUBLE = 20;
+	public static final int STRING = 21;
+	public static final int NULL = 22;
+	public static final int ARRAY = 23;
+	public static final int CLASS = 24;
+
+	// Statements
+	public static final int ASSIGN = 25;
+	public static final int RETURN = 26;
+	public static final int THROW = 27;
+	public static final int GOTO = 28;
+	public static final int IF_GOTO = 29;
+	public static final int LABEL = 30;
+	public static final int NOP = 31;
+	public static final int LOCK = 32;
+	public static final int UNLOCK = 33;
+	public static final int SWITCH = 34;
+}
@@ -22,13 +22,21 @@
 package jkit.jil.tree;
 
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
 
+import jkit.compiler.AttributeKey;
 import jkit.compiler.SyntacticAttribute;
 import jkit.compiler.SyntacticElement;
+import jkit.compiler.SyntacticElementImpl;
 import jkit.util.*;
 
 public interface JilStmt extends SyntacticElement, Cloneable {
+	/**
+	 * Get the kind of this statement, which identifies its class (see JilKind).
+	 * 
+	 * @return
+	 */
+	public int kind();
+	
 	
 	public JilStmt clone() throws CloneNotSupportedException;
 	
@@ -45,27 +53,23 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 	public JilStmt addExceptions(List<Pair<Type.Clazz,String>> exceptions);
 	public JilStmt clearAddExceptions(List<Pair<Type.Clazz,String>> exceptions);
 	
-	public static abstract class AbstractStmt implements
-			JilStmt,SyntacticElement{
-		private final ArrayList<SyntacticAttribute> attributes;
+	public static abstract class AbstractStmt extends SyntacticElementImpl
+			implements JilStmt {
 		private final ArrayList<Pair<Type.Clazz, String>> exceptions;
 
 		public AbstractStmt(SyntacticAttribute... attributes) {
-			this.attributes = new ArrayList();
-			for(SyntacticAttribute a : attributes) {
-				this.attributes.add(a);
-			}
+			super(attributes);
 			this.exceptions = new ArrayList();
 		}
 		
 		public AbstractStmt(List<SyntacticAttribute> attributes) {
-			this.attributes = new ArrayList(attributes);			
+			super(attributes);
 			this.exceptions = new ArrayList();
 		}
 		
 		public AbstractStmt(List<Pair<Type.Clazz, String>> exceptions,
 				List<SyntacticAttribute> attributes) {
-			this.attributes = new ArrayList(attributes);
+			super(attributes);
 			this.exceptions = new ArrayList(exceptions);
 		}
 		
@@ -95,7 +99,13 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 		}
 
 		public <T extends SyntacticAttribute> T attribute(java.lang.Class<T> ac) {
-			for (SyntacticAttribute a : attributes) {
+			AttributeKey<T> key = AttributeKey.lookup(ac);
+			if(key != null && key.exact()) {
+				// an attribute of a final class is exactly of that class, and
+				// so can be looked up directly.
+				return super.attribute(key);
+			}
+			for (SyntacticAttribute a : attributes()) {
 				if (a != null && a.getClass().equals(ac)) {
 					return (T) a;
 				}
@@ -103,9 +113,16 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 			return null;
 		}
 		
+		public <T extends SyntacticAttribute> T attribute(AttributeKey<T> key) {
+			if(key.exact()) {
+				return super.attribute(key);
+			}
+			return attribute(key.kind());
+		}
+		
 		public <T extends SyntacticAttribute> List<T> attributes(java.lang.Class<T> ac) {
 			ArrayList<T> r = new ArrayList();
-			for(SyntacticAttribute a : attributes) {
+			for(SyntacticAttribute a : attributes()) {
 				if(a.getClass().equals(ac)) {
 					r.add((T) a);
 				}
@@ -113,12 +130,6 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 			return r;
 		}
 		
-		public List<SyntacticAttribute> attributes() {
-			// this is to prevent any kind of aliasing issues.
-			// return new CopyOnWriteArrayList<SyntacticAttribute>(attributes);
-			return attributes;
-		}
-		
 		public abstract AbstractStmt clone();
 	}
 	
@@ -169,6 +180,10 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 		public String toString() {
 			return lhs.type() + " " + lhs.toString() + " = " + rhs.toString() + ";";
 		}
+
+		public int kind() {
+			return JilKind.ASSIGN;
+		}
 	}
 	
 	/**
@@ -209,6 +224,10 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 				return "return " + expr.toString() + ";";
 			}
 		}
+
+		public int kind() {
+			return JilKind.RETURN;
+		}
 	}
 	
 	/**
@@ -248,6 +267,10 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 		public String toString() {
 			return "throw " + expr.toString() + ";";
 		}
+
+		public int kind() {
+			return JilKind.THROW;
+		}
 	}
 	
 	/**
@@ -288,6 +311,10 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 		public String toString() {
 			return "goto " + label + ";";
 		}
+
+		public int kind() {
+			return JilKind.GOTO;
+		}
 	}
 	
 	/**
@@ -337,6 +364,10 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 		public String toString() {
 			return "if(" + condition + ") goto " + label + ";";
 		}
+
+		public int kind() {
+			return JilKind.IF_GOTO;
+		}
 	}
 	
 	public static final class Label extends AbstractStmt {
@@ -370,6 +401,10 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 		public String toString() {
 			return label + ":";
 		}
+
+		public int kind() {
+			return JilKind.LABEL;
+		}
 	}
 	
 	public static final class Nop extends AbstractStmt {
@@ -389,6 +424,10 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 		public String toString() {
 			return "nop;";
 		}
+
+		public int kind() {
+			return JilKind.NOP;
+		}
 	}
 	
 	public static final class Lock extends AbstractStmt {
@@ -421,6 +460,10 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 		public String toString() {
 			return "lock " + expr;
 		}
+
+		public int kind() {
+			return JilKind.LOCK;
+		}
 	}
 	
 	public static final class Unlock extends AbstractStmt {
@@ -454,6 +497,10 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 		public String toString() {
 			return "unlock " + expr;
 		}
+
+		public int kind() {
+			return JilKind.UNLOCK;
+		}
 	}
 	
 	public static final class Switch extends AbstractStmt {
@@ -513,5 +560,9 @@ public interface JilStmt extends SyntacticElement, Cloneable {
 		public String toString() {
 			return "switch(" + condition + ")";
 		}
+
+		public int kind() {
+			return JilKind.SWITCH;
+		}
 	}
 }
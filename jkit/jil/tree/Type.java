@@ -420,6 +420,8 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
      */
 	public static class Array implements Reference {
 		private final Type element;
+		boolean canonical; // set by TypeTable
+		int hash;          // cached hashcode (canonical only)
 
 		public Array(Type element) {
 			if (element == null) {
@@ -437,14 +439,17 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 		}
 
 		public boolean equals(Object o) {
-			if(o instanceof Type.Array) {
+			if(o == this) {
+				return true;
+			} else if(o instanceof Type.Array) {
 				Type.Array a = (Type.Array) o;
-				return element.equals(a.element);
+				return !(canonical && a.canonical) && element.equals(a.element);
 			}
 			return false;
 		}
 
 		public int hashCode() {
+			if(canonical) { return hash; }
 			return 1 + element.hashCode();
 		}
 
@@ -472,6 +477,8 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 	public static class Clazz implements Reference {
 		private final String pkg;
 		private final List<Pair<String, List<Type.Reference>>> components;
+		boolean canonical; // set by TypeTable
+		int hash;          // cached hashcode (canonical only)
 
 		public Clazz(String pkg, List<Pair<String, List<Type.Reference>>> components) {
 			if (components == null) {
@@ -539,9 +546,14 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 		}
 
 		public boolean equals(Object o) {
-			if(o instanceof Type.Clazz) {
+			if(o == this) {
+				return true;
+			} else if(o instanceof Type.Clazz) {
 				Type.Clazz c = (Type.Clazz) o;
-
+				if(canonical && c.canonical) {
+					// canonical types are equal only if they're identical
+					return false;
+				}
 				return pkg.equals(c.pkg) &&
 					components.equals(c.components);
 			}
@@ -549,6 +561,7 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 		}
 
 		public int hashCode() {
+			if(canonical) { return hash; }
 			int hc = 0;
 			for (Pair<String, List<Type.Reference>> n : components) {
 				hc ^= n.first().hashCode();
@@ -614,6 +627,8 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 	public static class Wildcard implements Reference {
 		private final Type.Reference lowerBound;
 		private final Type.Reference upperBound;
+		boolean canonical; // set by TypeTable
+		int hash;          // cached hashcode (canonical only)
 
 		public Wildcard(Type.Reference lowerBound, Type.Reference upperBound) {
 			this.lowerBound = lowerBound;
@@ -641,8 +656,13 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 		}
 
 		public boolean equals(Object o) {
-			if (o instanceof Wildcard) {
+			if (o == this) {
+				return true;
+			} else if (o instanceof Wildcard) {
 				Wildcard w = (Wildcard) o;
+				if(canonical && w.canonical) {
+					return false;
+				}
 				boolean lb;
 				if(lowerBound == null) {
 					lb = w.lowerBound == null;
@@ -673,6 +693,7 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 		}
 
 		public int hashCode() {
+			if(canonical) { return hash; }
 			int hc = 0;
 			if(lowerBound != null) {
 				hc ^= lowerBound.hashCode();
@@ -735,6 +756,7 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 	public static class Variable extends SyntacticElementImpl implements Reference {
 		private final String variable;
 		private final Type.Reference lowerBound;
+		boolean canonical; // set by TypeTable
 
 		public Variable(String variable, Type.Reference lowerBound,
 				SyntacticAttribute... attributes) {
@@ -754,10 +776,19 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 			return lowerBound;
 		}
 
+		public List<SyntacticAttribute> attributes() {
+			// a canonical type is shared, so its attributes cannot be changed
+			List<SyntacticAttribute> r = super.attributes();
+			return canonical ? Collections.unmodifiableList(r) : r;
+		}
+
 		public boolean equals(Object o) {
-			if (o instanceof Variable) {
+			if (o == this) {
+				return true;
+			} else if (o instanceof Variable) {
 				Variable v = (Variable) o;
-				return variable.equals(v.variable)
+				return !(canonical && v.canonical)
+						&& variable.equals(v.variable)
 						&& lowerBound.equals(v.lowerBound);
 			}
 			return false;
@@ -817,7 +848,9 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 	 * @author djp
 	 */
 	public static class Intersection extends SyntacticElementImpl implements Reference {
-		private final ArrayList<Type.Reference> bounds;
+		private final List<Type.Reference> bounds;
+		boolean canonical; // set by TypeTable
+		int hash;          // cached hashcode (canonical only)
 
 		public Intersection(List<Type.Reference> bounds,
 				SyntacticAttribute... attributes) {
@@ -832,6 +865,16 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 			this.bounds = new ArrayList<Type.Reference>(bounds);
 		}
 
+		/**
+		 * Construct an intersection type which takes ownership of the given
+		 * bounds (i.e. without copying them). This is used for constructing
+		 * canonical types.
+		 */
+		Intersection(List<Type.Reference> bounds, boolean canonical) {
+			this.bounds = bounds;
+			this.canonical = canonical;
+		}
+
 		public List<Type.Reference> bounds() {
 			return bounds;
 		}
@@ -849,10 +892,20 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 			return r;
 		}
 
+		public List<SyntacticAttribute> attributes() {
+			// a canonical type is shared, so its attributes cannot be changed
+			List<SyntacticAttribute> r = super.attributes();
+			return canonical ? Collections.unmodifiableList(r) : r;
+		}
+
 		public boolean equals(Object o) {
-			if(o instanceof Intersection) {
+			if(o == this) {
+				return true;
+			} else if(o instanceof Intersection) {
 				Intersection t = (Intersection) o;
-				if(t.bounds.size() == bounds.size()) {
+				if(canonical && t.canonical) {
+					return false;
+				} else if(t.bounds.size() == bounds.size()) {
 					for(int i=0;i!=bounds.size();++i) {
 						if(!t.bounds.get(i).equals(bounds.get(i))) {
 							return false;
@@ -865,6 +918,7 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 		}
 
 		public int hashCode() {
+			if(canonical) { return hash; }
 			int hc = 0;
 			for(Type.Reference r : bounds) {
 				hc ^= r.hashCode();
@@ -914,6 +968,8 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 		private final List<Type> parameters;
 		private final Type returnType;
 		private final List<Type.Variable> typeArgs;
+		boolean canonical; // set by TypeTable
+		int hash;          // cached hashcode (canonical only)
 
 		public Function(Type returnType, Type... parameters) {
 			if (returnType == null) {
@@ -960,10 +1016,19 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 			return typeArgs;
 		}
 
+		public List<SyntacticAttribute> attributes() {
+			// a canonical type is shared, so its attributes cannot be changed
+			List<SyntacticAttribute> r = super.attributes();
+			return canonical ? Collections.unmodifiableList(r) : r;
+		}
+
 		public boolean equals(Object o) {
-			if (o instanceof Function) {
+			if (o == this) {
+				return true;
+			} else if (o instanceof Function) {
 				Function f = (Function) o;
-				return returnType.equals(f.returnType)
+				return !(canonical && f.canonical)
+						&& returnType.equals(f.returnType)
 						&& parameters.equals(f.parameters)
 						&& typeArgs.equals(f.typeArgs);
 			}
@@ -1001,6 +1066,7 @@ public interface Type extends SyntacticAttribute, Comparable<Type> {
 		}
 
 		public int hashCode() {
+			if(canonical) { return hash; }
 			int hc = 0;
 			for(Type t : parameters) {
 				hc ^= t.hashCode();
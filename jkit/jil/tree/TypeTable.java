@@ -0,0 +1,235 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can
+// redistribute it and/or modify it under the terms of the
+// GNU General Public License as published by the Free Software
+// Foundation; either version 2 of the License, or (at your
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR
+// A PARTICULAR PURPOSE.  See the GNU General Public License
+// for more details.
+//
+// You should have received a copy of the GNU General Public
+// License along with the Java Compiler Kit; if not,
+// write to the Free Software Foundation, Inc., 59 Temple Place,
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009.
+
+package jkit.jil.tree;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+import jkit.util.Pair;
+
+/**
+ * <p>
+ * The type table is responsible for hash-consing types. That is, it ensures
+ * that structurally equal types which have been interned share a single
+ * (canonical) instance. Canonical types are immutable, cache their hashcode,
+ * and compare against each other by identity alone. Equality between a
+ * canonical type and a non-canonical type still falls back to a structural
+ * comparison, so non-interned types can be used freely alongside interned
+ * ones.
+ * </p>
+ *
+ * <p>
+ * Note that the canonical form of a type variable, intersection or function
+ * type carries no syntactic attributes (e.g. source locations), and they
+ * cannot be added to it, since it is shared. Thus, types carrying attributes
+ * which need to be retained should not be interned.
+ * </p>
+ *
+ * <p>
+ * Canonical types are held only weakly, so the table does not keep alive the
+ * types of a compilation once it has finished. A canonical type remains in
+ * the table for as long as it is in use, and so there is never more than one
+ * canonical instance of a type in use.
+ * </p>
+ *
+ * @author djp
+ *
+ */
+public final class TypeTable {
+	private static final WeakHashMap<Type,WeakReference<Type>> table = new WeakHashMap<Type,WeakReference<Type>>();
+	private static long lookups = 0;
+	private static long hits = 0;
+
+	/**
+	 * Return the canonical instance of the given type.
+	 *
+	 * @param t
+	 * @return
+	 */
+	public static synchronized Type intern(Type t) {
+		if(t == null) {
+			return null;
+		} else if(t instanceof Type.Array) {
+			return intern((Type.Array) t);
+		} else if(t instanceof Type.Clazz) {
+			return intern((Type.Clazz) t);
+		} else if(t instanceof Type.Wildcard) {
+			return intern((Type.Wildcard) t);
+		} else if(t instanceof Type.Variable) {
+			return intern((Type.Variable) t);
+		} else if(t instanceof Type.Intersection) {
+			return intern((Type.Intersection) t);
+		} else if(t instanceof Type.Function) {
+			return intern((Type.Function) t);
+		}
+		// primitive, void and null types have no structure and compare using
+		// instanceof. Hence, there's no need to intern them.
+		return t;
+	}
+
+	public static synchronized Type.Reference intern(Type.Reference t) {
+		return (Type.Reference) intern((Type) t);
+	}
+
+	public static synchronized Type.Array intern(Type.Array t) {
+		if(t.canonical) { return t; }
+		Type element = intern(t.element());
+		Type.Array r = (Type.Array) lookup(new Type.Array(element));
+		if(!r.canonical) {
+			r.hash = r.hashCode();
+			r.canonical = true;
+		}
+		return r;
+	}
+
+	public static synchronized Type.Clazz intern(Type.Clazz t) {
+		if(t.canonical) { return t; }
+		List<Pair<String,List<Type.Reference>>> components = t.components();
+		ArrayList<Pair<String, List<Type.Reference>>> ncomponents = new ArrayList<Pair<String, List<Type.Reference>>>(
+				components.size());
+		for(Pair<String,List<Type.Reference>> c : components) {
+			List<Type.Reference> args = c.second();
+			List<Type.Reference> nargs;
+			if(args == null || args.isEmpty()) {
+				nargs = Collections.emptyList();
+			} else {
+				ArrayList<Type.Reference> tmp = new ArrayList<Type.Reference>(args.size());
+				for(Type.Reference r : args) {
+					tmp.add(intern(r));
+				}
+				nargs = Collections.unmodifiableList(tmp);
+			}
+			ncomponents.add(new Pair<String,List<Type.Reference>>(c.first(),nargs));
+		}
+		Type.Clazz r = (Type.Clazz) lookup(new Type.Clazz(t.pkg(),
+				Collections.unmodifiableList(ncomponents)));
+		if(!r.canonical) {
+			r.hash = r.hashCode();
+			r.canonical = true;
+		}
+		return r;
+	}
+
+	public static synchronized Type.Wildcard intern(Type.Wildcard t) {
+		if(t.canonical) { return t; }
+		Type.Wildcard r = (Type.Wildcard) lookup(new Type.Wildcard(
+				intern(t.lowerBound()), intern(t.upperBound())));
+		if(!r.canonical) {
+			r.hash = r.hashCode();
+			r.canonical = true;
+		}
+		return r;
+	}
+
+	public static synchronized Type.Variable intern(Type.Variable t) {
+		if(t.canonical) { return t; }
+		Type.Variable r = (Type.Variable) lookup(new Type.Variable(t
+				.variable(), intern(t.lowerBound())));
+		r.canonical = true;
+		return r;
+	}
+
+	public static synchronized Type.Intersection intern(Type.Intersection t) {
+		if(t.canonical) { return t; }
+		ArrayList<Type.Reference> bounds = new ArrayList<Type.Reference>();
+		for(Type.Reference b : t.bounds()) {
+			bounds.add(intern(b));
+		}
+		Type.Intersection r = (Type.Intersection) lookup(new Type.Intersection(
+				Collections.unmodifiableList(bounds), false));
+		if(!r.canonical) {
+			r.hash = r.hashCode();
+			r.canonical = true;
+		}
+		return r;
+	}
+
+	public static synchronized Type.Function intern(Type.Function t) {
+		if(t.canonical) { return t; }
+		ArrayList<Type> params = new ArrayList<Type>(t.parameterTypes().size());
+		for(Type p : t.parameterTypes()) {
+			params.add(intern(p));
+		}
+		List<Type.Variable> typeArgs;
+		if(t.typeArguments().isEmpty()) {
+			typeArgs = Collections.emptyList();
+		} else {
+			ArrayList<Type.Variable> tmp = new ArrayList<Type.Variable>();
+			for(Type.Variable v : t.typeArguments()) {
+				tmp.add(intern(v));
+			}
+			typeArgs = Collections.unmodifiableList(tmp);
+		}
+		Type.Function r = (Type.Function) lookup(new Type.Function(intern(t
+				.returnType()), Collections.unmodifiableList(params), typeArgs));
+		if(!r.canonical) {
+			r.hash = r.hashCode();
+			r.canonical = true;
+		}
+		return r;
+	}
+
+	/**
+	 * Return the number of distinct types in the table, which have not yet
+	 * been collected.
+	 *
+	 * @return
+	 */
+	public static synchronized int size() {
+		return table.size();
+	}
+
+	/**
+	 * Return the number of lookups which found an existing canonical type.
+	 *
+	 * @return
+	 */
+	public static synchronized long hits() {
+		return hits;
+	}
+
+	/**
+	 * Return the total number of lookups made on the type table.
+	 *
+	 * @return
+	 */
+	public static synchronized long lookups() {
+		return lookups;
+	}
+
+	/**
+	 * Look up the canonical instance of a type whose children are already
+	 * canonical. If there is none, then the given type becomes the canonical
+	 * instance.
+	 */
+	private static Type lookup(Type t) {
+		lookups++;
+		WeakReference<Type> ref = table.get(t);
+		Type r = ref == null ? null : ref.get();
+		if(r != null) {
+			hits++;
+			return r;
+		}
+		table.put(t,new WeakReference<Type>(t));
+		return t;
+	}
+}
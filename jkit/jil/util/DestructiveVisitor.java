@@ -21,34 +21,36 @@ public class DestructiveVisitor {
 	}
 	
 	protected JilStmt apply(JilStmt stmt) {
-		if(stmt instanceof JilStmt.Assign) {
+		switch(stmt.kind()) {
+		case JilKind.ASSIGN:
 			return apply((JilStmt.Assign)stmt);					
-		} else if(stmt instanceof JilExpr.Invoke) {
+		case JilKind.INVOKE:
+		case JilKind.SPECIAL_INVOKE:
 			return apply((JilExpr.Invoke)stmt);										
-		} else if(stmt instanceof JilExpr.New) {
+		case JilKind.NEW:
 			return apply((JilExpr.New) stmt);						
-		} else if(stmt instanceof JilStmt.Return) {
+		case JilKind.RETURN:
 			return apply((JilStmt.Return) stmt);
-		} else if(stmt instanceof JilStmt.Throw) {
+		case JilKind.THROW:
 			return apply((JilStmt.Throw) stmt);
-		} else if(stmt instanceof JilStmt.Nop) {		
+		case JilKind.NOP:
 			return apply((JilStmt.Nop) stmt);
-		} else if(stmt instanceof JilStmt.Lock) {		
+		case JilKind.LOCK:
 			return apply((JilStmt.Lock) stmt);
-		} else if(stmt instanceof JilStmt.Unlock) {		
+		case JilKind.UNLOCK:
 			return apply((JilStmt.Unlock) stmt);
-		} else if(stmt instanceof JilStmt.Goto) {		
+		case JilKind.GOTO:
 			return stmt;
-		} else if(stmt instanceof JilStmt.IfGoto) {		
+		case JilKind.IF_GOTO:
 			return apply((JilStmt.IfGoto)stmt);
-		} else if(stmt instanceof JilStmt.Switch) {		
+		case JilKind.SWITCH:
 			return apply((JilStmt.Switch)stmt);
-		} else if(stmt instanceof JilStmt.Label) {		
+		case JilKind.LABEL:
 			return apply((JilStmt.Label) stmt);
-		} else {
+		default:
 			syntax_error("unknown statement encountered (" + stmt.getClass().getName() + ")",stmt);
 			return null;
-		}		
+		}
 	}
 	
 	protected JilStmt apply(JilStmt.Assign stmt) {
@@ -102,34 +104,48 @@ public class DestructiveVisitor {
 	}
 	
 	protected JilExpr apply(JilExpr expr) {
-		if(expr instanceof JilExpr.ArrayIndex) {
+		switch(expr.kind()) {
+		case JilKind.ARRAY_INDEX:
 			return apply((JilExpr.ArrayIndex) expr);
-		} else if(expr instanceof JilExpr.BinOp) {		
+		case JilKind.BINOP:
 			return apply((JilExpr.BinOp) expr);
-		} else if(expr instanceof JilExpr.UnOp) {		
+		case JilKind.UNOP:
 			return apply((JilExpr.UnOp) expr);								
-		} else if(expr instanceof JilExpr.Cast) {
+		case JilKind.CAST:
 			return apply((JilExpr.Cast) expr);			 			
-		}  else if(expr instanceof JilExpr.Convert) {
+		case JilKind.CONVERT:
 			return apply((JilExpr.Convert) expr);			 			
-		} else if(expr instanceof JilExpr.ClassVariable) {
+		case JilKind.CLASS_VARIABLE:
 			return apply((JilExpr.ClassVariable) expr);			 			
-		} else if(expr instanceof JilExpr.Deref) {
+		case JilKind.DEREF:
 			return apply((JilExpr.Deref) expr);			 							
-		} else if(expr instanceof JilExpr.Variable) {
+		case JilKind.VARIABLE:
 			return apply((JilExpr.Variable) expr);
-		} else if(expr instanceof JilExpr.InstanceOf) {
+		case JilKind.INSTANCE_OF:
 			return apply((JilExpr.InstanceOf) expr);
-		} else if(expr instanceof JilExpr.Invoke) {
+		case JilKind.INVOKE:
+		case JilKind.SPECIAL_INVOKE:
 			return apply((JilExpr.Invoke) expr);
-		} else if(expr instanceof JilExpr.New) {
+		case JilKind.NEW:
 			return apply((JilExpr.New) expr);
-		} else if(expr instanceof JilExpr.Value) {
+		case JilKind.NUMBER:
+		case JilKind.BOOL:
+		case JilKind.CHAR:
+		case JilKind.BYTE:
+		case JilKind.SHORT:
+		case JilKind.INT:
+		case JilKind.LONG:
+		case JilKind.FLOAT:
+		case JilKind.DOUBLE:
+		case JilKind.STRING:
+		case JilKind.NULL:
+		case JilKind.ARRAY:
+		case JilKind.CLASS:
 			return apply((JilExpr.Value) expr);
-		} else {
+		default:
 			syntax_error("Unknown expression \"" + expr + "\" encoutered",expr);
 			return null;
-		}				
+		}
 	}
 	
 	protected JilExpr apply(JilExpr.ArrayIndex expr) {
@@ -27,6 +27,7 @@ import static jkit.compiler.SyntaxError.*;
 import jkit.compiler.SyntacticElement;
 import jkit.java.stages.TypeSystem.BindError;
 import jkit.jil.tree.Type;
+import jkit.jil.tree.TypeTable;
 import jkit.util.Pair;
 
 public class Types {
@@ -40,21 +41,21 @@ public class Types {
      */
 	public static Type.Clazz boxedType(Type.Primitive p) {
 		if(p instanceof Type.Bool) {
-			return new Type.Clazz("java.lang","Boolean");
+			return JAVA_LANG_BOOLEAN;
 		} else if(p instanceof Type.Byte) {
-			return new Type.Clazz("java.lang","Byte");
+			return JAVA_LANG_BYTE;
 		} else if(p instanceof Type.Char) {
-			return new Type.Clazz("java.lang","Character");
+			return JAVA_LANG_CHARACTER;
 		} else if(p instanceof Type.Short) {
-			return new Type.Clazz("java.lang","Short");
+			return JAVA_LANG_SHORT;
 		} else if(p instanceof Type.Int) {
-			return new Type.Clazz("java.lang","Integer");
+			return JAVA_LANG_INTEGER;
 		} else if(p instanceof Type.Long) {
-			return new Type.Clazz("java.lang","Long");
+			return JAVA_LANG_LONG;
 		} else if(p instanceof Type.Float) {
-			return new Type.Clazz("java.lang","Float");
+			return JAVA_LANG_FLOAT;
 		} else {
-			return new Type.Clazz("java.lang","Double");
+			return JAVA_LANG_DOUBLE;
 		}
 	}
 	
@@ -176,11 +177,12 @@ public class Types {
 			Type.Reference ub = wc.upperBound();
 			if(lb != null) { lb = substitute(lb,binding); }
 			if(ub != null) { ub = substitute(ub,binding); }
-			return new Type.Wildcard(lb,ub);
+			return TypeTable.intern(new Type.Wildcard(lb,ub));
 		} else if(type instanceof Type.Array) {
 			Type.Array at = (Type.Array) type;
 			if(at.element() instanceof Type.Reference) {
-				return new Type.Array(substitute((Type.Reference) at.element(),binding));
+				return TypeTable.intern(new Type.Array(substitute(
+						(Type.Reference) at.element(), binding)));
 			} else {
 				return type;
 			}
@@ -197,7 +199,7 @@ public class Types {
 				ncomponents.add(new Pair(c.first(),nc));
 			}
 			
-			return new Type.Clazz(ct.pkg(),ncomponents);
+			return TypeTable.intern(new Type.Clazz(ct.pkg(),ncomponents));
 		}
 		
 		throw new BindError("Cannot substitute against type " + type);
@@ -243,7 +245,7 @@ public class Types {
 			}			
 		}
 		
-		return new Type.Function(returnType,paramTypes,varTypes);
+		return TypeTable.intern(new Type.Function(returnType,paramTypes,varTypes));
 	}
 	/**
      * Check wither a given type is a reference to java.lang.Object or not.
@@ -357,7 +359,7 @@ public class Types {
 		for(int i=0;i!=components.size()-1;++i) {
 			ncomponents.add(components.get(i));
 		}
-		return new Type.Clazz(t.pkg(),ncomponents);
+		return TypeTable.intern(new Type.Clazz(t.pkg(),ncomponents));
 	}	
 	
 	/**
@@ -388,7 +390,7 @@ public class Types {
 		for(Pair<String,List<Type.Reference>> p : ct.components()) {
 			ncomponents.add(new Pair(p.first(),new ArrayList()));
 		}
-		return new Type.Clazz(ct.pkg(),ncomponents);
+		return TypeTable.intern(new Type.Clazz(ct.pkg(),ncomponents));
 	}
 	
 	public static Type.Function stripGenerics(Type.Function ft) {
@@ -397,7 +399,8 @@ public class Types {
 			params.add(stripGenerics(t));
 		}
 		
-		return new Type.Function(stripGenerics(ft.returnType()),params);
+		return TypeTable.intern(new Type.Function(stripGenerics(ft
+				.returnType()), params));
 	}
 
 	public static Type stripGenerics(Type.Variable vt) {
@@ -421,7 +424,7 @@ public class Types {
 		for(Type.Reference t : wt.bounds()) {
 			bounds.add((Type.Reference) stripGenerics(t));
 		}
-		return new Type.Intersection(bounds);
+		return TypeTable.intern(new Type.Intersection(bounds));
 	}
 	
 	/**
@@ -439,30 +442,30 @@ public class Types {
 	public static  final Type.Float T_FLOAT = new Type.Float();
 	public static  final Type.Double T_DOUBLE = new Type.Double();
 	
-	public static final Type.Clazz JAVA_LANG_OBJECT = new Type.Clazz("java.lang","Object");
-	public static final Type.Clazz JAVA_LANG_CLONEABLE = new Type.Clazz("java.lang","Cloneable");
-	public static final Type.Clazz JAVA_LANG_STRING = new Type.Clazz("java.lang","String");
-	public static final Type.Clazz JAVA_LANG_ENUM = new Type.Clazz("java.lang","Enum");
+	public static final Type.Clazz JAVA_LANG_OBJECT = TypeTable.intern(new Type.Clazz("java.lang","Object"));
+	public static final Type.Clazz JAVA_LANG_CLONEABLE = TypeTable.intern(new Type.Clazz("java.lang","Cloneable"));
+	public static final Type.Clazz JAVA_LANG_STRING = TypeTable.intern(new Type.Clazz("java.lang","String"));
+	public static final Type.Clazz JAVA_LANG_ENUM = TypeTable.intern(new Type.Clazz("java.lang","Enum"));
 	
-	public static final Type.Clazz JAVA_LANG_BOOLEAN = new Type.Clazz("java.lang","Boolean");
-	public static final Type.Clazz JAVA_LANG_CHARACTER = new Type.Clazz("java.lang","Character");
-	public static final Type.Clazz JAVA_LANG_BYTE = new Type.Clazz("java.lang","Byte");
-	public static final Type.Clazz JAVA_LANG_SHORT = new Type.Clazz("java.lang","Short");
-	public static final Type.Clazz JAVA_LANG_INTEGER = new Type.Clazz("java.lang","Integer");
-	public static final Type.Clazz JAVA_LANG_LONG = new Type.Clazz("java.lang","Long");
-	public static final Type.Clazz JAVA_LANG_FLOAT = new Type.Clazz("java.lang","Float");
-	public static final Type.Clazz JAVA_LANG_DOUBLE = new Type.Clazz("java.lang","Double");
+	public static final Type.Clazz JAVA_LANG_BOOLEAN = TypeTable.intern(new Type.Clazz("java.lang","Boolean"));
+	public static final Type.Clazz JAVA_LANG_CHARACTER = TypeTable.intern(new Type.Clazz("java.lang","Character"));
+	public static final Type.Clazz JAVA_LANG_BYTE = TypeTable.intern(new Type.Clazz("java.lang","Byte"));
+	public static final Type.Clazz JAVA_LANG_SHORT = TypeTable.intern(new Type.Clazz("java.lang","Short"));
+	public static final Type.Clazz JAVA_LANG_INTEGER = TypeTable.intern(new Type.Clazz("java.lang","Integer"));
+	public static final Type.Clazz JAVA_LANG_LONG = TypeTable.intern(new Type.Clazz("java.lang","Long"));
+	public static final Type.Clazz JAVA_LANG_FLOAT = TypeTable.intern(new Type.Clazz("java.lang","Float"));
+	public static final Type.Clazz JAVA_LANG_DOUBLE = TypeTable.intern(new Type.Clazz("java.lang","Double"));
 	
 	// io
-	public static final Type.Clazz JAVA_IO_SERIALIZABLE = new Type.Clazz("java.io","Serializable");
+	public static final Type.Clazz JAVA_IO_SERIALIZABLE = TypeTable.intern(new Type.Clazz("java.io","Serializable"));
 	
 	// util
- 	public static final Type.Clazz JAVA_UTIL_ITERATOR = new Type.Clazz("java.util","Iterator");
+ 	public static final Type.Clazz JAVA_UTIL_ITERATOR = TypeTable.intern(new Type.Clazz("java.util","Iterator"));
 	
 	// exceptions related types
-	public static  final Type.Clazz JAVA_LANG_THROWABLE = new Type.Clazz("java.lang","Throwable");
-	public static  final Type.Clazz JAVA_LANG_RUNTIMEEXCEPTION = new Type.Clazz("java.lang","RuntimeException");
-	public static  final Type.Clazz JAVA_LANG_VIRTUALMACHINEERROR = new Type.Clazz("java.lang","VirtualMachineError");
-	public static  final Type.Clazz JAVA_LANG_NULLPOINTEREXCEPTION = new Type.Clazz("java.lang","NullPointerException");
-	public static  final Type.Clazz JAVA_LANG_ARITHMETICEXCEPTION = new Type.Clazz("java.lang","ArithmeticException");	
+	public static  final Type.Clazz JAVA_LANG_THROWABLE = TypeTable.intern(new Type.Clazz("java.lang","Throwable"));
+	public static  final Type.Clazz JAVA_LANG_RUNTIMEEXCEPTION = TypeTable.intern(new Type.Clazz("java.lang","RuntimeException"));
+	public static  final Type.Clazz JAVA_LANG_VIRTUALMACHINEERROR = TypeTable.intern(new Type.Clazz("java.lang","VirtualMachineError"));
+	public static  final Type.Clazz JAVA_LANG_NULLPOINTEREXCEPTION = TypeTable.intern(new Type.Clazz("java.lang","NullPointerException"));
+	public static  final Type.Clazz JAVA_LANG_ARITHMETICEXCEPTION = TypeTable.intern(new Type.Clazz("java.lang","ArithmeticException"));	
 }
\ No newline at end of file
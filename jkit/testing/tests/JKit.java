@@ -243,8 +243,10 @@ public class JKit extends TestHarness {
 	@Test public void JLS_14_11_SwitchStatement_9() { runTest("JLS_14_11_SwitchStatement_9"); }
 	@Test public void JLS_14_11_SwitchStatement_10() { runTest("JLS_14_11_SwitchStatement_10"); }
 	@Test public void JLS_14_11_SwitchStatement_11() { runTest("JLS_14_11_SwitchStatement_11"); }
+	@Test public void JLS_14_11_SwitchStatement_12() { runTest("JLS_14_11_SwitchStatement_12"); }
 
 	@Test public void JLS_14_12_WhileStatement_1() { runTest("JLS_14_12_WhileStatement_1"); }
+	@Test public void JLS_14_12_WhileStatement_2() { runTest("JLS_14_12_WhileStatement_2"); }
 	@Test public void JLS_14_12_DoWhileStatement_1() { runTest("JLS_14_12_DoWhileStatement_1"); }
 	@Test public void JLS_14_14_ForStatement_1() { runTest("JLS_14_14_ForStatement_1"); }
 	@Test public void JLS_14_14_ForStatement_2() { runTest("JLS_14_14_ForStatement_2"); }
@@ -258,6 +260,7 @@ public class JKit extends TestHarness {
 
 	@Test public void JLS_14_14_ForStatement_8() { runTest("JLS_14_14_ForStatement_8"); }
 	@Test public void JLS_14_14_ForStatement_9() { runTest("JLS_14_14_ForStatement_9"); }
+	@Test public void JLS_14_14_ForStatement_10() { runTest("JLS_14_14_ForStatement_10"); }
 
 	@Test public void JLS_14_19_Synchronization_1() { runTest("JLS_14_19_Synchronization_1"); }
 	@Test public void JLS_14_19_Synchronization_2() { runTest("JLS_14_19_Synchronization_2"); }
@@ -273,6 +276,7 @@ public class JKit extends TestHarness {
 	@Test public void JLS_14_20_TryStatement_8() { runTest("JLS_14_20_TryStatement_8"); }
 	@Test public void JLS_14_20_TryStatement_9() { runTest("JLS_14_20_TryStatement_9"); }
 	@Test public void JLS_14_20_TryStatement_10() { runTest("JLS_14_20_TryStatement_10"); }
+	@Test public void JLS_14_20_TryStatement_11() { runTest("JLS_14_20_TryStatement_11"); }
 
 	@Test public void JLS_15_6_ArrayAssignment_1() { runTest("JLS_15_6_ArrayAssignment_1"); }
 	@Test public void JLS_15_6_ArrayAssignment_2() { runTest("JLS_15_6_ArrayAssignment_2"); }
@@ -282,6 +286,7 @@ public class JKit extends TestHarness {
 	@Test public void JLS_15_7_EvaluationOrder_3() { runTest("JLS_15_7_EvaluationOrder_3"); }
 
 	@Test public void JLS_15_8_1_StringConcatenation_1() { runTest("JLS_15_8_1_StringConcatenation_1"); }
+	@Test public void JLS_15_8_1_StringConcatenation_2() { runTest("JLS_15_8_1_StringConcatenation_2"); }
 
 	@Test public void JLS_15_9_5_AnonymousClasses_1() { runTest("JLS_15_9_5_AnonymousClasses_1"); }
 	@Test public void JLS_15_9_5_AnonymousClasses_2() { runTest("JLS_15_9_5_AnonymousClasses_2"); }
@@ -330,6 +335,7 @@ public class JKit extends TestHarness {
 	@Test public void JLS_15_14_PostfixOperators_6() { runTest("JLS_15_14_PostfixOperators_6"); }
 	@Test public void JLS_15_14_PostfixOperators_7() { runTest("JLS_15_14_PostfixOperators_7"); }
 	@Ignore("Known Bug") @Test public void JLS_15_14_PostfixOperators_8() { runTest("JLS_15_14_PostfixOperators_8"); }
+	@Test public void JLS_15_16_CastExpressions_1() { runTest("JLS_15_16_CastExpressions_1"); }
 	@Test public void JLS_15_17_BinaryOperators_1() { runTest("JLS_15_17_BinaryOperators_1"); }
 	@Test public void JLS_15_17_BinaryOperators_2() { runTest("JLS_15_17_BinaryOperators_2"); }
 	@Test public void JLS_15_17_BinaryOperators_3() { runTest("JLS_15_17_BinaryOperators_3"); }
@@ -355,6 +361,7 @@ public class JKit extends TestHarness {
 	@Test public void JLS_15_20_2_InstanceofOperator_2() { compileFailTest("JLS_15_20_2_InstanceofOperator_2"); }
 	@Test public void JLS_15_20_2_InstanceofOperator_3() { runTest("JLS_15_20_2_InstanceofOperator_3"); }
 	@Test public void JLS_15_21_EqualityOperator_1() { runTest("JLS_15_21_EqualityOperator_1"); }
+	@Test public void JLS_15_23_ConditionalAnd_1() { runTest("JLS_15_23_ConditionalAnd_1"); }
 	@Test public void JLS_15_24_ConditionalOr_1() { runTest("JLS_15_24_ConditionalOr_1"); }
 	@Test public void JLS_15_25_ConditionalOperator_1() { runTest("JLS_15_25_ConditionalOperator_1"); }
 	@Test public void JLS_15_25_ConditionalOperator_2() { runTest("JLS_15_25_ConditionalOperator_2"); }
@@ -365,6 +372,9 @@ public class JKit extends TestHarness {
 	@Test public void JLS_15_26_2_CompoundAssignmentOperators_2() { runTest("JLS_15_26_2_CompoundAssignmentOperators_2"); }
 	@Ignore("Known Bug") @Test public void JLS_15_26_2_CompoundAssignmentOperators_3() { runTest("JLS_15_26_2_CompoundAssignmentOperators_3"); }
 	@Test public void JLS_15_26_2_CompoundAssignmentOperators_4() { runTest("JLS_15_26_2_CompoundAssignmentOperators_4"); }
+	@Test public void JLS_15_28_ConstantExpressions_1() { runTest("JLS_15_28_ConstantExpressions_1"); }
+	@Test public void JLS_15_28_ConstantExpressions_2() { runTest("JLS_15_28_ConstantExpressions_2"); }
+	@Test public void JLS_15_28_ConstantExpressions_3() { compileFailTest("JLS_15_28_ConstantExpressions_3"); }
 
 	// Fails because: need definite assignment test
 	@Test public void JLS_16_3_DefiniteAssignment_1() { compileFailTest("JLS_16_3_DefiniteAssignment_1"); }
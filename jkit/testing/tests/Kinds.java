@@ -0,0 +1,163 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can 
+// redistribute it and/or modify it under the terms of the 
+// GNU General Public License as published by the Free Software 
+// Foundation; either version 2 of the License, or (at your 
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without 
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR 
+// A PARTICULAR PURPOSE.  See the GNU General Public License 
+// for more details.
+//
+// You should have received a copy of the GNU General Public 
+// License along with the Java Compiler Kit; if not, 
+// write to the Free Software Foundation, Inc., 59 Temple Place, 
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009. 
+
+package jkit.testing.tests;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import jkit.java.tree.Decl;
+import jkit.java.tree.Expr;
+import jkit.java.tree.Kind;
+import jkit.java.tree.Stmt;
+import jkit.java.tree.Value;
+import jkit.jil.tree.JilExpr;
+import jkit.jil.tree.JilKind;
+import jkit.jil.tree.JilStmt;
+import jkit.jil.tree.Type;
+import jkit.jil.util.Types;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the kinds of node in the Java and Jil trees are consistent with
+ * the classes of node. That is, every class of node declares its own kind()
+ * method, which returns a distinct kind named after the class (e.g.
+ * Expr.BinOp returns Kind.BINOP), and every kind is returned by some class.
+ *
+ * @author djp
+ *
+ */
+public class Kinds {
+	@Test public void JavaKinds() throws Exception {
+		checkKinds(Kind.class, Expr.class, Value.class, Stmt.class, Decl.class);
+	}
+
+	@Test public void JilKinds() throws Exception {
+		checkKinds(JilKind.class, JilExpr.class, JilStmt.class);
+	}
+
+	private static void checkKinds(Class<?> kinds, Class<?>... trees)
+			throws Exception {
+		HashMap<Integer,String> names = new HashMap<Integer,String>();
+		for(Field f : kinds.getFields()) {
+			String other = names.put(f.getInt(null), f.getName());
+			assertNull(f.getName() + " has the same value as " + other, other);
+		}
+
+		HashMap<Integer,Class<?>> classes = new HashMap<Integer,Class<?>>();
+		for(Class<?> tree : trees) {
+			for(Class<?> c : tree.getDeclaredClasses()) {
+				if(c.isInterface() || Modifier.isAbstract(c.getModifiers())
+						|| !hasKind(c)) {
+					continue;
+				}
+				try {
+					c.getDeclaredMethod("kind");
+				} catch(NoSuchMethodException e) {
+					fail(c.getName() + " inherits the kind of its superclass");
+				}
+				int kind = (Integer) c.getMethod("kind").invoke(instance(c));
+				String name = names.get(kind);
+				assertNotNull(c.getName() + " has an unknown kind (" + kind
+						+ ")", name);
+				// A trailing "Val" is ignored, as in JilExpr.StringVal.
+				String expected = c.getSimpleName().replaceAll("Val$", "");
+				assertEquals(c.getName() + " has kind " + name, expected
+						.toLowerCase(), name.replace("_", "").toLowerCase());
+				Class<?> other = classes.put(kind, c);
+				assertNull(c.getName() + " has the same kind as " + other,
+						other);
+			}
+		}
+
+		for(Map.Entry<Integer,String> e : names.entrySet()) {
+			assertTrue(e.getValue() + " is not the kind of any class",
+					classes.containsKey(e.getKey()));
+		}
+	}
+
+	private static boolean hasKind(Class<?> c) {
+		try {
+			c.getMethod("kind");
+			return true;
+		} catch(NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Construct an instance of a class of node, using whichever of its public
+	 * constructors accepts placeholder arguments. Since kind() depends only on
+	 * the class of a node, it does not matter what these are.
+	 */
+	private static Object instance(Class<?> c) throws Exception {
+		for(Constructor<?> k : c.getConstructors()) {
+			Class<?>[] params = k.getParameterTypes();
+			Object[] args = new Object[params.length];
+			for(int i=0;i!=params.length;++i) {
+				args[i] = placeholder(params[i]);
+			}
+			try {
+				return k.newInstance(args);
+			} catch(InvocationTargetException e) {
+				// this constructor rejected a placeholder; try the next one.
+			}
+		}
+		fail("cannot construct an instance of " + c.getName());
+		return null;
+	}
+
+	private static final Object[] PLACEHOLDERS = {
+		"x", Types.JAVA_LANG_OBJECT, new Type.Array(Types.JAVA_LANG_OBJECT),
+		new Type.Int(), new Type.Function(new Type.Void()), new JilExpr.Null(),
+		new ArrayList<Object>(), new HashMap<Object,Object>()
+	};
+
+	private static Object placeholder(Class<?> c) {
+		if(c == boolean.class) {
+			return false;
+		} else if(c == char.class) {
+			return 'x';
+		} else if(c == byte.class) {
+			return (byte) 0;
+		} else if(c == short.class) {
+			return (short) 0;
+		} else if(c == int.class) {
+			return 0;
+		} else if(c == long.class) {
+			return 0L;
+		} else if(c == float.class) {
+			return 0F;
+		} else if(c == double.class) {
+			return 0D;
+		} else if(c.isArray()) {
+			return Array.newInstance(c.getComponentType(), 0);
+		}
+		for(Object o : PLACEHOLDERS) {
+			if(c.isInstance(o)) {
+				return o;
+			}
+		}
+		return null;
+	}
+}
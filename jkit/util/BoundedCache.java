@@ -0,0 +1,108 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can
+// redistribute it and/or modify it under the terms of the
+// GNU General Public License as published by the Free Software
+// Foundation; either version 2 of the License, or (at your
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR
+// A PARTICULAR PURPOSE.  See the GNU General Public License
+// for more details.
+//
+// You should have received a copy of the GNU General Public
+// License along with the Java Compiler Kit; if not,
+// write to the Free Software Foundation, Inc., 59 Temple Place,
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009.
+
+package jkit.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache is a thread-safe map which holds at most a given number of
+ * entries. When the cache is full, the least recently used entry is evicted.
+ * The cache also keeps track of how often lookups succeed, which is useful for
+ * determining whether or not it's actually worth having.
+ *
+ * Values stored in the cache are shared between all users of it, and hence
+ * should be immutable.
+ *
+ * @author djp
+ *
+ */
+public final class BoundedCache<K,V> {
+	private final int capacity;
+	private final LinkedHashMap<K,V> map;
+	private long lookups = 0;
+	private long hits = 0;
+
+	public BoundedCache(int capacity) {
+		if(capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		this.capacity = capacity;
+		this.map = new LinkedHashMap<K,V>(16,0.75f,true) {
+			protected boolean removeEldestEntry(Map.Entry<K,V> eldest) {
+				return size() > BoundedCache.this.capacity;
+			}
+		};
+	}
+
+	/**
+	 * Get the value associated with a given key, or null if there is none.
+	 *
+	 * @param key
+	 * @return
+	 */
+	public synchronized V get(K key) {
+		lookups++;
+		V v = map.get(key);
+		if(v != null) {
+			hits++;
+		}
+		return v;
+	}
+
+	/**
+	 * Associate a value with a given key, possibly evicting the least recently
+	 * used entry.
+	 *
+	 * @param key
+	 * @param value
+	 */
+	public synchronized void put(K key, V value) {
+		map.put(key,value);
+	}
+
+	public synchronized int size() {
+		return map.size();
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Return the number of lookups which found a value in the cache.
+	 *
+	 * @return
+	 */
+	public synchronized long hits() {
+		return hits;
+	}
+
+	/**
+	 * Return the total number of lookups made on the cache.
+	 *
+	 * @return
+	 */
+	public synchronized long lookups() {
+		return lookups;
+	}
+}
@@ -0,0 +1,187 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can
+// redistribute it and/or modify it under the terms of the
+// GNU General Public License as published by the Free Software
+// Foundation; either version 2 of the License, or (at your
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR
+// A PARTICULAR PURPOSE.  See the GNU General Public License
+// for more details.
+//
+// You should have received a copy of the GNU General Public
+// License along with the Java Compiler Kit; if not,
+// write to the Free Software Foundation, Inc., 59 Temple Place,
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009.
+
+package jkit.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * <p>
+ * A scope stack is a stack of scopes, together with a symbol table of the
+ * names declared in them. Each name maps directly to its innermost binding,
+ * and so looking a name up does not require searching through the scopes
+ * one by one. When a scope is popped, the bindings made in it are undone,
+ * thereby restoring any bindings of the same names which they shadowed.
+ * </p>
+ *
+ * <p>
+ * Unlike java.util.Stack, a scope stack is not synchronized, since each is
+ * used by only one stage at a time.
+ * </p>
+ *
+ * @author djp
+ *
+ * @param <S>
+ *            the type of scopes
+ * @param <V>
+ *            the type of values bound to names
+ */
+public final class ScopeStack<S,V> {
+	private final ArrayList<S> scopes = new ArrayList<S>();
+	private final HashMap<String,Binding<V>> bindings = new HashMap<String,Binding<V>>();
+	private final ArrayList<Binding<V>> bound = new ArrayList<Binding<V>>(); // in order made
+
+	/**
+	 * Push a scope onto the stack. Names bound subsequently are bound in this
+	 * scope, until it is popped.
+	 *
+	 * @param scope
+	 */
+	public void push(S scope) {
+		scopes.add(scope);
+	}
+
+	/**
+	 * Pop the innermost scope from the stack, undoing any bindings made in it.
+	 *
+	 * @return the scope popped.
+	 */
+	public S pop() {
+		int depth = scopes.size() - 1;
+		for(int i = bound.size() - 1; i >= 0; --i) {
+			Binding<V> b = bound.get(i);
+			if(b.depth != depth) {
+				break;
+			}
+			bound.remove(i);
+			if(b.shadowed == null) {
+				bindings.remove(b.name);
+			} else {
+				bindings.put(b.name, b.shadowed);
+			}
+		}
+		return scopes.remove(depth);
+	}
+
+	/**
+	 * Get the innermost scope.
+	 *
+	 * @return
+	 */
+	public S peek() {
+		return scopes.get(scopes.size() - 1);
+	}
+
+	/**
+	 * Get the scope at a given depth, where the outermost scope has depth 0.
+	 *
+	 * @param depth
+	 * @return
+	 */
+	public S get(int depth) {
+		return scopes.get(depth);
+	}
+
+	public int size() {
+		return scopes.size();
+	}
+
+	/**
+	 * Get the innermost scope which is an instance of a given class.
+	 *
+	 * @param c
+	 * @return the scope, or null if there is none.
+	 */
+	public <T extends S> T innermost(Class<T> c) {
+		for(int i = scopes.size() - 1; i >= 0; --i) {
+			S s = scopes.get(i);
+			if(c.isInstance(s)) {
+				return (T) s;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Bind a name to a value in the innermost scope. This shadows any binding
+	 * of the same name in an enclosing scope (or, indeed, in the same scope),
+	 * until the scope is popped.
+	 *
+	 * @param name
+	 * @param value
+	 */
+	public void bind(String name, V value) {
+		Binding<V> b = new Binding<V>(name, value, scopes.size() - 1,
+				bindings.get(name));
+		bindings.put(name, b);
+		bound.add(b);
+	}
+
+	/**
+	 * Get the innermost binding of a name.
+	 *
+	 * @param name
+	 * @return the binding, or null if the name is not bound.
+	 */
+	public Binding<V> lookup(String name) {
+		return bindings.get(name);
+	}
+
+	/**
+	 * A binding of a name to a value, in the scope at a given depth.
+	 */
+	public static final class Binding<V> {
+		private final String name;
+		private final V value;
+		private final int depth;
+		private final Binding<V> shadowed;
+
+		private Binding(String name, V value, int depth, Binding<V> shadowed) {
+			this.name = name;
+			this.value = value;
+			this.depth = depth;
+			this.shadowed = shadowed;
+		}
+
+		public V value() {
+			return value;
+		}
+
+		/**
+		 * Get the depth of the scope in which this binding was made.
+		 *
+		 * @return
+		 */
+		public int depth() {
+			return depth;
+		}
+
+		/**
+		 * Get the binding of the same name which this binding shadows.
+		 *
+		 * @return the binding, or null if there is none.
+		 */
+		public Binding<V> shadowed() {
+			return shadowed;
+		}
+	}
+}
@@ -0,0 +1,234 @@
+// This file is part of the Java Compiler Kit (JKit)
+//
+// The Java Compiler Kit is free software; you can
+// redistribute it and/or modify it under the terms of the
+// GNU General Public License as published by the Free Software
+// Foundation; either version 2 of the License, or (at your
+// option) any later version.
+//
+// The Java Compiler Kit is distributed in the hope
+// that it will be useful, but WITHOUT ANY WARRANTY; without
+// even the implied warranty of MERCHANTABILITY or FITNESS FOR
+// A PARTICULAR PURPOSE.  See the GNU General Public License
+// for more details.
+//
+// You should have received a copy of the GNU General Public
+// License along with the Java Compiler Kit; if not,
+// write to the Free Software Foundation, Inc., 59 Temple Place,
+// Suite 330, Boston, MA  02111-1307  USA
+//
+// (C) David James Pearce, 2009.
+
+package jkit.util;
+
+import java.io.UnsupportedEncodingException;
+import java.lang.ref.WeakReference;
+
+/**
+ * The symbol table is a table of interned names and descriptors (e.g.
+ * "java/lang/Object", "toString" or "()V"). The same names crop up over and
+ * over again in the constant pools of loaded classes, in the components of
+ * class types and in the source files being compiled. By interning them, we
+ * ensure there is exactly one String object for each distinct symbol in use.
+ *
+ * The table is an open-addressed hash table keyed on the String hashcode.
+ * Importantly, symbols can be looked up directly from the (UTF8 encoded)
+ * bytes of a classfile. Thus, when a symbol is already in the table, no
+ * temporary String object is created at all.
+ *
+ * Symbols are held only weakly. Thus, the table does not keep alive the
+ * symbols of a compilation once it has finished, and the slots of symbols
+ * which have been collected are reused.
+ *
+ * @author djp
+ *
+ */
+public final class SymbolTable {
+	private static Symbol[] table = new Symbol[8192];
+	private static int used = 0; // number of non-empty slots in table
+	private static long lookups = 0;
+	private static long hits = 0;
+
+	/**
+	 * Return the canonical symbol for the given string.
+	 *
+	 * @param s
+	 * @return
+	 */
+	public static synchronized String intern(String s) {
+		lookups++;
+		int hash = s.hashCode();
+		int mask = table.length - 1;
+		int index = hash & mask;
+		int free = -1;
+		Symbol r;
+		while((r = table[index]) != null) {
+			String t = r.get();
+			if(t == null) {
+				if(free < 0) { free = index; }
+			} else if(r.hash == hash && t.equals(s)) {
+				hits++;
+				return t;
+			}
+			index = (index + 1) & mask;
+		}
+		insert(free < 0 ? index : free, s, hash);
+		return s;
+	}
+
+	/**
+	 * Return the canonical symbol for the UTF8 encoded string held in a given
+	 * region of a byte array. If the symbol is already in the table, then no
+	 * String object is created.
+	 *
+	 * @param bytes
+	 * @param offset
+	 *            index of first byte of the encoded string
+	 * @param length
+	 *            number of bytes in the encoded string
+	 * @return
+	 */
+	public static synchronized String intern(byte[] bytes, int offset,
+			int length) {
+		// First, compute the hashcode of the string, whilst checking that it
+		// is plain ASCII. In this case, each byte corresponds to exactly one
+		// character, and so the hashcode matches that of the decoded string.
+		int hash = 0;
+		int end = offset + length;
+		for(int i=offset;i!=end;++i) {
+			byte b = bytes[i];
+			if(b < 0) {
+				// non-ASCII, so fall back to decoding the string.
+				return intern(decode(bytes,offset,length));
+			}
+			hash = 31 * hash + b;
+		}
+
+		lookups++;
+		int mask = table.length - 1;
+		int index = hash & mask;
+		int free = -1;
+		Symbol r;
+		while((r = table[index]) != null) {
+			String t = r.get();
+			if(t == null) {
+				if(free < 0) { free = index; }
+			} else if(r.hash == hash && matches(t,bytes,offset,length)) {
+				hits++;
+				return t;
+			}
+			index = (index + 1) & mask;
+		}
+		String s = decode(bytes,offset,length);
+		insert(free < 0 ? index : free, s, hash);
+		return s;
+	}
+
+	/**
+	 * Return the number of distinct symbols in the table, which have not yet
+	 * been collected.
+	 *
+	 * @return
+	 */
+	public static synchronized int size() {
+		int size = 0;
+		for(Symbol r : table) {
+			if(r != null && r.get() != null) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Return the number of lookups which found an existing symbol. Each such
+	 * hit corresponds to a duplicate string which was not retained.
+	 *
+	 * @return
+	 */
+	public static synchronized long hits() {
+		return hits;
+	}
+
+	/**
+	 * Return the total number of lookups made on the symbol table.
+	 *
+	 * @return
+	 */
+	public static synchronized long lookups() {
+		return lookups;
+	}
+
+	private static boolean matches(String s, byte[] bytes, int offset,
+			int length) {
+		if(s.length() != length) {
+			return false;
+		}
+		for(int i=0;i!=length;++i) {
+			if(s.charAt(i) != bytes[offset+i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void insert(int index, String s, int hash) {
+		if(table[index] == null) {
+			used++;
+		}
+		table[index] = new Symbol(s, hash);
+		if((used << 1) > table.length) {
+			resize();
+		}
+	}
+
+	/**
+	 * Rebuild the table without the slots of collected symbols. The table
+	 * grows only if it is still more than a quarter full afterwards.
+	 */
+	private static void resize() {
+		Symbol[] old = table;
+		int live = 0;
+		for(Symbol r : old) {
+			if(r != null && r.get() != null) {
+				live++;
+			}
+		}
+		table = new Symbol[(live << 2) > old.length ? old.length << 1
+				: old.length];
+		used = 0;
+		int mask = table.length - 1;
+		for(Symbol r : old) {
+			if(r != null && r.get() != null) {
+				int index = r.hash & mask;
+				while(table[index] != null) {
+					index = (index + 1) & mask;
+				}
+				table[index] = r;
+				used++;
+			}
+		}
+	}
+
+	private static String decode(byte[] bytes, int offset, int length) {
+		try {
+			return new String(bytes,offset,length,"UTF-8");
+		} catch(UnsupportedEncodingException e) {
+			throw new RuntimeException("UTF-8 Charset not supported?");
+		}
+	}
+
+	/**
+	 * A weak reference to a symbol, which remembers its hashcode. This is
+	 * needed to rehash the table, and avoids comparing against symbols which
+	 * cannot match.
+	 */
+	private static final class Symbol extends WeakReference<String> {
+		final int hash;
+
+		Symbol(String s, int hash) {
+			super(s);
+			this.hash = hash;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+public class JLS_14_11_SwitchStatement_12 {
+    enum Day {
+	MON, TUE, WED, THU, FRI, SAT, SUN;
+
+	boolean weekend() {
+	    switch(this) {
+	    case SAT:
+	    case SUN:
+		return true;
+	    default:
+		return false;
+	    }
+	}
+    }
+
+    static String kind(Day d) {
+	switch(d) {
+	case MON: return "start";
+	case TUE:
+	case WED:
+	case THU: return "middle";
+	case FRI: return "end";
+	default: return "off";
+	}
+    }
+
+    static int hours(Day d) {
+	int SAT = 0; // does not hide the constant
+	int h = 0;
+	switch(d) {
+	case SAT:
+	    h = 4;
+	    break;
+	case SUN:
+	    break;
+	case FRI:
+	    h = 6;
+	default:
+	    h = h + 2;
+	}
+	return h;
+    }
+
+    static class Inner {
+	String state(Thread.State s) {
+	    switch(s) {
+	    case NEW: return "new";
+	    case RUNNABLE: return "running";
+	    case TERMINATED: return "done";
+	    }
+	    return "waiting";
+	}
+    }
+
+    public static void main(String[] args) {
+	for(Day d : Day.values()) {
+	    System.out.println(d + " " + kind(d) + " " + hours(d) + " "
+			       + d.weekend());
+	}
+	Inner i = new Inner();
+	for(Thread.State s : Thread.State.values()) {
+	    System.out.println(s + " " + i.state(s));
+	}
+    }
+}
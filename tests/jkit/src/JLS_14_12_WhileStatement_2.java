@@ -0,0 +1,60 @@
+import java.util.*;
+public class JLS_14_12_WhileStatement_2 {
+    static double sum(double[] xs) {
+	double s = 0;
+	for(int i = 0; i < xs.length; i++) {
+	    if(xs[i] < 0) { continue; }
+	    s += xs[i];
+	}
+	return s;
+    }
+    static int w(int n) {
+	int c = 0;
+	while(n > 1) {
+	    c++;
+	    if(n % 2 == 0) { n = n / 2; continue; }
+	    n = 3 * n + 1;
+	}
+	return c;
+    }
+    static int each(int[] xs, List<Integer> ys) {
+	int t = 0;
+	for(int x : xs) { if(x == 3) continue; t += x; }
+	for(int y : ys) { if(y == 3) continue; t += y; }
+	return t;
+    }
+    static int forever(int n) {
+	int x;
+	for(;;) { if(n > 10) { x = n; break; } n++; }
+	int y;
+	while(true) { if(n > 20) { y = n; break; } n++; }
+	return x + y;
+    }
+    static int lbl(int n) {
+	int c = 0;
+	outer: for(int i = 0; i < n; i++) {
+	    for(int j = 0; j < n; j++) {
+		if(j > i) continue outer;
+		if(i + j > 6) break outer;
+		c++;
+	    }
+	}
+	return c;
+    }
+    static int cnd(int n) {
+	int k = 0;
+	while(n-- > 0 && k < 100) { k += 2; }
+	for(int i = 0, j = 10; i < j; i++, j--) { k++; }
+	return k;
+    }
+    public static void main(String[] args) {
+	System.out.println(sum(new double[]{1,-2,3.5}));
+	System.out.println(w(27));
+	System.out.println(each(new int[]{1,2,3,4}, new ArrayList<Integer>(Arrays.asList(new Integer[]{5,3,7}))));
+	System.out.println(forever(0));
+	System.out.println(lbl(5) + " " + cnd(7));
+	int z = 0;
+	while(false && z > 0) { z++; }
+	System.out.println(z);
+    }
+}
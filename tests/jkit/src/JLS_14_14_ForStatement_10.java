@@ -0,0 +1,17 @@
+public class JLS_14_14_ForStatement_10 {
+
+    static int find(int[] xs, int x) {
+	for (int i = 0; i != xs.length; ++i)
+	    if (xs[i] == x) return i;
+	return -1;
+    }
+
+    public static void main (String args[]) {
+	int i = 0;
+	for (;;) break;
+	for (; i < 3; ++i) continue;
+	System.out.println(i);
+	System.out.println(find(new int[]{4,5,6},5));
+	System.out.println(find(new int[]{4,5,6},7));
+    }
+}
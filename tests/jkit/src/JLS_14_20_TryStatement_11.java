@@ -0,0 +1,183 @@
+public class JLS_14_20_TryStatement_11 {
+    static int count = 0;
+    static StringBuilder log = new StringBuilder();
+
+    static int f(int x) {
+	try {
+	    if(x == 0) { return 10; }
+	    if(x == 1) { return count; }
+	    if(x == 2) { throw new RuntimeException("two"); }
+	    count += x;
+	} finally {
+	    count++;
+	    log.append('f');
+	    log.append(x);
+	    if(count > 100) { count = 0; }
+	    log.append(';');
+	}
+	return -1;
+    }
+
+    static int g(int x) {
+	int r = x;
+	try {
+	    return r;
+	} finally {
+	    r = 99;
+	}
+    }
+
+    static String h(int n) {
+	String s = null;
+	int i = 0;
+	while(true) {
+	    try {
+		if(i == n) { s = "done" + i; break; }
+		if(i % 2 == 0) { i++; continue; }
+		i++;
+	    } finally {
+		log.append('<');
+		log.append(i);
+		if(i > 100) { i = 0; }
+		log.append('>');
+	    }
+	}
+	return s;
+    }
+
+    static long nested(int x) {
+	long v;
+	try {
+	    try {
+		if(x > 5) return x * 2L;
+		if(x < 0) throw new IllegalArgumentException();
+		v = x;
+	    } finally {
+		log.append('[');
+		log.append("inner");
+		if(x > 100) { x = 0; }
+		if(x < -100) { x = 0; }
+		log.append(']');
+	    }
+	} catch(IllegalArgumentException e) {
+	    v = -100;
+	} finally {
+	    log.append("[outer]");
+	}
+	return v;
+    }
+
+    static int override() {
+	try {
+	    return 1;
+	} finally {
+	    if(count >= 0) return 2;
+	}
+    }
+
+    static boolean flag(boolean b) {
+	synchronized(log) {
+	    try {
+		return !b;
+	    } finally {
+		log.append("sync");
+	    }
+	}
+    }
+
+    static String read(String x) {
+	String s;
+	try {
+	    s = x.trim();
+	} finally {
+	    log.append("read");
+	}
+	return s;
+    }
+
+    static int merge(int a) {
+	int x;
+	out: {
+	    try {
+		if(a > 3) { return -1; }
+		x = a * 10;
+		break out;
+	    } finally {
+		count++;
+	    }
+	}
+	return x;
+    }
+
+    static int boom() {
+	throw new RuntimeException("boom");
+    }
+
+    static int a() {
+	try {
+	    return boom();
+	} finally {
+	    System.out.println("finally a");
+	}
+    }
+
+    static int b(int x) {
+	try {
+	    if(x == 0) { return 0; }
+	    if(x == 1) { return count; }
+	    return boom() + 1;
+	} finally {
+	    System.out.println("finally b" + x);
+	}
+    }
+
+    static int c(int x) {
+	try {
+	    if(x == 0) { return 0; }
+	    if(x == 1) { return count; }
+	    return boom() + 1;
+	} finally {
+	    log.append('c');
+	    log.append(x);
+	    if(count > 100) { count = 0; }
+	    log.append(';');
+	    System.out.println("finally c" + x);
+	}
+    }
+
+    public static void main(String[] args) {
+	for(int i=0;i!=5;++i) {
+	    try {
+		System.out.println(f(i));
+	    } catch(RuntimeException e) {
+		System.out.println("caught " + e.getMessage());
+	    }
+	}
+	System.out.println(g(3) + " " + h(5) + " " + nested(7) + " " + nested(3) + " " + nested(-1));
+	System.out.println(override() + " " + flag(true) + " " + read(" x "));
+	try {
+	    read(null);
+	} catch(NullPointerException e) {
+	    System.out.println("npe");
+	}
+	System.out.println(merge(2) + " " + merge(9));
+	System.out.println(count + " " + log);
+	try {
+	    a();
+	} catch(RuntimeException e) {
+	    System.out.println("caught " + e.getMessage());
+	}
+	for(int i=0;i!=3;++i) {
+	    try {
+		b(i);
+	    } catch(RuntimeException e) {
+		System.out.println("caught " + e.getMessage());
+	    }
+	    try {
+		c(i);
+	    } catch(RuntimeException e) {
+		System.out.println("caught " + e.getMessage());
+	    }
+	}
+    }
+}
@@ -0,0 +1,30 @@
+public class JLS_15_16_CastExpressions_1 {
+    static int f(int x) { return x + 1; }
+
+    public static void main(String[] args) {
+	int x = 3;
+	int y = 5;
+	Object o = "Hello";
+	int[] a = { 1, 2, 3 };
+
+	System.out.println((x) + y);
+	System.out.println((x) - y);
+	System.out.println((int) -x);
+	System.out.println((int) +x);
+	System.out.println((x) < y);
+	System.out.println((String) o);
+	System.out.println((String) (Object) "World");
+	System.out.println(((String) o).length());
+	System.out.println((char) (x + 'a'));
+	System.out.println((a[1]) * y);
+	System.out.println((Object[]) new String[] { "x" } != null);
+	System.out.println((long) f(x) << 33);
+	System.out.println((Comparable) (Integer) x);
+	System.out.println(((int[]) a.clone())[2]);
+	System.out.println(String.class.getName());
+	System.out.println(int[].class.getName());
+	x >>>= 1;
+	y <<= 2;
+	System.out.println(x + " " + y);
+    }
+}
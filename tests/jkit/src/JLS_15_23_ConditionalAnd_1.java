@@ -0,0 +1,20 @@
+public class JLS_15_23_ConditionalAnd_1 {
+    static int f(int a, int b, boolean c) {
+	int r = 0;
+	if(a > 0 && b > 0) { r += 1; }
+	if(a > 0 || b > 0) { r += 2; }
+	if((a > 0 && b > 0) || c) { r += 4; }
+	if((a > 0 || b > 0) && !c) { r += 8; }
+	if(!(a > 0 && b > 0)) { r += 16; } else { r += 32; }
+	while(a > 0 && b < 10) { a--; b++; }
+	boolean v = a == 0 && (b > 3 || c);
+	if(v) { r += 64; }
+	return r;
+    }
+    public static void main(String[] args) {
+	for(int a=-1;a<=2;a++) for(int b=-1;b<=2;b++) {
+	    System.out.print(f(a,b,true) + " " + f(a,b,false) + ";");
+	}
+	System.out.println();
+    }
+}
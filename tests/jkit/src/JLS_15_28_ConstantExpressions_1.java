@@ -0,0 +1,74 @@
+public class JLS_15_28_ConstantExpressions_1 {
+    static final int MEG = 1 << 20;
+    static final long BIG = 1L << 40;
+    static final char C = 'a' + 1;
+    static final String S = "x" + C + MEG + true;
+    static final byte B = (byte) 200;
+    static final double D = 1.0 / 3;
+    static final float F = 0.1f + 0.2f;
+    static final long L1 = 1152921573326323713L;
+    static final float F1 = 1152921573326323713L + 0f;
+    static final boolean B1 = L1 < 1.15292164E18f;
+
+    static String f(int x) {
+	final int K = 3;
+	switch(x) {
+	case 1 << 2:
+	    return "four";
+	case K + 1 + 1:
+	    return "five";
+	case 'a' - 91:
+	    return "six";
+	case -(K * 3):
+	    return "minus nine";
+	case (int) 7.9:
+	    return "seven";
+	case true ? 8 : 9:
+	    return "eight";
+	default:
+	    return "other";
+	}
+    }
+
+    static int g(final int K) {
+	class Local {
+	    int h(int K) {
+		return K * 2;
+	    }
+	}
+	return new Local().h(K + 1);
+    }
+
+    public static void main(String[] args) {
+	System.out.println(MEG);
+	System.out.println(BIG);
+	System.out.println(C);
+	System.out.println(S);
+	System.out.println(B);
+	System.out.println(D);
+	System.out.println(F);
+	long l = L1;
+	float f = l + 0f;
+	System.out.println(F1 + " " + (F1 == f) + " " + B1 + " " + (l < 1.15292164E18f));
+	System.out.println(Integer.MAX_VALUE + 1);
+	System.out.println(Long.MIN_VALUE - 1);
+	System.out.println(1 << 33);
+	System.out.println(1L << 65);
+	System.out.println(-1 >>> 28);
+	System.out.println(-16 >> 2);
+	System.out.println(7 / 2 + " " + -7 % 3 + " " + 7.0 / 2);
+	System.out.println((char) 65 + "" + (short) 70000 + (int) -1.5e10);
+	System.out.println(1.0f / 0 + " " + 0.0 / 0);
+	System.out.println("a" + 1 + 2 + " " + (1 + 2) + "b");
+	System.out.println('a' + 'b' + "c");
+	System.out.println(~5 + " " + !true + " " + (3 < 4) + " " + (true ^ true));
+	System.out.println((5 & 3) + " " + (5 | 3) + " " + (5 ^ 3));
+	final String T = "t" + 'u';
+	final long L = 4;
+	System.out.println(T + L + (L << 62));
+	for(int i=2;i!=11;++i) {
+	    System.out.println(f(i) + " " + f(-9));
+	}
+	System.out.println(g(5));
+    }
+}
@@ -0,0 +1,23 @@
+public class JLS_15_28_ConstantExpressions_2 {
+
+    static String f(int x) {
+	final int K = 1 << 2;
+	final char C = 'a';
+	switch(x) {
+	case K:
+	    return "K";
+	case K + 1:
+	    return "K+1";
+	case C - 90:
+	    return "C-90";
+	default:
+	    return "other";
+	}
+    }
+
+    public static void main(String[] args) {
+	for(int i=3;i!=9;++i) {
+	    System.out.println(i + " " + f(i));
+	}
+    }
+}
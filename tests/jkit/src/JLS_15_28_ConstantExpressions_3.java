@@ -0,0 +1,6 @@
+public class JLS_15_28_ConstantExpressions_3 {
+    public static void main(String[] args) {
+	byte b = 200;
+	System.out.println(b);
+    }
+}
@@ -0,0 +1,25 @@
+public class JLS_15_8_1_StringConcatenation_2 {
+    static int n = 0;
+    static String s(String x) { n++; return x; }
+    public static void main(String[] args) {
+	String a = "A"; String nul = null; char[] cs = {'q'}; int i = 0;
+	short sh = 7; byte by = -3; long l = 5L; Object o = null;
+	System.out.println(a + 1 + 'c' + 2.5 + true + "lit" + "eral" + sh + by + l + nul + o);
+	System.out.println("" + nul);
+	System.out.println("" + sh);
+	System.out.println(nul + "");
+	System.out.println("" + "");
+	System.out.println("x" + i++ + i++ + (i += 2) + "y" + i);
+	System.out.println(i++ + "z" + ++i);
+	System.out.println(a + (a + i) + (i > 2 ? "t" : "f") + s(a) + s(a));
+	String t = "p";
+	t += i + "q" + t;
+	System.out.println(t);
+	System.out.println(("" + a) == a);
+	System.out.println(1 + 2 + a + 1 + 2);
+	System.out.println('a' + 'b' + a);
+	System.out.println(cs.length + "" + (cs.length > 0));
+	boolean bb = true; System.out.println(("" + bb) == "true");
+	System.out.println("" + 1.5f + "" + (char) (i + 60) + ("" + l));
+    }
+}